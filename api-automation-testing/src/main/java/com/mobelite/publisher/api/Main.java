@@ -1,17 +1,24 @@
 package com.mobelite.publisher.api;
 
-//TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
-// click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
+import org.testng.TestNG;
+
+import java.util.List;
+
+/**
+ * Runs a TestNG suite outside Surefire, by default the load run:
+ * {@code mvn test-compile exec:java [-Dexec.args=<suite.xml>] [-Dload.rate=100 ...]}.
+ * The suite's classes are test classes, so exec runs with the test classpath (see the pom).
+ */
 public class Main {
-    public static void main(String[] args) {
-        //TIP Press <shortcut actionId="ShowIntentionActions"/> with your caret at the highlighted text
-        // to see how IntelliJ IDEA suggests fixing it.
-        System.out.printf("Hello and welcome!");
 
-        for (int i = 1; i <= 5; i++) {
-            //TIP Press <shortcut actionId="Debug"/> to start debugging your code. We have set one <icon src="AllIcons.Debugger.Db_set_breakpoint"/> breakpoint
-            // for you, but you can always add more by pressing <shortcut actionId="ToggleLineBreakpoint"/>.
-            System.out.println("i = " + i);
+    private static final String DEFAULT_SUITE = "test-suite/load-testng.xml";
+
+    public static void main(String[] args) {
+        TestNG testng = new TestNG();
+        testng.setTestSuites(List.of(args.length > 0 ? args[0] : DEFAULT_SUITE));
+        testng.run();
+        if (testng.hasFailure()) {
+            throw new IllegalStateException("Suite failed, see test-results/ and target/allure-results/");
         }
     }
-}
\ No newline at end of file
+}
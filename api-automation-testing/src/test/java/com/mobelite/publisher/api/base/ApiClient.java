@@ -10,6 +10,9 @@ import com.mobelite.publisher.api.constants.HttpMethod;
 import com.mobelite.publisher.api.models.response.ApiResponse;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+
+import java.util.function.Supplier;
 
 import static com.mobelite.publisher.api.utils.ApiUtils.getResponseText;
 
@@ -17,20 +20,20 @@ import static com.mobelite.publisher.api.utils.ApiUtils.getResponseText;
 @Getter
 public class ApiClient {
 
-    private final APIRequestContext api;
+    // Resolved on every call: each test thread has its own context
+    private final Supplier<APIRequestContext> api;
     private final ConfigManager config;
-    private final BaseTest test; // reference to BaseTest
 
 
-    public ApiClient(APIRequestContext api, BaseTest test) {
+    public ApiClient(Supplier<APIRequestContext> api) {
         this.api = api;
-        this.test = test;
         this.config = ConfigManager.getInstance();
     }
 
 
     public APIResponse execute(HttpMethod method, String endpoint, RequestOptions options) {
         log.info("Executing {} {}", method, endpoint);
+        APIRequestContext api = this.api.get();
 
         APIResponse response = switch (method) {
             case GET -> api.get(endpoint, options);
@@ -40,18 +43,28 @@ public class ApiClient {
             case DELETE -> api.delete(endpoint, options);
         };
 
-        // Automatically update BaseTest's lastRequest/lastResponse
-        test.setLastRequest(String.format("%s %s", method, endpoint));
+        // Kept for ApiFailureListener, per test thread
+        String lastResponse;
         try {
-            test.setLastResponse(String.format("Status: %d%nBody: %s", response.status(), response.text()));
+            lastResponse = String.format("Status: %d%nBody: %s", response.status(), response.text());
         } catch (Exception e) {
-            test.setLastResponse("Failed to read response body");
+            lastResponse = "Failed to read response body";
         }
-        test.logResponse(response);
+        ApiDiagnostics.record(String.format("%s %s", method, endpoint), lastResponse);
+        logResponse(response);
 
         return response;
     }
 
+    private void logResponse(final APIResponse response) {
+        log.info("Status: {}", response.status());
+        try {
+            log.info("Body: {}", response.text()); // Logs response body as string
+        } catch (Exception e) {
+            log.error("Failed to read response body", e);
+        }
+    }
+
     public String toJson(Object obj) {
         try {
             return config.getObjectMapper().writeValueAsString(obj);
@@ -69,6 +82,17 @@ public class ApiClient {
         }
     }
 
+    /**
+     * Binds a response body that has already been parsed (e.g. for schema validation), without reading it again.
+     */
+    public <T> T parseResponse(JSONObject body, TypeReference<T> typeReference) {
+        try {
+            return config.getObjectMapper().convertValue(body.toMap(), typeReference);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse API response", e);
+        }
+    }
+
     public ApiResponse<?> parseErrorResponse(APIResponse response) {
         String responseText = getResponseText(response);
         try {
@@ -0,0 +1,67 @@
+package com.mobelite.publisher.api.base;
+
+import com.microsoft.playwright.APIRequest;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.Playwright;
+import com.mobelite.publisher.api.config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * One Playwright instance and API request context per test thread.
+ * Playwright objects must only be used from the thread that created them, so each TestNG worker thread gets its own,
+ * created on first use and reused by every test method that thread runs. All of them are closed at the end of the
+ * suite by {@link com.mobelite.publisher.api.listeners.ParallelSuiteListener}.
+ */
+@Slf4j
+public final class ApiContexts {
+
+    private static final Queue<Playwright> OPEN = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<APIRequestContext> CURRENT = new ThreadLocal<>();
+
+    private ApiContexts() {
+    }
+
+    /**
+     * The request context of the calling thread.
+     */
+    public static APIRequestContext current() {
+        APIRequestContext context = CURRENT.get();
+        if (context == null) {
+            context = create();
+            CURRENT.set(context);
+        }
+        return context;
+    }
+
+    private static APIRequestContext create() {
+        Playwright playwright = Playwright.create();
+        OPEN.add(playwright);
+        log.debug("Created API request context for thread {}", Thread.currentThread().getName());
+        return playwright.request().newContext(new APIRequest.NewContextOptions()
+                .setBaseURL(ConfigManager.getInstance().getApiBaseUrl())
+                .setExtraHTTPHeaders(Map.of(
+                        "Content-Type", "application/json",
+                        "Accept", "application/json",
+                        "User-Agent", "E2E-API-Client/1.0"
+                ))
+        );
+    }
+
+    /**
+     * Close every Playwright instance (and with it its request context). Called once no test runs any more.
+     */
+    public static void closeAll() {
+        Playwright playwright;
+        while ((playwright = OPEN.poll()) != null) {
+            try {
+                playwright.close();
+            } catch (Exception e) {
+                log.warn("Failed to close Playwright: {}", e.getMessage());
+            }
+        }
+    }
+}
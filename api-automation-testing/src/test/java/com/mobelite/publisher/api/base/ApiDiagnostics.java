@@ -0,0 +1,35 @@
+package com.mobelite.publisher.api.base;
+
+/**
+ * The last request sent and response received by the current test thread, attached to the report when a test fails.
+ * Kept per thread because test methods run in parallel.
+ */
+public final class ApiDiagnostics {
+
+    private static final ThreadLocal<String> LAST_REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<String> LAST_RESPONSE = new ThreadLocal<>();
+
+    private ApiDiagnostics() {
+    }
+
+    static void record(String request, String response) {
+        LAST_REQUEST.set(request);
+        LAST_RESPONSE.set(response);
+    }
+
+    public static String lastRequest() {
+        return LAST_REQUEST.get();
+    }
+
+    public static String lastResponse() {
+        return LAST_RESPONSE.get();
+    }
+
+    /**
+     * Forget the previous test's exchange, so a failure is never reported with another test's request.
+     */
+    public static void clear() {
+        LAST_REQUEST.remove();
+        LAST_RESPONSE.remove();
+    }
+}
@@ -1,30 +1,32 @@
 package com.mobelite.publisher.api.base;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.microsoft.playwright.APIRequestContext;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.options.RequestOptions;
 import com.mobelite.publisher.api.constants.HttpMethod;
 import com.mobelite.publisher.api.models.response.ApiResponse;
 import com.mobelite.publisher.api.models.response.PageResponse;
 import com.mobelite.publisher.api.utils.ApiUtils;
+import com.mobelite.publisher.api.utils.FixtureUtils;
 import com.mobelite.publisher.api.utils.PlaywrightSchemaValidatorUtils;
 import lombok.extern.slf4j.Slf4j;
-import java.util.ArrayList;
-import java.util.List;
+import org.json.JSONObject;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Slf4j
 public abstract class BaseTestApi<T, R> extends BaseTest {
 
     protected ApiClient apiClient;
-    private final List<Long> createdEntities = new ArrayList<>();
+    // Tracked from parallel test methods
+    private final Queue<Long> createdEntities = new ConcurrentLinkedQueue<>();
     protected abstract TypeReference<ApiResponse<T>> getItemTypeReference();
     protected abstract TypeReference<ApiResponse<PageResponse<T>>> getPageTypeReference();
 
     // ---- Initialization ----
-    public void init(APIRequestContext api) {
-        this.apiClient = new ApiClient(api, this);
+    public void init() {
+        this.apiClient = new ApiClient(ApiContexts::current);
     }
 
     protected void trackCreatedEntity(Long id) {
@@ -32,14 +34,19 @@ public abstract class BaseTestApi<T, R> extends BaseTest {
     }
 
     public void cleanupEntities(String endpoint) {
-        for (Long id : createdEntities) {
+        if (FixtureUtils.isEnabled()) {
+            // FixtureSuiteListener restores the catalog at the end of the suite
+            createdEntities.clear();
+            return;
+        }
+        Long id;
+        while ((id = createdEntities.poll()) != null) {
             try {
                 delete(id, endpoint);
             } catch (Exception e) {
                 log.warn("Failed to cleanup entity with id {}: {}", id, e.getMessage());
             }
         }
-        createdEntities.clear();
     }
 
     // ---- CRUD helpers ----
@@ -73,8 +80,8 @@ public abstract class BaseTestApi<T, R> extends BaseTest {
 
     // ---- Parse & Validate ----
     protected ApiResponse<T> parseAndValidate(APIResponse response, String schema, String dataSchema) {
-        ApiResponse<T> parsed = apiClient.parseResponse(response, getItemTypeReference());
-        PlaywrightSchemaValidatorUtils.validateResponseAndData(parsed, schema, dataSchema, null);
-        return parsed;
+        // One parse of the body: the tree validated against the schemas is the one mapped to the model
+        JSONObject body = PlaywrightSchemaValidatorUtils.validateResponseAndData(response.body(), schema, dataSchema, null);
+        return apiClient.parseResponse(body, getItemTypeReference());
     }
 }
\ No newline at end of file
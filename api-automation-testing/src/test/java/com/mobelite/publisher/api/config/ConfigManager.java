@@ -20,13 +20,18 @@ public final class ConfigManager {
     // headless = true  → runs browser in background (faster, good for CI/CD)
     // headless = false → shows browser window (useful for debugging)
     private final boolean headless;
+    // fixtures.enabled = true → the suite snapshots the catalog first and restores it at the end,
+    // instead of deleting what each test created; needs the service's "fixtures" profile
+    private final boolean fixturesEnabled;
     // JSON parser and generator for Java ( Serialization / Deserialization)
     private final ObjectMapper objectMapper;
 
     private ConfigManager() {
         Properties props = loadProperties();
-        this.apiBaseUrl = props.getProperty("api.base.url");
+        // -Dapi.base.url points the suite at another instance, e.g. a local one
+        this.apiBaseUrl = System.getProperty("api.base.url", props.getProperty("api.base.url"));
         this.headless = Boolean.parseBoolean(props.getProperty("browser.headless", "true"));
+        this.fixturesEnabled = Boolean.parseBoolean(System.getProperty("fixtures.enabled", props.getProperty("fixtures.enabled", "false")));
         this.objectMapper = createObjectMapper();
     }
 
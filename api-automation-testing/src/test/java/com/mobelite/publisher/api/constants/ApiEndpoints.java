@@ -7,4 +7,12 @@ public final class ApiEndpoints {
     public static final String AUTHOR_BY_ID = AUTHORS_BASE + "/{id}";
     public static final String BOOKS_BASE = "/api/v1/books";
     public static final String BOOKS_BY_ID = BOOKS_BASE + "/{id}";
+    public static final String BOOK_BY_ISBN = BOOKS_BASE + "/isbn/{isbn}";
+    public static final String PUBLICATIONS_BASE = "/api/v1/publications";
+    public static final String PUBLICATIONS_SEARCH_TITLE = PUBLICATIONS_BASE + "/search/title";
+    // Only served by the service's "fixtures" profile
+    public static final String FIXTURES_BASE = "/api/v1/test/fixtures";
+    public static final String FIXTURE_DATASET = FIXTURES_BASE + "/datasets/{name}";
+    public static final String FIXTURE_SNAPSHOT = FIXTURES_BASE + "/snapshots/{name}";
+    public static final String FIXTURE_SNAPSHOT_RESTORE = FIXTURE_SNAPSHOT + "/restore";
 }
\ No newline at end of file
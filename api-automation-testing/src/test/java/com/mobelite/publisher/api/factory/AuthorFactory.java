@@ -9,12 +9,14 @@ import java.time.LocalDate;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static com.mobelite.publisher.api.utils.GenerateDataUtils.generateRandomBirthDate;
+import static com.mobelite.publisher.api.utils.GenerateDataUtils.uniqueSuffix;
 
 
 public class AuthorFactory {
     private static final AtomicLong authorCounter = new AtomicLong(1);
     private static final String TEST_AUTHOR_PREFIX = "TEST_AUTHOR_";
-    private static final Faker faker = new Faker();
+    // Faker keeps internal state, so each test thread gets its own
+    private static final ThreadLocal<Faker> faker = ThreadLocal.withInitial(Faker::new);
 
     @Step("Create author request")
     public static  AuthorRequest createAuthorRequest(String name, LocalDate birthDate, String nationality) {
@@ -27,15 +29,15 @@ public class AuthorFactory {
 
     @Step("Create valid author request with Faker")
     public static  AuthorRequest createValidAuthorRequest() {
-        String name = faker.name().firstName() + "_" + authorCounter.getAndIncrement();
+        String name = faker.get().name().firstName() + "_" + uniqueSuffix(authorCounter.getAndIncrement());
         LocalDate birthDate = generateRandomBirthDate(20, 70);
-        String nationality = faker.country().name();
+        String nationality = faker.get().country().name();
         return createAuthorRequest(name, birthDate, nationality);
     }
 
     @Step("Create minimal author request with Faker")
     public static  AuthorRequest createMinimalAuthorRequest() {
-        String name = TEST_AUTHOR_PREFIX + faker.name().firstName() + "_" + authorCounter.getAndIncrement();
+        String name = TEST_AUTHOR_PREFIX + faker.get().name().firstName() + "_" + uniqueSuffix(authorCounter.getAndIncrement());
         return createAuthorRequest(name, null, null);
     }
 
@@ -43,7 +45,7 @@ public class AuthorFactory {
     public static  AuthorRequest createInvalidAuthorRequest() {
         String name = "";
         LocalDate birthDate = LocalDate.now().plusDays(1);
-        String nationality = faker.lorem().characters(60);
+        String nationality = faker.get().lorem().characters(60);
         return createAuthorRequest(name, birthDate, nationality);
     }
 
@@ -9,21 +9,24 @@ import java.time.LocalDate;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static com.mobelite.publisher.api.utils.GenerateDataUtils.generateRandomDateInYear;
+import static com.mobelite.publisher.api.utils.GenerateDataUtils.uniqueDigits;
+import static com.mobelite.publisher.api.utils.GenerateDataUtils.uniqueSuffix;
 
 
 @Slf4j
 public class BookFactory {
 
-    private static final Faker faker = new Faker();
+    // Faker keeps internal state, so each test thread gets its own
+    private static final ThreadLocal<Faker> faker = ThreadLocal.withInitial(Faker::new);
     private static final AtomicLong counter = new AtomicLong(1);
     private static final String TEST_BOOK_PREFIX = "TEST_BOOK_";
 
     @Step("Create valid book request")
     public static BookRequest createValidBook(Long authorId) {
         return BookRequest.builder()
-                .title(faker.book().title() + "_" + counter.getAndIncrement())
+                .title(faker.get().book().title() + "_" + uniqueSuffix(counter.getAndIncrement()))
                 .publicationDate(generateRandomDateInYear(2000))
-                .isbn(faker.number().digits(13)) // valid ISBN-like number
+                .isbn(faker.get().number().digits(13)) // valid ISBN-like number
                 .authorId(authorId)
                 .build();
     }
@@ -31,9 +34,9 @@ public class BookFactory {
     @Step("Create minimal book request")
     public static BookRequest createMinimalBook(Long authorId) {
         return BookRequest.builder()
-                .title(TEST_BOOK_PREFIX + counter.getAndIncrement())
+                .title(TEST_BOOK_PREFIX + uniqueSuffix(counter.getAndIncrement()))
                 .publicationDate(LocalDate.of(1900, 1, 1))
-                .isbn("1234567890") // simple 10-digit
+                .isbn(uniqueDigits(counter.getAndIncrement())) // simple 10-digit, unique to the run
                 .authorId(authorId)
                 .build();
     }
@@ -41,7 +44,7 @@ public class BookFactory {
     @Step("Create book request with invalid ISBN")
     public static BookRequest createWithInvalidISBN(Long authorId) {
         return BookRequest.builder()
-                .title("InvalidISBN_" + counter.getAndIncrement())
+                .title("InvalidISBN_" + uniqueSuffix(counter.getAndIncrement()))
                 .publicationDate(generateRandomDateInYear(1900))
                 .isbn("INVALID") // deliberately invalid
                 .authorId(authorId)
@@ -53,7 +56,7 @@ public class BookFactory {
         return BookRequest.builder()
                 .title("") // invalid
                 .publicationDate(generateRandomDateInYear(1900))
-                .isbn(faker.number().digits(13))
+                .isbn(faker.get().number().digits(13))
                 .authorId(authorId)
                 .build();
     }
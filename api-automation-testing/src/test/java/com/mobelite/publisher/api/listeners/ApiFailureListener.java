@@ -1,38 +1,43 @@
 package com.mobelite.publisher.api.listeners;
 
-import com.mobelite.publisher.api.base.BaseTest;
+import com.mobelite.publisher.api.base.ApiDiagnostics;
 import io.qameta.allure.Allure;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
 import java.io.ByteArrayInputStream;
 
+/**
+ * Attaches the failed test's last request and response to the Allure report.
+ * TestNG notifies listeners on the thread that ran the test, so the exchange read here is the test's own.
+ */
 public class ApiFailureListener implements ITestListener {
 
     @Override
-    public void onTestFailure(ITestResult result) {
-        Object instance = result.getInstance();
-        if (instance instanceof BaseTest test) { // base class holding last request/response
+    public void onTestStart(ITestResult result) {
+        ApiDiagnostics.clear();
+    }
 
-            String lastRequest = test.getLastRequest();
-            String lastResponse = test.getLastResponse();
+    @Override
+    public void onTestFailure(ITestResult result) {
+        String lastRequest = ApiDiagnostics.lastRequest();
+        String lastResponse = ApiDiagnostics.lastResponse();
 
-            try {
-                if (lastRequest != null) {
-                    Allure.addAttachment(
-                            "Failed API Request",
-                            new ByteArrayInputStream(lastRequest.getBytes())
-                    );
-                }
-                if (lastResponse != null) {
-                    Allure.addAttachment(
-                            "Failed API Response",
-                            new ByteArrayInputStream(lastResponse.getBytes())
-                    );
-                }
-            } catch (Exception e) {
-                // swallow errors, do not break tests
+        try {
+            if (lastRequest != null) {
+                Allure.addAttachment(
+                        "Failed API Request",
+                        new ByteArrayInputStream(lastRequest.getBytes())
+                );
+            }
+            if (lastResponse != null) {
+                Allure.addAttachment(
+                        "Failed API Response",
+                        new ByteArrayInputStream(lastResponse.getBytes())
+                );
             }
+        } catch (Exception e) {
+            // swallow errors, do not break tests
         }
     }
-}
\ No newline at end of file
+}
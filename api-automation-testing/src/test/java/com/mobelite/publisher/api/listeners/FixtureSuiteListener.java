@@ -0,0 +1,31 @@
+package com.mobelite.publisher.api.listeners;
+
+import com.mobelite.publisher.api.utils.FixtureUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * With {@code -Dfixtures.enabled=true}, snapshots the catalog before the suite and restores it afterwards,
+ * so whatever the tests created is removed in one operation instead of one DELETE per entity.
+ * The restore replaces the whole catalog: run one suite at a time against a given database.
+ */
+@Slf4j
+public class FixtureSuiteListener implements ISuiteListener {
+
+    private static final String SNAPSHOT = "api_suite";
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (FixtureUtils.isEnabled()) {
+            FixtureUtils.snapshot(SNAPSHOT);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (FixtureUtils.isEnabled()) {
+            FixtureUtils.restoreAndDrop(SNAPSHOT);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.mobelite.publisher.api.listeners;
+
+import com.mobelite.publisher.api.base.ApiContexts;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Sizes the suite's thread pool and closes the per-thread request contexts once the suite is done.
+ * <p>
+ * API tests mostly wait on the service, so by default a suite that runs in parallel gets two threads per core;
+ * {@code -Dapi.threads=N} overrides that, and {@code -Dapi.threads=1} runs the suite sequentially.
+ * Must be declared in the suite XML: suites are altered before any {@code @Listeners} annotation is read.
+ */
+@Slf4j
+public class ParallelSuiteListener implements IAlterSuiteListener, ISuiteListener {
+
+    private static final int THREADS_PER_CORE = 2;
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = Integer.getInteger("api.threads", Runtime.getRuntime().availableProcessors() * THREADS_PER_CORE);
+        for (XmlSuite suite : suites) {
+            if (threads <= 1) {
+                suite.setParallel(XmlSuite.ParallelMode.NONE);
+            } else if (suite.getParallel() != XmlSuite.ParallelMode.NONE) {
+                suite.setThreadCount(threads);
+            }
+            if (suite.getParallel() == XmlSuite.ParallelMode.NONE) {
+                log.info("Suite '{}' runs sequentially", suite.getName());
+            } else {
+                log.info("Suite '{}' runs {} in parallel on {} threads", suite.getName(), suite.getParallel(), suite.getThreadCount());
+            }
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ApiContexts.closeAll();
+    }
+}
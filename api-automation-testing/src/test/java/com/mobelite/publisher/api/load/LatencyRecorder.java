@@ -0,0 +1,60 @@
+package com.mobelite.publisher.api.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of the measured requests, per operation, in microseconds.
+ * <p>
+ * Response time is measured from the moment the request was <em>scheduled</em> to start, not from when a worker
+ * got to send it. When the service slows down, requests queue in the generator and that wait is counted,
+ * which corrects for coordinated omission: a closed-loop client would instead send fewer requests and
+ * hide the stall. Service time, measured from the actual send, is kept alongside for comparison.
+ */
+class LatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<LoadOperation, Recorder> responseTimes = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, Recorder> serviceTimes = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+
+    LatencyRecorder() {
+        for (LoadOperation operation : LoadOperation.values()) {
+            responseTimes.put(operation, new Recorder(SIGNIFICANT_DIGITS));
+            serviceTimes.put(operation, new Recorder(SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void recordSuccess(LoadOperation operation, long scheduledNanos, long sentNanos, long completedNanos) {
+        responseTimes.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - scheduledNanos));
+        serviceTimes.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - sentNanos));
+    }
+
+    void recordError(LoadOperation operation) {
+        errors.get(operation).increment();
+    }
+
+    /**
+     * Everything recorded so far, per operation. Meant to be called once, after the run.
+     */
+    Map<LoadOperation, Snapshot> snapshot() {
+        Map<LoadOperation, Snapshot> snapshot = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            snapshot.put(operation, new Snapshot(
+                    responseTimes.get(operation).getIntervalHistogram(),
+                    serviceTimes.get(operation).getIntervalHistogram(),
+                    errors.get(operation).sum()));
+        }
+        return snapshot;
+    }
+
+    record Snapshot(Histogram responseTime, Histogram serviceTime, long errors) {
+    }
+}
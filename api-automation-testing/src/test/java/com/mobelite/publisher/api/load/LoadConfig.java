@@ -0,0 +1,82 @@
+package com.mobelite.publisher.api.load;
+
+import com.mobelite.publisher.api.config.ConfigManager;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a load run, read from {@code load.*} system properties.
+ * The base URL defaults to the one of the selected test environment ({@code -Dtest.env}).
+ */
+@Getter
+@Builder(toBuilder = true)
+public class LoadConfig {
+
+    public enum Arrival {
+        /** Requests start at fixed intervals. */
+        CONSTANT,
+        /** Exponentially distributed intervals, as independent users arrive. */
+        POISSON
+    }
+
+    private final String baseUrl;
+    /** Requests started per second, whether or not earlier ones have completed (open model). */
+    private final double ratePerSecond;
+    private final Arrival arrival;
+    private final Duration warmup;
+    private final Duration duration;
+    /** Upper bound on requests in flight, and so on open connections. */
+    private final int maxConcurrency;
+    private final Duration requestTimeout;
+    /** Relative weight of each operation type in the mix. */
+    private final Map<OperationType, Integer> mix;
+    private final int seedAuthors;
+    private final int seedBooks;
+    private final long randomSeed;
+    private final Path outputDir;
+    /** Thresholds checked by {@link LoadGenerationTest}; a p99 of 0 is not checked. */
+    private final double maxErrorRate;
+    private final long maxP99Millis;
+
+    public static LoadConfig fromSystemProperties() {
+        return LoadConfig.builder()
+                .baseUrl(System.getProperty("load.base-url", ConfigManager.getInstance().getApiBaseUrl()))
+                .ratePerSecond(Double.parseDouble(System.getProperty("load.rate", "50")))
+                .arrival(Arrival.valueOf(System.getProperty("load.arrival", "poisson").toUpperCase()))
+                .warmup(Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10)))
+                .duration(Duration.ofSeconds(Long.getLong("load.duration-seconds", 60)))
+                .maxConcurrency(Integer.getInteger("load.max-concurrency", 64))
+                .requestTimeout(Duration.ofSeconds(Long.getLong("load.request-timeout-seconds", 10)))
+                .mix(parseMix(System.getProperty("load.mix", "read=70,search=20,write=10")))
+                .seedAuthors(Integer.getInteger("load.seed-authors", 20))
+                .seedBooks(Integer.getInteger("load.seed-books", 200))
+                .randomSeed(Long.getLong("load.random-seed", 42))
+                .outputDir(Path.of(System.getProperty("load.output-dir", "test-results/load")))
+                .maxErrorRate(Double.parseDouble(System.getProperty("load.max-error-rate", "0.01")))
+                .maxP99Millis(Long.getLong("load.max-p99-millis", 0))
+                .build();
+    }
+
+    /**
+     * Parses a mix such as {@code read=70,search=20,write=10}; omitted types get no traffic.
+     */
+    static Map<OperationType, Integer> parseMix(String value) {
+        Map<OperationType, Integer> mix = new EnumMap<>(OperationType.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected type=weight in load.mix, got: " + entry);
+            }
+            mix.put(OperationType.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("load.mix has no positive weight: " + value);
+        }
+        return mix;
+    }
+}
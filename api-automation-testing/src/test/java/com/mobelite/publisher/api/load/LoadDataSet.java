@@ -0,0 +1,77 @@
+package com.mobelite.publisher.api.load;
+
+import com.mobelite.publisher.api.utils.ApiUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The entities a load run reads: authors and books seeded before the run, and the paths of everything
+ * created (seeded or written during the run) so it can be deleted afterwards, newest first.
+ */
+class LoadDataSet {
+
+    private final List<Long> authorIds = new ArrayList<>();
+    private final List<Long> bookIds = new ArrayList<>();
+    private final List<String> isbns = new ArrayList<>();
+    private final List<String> titleWords = new ArrayList<>();
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+
+    void addAuthor(long id) {
+        authorIds.add(id);
+    }
+
+    void addBook(long id, String isbn, String title) {
+        bookIds.add(id);
+        isbns.add(isbn);
+        titleWords.add(title.split("[\\s_]+")[0]);
+    }
+
+    /**
+     * Remember an entity to delete after the run, given the by-id path of its endpoint.
+     */
+    void created(String pathTemplate, long id) {
+        created.add(ApiUtils.buildPath(pathTemplate, id));
+    }
+
+    List<String> createdPaths() {
+        List<String> paths = new ArrayList<>(created);
+        Collections.reverse(paths);
+        return paths;
+    }
+
+    long randomAuthorId(SplittableRandom random) {
+        return authorIds.get(random.nextInt(authorIds.size()));
+    }
+
+    long randomBookId(SplittableRandom random) {
+        return bookIds.get(random.nextInt(bookIds.size()));
+    }
+
+    String randomIsbn(SplittableRandom random) {
+        return isbns.get(random.nextInt(isbns.size()));
+    }
+
+    String randomTitleWord(SplittableRandom random) {
+        return titleWords.get(random.nextInt(titleWords.size()));
+    }
+
+    /**
+     * Pages of seeded books, so listings stay within data that exists.
+     */
+    int bookPages(int pageSize) {
+        return Math.max(1, bookIds.size() / pageSize);
+    }
+
+    int authorCount() {
+        return authorIds.size();
+    }
+
+    int bookCount() {
+        return bookIds.size();
+    }
+}
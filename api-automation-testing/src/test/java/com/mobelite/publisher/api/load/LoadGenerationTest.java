@@ -0,0 +1,41 @@
+package com.mobelite.publisher.api.load;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+/**
+ * Runs the load generator against the environment's service and checks the run against its thresholds.
+ * Not part of the functional suite: run it with {@code mvn test -Pload}, or through {@code Main}.
+ */
+@Slf4j
+@Epic("Load")
+@Feature("Open-model load run")
+public class LoadGenerationTest {
+
+    @Test(description = "Sustain the configured request rate within the error and latency thresholds")
+    public void sustainConfiguredLoad() throws IOException, InterruptedException {
+        LoadConfig config = LoadConfig.fromSystemProperties();
+        LoadReport report = new LoadGenerator(config).run();
+
+        try (InputStream html = Files.newInputStream(config.getOutputDir().resolve("load-report.html"))) {
+            Allure.addAttachment("Load report", "text/html", html, "html");
+        }
+
+        LoadReport.OperationResult total = report.total();
+        Assert.assertTrue(total.requests() > 0, "No request completed");
+        Assert.assertTrue(total.errorRate() <= config.getMaxErrorRate(),
+                String.format("Error rate %.4f above %.4f", total.errorRate(), config.getMaxErrorRate()));
+        if (config.getMaxP99Millis() > 0) {
+            Assert.assertTrue(total.responseTimeMillis().p99() <= config.getMaxP99Millis(),
+                    String.format("p99 of %.1f ms above %d ms", total.responseTimeMillis().p99(), config.getMaxP99Millis()));
+        }
+    }
+}
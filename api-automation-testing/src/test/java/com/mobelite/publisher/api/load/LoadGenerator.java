@@ -0,0 +1,268 @@
+package com.mobelite.publisher.api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobelite.publisher.api.config.ConfigManager;
+import com.mobelite.publisher.api.constants.HttpMethod;
+import com.mobelite.publisher.api.factory.AuthorFactory;
+import com.mobelite.publisher.api.factory.BookFactory;
+import com.mobelite.publisher.api.models.request.BookRequest;
+import com.mobelite.publisher.api.load.LoadOperation.Call;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.mobelite.publisher.api.constants.ApiEndpoints.*;
+
+/**
+ * Drives the service with an open workload: requests start at the configured rate whatever the latency of
+ * earlier ones, as real users arrive, instead of each client waiting for its previous response.
+ * <p>
+ * A single dispatcher thread computes each request's scheduled start, picks an operation from the mix and
+ * hands the request to the worker pool. All workers share one {@link HttpClient}, so connections are kept
+ * alive and reused; at most {@code maxConcurrency} requests are in flight and later ones wait in the queue,
+ * which is counted in their response time (see {@link LatencyRecorder}).
+ * <p>
+ * The data the workload reads is seeded through the API before the run, and everything created is deleted after it.
+ */
+@Slf4j
+public class LoadGenerator {
+
+    private final LoadConfig config;
+    private final ObjectMapper objectMapper = ConfigManager.getInstance().getObjectMapper();
+    private final HttpClient client;
+    private final ExecutorService workers;
+    private final LoadDataSet data = new LoadDataSet();
+
+    public LoadGenerator(LoadConfig config) {
+        this.config = config;
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(config.getMaxConcurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(config.getRequestTimeout())
+                .build();
+    }
+
+    /**
+     * Seed, run the warm-up and the measured phase, clean up, and write the report.
+     */
+    public LoadReport run() throws IOException, InterruptedException {
+        try {
+            seed();
+            LatencyRecorder recorder = new LatencyRecorder();
+            log.info("Warming up for {} s at {} req/s", config.getWarmup().toSeconds(), config.getRatePerSecond());
+            dispatch(config.getWarmup().toNanos(), null);
+            log.info("Measuring for {} s at {} req/s ({} arrivals, mix {})", config.getDuration().toSeconds(),
+                    config.getRatePerSecond(), config.getArrival().name().toLowerCase(), config.getMix());
+            Instant startedAt = Instant.now();
+            long start = System.nanoTime();
+            dispatch(config.getDuration().toNanos(), recorder);
+            double measuredSeconds = (System.nanoTime() - start) / 1e9;
+
+            LoadReport report = LoadReport.of(config, startedAt, measuredSeconds, recorder.snapshot(), config.getOutputDir());
+            report.write(config.getOutputDir());
+            log.info("{} requests, {} errors, p99 {} ms", report.total().requests(), report.total().errors(),
+                    report.total().responseTimeMillis().p99());
+            return report;
+        } finally {
+            cleanup();
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Start requests on schedule for the given time, then wait for those in flight.
+     * Requests are only recorded when a recorder is given.
+     */
+    private void dispatch(long durationNanos, LatencyRecorder recorder) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(config.getRandomSeed() + (recorder == null ? 0 : 1));
+        WorkloadMix mix = new WorkloadMix(config.getMix());
+        // Bounds the queue as well as the in-flight requests, so a stalled service cannot exhaust the heap
+        Semaphore outstanding = new Semaphore(config.getMaxConcurrency() * 100);
+        double meanIntervalNanos = 1e9 / config.getRatePerSecond();
+
+        long start = System.nanoTime();
+        long end = start + durationNanos;
+        long scheduled = start;
+        while (scheduled < end) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            LoadOperation operation = mix.next(random);
+            Call call = operation.next(data, random);
+            outstanding.acquire();
+            long scheduledAt = scheduled;
+            workers.execute(() -> {
+                try {
+                    send(operation, call, scheduledAt, recorder);
+                } finally {
+                    outstanding.release();
+                }
+            });
+            scheduled += config.getArrival() == LoadConfig.Arrival.POISSON
+                    ? (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos)
+                    : (long) meanIntervalNanos;
+        }
+        outstanding.acquire(config.getMaxConcurrency() * 100);
+    }
+
+    private void send(LoadOperation operation, Call call, long scheduledNanos, LatencyRecorder recorder) {
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request(call), HttpResponse.BodyHandlers.ofByteArray());
+            long completed = System.nanoTime();
+            if (response.statusCode() >= 400) {
+                log.debug("{} {} returned {}", call.method(), call.path(), response.statusCode());
+                if (recorder != null) {
+                    recorder.recordError(operation);
+                }
+                return;
+            }
+            if (recorder != null) {
+                recorder.recordSuccess(operation, scheduledNanos, sent, completed);
+            }
+            if (call.cleanupPath() != null) {
+                data.created(call.cleanupPath(), idOf(response.body()));
+            }
+        } catch (IOException e) {
+            log.debug("{} {} failed: {}", call.method(), call.path(), e.getMessage());
+            if (recorder != null) {
+                recorder.recordError(operation);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpRequest request(Call call) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(config.getBaseUrl() + call.path()))
+                .timeout(config.getRequestTimeout())
+                .header("Accept", "application/json")
+                .header("User-Agent", "E2E-API-Load/1.0");
+        HttpRequest.BodyPublisher body = call.body() == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(call.body()));
+        if (call.body() != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        return builder.method(call.method().name(), body).build();
+    }
+
+    private long idOf(byte[] body) throws IOException {
+        return objectMapper.readTree(body).path("data").path("id").asLong();
+    }
+
+    /**
+     * Create the authors and books the workload reads, through the same endpoints it exercises.
+     */
+    private void seed() throws IOException, InterruptedException {
+        log.info("Seeding {} authors and {} books through {}", config.getSeedAuthors(), config.getSeedBooks(),
+                config.getBaseUrl());
+        for (int i = 0; i < config.getSeedAuthors(); i++) {
+            JsonNode author = create(new Call(HttpMethod.POST, AUTHORS_BASE, AuthorFactory.createValidAuthorRequest(), AUTHOR_BY_ID));
+            data.addAuthor(author.path("id").asLong());
+        }
+        SplittableRandom random = new SplittableRandom(config.getRandomSeed());
+        for (int i = 0; i < config.getSeedBooks(); i++) {
+            BookRequest request = BookFactory.createValidBook(data.randomAuthorId(random));
+            JsonNode book = create(new Call(HttpMethod.POST, BOOKS_BASE, request, BOOKS_BY_ID));
+            data.addBook(book.path("id").asLong(), request.getIsbn(), request.getTitle());
+        }
+    }
+
+    private JsonNode create(Call call) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request(call), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding failed: %s %s returned %d: %s".formatted(
+                    call.method(), call.path(), response.statusCode(), new String(response.body())));
+        }
+        JsonNode created = objectMapper.readTree(response.body()).path("data");
+        data.created(call.cleanupPath(), created.path("id").asLong());
+        return created;
+    }
+
+    private void cleanup() {
+        List<String> paths = data.createdPaths();
+        log.info("Deleting {} entities created by the load run", paths.size());
+        List<String> failed = new ArrayList<>();
+        for (String path : paths) {
+            try {
+                HttpResponse<Void> response = client.send(request(new Call(HttpMethod.DELETE, path, null, null)),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400 && response.statusCode() != 404) {
+                    failed.add(path);
+                }
+            } catch (IOException e) {
+                failed.add(path);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (!failed.isEmpty()) {
+            log.warn("Failed to delete {} entities, e.g. {}", failed.size(), failed.get(0));
+        }
+    }
+
+    /**
+     * Weighted choice of the operation type, then a uniform choice among the operations of that type.
+     */
+    static final class WorkloadMix {
+
+        private final OperationType[] types;
+        private final int[] cumulativeWeights;
+        private final Map<OperationType, LoadOperation[]> operations = new EnumMap<>(OperationType.class);
+
+        WorkloadMix(Map<OperationType, Integer> weights) {
+            List<OperationType> weighted = weights.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            types = weighted.toArray(OperationType[]::new);
+            cumulativeWeights = new int[types.length];
+            int sum = 0;
+            for (int i = 0; i < types.length; i++) {
+                sum += weights.get(types[i]);
+                cumulativeWeights[i] = sum;
+            }
+            for (OperationType type : types) {
+                operations.put(type, Arrays.stream(LoadOperation.values())
+                        .filter(operation -> operation.getType() == type)
+                        .toArray(LoadOperation[]::new));
+            }
+        }
+
+        LoadOperation next(SplittableRandom random) {
+            int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            int index = 0;
+            while (pick >= cumulativeWeights[index]) {
+                index++;
+            }
+            LoadOperation[] candidates = operations.get(types[index]);
+            return candidates[random.nextInt(candidates.length)];
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.mobelite.publisher.api.load;
+
+import com.mobelite.publisher.api.constants.HttpMethod;
+import com.mobelite.publisher.api.factory.AuthorFactory;
+import com.mobelite.publisher.api.factory.BookFactory;
+import com.mobelite.publisher.api.utils.ApiUtils;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static com.mobelite.publisher.api.constants.ApiEndpoints.*;
+
+/**
+ * The requests a load run sends, each belonging to one {@link OperationType}.
+ * Reads and searches target the data seeded before the run; writes create entities that are deleted after it.
+ */
+public enum LoadOperation {
+
+    GET_BOOK(OperationType.READ) {
+        @Override
+        Call next(LoadDataSet data, SplittableRandom random) {
+            return Call.get(ApiUtils.buildPath(BOOKS_BY_ID, data.randomBookId(random)));
+        }
+    },
+    GET_BOOK_BY_ISBN(OperationType.READ) {
+        @Override
+        Call next(LoadDataSet data, SplittableRandom random) {
+            return Call.get(ApiUtils.buildPath(BOOK_BY_ISBN, data.randomIsbn(random)));
+        }
+    },
+    GET_AUTHOR(OperationType.READ) {
+        @Override
+        Call next(LoadDataSet data, SplittableRandom random) {
+            return Call.get(ApiUtils.buildPath(AUTHOR_BY_ID, data.randomAuthorId(random)));
+        }
+    },
+    SEARCH_TITLE(OperationType.SEARCH) {
+        @Override
+        Call next(LoadDataSet data, SplittableRandom random) {
+            return Call.get(ApiUtils.buildEndpointWithParams(PUBLICATIONS_SEARCH_TITLE,
+                    Map.of("title", data.randomTitleWord(random), "size", "20")));
+        }
+    },
+    LIST_BOOKS(OperationType.SEARCH) {
+        @Override
+        Call next(LoadDataSet data, SplittableRandom random) {
+            return Call.get(ApiUtils.buildEndpointWithParams(BOOKS_BASE,
+                    Map.of("page", String.valueOf(random.nextInt(data.bookPages(PAGE_SIZE))), "size", String.valueOf(PAGE_SIZE))));
+        }
+    },
+    CREATE_BOOK(OperationType.WRITE) {
+        @Override
+        Call next(LoadDataSet data, SplittableRandom random) {
+            return new Call(HttpMethod.POST, BOOKS_BASE, BookFactory.createValidBook(data.randomAuthorId(random)), BOOKS_BY_ID);
+        }
+    },
+    CREATE_AUTHOR(OperationType.WRITE) {
+        @Override
+        Call next(LoadDataSet data, SplittableRandom random) {
+            return new Call(HttpMethod.POST, AUTHORS_BASE, AuthorFactory.createValidAuthorRequest(), AUTHOR_BY_ID);
+        }
+    };
+
+    private static final int PAGE_SIZE = 20;
+
+    private final OperationType type;
+
+    LoadOperation(OperationType type) {
+        this.type = type;
+    }
+
+    public OperationType getType() {
+        return type;
+    }
+
+    /**
+     * The next request of this operation. Called from the dispatching thread only.
+     */
+    abstract Call next(LoadDataSet data, SplittableRandom random);
+
+    /**
+     * One request: a body is sent as JSON. When {@code cleanupPath} is set, the request creates an entity
+     * whose id is read from the response and substituted into that path to delete it after the run.
+     */
+    record Call(HttpMethod method, String path, Object body, String cleanupPath) {
+
+        static Call get(String path) {
+            return new Call(HttpMethod.GET, path, null, null);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.mobelite.publisher.api.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mobelite.publisher.api.config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of a load run: per operation and in total, the request and error counts, the achieved throughput
+ * and the response and service time percentiles in milliseconds. Written to the output directory as
+ * {@code load-report.json}, {@code load-report.html} and one HdrHistogram percentile file per operation.
+ */
+@Slf4j
+public record LoadReport(Instant startedAt, double measuredSeconds, double targetRatePerSecond, String arrival,
+                         Map<OperationType, Integer> mix, List<OperationResult> operations, OperationResult total) {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    public record OperationResult(String name, String type, long requests, long errors, double throughputPerSecond,
+                                  Percentiles responseTimeMillis, Percentiles serviceTimeMillis) {
+
+        public double errorRate() {
+            long attempted = requests + errors;
+            return attempted == 0 ? 0 : (double) errors / attempted;
+        }
+    }
+
+    public record Percentiles(double p50, double p90, double p99, double p999, double max, double mean) {
+
+        static Percentiles of(Histogram histogram) {
+            return new Percentiles(
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    Math.round(histogram.getMean()) / MICROS_PER_MILLI);
+        }
+
+        private static double millis(long micros) {
+            return micros / MICROS_PER_MILLI;
+        }
+    }
+
+    static LoadReport of(LoadConfig config, Instant startedAt, double measuredSeconds,
+                         Map<LoadOperation, LatencyRecorder.Snapshot> snapshot, Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        List<OperationResult> operations = new ArrayList<>();
+        Histogram totalResponse = new Histogram(3);
+        Histogram totalService = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<LoadOperation, LatencyRecorder.Snapshot> entry : snapshot.entrySet()) {
+            LatencyRecorder.Snapshot recorded = entry.getValue();
+            if (recorded.responseTime().getTotalCount() == 0 && recorded.errors() == 0) {
+                continue;
+            }
+            operations.add(result(entry.getKey().name(), entry.getKey().getType().name(), recorded.responseTime(),
+                    recorded.serviceTime(), recorded.errors(), measuredSeconds));
+            writePercentiles(outputDir.resolve(entry.getKey().name().toLowerCase() + ".hgrm"), recorded.responseTime());
+            totalResponse.add(recorded.responseTime());
+            totalService.add(recorded.serviceTime());
+            totalErrors += recorded.errors();
+        }
+        OperationResult total = result("TOTAL", "ALL", totalResponse, totalService, totalErrors, measuredSeconds);
+        writePercentiles(outputDir.resolve("total.hgrm"), totalResponse);
+        return new LoadReport(startedAt, measuredSeconds, config.getRatePerSecond(), config.getArrival().name(),
+                config.getMix(), operations, total);
+    }
+
+    private static OperationResult result(String name, String type, Histogram responseTime, Histogram serviceTime,
+                                          long errors, double measuredSeconds) {
+        long requests = responseTime.getTotalCount();
+        return new OperationResult(name, type, requests, errors,
+                Math.round(requests / measuredSeconds * 10) / 10.0,
+                Percentiles.of(responseTime), Percentiles.of(serviceTime));
+    }
+
+    private static void writePercentiles(Path file, Histogram histogram) throws IOException {
+        if (histogram.getTotalCount() == 0) {
+            return;
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    void write(Path outputDir) throws IOException {
+        ObjectMapper objectMapper = ConfigManager.getInstance().getObjectMapper().copy()
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        Path json = outputDir.resolve("load-report.json");
+        objectMapper.writeValue(json.toFile(), this);
+        Path html = outputDir.resolve("load-report.html");
+        Files.writeString(html, toHtml());
+        log.info("Load report written to {} and {}", json.toAbsolutePath(), html.toAbsolutePath());
+    }
+
+    private String toHtml() {
+        StringBuilder rows = new StringBuilder();
+        for (OperationResult operation : operations) {
+            rows.append(row(operation, ""));
+        }
+        rows.append(row(total, " class=\"total\""));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("Started", startedAt);
+        summary.put("Measured", measuredSeconds + " s");
+        summary.put("Target rate", targetRatePerSecond + " req/s, " + arrival.toLowerCase() + " arrivals");
+        summary.put("Mix", mix);
+        StringBuilder header = new StringBuilder();
+        summary.forEach((key, value) -> header.append("<dt>").append(key).append("</dt><dd>").append(value).append("</dd>"));
+
+        return """
+                <!DOCTYPE html>
+                <html lang="en">
+                <head>
+                <meta charset="UTF-8">
+                <title>Load report</title>
+                <style>
+                body { font-family: sans-serif; margin: 2em; }
+                dl { display: grid; grid-template-columns: max-content auto; gap: .2em 1em; }
+                dt { font-weight: bold; }
+                table { border-collapse: collapse; }
+                th, td { border: 1px solid #ccc; padding: .3em .6em; text-align: right; }
+                th:first-child, td:first-child, td:nth-child(2) { text-align: left; }
+                tr.total { font-weight: bold; }
+                </style>
+                </head>
+                <body>
+                <h1>Load report</h1>
+                <dl>%s</dl>
+                <p>Response time is measured from the scheduled start of each request (corrected for coordinated
+                omission); service time from the moment it was sent. Times in milliseconds.</p>
+                <table>
+                <tr><th>Operation</th><th>Type</th><th>Requests</th><th>Errors</th><th>req/s</th>
+                <th>p50</th><th>p90</th><th>p99</th><th>p99.9</th><th>max</th>
+                <th>service p50</th><th>service p99</th></tr>
+                %s</table>
+                </body>
+                </html>
+                """.formatted(header, rows);
+    }
+
+    private static String row(OperationResult result, String attributes) {
+        Percentiles response = result.responseTimeMillis();
+        return "<tr%s><td>%s</td><td>%s</td><td>%d</td><td>%d</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td></tr>%n"
+                .formatted(attributes, result.name(), result.type(), result.requests(), result.errors(),
+                        result.throughputPerSecond(), response.p50(), response.p90(), response.p99(), response.p999(),
+                        response.max(), result.serviceTimeMillis().p50(), result.serviceTimeMillis().p99());
+    }
+}
@@ -0,0 +1,10 @@
+package com.mobelite.publisher.api.load;
+
+/**
+ * The parts of the workload mix, weighted through {@code load.mix}.
+ */
+public enum OperationType {
+    READ,
+    SEARCH,
+    WRITE
+}
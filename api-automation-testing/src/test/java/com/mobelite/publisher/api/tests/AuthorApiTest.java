@@ -40,7 +40,7 @@ public class AuthorApiTest extends BaseTestApi<Author, AuthorRequest> {
 
     @BeforeClass
     public void setUp() {
-        init(request);
+        init();
     }
 
     @AfterClass
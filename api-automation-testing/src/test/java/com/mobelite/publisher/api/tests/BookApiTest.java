@@ -44,7 +44,7 @@ public class BookApiTest extends BaseTestApi<Book, BookRequest> {
 
     @BeforeClass
     public void setUp() {
-        init(request);
+        init();
         AuthorRequest authorRequest = AuthorFactory.createValidAuthorRequest();
         authorId = ApiUtils.createAuthorEntity(apiClient, authorRequest, AUTHORS_BASE);
     }
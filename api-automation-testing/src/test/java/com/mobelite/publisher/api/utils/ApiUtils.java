@@ -78,6 +78,9 @@ public class ApiUtils {
      * Delete any entity by ID
      */
     public static void deleteSharedAuthor(ApiClient apiClient, Long id, String endpoint) {
+        if (FixtureUtils.isEnabled()) {
+            return; // removed when the suite restores its fixture snapshot
+        }
         apiClient.execute(HttpMethod.DELETE, buildPath(endpoint,id), null);
     }
 
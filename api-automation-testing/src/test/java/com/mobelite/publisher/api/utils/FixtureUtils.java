@@ -0,0 +1,55 @@
+package com.mobelite.publisher.api.utils;
+
+import com.microsoft.playwright.APIRequest;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Playwright;
+import com.mobelite.publisher.api.config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.mobelite.publisher.api.constants.ApiEndpoints.FIXTURE_SNAPSHOT;
+import static com.mobelite.publisher.api.constants.ApiEndpoints.FIXTURE_SNAPSHOT_RESTORE;
+
+/**
+ * Catalog snapshots taken through the service's test fixture endpoints ({@code fixtures} profile).
+ * Each call opens its own short-lived request context: these run from suite listeners, outside the
+ * per-thread contexts of the tests, and possibly after those are closed.
+ */
+@Slf4j
+public final class FixtureUtils {
+
+    private FixtureUtils() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().isFixturesEnabled();
+    }
+
+    /** Snapshot the catalog under a name, replacing an earlier snapshot of that name */
+    public static void snapshot(String name) {
+        send(name, api -> api.put(ApiUtils.buildPath(FIXTURE_SNAPSHOT, name)));
+    }
+
+    /** Restore the catalog to the named snapshot, then delete the snapshot */
+    public static void restoreAndDrop(String name) {
+        send(name, api -> api.post(ApiUtils.buildPath(FIXTURE_SNAPSHOT_RESTORE, name)));
+        send(name, api -> api.delete(ApiUtils.buildPath(FIXTURE_SNAPSHOT, name)));
+    }
+
+    private static void send(String name, Function<APIRequestContext, APIResponse> request) {
+        try (Playwright playwright = Playwright.create()) {
+            APIRequestContext api = playwright.request().newContext(new APIRequest.NewContextOptions()
+                    .setBaseURL(ConfigManager.getInstance().getApiBaseUrl())
+                    .setExtraHTTPHeaders(Map.of("Accept", "application/json")));
+            APIResponse response = request.apply(api);
+            if (!response.ok()) {
+                throw new IllegalStateException("Fixture request for snapshot '%s' failed: %d %s (is the service running with the fixtures profile?)"
+                        .formatted(name, response.status(), ApiUtils.getResponseText(response)));
+            }
+            log.info("Fixture snapshot '{}': {}", name, ApiUtils.getResponseText(response));
+        }
+    }
+}
@@ -6,6 +6,24 @@ import java.time.Year;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class GenerateDataUtils {
+
+    // Tells apart the data of suites running at the same time against the same service
+    private static final String RUN_ID = Long.toString(ThreadLocalRandom.current().nextLong(36L * 36 * 36 * 36, 36L * 36 * 36 * 36 * 36), 36);
+    private static final long RUN_NUMBER = ThreadLocalRandom.current().nextLong(10_000_000_000L);
+
+    /**
+     * A suffix unique to this run and the given counter value, for names and titles that must not collide.
+     */
+    public static String uniqueSuffix(long counter) {
+        return RUN_ID + "_" + counter;
+    }
+
+    /**
+     * A 10-digit number unique to this run and the given counter value, for ISBNs.
+     */
+    public static String uniqueDigits(long counter) {
+        return String.format("%010d", Math.floorMod(RUN_NUMBER + counter, 10_000_000_000L));
+    }
     public static LocalDate generateRandomBirthDate(int minAge, int maxAge) {
         int currentYear = LocalDate.now().getYear();
         int year = ThreadLocalRandom.current().nextInt(currentYear - maxAge, currentYear - minAge + 1);
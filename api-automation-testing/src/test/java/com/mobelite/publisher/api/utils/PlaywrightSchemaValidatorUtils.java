@@ -1,7 +1,9 @@
 package com.mobelite.publisher.api.utils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.APIResponse;
 import com.mobelite.publisher.api.config.ConfigManager;
+import org.everit.json.schema.ArraySchema;
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.loader.SchemaLoader;
 import org.json.JSONArray;
@@ -9,40 +11,82 @@ import org.json.JSONObject;
 import org.json.JSONTokener;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * JSON-schema validation of API responses.
+ * Schemas are loaded and compiled once per path and shared between test threads (compiled schemas are immutable).
+ * Responses are validated from their raw body, parsed once; an array is validated in one pass against a schema
+ * whose items are the element schema, so all failing elements are reported together.
+ */
 @Slf4j
 public class PlaywrightSchemaValidatorUtils {
 
     private static final ObjectMapper mapper = ConfigManager.getInstance().getObjectMapper();
+    private static final Map<String, Schema> schemas = new ConcurrentHashMap<>();
+    private static final Map<String, Schema> arraySchemas = new ConcurrentHashMap<>();
 
     /**
-     * Validates a response object against wrapper and data/content schemas.
+     * Validates a raw response against wrapper and data/content schemas.
+     */
+    public static JSONObject validateResponseAndData(APIResponse response,
+                                                     String responseSchemaPath,
+                                                     String dataSchemaPath,
+                                                     String contentSchemaPath) {
+        return validateResponseAndData(response.body(), responseSchemaPath, dataSchemaPath, contentSchemaPath);
+    }
+
+    /**
+     * Validates a raw response body against wrapper and data/content schemas, and returns the parsed body.
+     */
+    public static JSONObject validateResponseAndData(byte[] body,
+                                                     String responseSchemaPath,
+                                                     String dataSchemaPath,
+                                                     String contentSchemaPath) {
+        JSONObject jsonResponse;
+        try {
+            jsonResponse = new JSONObject(new JSONTokener(new ByteArrayInputStream(body)));
+        } catch (Exception e) {
+            throw new RuntimeException("Schema validation failed: response body is not a JSON object", e);
+        }
+        validateTree(jsonResponse, responseSchemaPath, dataSchemaPath, contentSchemaPath);
+        return jsonResponse;
+    }
+
+    /**
+     * Validates an already deserialized response object against wrapper and data/content schemas.
+     * Prefer the raw-body variants: this one serializes the object back to JSON first.
      */
     public static void validateResponseAndData(Object response,
                                                String responseSchemaPath,
                                                String dataSchemaPath,
                                                String contentSchemaPath) {
+        JSONObject jsonResponse;
         try {
-            // Convert response object to JSONObject
-            String json = mapper.writeValueAsString(response);
-            JSONObject jsonResponse = new JSONObject(json);
-
-            // Validate wrapper (ApiResponse)
-            validateAgainstSchema(jsonResponse, responseSchemaPath);
-            log.info("Wrapper schema validation passed: {}", responseSchemaPath);
-
-            // Validate "data" field if provided
-            if (dataSchemaPath != null && jsonResponse.has("data") && !jsonResponse.isNull("data")) {
-                Object dataNode = jsonResponse.get("data");
-                validateDataNode(dataNode, dataSchemaPath, contentSchemaPath);
-            } else {
-                log.info("No 'data' field to validate or dataSchemaPath is null.");
-            }
-
+            jsonResponse = new JSONObject(mapper.writeValueAsString(response));
         } catch (Exception e) {
             throw new RuntimeException("Schema validation failed", e);
         }
+        validateTree(jsonResponse, responseSchemaPath, dataSchemaPath, contentSchemaPath);
+    }
+
+    private static void validateTree(JSONObject jsonResponse,
+                                     String responseSchemaPath,
+                                     String dataSchemaPath,
+                                     String contentSchemaPath) {
+        // Validate wrapper (ApiResponse)
+        validateAgainstSchema(jsonResponse, responseSchemaPath);
+        log.debug("Wrapper schema validation passed: {}", responseSchemaPath);
+
+        // Validate "data" field if provided
+        if (dataSchemaPath != null && jsonResponse.has("data") && !jsonResponse.isNull("data")) {
+            validateDataNode(jsonResponse.get("data"), dataSchemaPath, contentSchemaPath);
+        } else {
+            log.debug("No 'data' field to validate or dataSchemaPath is null.");
+        }
     }
 
     /**
@@ -50,22 +94,17 @@ public class PlaywrightSchemaValidatorUtils {
      */
     private static void validateDataNode(Object dataNode, String dataSchemaPath, String contentSchemaPath) {
         if (dataNode instanceof JSONObject jsonData) {
-            log.info("Validating 'data' object against schema: {}", dataSchemaPath);
+            log.debug("Validating 'data' object against schema: {}", dataSchemaPath);
             validateAgainstSchema(jsonData, dataSchemaPath);
 
             if (contentSchemaPath != null && jsonData.has("content")) {
-                JSONArray contentArray = jsonData.getJSONArray("content");
-                for (int i = 0; i < contentArray.length(); i++) {
-                    log.debug("Validating 'content' element index {} against schema: {}", i, contentSchemaPath);
-                    validateAgainstSchema(contentArray.getJSONObject(i), contentSchemaPath);
-                }
+                log.debug("Validating 'content' elements against schema: {}", contentSchemaPath);
+                validateArray(jsonData.getJSONArray("content"), contentSchemaPath);
             }
 
         } else if (dataNode instanceof JSONArray jsonArray) {
-            log.info("Validating array of 'data' objects against schema: {}", dataSchemaPath);
-            for (int i = 0; i < jsonArray.length(); i++) {
-                validateAgainstSchema(jsonArray.getJSONObject(i), dataSchemaPath);
-            }
+            log.debug("Validating array of 'data' objects against schema: {}", dataSchemaPath);
+            validateArray(jsonArray, dataSchemaPath);
 
         } else {
             log.warn("'data' field is neither JSONObject nor JSONArray. Skipping schema validation.");
@@ -76,17 +115,44 @@ public class PlaywrightSchemaValidatorUtils {
      * Validates a JSON object against a schema file.
      */
     public static void validateAgainstSchema(JSONObject json, String schemaPath) {
+        Schema schema = schema(schemaPath);
+        try {
+            schema.validate(json); // throws ValidationException if invalid
+        } catch (Exception e) {
+            throw new RuntimeException("Schema validation failed for schema: " + schemaPath, e);
+        }
+    }
+
+    /**
+     * Validates every element of a JSON array against a schema file, in one pass.
+     */
+    public static void validateArray(JSONArray json, String itemSchemaPath) {
+        Schema schema = arraySchemas.computeIfAbsent(itemSchemaPath,
+                path -> ArraySchema.builder().allItemSchema(schema(path)).build());
+        try {
+            schema.validate(json);
+        } catch (Exception e) {
+            throw new RuntimeException("Schema validation failed for array items of schema: " + itemSchemaPath, e);
+        }
+    }
+
+    /**
+     * The compiled schema of a classpath resource, loaded on first use.
+     */
+    static Schema schema(String schemaPath) {
+        return schemas.computeIfAbsent(schemaPath, PlaywrightSchemaValidatorUtils::loadSchema);
+    }
+
+    private static Schema loadSchema(String schemaPath) {
         try (InputStream schemaStream = PlaywrightSchemaValidatorUtils.class.getResourceAsStream(schemaPath)) {
             if (schemaStream == null) {
                 throw new IllegalArgumentException("Schema not found: " + schemaPath);
             }
-
-            JSONObject rawSchema = new JSONObject(new JSONTokener(schemaStream));
-            Schema schema = SchemaLoader.load(rawSchema);
-            schema.validate(json); // throws ValidationException if invalid
-
+            return SchemaLoader.load(new JSONObject(new JSONTokener(schemaStream)));
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
-            throw new RuntimeException("Schema validation failed for schema: " + schemaPath, e);
+            throw new RuntimeException("Failed to load schema: " + schemaPath, e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,149 @@
+package com.mobelite.publisherManagementSystem.benchmarks;
+
+import com.mobelite.publisherManagementSystem.entity.Author;
+import com.mobelite.publisherManagementSystem.entity.Book;
+import com.mobelite.publisherManagementSystem.entity.Magazine;
+import com.mobelite.publisherManagementSystem.entity.Publication;
+import com.mobelite.publisherManagementSystem.mapper.AuthorMapper;
+import com.mobelite.publisherManagementSystem.mapper.MagazineMapper;
+import com.mobelite.publisherManagementSystem.mapper.PublicationMapper;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic in-memory catalog shared by the benchmarks, and the MapStruct mappers wired as in the application.
+ * Every magazine lists {@value #AUTHORS_PER_MAGAZINE} authors drawn from a pool of {@value #AUTHOR_POOL} authors,
+ * so author summaries repeat across a page the way they do in production.
+ */
+public final class CatalogFixtures {
+
+    public static final int AUTHOR_POOL = 50;
+    public static final int AUTHORS_PER_MAGAZINE = 5;
+    private static final long SEED = 42L;
+    private static final LocalDate EPOCH = LocalDate.of(2000, 1, 1);
+
+    private final List<Author> authors = new ArrayList<>();
+    private final SplittableRandom random = new SplittableRandom(SEED);
+
+    public CatalogFixtures() {
+        for (long id = 1; id <= AUTHOR_POOL; id++) {
+            authors.add(Author.builder()
+                    .id(id)
+                    .name("Author " + id)
+                    .nationality(id % 2 == 0 ? "French" : "Tunisian")
+                    .birthDate(EPOCH.minusYears(30).plusDays(id * 37))
+                    .books(new ArrayList<>())
+                    .magazines(new HashSet<>())
+                    .build());
+        }
+    }
+
+    /**
+     * An author carrying {@code books} books and {@code magazines} magazines, as loaded by {@code findByIdWithPublications}.
+     * The publications do not point back to this author: Lombok's equals and hashCode would recurse through the cycle.
+     */
+    public Author authorWithPublications(int books, int magazines) {
+        Author author = Author.builder()
+                .id(0L)
+                .name("Prolific Author")
+                .nationality("Tunisian")
+                .birthDate(EPOCH.minusYears(40))
+                .books(new ArrayList<>(books))
+                .magazines(new HashSet<>())
+                .build();
+        for (int i = 0; i < books; i++) {
+            author.getBooks().add(book(i));
+        }
+        for (int i = 0; i < magazines; i++) {
+            author.getMagazines().add(magazine(books + i));
+        }
+        return author;
+    }
+
+    /**
+     * A page of publications alternating books and magazines.
+     */
+    public List<Publication> publications(int size) {
+        List<Publication> publications = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            publications.add(i % 2 == 0 ? book(i) : magazine(i));
+        }
+        return publications;
+    }
+
+    public List<Magazine> magazines(int size) {
+        List<Magazine> magazines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            magazines.add(magazine(i));
+        }
+        return magazines;
+    }
+
+    public Book book(int index) {
+        return Book.builder()
+                .id((long) index + 1)
+                .title("Book " + index)
+                .publicationDate(EPOCH.plusDays(index))
+                .isbn(String.format("978-%010d", index))
+                .author(randomAuthor())
+                .build();
+    }
+
+    public Magazine magazine(int index) {
+        List<Author> magazineAuthors = new ArrayList<>(AUTHORS_PER_MAGAZINE);
+        for (int i = 0; i < AUTHORS_PER_MAGAZINE; i++) {
+            magazineAuthors.add(randomAuthor());
+        }
+        return Magazine.builder()
+                .id((long) index + 1)
+                .title("Magazine " + index)
+                .publicationDate(EPOCH.plusDays(index))
+                .issueNumber(index % 500 + 1)
+                .authors(magazineAuthors)
+                .build();
+    }
+
+    private Author randomAuthor() {
+        return authors.get(random.nextInt(authors.size()));
+    }
+
+    /**
+     * The generated mappers and the author summary cache, wired by Spring exactly as in the application.
+     */
+    public static final class Mappers implements AutoCloseable {
+
+        private final AnnotationConfigApplicationContext context;
+
+        public Mappers() {
+            context = new AnnotationConfigApplicationContext();
+            context.scan("com.mobelite.publisherManagementSystem.mapper");
+            context.refresh();
+        }
+
+        public <T> T get(Class<T> type) {
+            return context.getBean(type);
+        }
+
+        public AuthorMapper authorMapper() {
+            return get(AuthorMapper.class);
+        }
+
+        public PublicationMapper publicationMapper() {
+            return get(PublicationMapper.class);
+        }
+
+        public MagazineMapper magazineMapper() {
+            return get(MagazineMapper.class);
+        }
+
+        @Override
+        public void close() {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.mobelite.publisherManagementSystem.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
+import com.mobelite.publisherManagementSystem.exception.ErrorResponseEncoder;
+import com.mobelite.publisherManagementSystem.exception.GlobalExceptionHandler;
+import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup-by-id traffic where most ids miss, producing a 404 body for each miss.
+ * {@code stackTraceErrors} is the former error path (an exception filling its stack trace, and an envelope
+ * serialized with a fresh timestamp), {@code preEncodedErrors} the current one (stackless
+ * {@link ResourceNotFoundException} handled by {@link GlobalExceptionHandler} into a pre-encoded body).
+ * The lookup runs {@code stackDepth} frames deep to stand in for the servlet, filter and proxy frames of a real request.
+ * Former ERROR logging is left out of the baseline, so the gap shown is a lower bound.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ErrorPathBenchmark {
+
+    private static final byte[] FOUND_BODY = "{\"success\":true}".getBytes();
+
+    @Param({"0.9"})
+    private double missRatio;
+
+    @Param({"100"})
+    private int stackDepth;
+
+    private final SplittableRandom random = new SplittableRandom(42L);
+    private ObjectMapper objectMapper;
+    private GlobalExceptionHandler exceptionHandler;
+    private WebRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        exceptionHandler = new GlobalExceptionHandler(new ErrorResponseEncoder(objectMapper), new SimpleMeterRegistry());
+
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/v1/books/42");
+        servletRequest.addHeader("Accept", MediaType.APPLICATION_JSON_VALUE);
+        request = new ServletWebRequest(servletRequest);
+    }
+
+    @Benchmark
+    public Object stackTraceErrors() throws IOException {
+        long id = random.nextLong(1, 1_000_000);
+        try {
+            return lookup(id, stackDepth, true);
+        } catch (StackTraceNotFoundException ex) {
+            return objectMapper.writeValueAsBytes(ApiResponseDto.error(ex.getMessage()));
+        }
+    }
+
+    @Benchmark
+    public Object preEncodedErrors() throws IOException {
+        long id = random.nextLong(1, 1_000_000);
+        try {
+            return lookup(id, stackDepth, false);
+        } catch (ResourceNotFoundException ex) {
+            return exceptionHandler.handleResourceNotFoundException(ex, request).getBody();
+        }
+    }
+
+    private byte[] lookup(long id, int depth, boolean stackTrace) {
+        if (depth > 0) {
+            return lookup(id, depth - 1, stackTrace);
+        }
+        if (random.nextDouble() >= missRatio) {
+            return FOUND_BODY;
+        }
+        String message = "Book with ID " + id + " not found";
+        throw stackTrace ? new StackTraceNotFoundException(message) : new ResourceNotFoundException(message);
+    }
+
+    /**
+     * Not-found exception as it was before it became stackless.
+     */
+    private static final class StackTraceNotFoundException extends RuntimeException {
+        private StackTraceNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.mobelite.publisherManagementSystem.benchmarks;
+
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorResponseDto;
+import com.mobelite.publisherManagementSystem.entity.Author;
+import com.mobelite.publisherManagementSystem.entity.Magazine;
+import com.mobelite.publisherManagementSystem.entity.Publication;
+import com.mobelite.publisherManagementSystem.mapper.AuthorMapper;
+import com.mobelite.publisherManagementSystem.mapper.AuthorMappingContext;
+import com.mobelite.publisherManagementSystem.mapper.AuthorSummaryCache;
+import com.mobelite.publisherManagementSystem.mapper.MagazineMapper;
+import com.mobelite.publisherManagementSystem.mapper.PublicationMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping, one page (or one author) per operation.
+ * The {@code *Memoized} and {@code *Cached} variants map magazine authors through a per-call
+ * {@link AuthorMappingContext} and through the shared {@link AuthorSummaryCache}, as the list services do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private CatalogFixtures.Mappers mappers;
+    private AuthorMapper authorMapper;
+    private PublicationMapper publicationMapper;
+    private MagazineMapper magazineMapper;
+    private AuthorSummaryCache authorSummaryCache;
+
+    private Author author;
+    private List<Publication> publications;
+    private List<Magazine> magazines;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mappers = new CatalogFixtures.Mappers();
+        authorMapper = mappers.authorMapper();
+        publicationMapper = mappers.publicationMapper();
+        magazineMapper = mappers.magazineMapper();
+        authorSummaryCache = mappers.get(AuthorSummaryCache.class);
+
+        CatalogFixtures fixtures = new CatalogFixtures();
+        author = fixtures.authorWithPublications(size, size);
+        publications = fixtures.publications(size);
+        magazines = fixtures.magazines(size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mappers.close();
+    }
+
+    @Benchmark
+    public AuthorResponseDto authorToResponseDto() {
+        return authorMapper.toResponseDto(author);
+    }
+
+    @Benchmark
+    public void publicationsToSummaryDto(Blackhole blackhole) {
+        for (Publication publication : publications) {
+            blackhole.consume(publicationMapper.toSummaryResponseDto(publication));
+        }
+    }
+
+    @Benchmark
+    public void magazinesToSummaryDto(Blackhole blackhole) {
+        for (Magazine magazine : magazines) {
+            blackhole.consume(magazineMapper.toSummaryDto(magazine));
+        }
+    }
+
+    @Benchmark
+    public void magazinesToSummaryDtoMemoized(Blackhole blackhole) {
+        AuthorMappingContext context = AuthorMappingContext.local();
+        for (Magazine magazine : magazines) {
+            blackhole.consume(magazineMapper.toSummaryDto(magazine, context));
+        }
+    }
+
+    @Benchmark
+    public void magazinesToSummaryDtoCached(Blackhole blackhole) {
+        AuthorMappingContext context = authorSummaryCache.newContext();
+        for (Magazine magazine : magazines) {
+            blackhole.consume(magazineMapper.toSummaryDto(magazine, context));
+        }
+    }
+}
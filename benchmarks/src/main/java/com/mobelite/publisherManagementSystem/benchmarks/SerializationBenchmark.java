@@ -0,0 +1,120 @@
+package com.mobelite.publisherManagementSystem.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.mapper.AuthorMappingContext;
+import com.mobelite.publisherManagementSystem.mapper.PublicationMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of a publication list response ({@code ApiResponseDto<Page<PublicationSummaryResponseDto>>})
+ * in JSON and in the binary formats offered through content negotiation, with the mapper configuration
+ * the application uses for each format. Run {@link #main} for the encoded sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SerializationBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponseDto<Page<PublicationSummaryResponseDto>> response;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory(format))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        try (CatalogFixtures.Mappers mappers = new CatalogFixtures.Mappers()) {
+            PublicationMapper publicationMapper = mappers.publicationMapper();
+            AuthorMappingContext context = AuthorMappingContext.local();
+            List<PublicationSummaryResponseDto> content = new CatalogFixtures().publications(pageSize).stream()
+                    .map(publication -> publicationMapper.toSummaryResponseDto(publication, FieldSelection.all(), context))
+                    .toList();
+            response = ApiResponseDto.<Page<PublicationSummaryResponseDto>>builder()
+                    .success(true)
+                    .message("Publications retrieved successfully")
+                    .data(new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("title")), 10_000))
+                    .timestamp(LocalDateTime.of(2025, 1, 1, 12, 0))
+                    .build();
+        }
+        encoded = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public JsonNode decode() throws IOException {
+        return objectMapper.readTree(encoded);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+    }
+
+    /**
+     * Print the encoded payload size for every format and page size benchmarked, one JSON object per line.
+     */
+    public static void main(String[] args) throws IOException {
+        ObjectMapper output = new ObjectMapper();
+        for (String format : List.of("json", "cbor", "smile")) {
+            for (int pageSize : List.of(20, 100, 1000)) {
+                SerializationBenchmark benchmark = new SerializationBenchmark();
+                benchmark.format = format;
+                benchmark.pageSize = pageSize;
+                benchmark.setUp();
+                System.out.println(output.createObjectNode()
+                        .put("format", format)
+                        .put("pageSize", pageSize)
+                        .put("bytes", benchmark.encoded.length));
+            }
+        }
+    }
+}
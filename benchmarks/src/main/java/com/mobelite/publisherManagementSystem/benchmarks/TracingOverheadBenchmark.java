@@ -0,0 +1,174 @@
+package com.mobelite.publisherManagementSystem.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mobelite.publisherManagementSystem.config.TracingAspect;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.entity.Publication;
+import com.mobelite.publisherManagementSystem.mapper.AuthorMapper;
+import com.mobelite.publisherManagementSystem.mapper.AuthorSummaryCache;
+import com.mobelite.publisherManagementSystem.mapper.PublicationMapper;
+import com.mobelite.publisherManagementSystem.repository.MagazineRepository;
+import com.mobelite.publisherManagementSystem.repository.PublicationRepository;
+import com.mobelite.publisherManagementSystem.service.PublicationService;
+import com.mobelite.publisherManagementSystem.service.impl.PublicationServiceImpl;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the layer spans on a list request: {@link PublicationServiceImpl} maps a page of publications
+ * (read from an in-memory repository) and the page is serialized, inside a request span.
+ * {@code off} calls the service and mapper directly, {@code noop} goes through {@link TracingAspect} with tracing
+ * disabled, and {@code otel} records every span with the OpenTelemetry SDK at full sampling, exported in batches
+ * to an exporter that discards them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TracingOverheadBenchmark {
+
+    @Param({"off", "noop", "otel"})
+    private String tracing;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private CatalogFixtures.Mappers mappers;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+    private PublicationService publicationService;
+    private ObjectMapper objectMapper;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mappers = new CatalogFixtures.Mappers();
+        PublicationMapper publicationMapper = mappers.publicationMapper();
+        tracer = Tracer.NOOP;
+
+        if ("otel".equals(tracing)) {
+            tracerProvider = SdkTracerProvider.builder()
+                    .setSampler(Sampler.alwaysOn())
+                    .addSpanProcessor(BatchSpanProcessor.builder(new DiscardingSpanExporter()).build())
+                    .build();
+            tracer = new OtelTracer(tracerProvider.get("benchmarks"), new OtelCurrentTraceContext(), event -> { });
+        }
+        TracingAspect tracingAspect = new TracingAspect(
+                new StaticListableBeanFactory(Map.of("tracer", tracer)).getBeanProvider(Tracer.class));
+        if (!"off".equals(tracing)) {
+            publicationMapper = traced(publicationMapper, tracingAspect);
+        }
+
+        pageable = PageRequest.of(0, pageSize);
+        Page<Publication> page = new PageImpl<>(new CatalogFixtures().publications(pageSize), pageable, 10_000);
+        PublicationRepository publicationRepository = (PublicationRepository) Proxy.newProxyInstance(
+                PublicationRepository.class.getClassLoader(),
+                new Class<?>[]{PublicationRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && method.getParameterCount() == 1
+                            && method.getParameterTypes()[0] == Pageable.class) {
+                        return page;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        publicationService = new PublicationServiceImpl(publicationRepository, publicationMapper,
+                unsupported(MagazineRepository.class), mappers.get(AuthorMapper.class),
+                mappers.get(AuthorSummaryCache.class));
+        if (!"off".equals(tracing)) {
+            publicationService = traced(publicationService, tracingAspect);
+        }
+
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (tracerProvider != null) {
+            tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+        }
+        mappers.close();
+    }
+
+    @Benchmark
+    public byte[] listRequest() throws IOException {
+        Span request = tracer.nextSpan().name("http get /api/v1/publications").start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(request)) {
+            Page<PublicationSummaryResponseDto> page = publicationService.getAllPublications(pageable, FieldSelection.all());
+            return objectMapper.writeValueAsBytes(page.getContent());
+        } finally {
+            request.end();
+        }
+    }
+
+    private static <T> T traced(T target, TracingAspect tracingAspect) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(tracingAspect);
+        return proxyFactory.getProxy();
+    }
+
+    private static <T> T unsupported(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+
+    private static final class DiscardingSpanExporter implements SpanExporter {
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
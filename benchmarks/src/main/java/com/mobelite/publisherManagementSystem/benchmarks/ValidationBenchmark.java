@@ -0,0 +1,104 @@
+package com.mobelite.publisherManagementSystem.benchmarks;
+
+import com.mobelite.publisherManagementSystem.dto.request.book.BookCreateRequestDto;
+import com.mobelite.publisherManagementSystem.dto.request.magazine.MagazineRequestDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Bean Validation of the create requests, for a valid body and for one breaking every constraint
+ * (building the violation messages is the expensive part).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private BookCreateRequestDto validBook;
+    private BookCreateRequestDto invalidBook;
+    private MagazineRequestDto validMagazine;
+    private MagazineRequestDto invalidMagazine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        validBook = BookCreateRequestDto.builder()
+                .title("Clean Code")
+                .publicationDate(LocalDate.of(2008, 8, 1))
+                .isbn("978-0132350884")
+                .authorId(1L)
+                .build();
+        invalidBook = BookCreateRequestDto.builder()
+                .title(" ")
+                .isbn("123")
+                .build();
+        validMagazine = MagazineRequestDto.builder()
+                .title("National Geographic")
+                .issueNumber(142)
+                .authorIds(LongStream.rangeClosed(1, 10).boxed().toList())
+                .publicationDate(LocalDate.of(2025, 1, 1))
+                .build();
+        List<Long> invalidAuthorIds = new ArrayList<>();
+        invalidAuthorIds.add(null);
+        invalidAuthorIds.add(0L);
+        invalidMagazine = MagazineRequestDto.builder()
+                .title("N")
+                .issueNumber(0)
+                .authorIds(invalidAuthorIds)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookCreateRequestDto>> validBookCreateRequest() {
+        return validator.validate(validBook);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookCreateRequestDto>> invalidBookCreateRequest() {
+        return validator.validate(invalidBook);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<MagazineRequestDto>> validMagazineRequest() {
+        return validator.validate(validMagazine);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<MagazineRequestDto>> invalidMagazineRequest() {
+        return validator.validate(invalidMagazine);
+    }
+}
@@ -0,0 +1,110 @@
+package com.mobelite.publisherManagementSystem.benchmarks.repository;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The database the repositories are benchmarked against: an embedded Postgres kept in a data directory
+ * between runs, or an existing Postgres server given by its JDBC URL.
+ * Only the embedded database can be restarted, which is how cold-cache samples empty the shared buffers.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    private static final String DATABASE = "postgres";
+    private static final String USER = "postgres";
+
+    private final Path dataDirectory;
+    private final HikariDataSource dataSource;
+    private EmbeddedPostgres embedded;
+
+    private BenchmarkDatabase(Path dataDirectory, EmbeddedPostgres embedded, String jdbcUrl, String user, String password) {
+        this.dataDirectory = dataDirectory;
+        this.embedded = embedded;
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("repository-benchmark");
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(user);
+        config.setPassword(password);
+        config.setMaximumPoolSize(4);
+        this.dataSource = new HikariDataSource(config);
+    }
+
+    /**
+     * Start (or reopen) an embedded Postgres whose data lives under the given directory.
+     * Durability is switched off: the data set can always be regenerated.
+     */
+    static BenchmarkDatabase embedded(Path dataDirectory) throws IOException {
+        EmbeddedPostgres postgres = startEmbedded(dataDirectory, 0);
+        return new BenchmarkDatabase(dataDirectory, postgres, postgres.getJdbcUrl(USER, DATABASE), USER, USER);
+    }
+
+    static BenchmarkDatabase external(String jdbcUrl, String user, String password) {
+        return new BenchmarkDatabase(null, null, jdbcUrl, user, password);
+    }
+
+    private static EmbeddedPostgres startEmbedded(Path dataDirectory, int port) throws IOException {
+        EmbeddedPostgres.Builder builder = EmbeddedPostgres.builder()
+                .setDataDirectory(dataDirectory)
+                .setCleanDataDirectory(false)
+                .setServerConfig("fsync", "off")
+                .setServerConfig("synchronous_commit", "off")
+                .setServerConfig("full_page_writes", "off")
+                .setServerConfig("max_wal_size", "4GB")
+                .setServerConfig("shared_buffers", "256MB");
+        if (port > 0) {
+            builder.setPort(port);
+        }
+        return builder.start();
+    }
+
+    DataSource dataSource() {
+        return dataSource;
+    }
+
+    boolean isEmbedded() {
+        return embedded != null;
+    }
+
+    String description() {
+        return isEmbedded() ? "embedded postgres (" + dataDirectory + ")" : dataSource.getJdbcUrl();
+    }
+
+    /**
+     * Restart the embedded server on the same port and data directory, so the next query reads
+     * through an empty buffer cache. The OS page cache is left as is.
+     */
+    void restart() throws IOException, SQLException {
+        if (!isEmbedded()) {
+            throw new IllegalStateException("Only the embedded database can be restarted");
+        }
+        int port = embedded.getPort();
+        embedded.close();
+        embedded = startEmbedded(dataDirectory, port);
+        // Pooled connections still point at the stopped server
+        dataSource.getHikariPoolMXBean().softEvictConnections();
+        execute("SELECT 1");
+    }
+
+    void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        dataSource.close();
+        if (embedded != null) {
+            embedded.close();
+        }
+    }
+}
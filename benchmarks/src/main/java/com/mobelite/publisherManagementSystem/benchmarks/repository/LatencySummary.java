@@ -0,0 +1,35 @@
+package com.mobelite.publisherManagementSystem.benchmarks.repository;
+
+import java.util.Arrays;
+
+/**
+ * Latency percentiles of one query in one cache state, in microseconds.
+ */
+record LatencySummary(int samples, double p50Micros, double p99Micros, double maxMicros, double meanMicros) {
+
+    static LatencySummary of(long[] nanos, int count) {
+        if (count == 0) {
+            return new LatencySummary(0, 0, 0, 0, 0);
+        }
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        return new LatencySummary(
+                count,
+                micros(percentile(sorted, 0.50)),
+                micros(percentile(sorted, 0.99)),
+                micros(sorted[count - 1]),
+                micros((long) Arrays.stream(sorted).average().orElse(0)));
+    }
+
+    /**
+     * Nearest-rank percentile of sorted samples.
+     */
+    private static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double micros(long nanos) {
+        return Math.round(nanos / 100.0) / 10.0;
+    }
+}
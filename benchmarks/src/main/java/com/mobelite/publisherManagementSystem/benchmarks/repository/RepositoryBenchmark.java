@@ -0,0 +1,187 @@
+package com.mobelite.publisherManagementSystem.benchmarks.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mobelite.publisherManagementSystem.benchmarks.repository.RepositoryQueries.Query;
+import com.mobelite.publisherManagementSystem.benchmarks.repository.StatementRecorder.RecordedStatement;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Times the service's repository methods against a Postgres holding a catalog at production scale.
+ * <p>
+ * Every call runs in its own read-only transaction, as the services run them. Warm samples follow a warm-up
+ * of the same query; each cold sample is the first call after a restart of the embedded database
+ * (shared buffers empty, OS page cache kept). After the warm samples, the statements of one call are
+ * replayed under {@code EXPLAIN (ANALYZE, BUFFERS)}. The report is one JSON document with the data set,
+ * then per query the p50/p99 of each cache state, the SQL and its plans.
+ * <p>
+ * Options, as {@code --name=value}: {@code scale} (1 = 1M publications), {@code seed}, {@code data-dir},
+ * {@code jdbc-url}/{@code user}/{@code password} to use an existing (scratch) database instead of the embedded one,
+ * {@code warmup}, {@code iterations}, {@code max-seconds} per query, {@code cold-samples}, {@code queries}
+ * (a regex on the query name) and {@code output}.
+ */
+public final class RepositoryBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(RepositoryBenchmark.class);
+
+    private RepositoryBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        double scale = Double.parseDouble(options.getOrDefault("scale", "1"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "50"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "500"));
+        long maxNanos = Long.parseLong(options.getOrDefault("max-seconds", "20")) * 1_000_000_000L;
+        int coldSamples = Integer.parseInt(options.getOrDefault("cold-samples", "5"));
+        Pattern filter = Pattern.compile(options.getOrDefault("queries", ".*"));
+        Path dataDirectory = Path.of(options.getOrDefault("data-dir", "target/repository-benchmark"));
+        Path output = Path.of(options.getOrDefault("output", "results/repository-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToEnable(SerializationFeature.INDENT_OUTPUT)
+                .build();
+        SyntheticCatalog catalog = new SyntheticCatalog(scale, seed);
+        Map<String, Object> dataset = new LinkedHashMap<>();
+        dataset.put("scale", scale);
+        dataset.put("seed", seed);
+        dataset.put("authors", catalog.authors());
+        dataset.put("publications", catalog.publications());
+
+        BenchmarkDatabase database = options.containsKey("jdbc-url")
+                ? BenchmarkDatabase.external(options.get("jdbc-url"), options.getOrDefault("user", "postgres"),
+                options.getOrDefault("password", "postgres"))
+                : BenchmarkDatabase.embedded(dataDirectory.resolve("pgdata"));
+        Path datasetFile = dataDirectory.resolve("dataset.json");
+        JsonNode loaded = database.isEmbedded() && Files.exists(datasetFile) ? objectMapper.readTree(datasetFile.toFile()) : null;
+        boolean reuse = loaded != null && loaded.path("scale").asDouble() == scale && loaded.path("seed").asLong() == seed;
+
+        StatementRecorder recorder = new StatementRecorder(objectMapper);
+        DataSource recordedDataSource = ProxyDataSourceBuilder.create("repository-benchmark", database.dataSource())
+                .listener(recorder)
+                .build();
+
+        try (database; AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+                    Map.of("benchmark.ddl-auto", reuse ? "none" : "create")));
+            context.registerBean("dataSource", DataSource.class, () -> recordedDataSource);
+            context.register(RepositoryBenchmarkConfig.class);
+            context.refresh();
+
+            if (reuse) {
+                log.info("Reusing the data set in {}", dataDirectory);
+                dataset.put("rows", loaded.path("rows"));
+            } else {
+                log.info("Loading {} authors and {} publications into {}", catalog.authors(), catalog.publications(),
+                        database.description());
+                long start = System.nanoTime();
+                dataset.put("rows", catalog.load(database.dataSource()));
+                dataset.put("loadSeconds", (System.nanoTime() - start) / 1_000_000_000L);
+                if (database.isEmbedded()) {
+                    Files.createDirectories(dataDirectory);
+                    objectMapper.writeValue(datasetFile.toFile(), dataset);
+                }
+            }
+
+            TransactionTemplate transaction = context.getBean(TransactionTemplate.class);
+            List<Query> queries = RepositoryQueries.all(context, catalog).stream()
+                    .filter(query -> filter.matcher(query.name()).find())
+                    .toList();
+
+            Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+            for (int i = 0; i < queries.size(); i++) {
+                Query query = queries.get(i);
+                SplittableRandom random = new SplittableRandom(seed + i);
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("name", query.name());
+                result.put("parameters", query.parameters());
+
+                long deadline = System.nanoTime() + maxNanos;
+                for (int w = 0; w < warmup && System.nanoTime() < deadline; w++) {
+                    call(transaction, query, random);
+                }
+                long[] nanos = new long[iterations];
+                int count = 0;
+                deadline = System.nanoTime() + maxNanos;
+                while (count < iterations && (count == 0 || System.nanoTime() < deadline)) {
+                    nanos[count++] = call(transaction, query, random);
+                }
+                LatencySummary warm = LatencySummary.of(nanos, count);
+                result.put("warm", warm);
+
+                List<Map<String, Object>> statements = new ArrayList<>();
+                for (RecordedStatement statement : recorder.capture(() -> call(transaction, query, random))) {
+                    JsonNode plan = recorder.explain(database.dataSource(), statement);
+                    statements.add(Map.of("sql", statement.sql(), "plan", plan));
+                }
+                result.put("statements", statements);
+                results.put(query.name(), result);
+                log.info("{}: warm p50 {} us, p99 {} us ({} samples)", query.name(), warm.p50Micros(),
+                        warm.p99Micros(), warm.samples());
+            }
+
+            if (database.isEmbedded() && coldSamples > 0) {
+                Map<String, long[]> coldNanos = new HashMap<>();
+                for (int sample = 0; sample < coldSamples; sample++) {
+                    for (int i = 0; i < queries.size(); i++) {
+                        Query query = queries.get(i);
+                        database.restart();
+                        long elapsed = call(transaction, query, new SplittableRandom(seed + 1_000L * (sample + 1) + i));
+                        coldNanos.computeIfAbsent(query.name(), name -> new long[coldSamples])[sample] = elapsed;
+                    }
+                    log.info("Cold round {}/{} done", sample + 1, coldSamples);
+                }
+                coldNanos.forEach((name, samples) -> results.get(name).put("cold", LatencySummary.of(samples, coldSamples)));
+            }
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("database", database.description());
+            report.put("dataset", dataset);
+            report.put("queries", results.values());
+            Path parent = output.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            objectMapper.writeValue(output.toFile(), report);
+            log.info("Report written to {}", output.toAbsolutePath());
+        }
+    }
+
+    private static long call(TransactionTemplate transaction, Query query, SplittableRandom random) {
+        long start = System.nanoTime();
+        transaction.executeWithoutResult(status -> query.call().applyAsInt(random));
+        return System.nanoTime() - start;
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+}
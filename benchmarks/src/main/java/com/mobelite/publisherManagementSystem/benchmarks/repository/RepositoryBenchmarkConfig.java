@@ -0,0 +1,62 @@
+package com.mobelite.publisherManagementSystem.benchmarks.repository;
+
+import com.mobelite.publisherManagementSystem.entity.Publication;
+import com.mobelite.publisherManagementSystem.repository.CatalogSummaryJdbcRepository;
+import com.mobelite.publisherManagementSystem.repository.PublicationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * The service's persistence layer without the rest of the application: its entities and Spring Data
+ * repositories over the benchmark data source, with Hibernate configured as Spring Boot configures it.
+ * The data source and the DDL mode are registered by {@link RepositoryBenchmark} before refresh.
+ */
+@Configuration
+@EnableJpaRepositories(basePackageClasses = PublicationRepository.class)
+class RepositoryBenchmarkConfig {
+
+    @Bean
+    LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                @Value("${benchmark.ddl-auto}") String ddlAuto) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(Publication.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", ddlAuto,
+                "hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                "hibernate.implicit_naming_strategy",
+                "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy"));
+        return factory;
+    }
+
+    @Bean
+    PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    TransactionTemplate readOnlyTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    @Bean
+    CatalogSummaryJdbcRepository catalogSummaryJdbcRepository(DataSource dataSource,
+                                                              @Value("${streaming.list.fetch-size:256}") int fetchSize) {
+        return new CatalogSummaryJdbcRepository(dataSource, fetchSize);
+    }
+}
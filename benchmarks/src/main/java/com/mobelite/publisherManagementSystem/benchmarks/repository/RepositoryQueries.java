@@ -0,0 +1,116 @@
+package com.mobelite.publisherManagementSystem.benchmarks.repository;
+
+import com.mobelite.publisherManagementSystem.repository.AuthorRepository;
+import com.mobelite.publisherManagementSystem.repository.BookRepository;
+import com.mobelite.publisherManagementSystem.repository.CatalogSummaryJdbcRepository;
+import com.mobelite.publisherManagementSystem.repository.MagazineRepository;
+import com.mobelite.publisherManagementSystem.repository.PublicationRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * The repository calls timed by {@link RepositoryBenchmark}, with parameters drawn the way the API uses them:
+ * pages of 20 within the first 50 pages, ids and lookup keys spread over the whole catalog, batches of 20 ids
+ * as sent by the GraphQL loaders. {@code findAllBooks} and {@code findAllMagazines} are left out, they read
+ * whole tables.
+ */
+final class RepositoryQueries {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 50;
+    private static final int BATCH_SIZE = 20;
+
+    private RepositoryQueries() {
+    }
+
+    /**
+     * One timed call: returns the number of rows it produced, so the result is used.
+     */
+    record Query(String name, String parameters, ToIntFunction<SplittableRandom> call) {
+    }
+
+    static List<Query> all(ApplicationContext context, SyntheticCatalog catalog) {
+        PublicationRepository publications = context.getBean(PublicationRepository.class);
+        BookRepository books = context.getBean(BookRepository.class);
+        AuthorRepository authors = context.getBean(AuthorRepository.class);
+        MagazineRepository magazines = context.getBean(MagazineRepository.class);
+        CatalogSummaryJdbcRepository summaries = context.getBean(CatalogSummaryJdbcRepository.class);
+
+        return List.of(
+                new Query("PublicationRepository.findAll", "page of 20 sorted by title",
+                        random -> publications.findAll(page(random, Sort.by("title"))).getNumberOfElements()),
+                new Query("PublicationRepository.findById", "random id",
+                        random -> publications.findById(random.nextLong(1, catalog.publications() + 1L)).isPresent() ? 1 : 0),
+                new Query("PublicationRepository.findByTitleContainingIgnoreCase", "title word, page of 20",
+                        random -> publications.findByTitleContainingIgnoreCase(
+                                SyntheticCatalog.title(random.nextLong(1, 1_000)).split(" ")[0], page(random, Sort.unsorted()))
+                                .getNumberOfElements()),
+                new Query("PublicationRepository.existsByTitle", "existing title",
+                        random -> publications.existsByTitle(SyntheticCatalog.title(random.nextLong(1, catalog.publications() + 1L))) ? 1 : 0),
+
+                new Query("BookRepository.findByIsbn", "existing isbn",
+                        random -> books.findByIsbn(SyntheticCatalog.isbn(catalog.randomBookId(random))).isPresent() ? 1 : 0),
+                new Query("BookRepository.existsByIsbnAndIdNot", "existing isbn, other id",
+                        random -> books.existsByIsbnAndIdNot(SyntheticCatalog.isbn(catalog.randomBookId(random)), 0L) ? 1 : 0),
+                new Query("BookRepository.findByAuthorId", "random author, first page of 20",
+                        random -> books.findByAuthorId(catalog.randomAuthorId(random), PageRequest.of(0, PAGE_SIZE))
+                                .getNumberOfElements()),
+                new Query("BookRepository.findByAuthorIdIn", "20 random authors",
+                        random -> books.findByAuthorIdIn(authorIds(random, catalog)).size()),
+
+                new Query("AuthorRepository.findById", "random id",
+                        random -> authors.findById(catalog.randomAuthorId(random)).isPresent() ? 1 : 0),
+                new Query("AuthorRepository.existsByName", "existing name",
+                        random -> authors.existsByName(SyntheticCatalog.authorName(catalog.randomAuthorId(random))) ? 1 : 0),
+                new Query("AuthorRepository.findAllWithMagazines", "page of 20",
+                        random -> authors.findAllWithMagazines(page(random, Sort.by("id"))).getNumberOfElements()),
+                new Query("AuthorRepository.findByIdWithPublications", "random id",
+                        random -> authors.findByIdWithPublications(catalog.randomAuthorId(random))
+                                .map(author -> author.getBooks().size() + author.getMagazines().size()).orElse(0)),
+                new Query("AuthorRepository.findByIdWithBooks", "random id",
+                        random -> authors.findByIdWithBooks(catalog.randomAuthorId(random))
+                                .map(author -> author.getBooks().size()).orElse(0)),
+                new Query("AuthorRepository.findByIdWithMagazines", "random id",
+                        random -> authors.findByIdWithMagazines(catalog.randomAuthorId(random))
+                                .map(author -> author.getMagazines().size()).orElse(0)),
+                new Query("AuthorRepository.findAllWithMagazinesByIdIn", "20 random ids",
+                        random -> authors.findAllWithMagazinesByIdIn(authorIds(random, catalog)).size()),
+
+                new Query("MagazineRepository.findById", "random magazine id",
+                        random -> magazines.findById(catalog.randomMagazineId(random)).isPresent() ? 1 : 0),
+                new Query("MagazineRepository.findAllWithAuthorsByIdIn", "20 random magazine ids",
+                        random -> magazines.findAllWithAuthorsByIdIn(Stream.generate(() -> catalog.randomMagazineId(random))
+                                .limit(BATCH_SIZE).toList()).size()),
+
+                new Query("CatalogSummaryJdbcRepository.streamPublicationSummaries", "page of 20 sorted by title",
+                        random -> {
+                            int[] rows = new int[1];
+                            summaries.streamPublicationSummaries(null, page(random, Sort.by("title")), row -> rows[0]++);
+                            return rows[0];
+                        }),
+                new Query("CatalogSummaryJdbcRepository.countPublications", "no filter",
+                        random -> (int) summaries.countPublications(null)),
+                new Query("CatalogSummaryJdbcRepository.streamBookSummaries", "random author, first page of 20",
+                        random -> {
+                            int[] rows = new int[1];
+                            summaries.streamBookSummaries(catalog.randomAuthorId(random), PageRequest.of(0, PAGE_SIZE),
+                                    row -> rows[0]++);
+                            return rows[0];
+                        }));
+    }
+
+    private static Pageable page(SplittableRandom random, Sort sort) {
+        return PageRequest.of(random.nextInt(PAGES), PAGE_SIZE, sort);
+    }
+
+    private static List<Long> authorIds(SplittableRandom random, SyntheticCatalog catalog) {
+        return Stream.generate(() -> catalog.randomAuthorId(random)).limit(BATCH_SIZE).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.mobelite.publisherManagementSystem.benchmarks.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Captures the statements a repository call sends to the database, with their parameter bindings,
+ * so they can be replayed under {@code EXPLAIN}. Recording is off unless a capture is in progress.
+ */
+final class StatementRecorder implements QueryExecutionListener {
+
+    private static final String EXPLAIN = "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) ";
+
+    private final ObjectMapper objectMapper;
+    private List<RecordedStatement> recording;
+
+    StatementRecorder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Run the call and return every statement it executed, in order.
+     */
+    synchronized List<RecordedStatement> capture(Runnable call) {
+        recording = new ArrayList<>();
+        try {
+            call.run();
+            return recording;
+        } finally {
+            recording = null;
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<RecordedStatement> current = recording;
+        if (current == null) {
+            return;
+        }
+        for (QueryInfo query : queryInfoList) {
+            List<ParameterSetOperation> parameters = query.getParametersList().isEmpty()
+                    ? List.of()
+                    : List.copyOf(query.getParametersList().get(0));
+            current.add(new RecordedStatement(query.getQuery(), parameters));
+        }
+    }
+
+    /**
+     * Execute the statement under {@code EXPLAIN (ANALYZE, BUFFERS)} on the given (unrecorded) data source
+     * and return the JSON plan.
+     */
+    JsonNode explain(DataSource dataSource, RecordedStatement statement) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement(EXPLAIN + statement.sql())) {
+            for (ParameterSetOperation parameter : statement.parameters()) {
+                parameter.getMethod().invoke(explain, parameter.getArgs());
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                return objectMapper.readTree(plan.getString(1));
+            }
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+            throw new SQLException("Cannot bind the parameters of: " + statement.sql(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new SQLException("Unreadable plan for: " + statement.sql(), ex);
+        }
+    }
+
+    record RecordedStatement(String sql, List<ParameterSetOperation> parameters) {
+    }
+}
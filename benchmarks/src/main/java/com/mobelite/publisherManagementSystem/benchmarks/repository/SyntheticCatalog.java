@@ -0,0 +1,219 @@
+package com.mobelite.publisherManagementSystem.benchmarks.repository;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic catalog at benchmark scale, bulk loaded with {@code COPY}.
+ * At scale 1: 100k authors, 1M publications (70% books, 30% magazines) and 4 to 12 authors per magazine,
+ * a fifth of the links going to the 1% most prolific authors.
+ * Names, titles and ISBNs are derived from the row id, so queries can pick existing values without
+ * reading them back; dates and links come from a seeded random.
+ */
+final class SyntheticCatalog {
+
+    private static final int AUTHORS_AT_SCALE_1 = 100_000;
+    private static final int PUBLICATIONS_AT_SCALE_1 = 1_000_000;
+    private static final int MIN_AUTHORS_PER_MAGAZINE = 4;
+    private static final int MAX_AUTHORS_PER_MAGAZINE = 12;
+    private static final int ROWS_PER_COPY = 50_000;
+
+    private static final String[] FIRST_NAMES = {
+            "Ada", "Alan", "Grace", "Linus", "Barbara", "Donald", "Edsger", "Frances", "Niklaus", "Margaret",
+            "Ken", "Radia", "Dennis", "Shafi", "John", "Leslie", "Tony", "Hedy", "Bjarne", "Sophie"};
+    private static final String[] LAST_NAMES = {
+            "Lovelace", "Turing", "Hopper", "Torvalds", "Liskov", "Knuth", "Dijkstra", "Allen", "Wirth", "Hamilton",
+            "Thompson", "Perlman", "Ritchie", "Goldwasser", "McCarthy", "Lamport", "Hoare", "Lamarr", "Stroustrup", "Wilson"};
+    private static final String[] NATIONALITIES = {
+            "Tunisian", "French", "British", "American", "German", "Italian", "Spanish", "Dutch", "Swiss", "Canadian",
+            "Japanese", "Indian", "Brazilian", "Egyptian", "Moroccan", "Swedish", "Polish", "Irish", "Greek", "Korean"};
+    private static final String[] TITLE_WORDS = {
+            "Modern", "Practical", "Hidden", "Silent", "Quantum", "Urban", "Digital", "Ancient", "Open", "Wild",
+            "Systems", "Gardens", "Patterns", "Rivers", "Machines", "Stories", "Markets", "Cities", "Signals", "Voices"};
+
+    private final long seed;
+    private final int authors;
+    private final int publications;
+
+    SyntheticCatalog(double scale, long seed) {
+        this.seed = seed;
+        this.authors = Math.max(100, (int) Math.round(AUTHORS_AT_SCALE_1 * scale));
+        this.publications = Math.max(1_000, (int) Math.round(PUBLICATIONS_AT_SCALE_1 * scale));
+    }
+
+    int authors() {
+        return authors;
+    }
+
+    int publications() {
+        return publications;
+    }
+
+    static boolean isMagazine(long publicationId) {
+        return publicationId % 10 >= 7;
+    }
+
+    static String authorName(long authorId) {
+        return FIRST_NAMES[(int) (authorId % FIRST_NAMES.length)] + " "
+                + LAST_NAMES[(int) (authorId / FIRST_NAMES.length % LAST_NAMES.length)] + " " + authorId;
+    }
+
+    static String title(long publicationId) {
+        return TITLE_WORDS[(int) (publicationId % TITLE_WORDS.length)] + " "
+                + TITLE_WORDS[(int) (publicationId / TITLE_WORDS.length % TITLE_WORDS.length)]
+                + (isMagazine(publicationId) ? " Monthly " : " Vol. ") + publicationId;
+    }
+
+    static String isbn(long publicationId) {
+        return String.format("978-%010d", publicationId);
+    }
+
+    /**
+     * Id of a random book (every id whose last digit is below 7).
+     */
+    long randomBookId(SplittableRandom random) {
+        long id;
+        do {
+            id = random.nextLong(1, publications + 1L);
+        } while (isMagazine(id));
+        return id;
+    }
+
+    long randomMagazineId(SplittableRandom random) {
+        long id;
+        do {
+            id = random.nextLong(1, publications + 1L);
+        } while (!isMagazine(id));
+        return id;
+    }
+
+    long randomAuthorId(SplittableRandom random) {
+        return random.nextLong(1, authors + 1L);
+    }
+
+    /**
+     * Load the catalog into the tables created by Hibernate, then analyze them and move the identity
+     * sequences past the loaded ids. Row counts per table are returned in load order.
+     */
+    Map<String, Long> load(DataSource dataSource) throws SQLException, IOException {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        SplittableRandom random = new SplittableRandom(seed);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            // Foreign keys are not checked while the synthetic rows are copied in (requires a superuser)
+            statement.execute("SET session_replication_role = replica");
+            CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+
+            rows.put("authors", copyAuthors(copy, random));
+            rows.put("publications", copyPublications(copy, random));
+            rows.put("magazine_authors", copyMagazineAuthors(copy, random));
+
+            statement.execute("SET session_replication_role = DEFAULT");
+            statement.execute("SELECT setval(pg_get_serial_sequence('authors', 'id'), " + authors + ")");
+            statement.execute("SELECT setval(pg_get_serial_sequence('publications', 'id'), " + publications + ")");
+            statement.execute("VACUUM ANALYZE authors");
+            statement.execute("VACUUM ANALYZE publications");
+            statement.execute("VACUUM ANALYZE magazine_authors");
+            statement.execute("CHECKPOINT");
+        }
+        return rows;
+    }
+
+    private long copyAuthors(CopyManager copy, SplittableRandom random) throws SQLException, IOException {
+        String sql = "COPY authors (id, name, birth_date, nationality) FROM STDIN (FORMAT csv)";
+        StringBuilder csv = new StringBuilder();
+        for (long id = 1; id <= authors; id++) {
+            csv.append(id).append(',')
+                    .append(authorName(id)).append(',')
+                    .append(random.nextInt(20) == 0 ? "" : randomDate(random, 1930, 2000)).append(',')
+                    .append(NATIONALITIES[random.nextInt(NATIONALITIES.length)]).append('\n');
+            flushIfFull(copy, sql, csv, id);
+        }
+        flush(copy, sql, csv);
+        return authors;
+    }
+
+    private long copyPublications(CopyManager copy, SplittableRandom random) throws SQLException, IOException {
+        String sql = "COPY publications (id, publication_type, title, publication_date, isbn, author_id, issue_number)"
+                + " FROM STDIN (FORMAT csv)";
+        StringBuilder csv = new StringBuilder();
+        for (long id = 1; id <= publications; id++) {
+            csv.append(id).append(',')
+                    .append(isMagazine(id) ? "MAGAZINE" : "BOOK").append(',')
+                    .append(title(id)).append(',')
+                    .append(randomDate(random, 1950, 2025)).append(',');
+            if (isMagazine(id)) {
+                csv.append(",,").append(random.nextInt(1, 500));
+            } else {
+                csv.append(isbn(id)).append(',')
+                        .append(random.nextInt(50) == 0 ? "" : String.valueOf(randomAuthorId(random))).append(',');
+            }
+            csv.append('\n');
+            flushIfFull(copy, sql, csv, id);
+        }
+        flush(copy, sql, csv);
+        return publications;
+    }
+
+    private long copyMagazineAuthors(CopyManager copy, SplittableRandom random) throws SQLException, IOException {
+        String sql = "COPY magazine_authors (magazine_id, author_id) FROM STDIN (FORMAT csv)";
+        int prolificAuthors = Math.max(1, authors / 100);
+        long[] picked = new long[MAX_AUTHORS_PER_MAGAZINE];
+        StringBuilder csv = new StringBuilder();
+        long links = 0;
+        for (long id = 1; id <= publications; id++) {
+            if (!isMagazine(id)) {
+                continue;
+            }
+            int count = random.nextInt(MIN_AUTHORS_PER_MAGAZINE, MAX_AUTHORS_PER_MAGAZINE + 1);
+            int distinct = 0;
+            while (distinct < count) {
+                long authorId = random.nextInt(5) == 0 ? random.nextLong(1, prolificAuthors + 1L) : randomAuthorId(random);
+                if (!contains(picked, distinct, authorId)) {
+                    picked[distinct++] = authorId;
+                    csv.append(id).append(',').append(authorId).append('\n');
+                }
+            }
+            links += count;
+            flushIfFull(copy, sql, csv, id);
+        }
+        flush(copy, sql, csv);
+        return links;
+    }
+
+    private static boolean contains(long[] values, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LocalDate randomDate(SplittableRandom random, int fromYear, int toYear) {
+        return LocalDate.of(fromYear, 1, 1).plusDays(random.nextInt((toYear - fromYear) * 365));
+    }
+
+    private static void flushIfFull(CopyManager copy, String sql, StringBuilder csv, long id) throws SQLException, IOException {
+        if (id % ROWS_PER_COPY == 0) {
+            flush(copy, sql, csv);
+        }
+    }
+
+    private static void flush(CopyManager copy, String sql, StringBuilder csv) throws SQLException, IOException {
+        if (!csv.isEmpty()) {
+            copy.copyIn(sql, new StringReader(csv.toString()));
+            csv.setLength(0);
+        }
+    }
+}
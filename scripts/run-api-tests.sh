@@ -39,15 +39,28 @@ run_tests_in_container() {
         frankescobar/allure-docker-service
 }
 
+run_load_in_container() {
+    info "Running API load generation (${LOAD_OPTS:-default settings})..."
+    docker compose run --rm \
+        -e TEST_ENV="$ENV" \
+        api-automation-testing \
+        bash -c "cd /e2e && mvn test -P$ENV,load -Dtest.env=$ENV ${LOAD_OPTS:-}"
+
+    success "Load run completed!"
+    info "Load report available in: $PROJECT_ROOT/api-automation-testing/test-results/load/load-report.html"
+}
+
 case "$ACTION" in
     test|report) run_tests_in_container ;;
+    load) run_load_in_container ;;
     start) docker compose up -d api-automation-testing ;;
     stop)  docker compose stop api-automation-testing ;;
     logs)  docker compose logs -f api-automation-testing ;;
     clean) docker compose down --remove-orphans --volumes ;;
     help|-h|--help)
         echo "Usage: $0 [COMMAND] [ENV]"
-        echo "Commands: test|report, start, stop, logs, clean"
+        echo "Commands: test|report, load, start, stop, logs, clean"
+        echo "load settings are passed through LOAD_OPTS, e.g. LOAD_OPTS=\"-Dload.rate=100 -Dload.duration-seconds=120\""
         echo "Environments: dev, staging, prod (default: dev)"
         ;;
     *) error "Unknown command: $ACTION"; exit 1 ;;
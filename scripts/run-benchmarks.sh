@@ -0,0 +1,64 @@
+#!/bin/bash
+set -euo pipefail
+
+ACTION=${1:-run}
+FILTER=${2:-}
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(cd "$SCRIPT_DIR/.." && pwd)"
+BENCHMARKS_DIR="$PROJECT_ROOT/benchmarks"
+RESULTS_DIR="$BENCHMARKS_DIR/results"
+BENCHMARKS_JAR="$BENCHMARKS_DIR/target/benchmarks.jar"
+
+info()    { echo -e "[INFO] $1"; }
+success() { echo -e "[SUCCESS] $1"; }
+error()   { echo -e "[ERROR] $1"; }
+
+build() {
+    info "Installing spring-publisher-service..."
+    mvn -B -q -f "$PROJECT_ROOT/spring-publisher-service/pom.xml" install -DskipTests -Djacoco.skip=true
+    info "Packaging benchmarks..."
+    mvn -B -q -f "$BENCHMARKS_DIR/pom.xml" package
+    success "Built $BENCHMARKS_JAR"
+}
+
+run() {
+    [[ -f "$BENCHMARKS_JAR" ]] || build
+    mkdir -p "$RESULTS_DIR"
+    local result_file="$RESULTS_DIR/jmh-$(date +%Y%m%d-%H%M%S).json"
+
+    info "Running benchmarks${FILTER:+ matching '$FILTER'}..."
+    java -jar "$BENCHMARKS_JAR" ${FILTER:+"$FILTER"} -prof gc -rf json -rff "$result_file"
+    success "Results written to $result_file"
+}
+
+repository() {
+    [[ -f "$BENCHMARKS_JAR" ]] || build
+    mkdir -p "$RESULTS_DIR"
+    local result_file="$RESULTS_DIR/repository-$(date +%Y%m%d-%H%M%S).json"
+
+    info "Running repository benchmark on embedded Postgres..."
+    java -cp "$BENCHMARKS_JAR" com.mobelite.publisherManagementSystem.benchmarks.repository.RepositoryBenchmark \
+        --data-dir="$BENCHMARKS_DIR/target/repository-benchmark" --output="$result_file" \
+        ${FILTER:+"--queries=$FILTER"}
+    success "Results written to $result_file"
+}
+
+sizes() {
+    [[ -f "$BENCHMARKS_JAR" ]] || build
+    java -cp "$BENCHMARKS_JAR" com.mobelite.publisherManagementSystem.benchmarks.SerializationBenchmark
+}
+
+case "$ACTION" in
+    build) build ;;
+    run)   run ;;
+    repository) repository ;;
+    sizes) sizes ;;
+    clean) rm -rf "$BENCHMARKS_DIR/target" "$RESULTS_DIR" ;;
+    help|-h|--help)
+        echo "Usage: $0 [COMMAND] [FILTER]"
+        echo "Commands: build, run, repository, sizes, clean"
+        echo "FILTER: benchmark regex, e.g. MapperBenchmark or BookRepository (default: all)"
+        ;;
+    *) error "Unknown command: $ACTION"; exit 1 ;;
+esac
@@ -34,6 +34,15 @@ set +o allexport
 
 # Set essential defaults
 export SPRING_PROFILES_ACTIVE="${SPRING_PROFILES_ACTIVE:-$ENV}"
+
+# The fixtures profile can truncate the catalog: only on request, and never outside dev
+if [[ "${FIXTURES:-false}" == "true" ]]; then
+    if [[ "$ENV" != "dev" ]]; then
+        echo "FIXTURES=true is only allowed with the dev environment"
+        exit 1
+    fi
+    export SPRING_PROFILES_ACTIVE="$SPRING_PROFILES_ACTIVE,fixtures"
+fi
 export APP_PORT="${APP_PORT:-8080}"
 export POSTGRES_USER="${POSTGRES_USER:-postgres}"
 export ENV="$ENV"
@@ -0,0 +1,111 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.mobelite.publisherManagementSystem.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Admits a controller request only while its endpoint (HTTP method and path pattern) runs fewer requests than
+ * its {@link VegasConcurrencyLimit}; the excess is rejected at once with a
+ * {@link ConcurrencyLimitExceededException}. The permit is held until the response completes, including the
+ * asynchronous part of bulkhead and streamed endpoints, and the request's latency then feeds the endpoint's limit
+ * unless the response came from the {@link ResponseCache}.
+ * <p>
+ * Per endpoint, the limit and the requests in flight are published as {@value #LIMIT_GAUGE} and
+ * {@value #IN_FLIGHT_GAUGE}, and rejections are counted in {@value #REJECTED_COUNTER}.
+ */
+@Component
+@ConditionalOnProperty(name = "concurrency.limit.enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    static final String LIMIT_GAUGE = "app.concurrency.limit";
+    static final String IN_FLIGHT_GAUGE = "app.concurrency.inflight";
+    static final String REJECTED_COUNTER = "app.concurrency.rejected";
+
+    private static final String PERMIT_ATTRIBUTE = AdaptiveConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final MeterRegistry meterRegistry;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long retryAfterSeconds;
+    private final Map<String, EndpointLimit> limits = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimitInterceptor(MeterRegistry meterRegistry,
+                                               @Value("${concurrency.limit.initial:20}") int initialLimit,
+                                               @Value("${concurrency.limit.min:4}") int minLimit,
+                                               @Value("${concurrency.limit.max:200}") int maxLimit,
+                                               @Value("${concurrency.limit.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async redispatches still hold the permit of the original request
+        if (!(handler instanceof HandlerMethod) || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        EndpointLimit endpoint = limits.computeIfAbsent(request.getMethod() + " " + pattern,
+                key -> new EndpointLimit(request.getMethod(), pattern));
+
+        VegasConcurrencyLimit.Permit permit = endpoint.limit.tryAcquire();
+        if (permit == null) {
+            endpoint.rejected.increment();
+            throw new ConcurrencyLimitExceededException(endpoint.name, retryAfterSeconds);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof VegasConcurrencyLimit.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            // Responses served from the response cache say nothing about how fast the endpoint answers
+            permit.release(ex == null && response.getStatus() < 500 && !ResponseCache.isServedFromCache(response));
+        }
+    }
+
+    private final class EndpointLimit {
+
+        private final String name;
+        private final VegasConcurrencyLimit limit;
+        private final Counter rejected;
+
+        private EndpointLimit(String method, String pattern) {
+            this.name = method + " " + pattern;
+            this.limit = new VegasConcurrencyLimit(initialLimit, minLimit, maxLimit);
+            Tags tags = Tags.of("method", method, "uri", pattern);
+            Gauge.builder(LIMIT_GAUGE, limit, VegasConcurrencyLimit::getLimit)
+                    .description("Requests an endpoint may run at once")
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder(IN_FLIGHT_GAUGE, limit, VegasConcurrencyLimit::getInFlight)
+                    .description("Requests an endpoint is running")
+                    .tags(tags)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder(REJECTED_COUNTER)
+                    .description("Requests turned away by an endpoint's concurrency limit")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+    }
+}
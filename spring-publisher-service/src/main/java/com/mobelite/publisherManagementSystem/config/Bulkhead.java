@@ -0,0 +1,126 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.mobelite.publisherManagementSystem.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.Getter;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs one kind of expensive request on its own fixed pool of threads, so that it cannot take the servlet
+ * container's request threads (and database connections) away from cheap lookups.
+ * <p>
+ * A request is admitted only while one of {@code threads + queue} slots is free; otherwise it is rejected at once
+ * with a {@link BulkheadFullException}, counted by {@value #REJECTED_COUNTER}. At most {@code threads} admitted
+ * requests run at a time, whether on the pool or, for streamed responses, on the thread writing the response.
+ * The current trace and MDC are carried over to the bulkhead thread, and the pool is monitored as
+ * {@code executor.*} meters named {@code bulkhead-<name>}.
+ */
+public class Bulkhead {
+
+    static final String REJECTED_COUNTER = "app.bulkhead.rejected";
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int threads;
+    private final long retryAfterSeconds;
+    private final Semaphore slots;
+    private final Semaphore running;
+    private final ThreadPoolExecutor executor;
+    private final Executor decoratingExecutor;
+    private final Counter rejected;
+
+    public Bulkhead(String name, int threads, int queue, long retryAfterSeconds,
+                    TaskDecorator taskDecorator, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.threads = threads;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.slots = new Semaphore(threads + queue);
+        this.running = new Semaphore(threads, true);
+        // Unbounded on its own: the slots bound what is ever queued
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("bulkhead-" + name + "-"));
+        this.decoratingExecutor = command -> executor.execute(taskDecorator.decorate(command));
+        this.rejected = Counter.builder(REJECTED_COUNTER)
+                .description("Requests turned away because their bulkhead was full")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, "bulkhead-" + name, List.of()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Compute a response on a bulkhead thread.
+     * @throws BulkheadFullException when every thread and queue slot is taken
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        acquire();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                // Only waits while streamed responses hold the turns a pool thread would otherwise have
+                running.acquireUninterruptibly();
+                try {
+                    return supplier.get();
+                } finally {
+                    running.release();
+                    slots.release();
+                }
+            }, decoratingExecutor);
+        } catch (RuntimeException ex) {
+            slots.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Build and write a streamed response on the container's thread once it is the request's turn to run.
+     * A slot is only taken once the response is written, so a body that never is (the request went away first)
+     * holds none; a full bulkhead still rejects before the first byte, leaving the response to the error handler.
+     * Rows are written as they are read, so the query and the network write cannot be split: the body runs where it
+     * is written instead of on a pool thread, and no second thread is held while a slow client reads.
+     * The returned body throws {@link BulkheadFullException} when every thread and queue slot is taken.
+     */
+    public StreamingResponseBody stream(Supplier<StreamingResponseBody> body) {
+        return outputStream -> {
+            acquire();
+            try {
+                running.acquire();
+            } catch (InterruptedException ex) {
+                slots.release();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for bulkhead " + name);
+            }
+            try {
+                body.get().writeTo(outputStream);
+            } finally {
+                running.release();
+                slots.release();
+            }
+        };
+    }
+
+    /** Stop the threads; requests already admitted are completed first */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void acquire() {
+        if (!slots.tryAcquire()) {
+            rejected.increment();
+            throw new BulkheadFullException(name, retryAfterSeconds);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * The bulkheads isolating the expensive endpoints from the rest of the API:
+ * {@value #GROUPED} (publications grouped by type), {@value #AUTHORS} (authors with their book collections)
+ * and {@value #SEARCH} (title search).
+ * <p>
+ * Every bulkhead thread may hold a database connection, so a bulkhead's thread count is its share of the
+ * connection pool; together they should leave connections free for everything else.
+ */
+@Component
+@Slf4j
+public class BulkheadRegistry implements DisposableBean {
+
+    public static final String GROUPED = "grouped";
+    public static final String AUTHORS = "authors";
+    public static final String SEARCH = "search";
+
+    private final Map<String, Bulkhead> bulkheads;
+
+    public BulkheadRegistry(TaskDecorator taskDecorator, MeterRegistry meterRegistry,
+                            @Value("${bulkhead.grouped.threads:2}") int groupedThreads,
+                            @Value("${bulkhead.grouped.queue:4}") int groupedQueue,
+                            @Value("${bulkhead.authors.threads:2}") int authorsThreads,
+                            @Value("${bulkhead.authors.queue:16}") int authorsQueue,
+                            @Value("${bulkhead.search.threads:2}") int searchThreads,
+                            @Value("${bulkhead.search.queue:16}") int searchQueue,
+                            @Value("${bulkhead.retry-after-seconds:1}") long retryAfterSeconds,
+                            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.bulkheads = Map.of(
+                GROUPED, new Bulkhead(GROUPED, groupedThreads, groupedQueue, retryAfterSeconds, taskDecorator, meterRegistry),
+                AUTHORS, new Bulkhead(AUTHORS, authorsThreads, authorsQueue, retryAfterSeconds, taskDecorator, meterRegistry),
+                SEARCH, new Bulkhead(SEARCH, searchThreads, searchQueue, retryAfterSeconds, taskDecorator, meterRegistry));
+
+        int bulkheadThreads = groupedThreads + authorsThreads + searchThreads;
+        if (bulkheadThreads >= connectionPoolSize) {
+            log.warn("Bulkheads run {} threads but the connection pool only has {} connections: "
+                    + "cheap requests may wait for a connection", bulkheadThreads, connectionPoolSize);
+        }
+    }
+
+    public Bulkhead get(String name) {
+        Bulkhead bulkhead = bulkheads.get(name);
+        if (bulkhead == null) {
+            throw new IllegalArgumentException("Unknown bulkhead: " + name);
+        }
+        return bulkhead;
+    }
+
+    @Override
+    public void destroy() {
+        bulkheads.values().forEach(Bulkhead::shutdown);
+    }
+}
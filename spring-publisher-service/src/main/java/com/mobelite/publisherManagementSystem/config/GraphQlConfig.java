@@ -0,0 +1,64 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.mobelite.publisherManagementSystem.controller.CatalogGraphQlController;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Query limits for the GraphQL endpoint. Queries deeper than {@code graphql.limits.max-depth}
+ * or costlier than {@code graphql.limits.max-complexity} are rejected before any data is fetched.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    /**
+     * Assumed number of items in a nested collection (e.g. an author's books) when estimating cost.
+     */
+    static final int ASSUMED_LIST_SIZE = 10;
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            @Value("${graphql.limits.max-depth:10}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${graphql.limits.max-complexity:5000}") int maxComplexity) {
+        return new MaxQueryComplexityInstrumentation(maxComplexity, GraphQlConfig::fieldComplexity);
+    }
+
+    /**
+     * Cost of a field: one plus its children, multiplied by the page size for paged root fields
+     * and by {@link #ASSUMED_LIST_SIZE} for nested collections.
+     * The page size is capped as the controller caps it, and a cost too large for an int saturates
+     * instead of wrapping around to a cost that would pass the limit.
+     */
+    static int fieldComplexity(FieldComplexityEnvironment environment, int childComplexity) {
+        if (childComplexity < 0) {
+            // The children's costs already overflowed when they were summed
+            return Integer.MAX_VALUE;
+        }
+        try {
+            int cost = Math.addExact(1, childComplexity);
+            if (environment.getArguments().get("size") instanceof Integer size) {
+                return Math.multiplyExact(Math.min(Math.max(size, 1), CatalogGraphQlController.MAX_PAGE_SIZE), cost);
+            }
+            return isList(environment.getFieldDefinition().getType()) ? Math.multiplyExact(ASSUMED_LIST_SIZE, cost) : cost;
+        } catch (ArithmeticException ex) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static boolean isList(GraphQLType type) {
+        GraphQLType unwrapped = type instanceof GraphQLNonNull nonNull ? nonNull.getWrappedType() : type;
+        return unwrapped instanceof GraphQLList;
+    }
+}
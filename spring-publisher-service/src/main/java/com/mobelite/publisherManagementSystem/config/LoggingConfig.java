@@ -0,0 +1,19 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hooks the sampled SQL logging into Hibernate. The appenders, async queue and per-request
+ * DEBUG filter are configured in {@code logback-spring.xml}.
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sampledSqlLoggingCustomizer(SampledSqlStatementInspector inspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
@@ -0,0 +1,90 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every service, repository and mapper method called through a Spring proxy.
+ * Timers are tagged by class, method and outcome only, and are looked up once per method and outcome,
+ * so a call costs a map lookup and a clock read on top of the method itself.
+ * Spring Data repositories are already timed by Spring Boot ({@code spring.data.repository.invocations}).
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+
+    static final String SERVICE_TIMER = "app.service.calls";
+    static final String REPOSITORY_TIMER = "app.repository.calls";
+    static final String MAPPER_TIMER = "app.mapper.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<Method, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Pointcut("within(com.mobelite.publisherManagementSystem.service.impl..*)")
+    public void serviceLayer() {
+    }
+
+    @Pointcut("within(com.mobelite.publisherManagementSystem.repository..*) && @within(org.springframework.stereotype.Repository)")
+    public void repositoryLayer() {
+    }
+
+    @Pointcut("execution(* com.mobelite.publisherManagementSystem.mapper.*Mapper.*(..))")
+    public void mapperLayer() {
+    }
+
+    @Around("serviceLayer()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    @Around("repositoryLayer()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+
+    @Around("mapperLayer()")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(MAPPER_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timer(successTimers, name, method, "success").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            timer(errorTimers, name, method, "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private Timer timer(Map<Method, Timer> timers, String name, Method method, String outcome) {
+        Timer timer = timers.get(method);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(method, key -> Timer.builder(name)
+                    .tag("class", key.getDeclaringClass().getSimpleName())
+                    .tag("method", key.getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+        return timer;
+    }
+}
@@ -0,0 +1,59 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics that are not covered by Spring Boot's auto-configuration or {@link MethodTimingAspect}.
+ * Histogram buckets and SLOs are configured through the {@code management.metrics.distribution.*} properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final String SERIALIZATION_TIMER = "app.serialization";
+
+    /**
+     * JSON converter timing (and tracing) how long response bodies take to serialize; replaces Boot's default JSON converter.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   MeterRegistry meterRegistry,
+                                                                                   ObjectProvider<Tracer> tracerProvider) {
+        Tracer tracer = tracerProvider.getIfAvailable(() -> Tracer.NOOP);
+        Timer timer = Timer.builder(SERIALIZATION_TIMER)
+                .description("Time spent writing response bodies")
+                .tag("format", "json")
+                .register(meterRegistry);
+
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                    throws IOException, HttpMessageNotWritableException {
+                Span span = tracer.nextSpan().name("json.serialize").start();
+                long start = System.nanoTime();
+                try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                    super.writeInternal(object, type, outputMessage);
+                } catch (IOException | RuntimeException ex) {
+                    span.error(ex);
+                    throw ex;
+                } finally {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    span.end();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,303 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.mobelite.publisherManagementSystem.enums.RequestPriority;
+import com.mobelite.publisherManagementSystem.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs interactive lookups and bulk listings on one shared pool of threads, with weighted fair queuing between
+ * the two {@link RequestPriority classes}.
+ * <p>
+ * Each class has its own queue. A queued request is tagged with a virtual finish time: the later of the scheduler's
+ * virtual clock and the previous tag of its class, plus the average service time of its class divided by the
+ * class's weight (self-clocked fair queuing). A free thread takes the request with the earliest tag, so while both
+ * classes are waiting each gets thread time in proportion to its weight, and either uses all of it while the other
+ * is idle. Bulk requests never take the last {@code reserved-threads} threads, so an interactive request does not
+ * wait for a slow listing to finish.
+ * A streamed listing is scheduled the same way but, once its turn comes, runs on the thread writing the response;
+ * it still counts as running in its class until it is written.
+ * <p>
+ * The class is given by the endpoint, unless the request names a lower one in the {@value #PRIORITY_HEADER} header;
+ * a request cannot raise its own class.
+ * Once {@code threads + queue} requests of a class are admitted, further ones are rejected with a
+ * {@link BulkheadFullException}. Queue time and service time are timed separately per class as
+ * {@value #QUEUE_TIMER} and {@value #SERVICE_TIMER}; the current trace and MDC are carried over to the threads.
+ */
+@Component
+@Slf4j
+public class PriorityScheduler implements DisposableBean {
+
+    public static final String PRIORITY_HEADER = "X-Request-Priority";
+
+    static final String QUEUE_TIMER = "app.priority.queue";
+    static final String SERVICE_TIMER = "app.priority.service";
+    static final String REJECTED_COUNTER = "app.priority.rejected";
+    static final String QUEUED_GAUGE = "app.priority.queued";
+
+    private static final double SERVICE_TIME_SMOOTHING = 0.1;
+    private static final double INITIAL_SERVICE_NANOS = 1_000_000;
+
+    private final TaskDecorator taskDecorator;
+    private final long retryAfterSeconds;
+    private final Map<RequestPriority, Lane> lanes = new EnumMap<>(RequestPriority.class);
+
+    private double virtualTime;
+    private boolean shutdown;
+
+    public PriorityScheduler(TaskDecorator taskDecorator, MeterRegistry meterRegistry,
+                             @Value("${priority.threads:4}") int threads,
+                             @Value("${priority.reserved-threads:1}") int reservedThreads,
+                             @Value("${priority.interactive.weight:8}") double interactiveWeight,
+                             @Value("${priority.interactive.queue:100}") int interactiveQueue,
+                             @Value("${priority.bulk.weight:1}") double bulkWeight,
+                             @Value("${priority.bulk.queue:50}") int bulkQueue,
+                             @Value("${priority.retry-after-seconds:1}") long retryAfterSeconds,
+                             @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.taskDecorator = taskDecorator;
+        this.retryAfterSeconds = retryAfterSeconds;
+        int bulkThreads = Math.max(1, threads - reservedThreads);
+        lanes.put(RequestPriority.INTERACTIVE,
+                new Lane(RequestPriority.INTERACTIVE, interactiveWeight, threads, interactiveQueue, meterRegistry));
+        lanes.put(RequestPriority.BULK,
+                new Lane(RequestPriority.BULK, bulkWeight, bulkThreads, bulkQueue, meterRegistry));
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("priority-");
+        for (int i = 0; i < threads; i++) {
+            threadFactory.newThread(this::work).start();
+        }
+
+        if (threads >= connectionPoolSize) {
+            log.warn("The priority scheduler runs {} threads but the connection pool only has {} connections: "
+                    + "interactive requests may wait for a connection", threads, connectionPoolSize);
+        }
+    }
+
+    /**
+     * Compute a response on a scheduler thread.
+     * @param endpointPriority the class of the endpoint, used unless the request names a lower one
+     * @throws BulkheadFullException when the request's class has no room left
+     */
+    public <T> CompletableFuture<T> supplyAsync(RequestPriority endpointPriority, Supplier<T> supplier) {
+        Lane lane = admit(resolve(endpointPriority));
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable command = taskDecorator.decorate(() -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+        enqueue(lane, () -> {
+            command.run();
+            return true;
+        });
+        return future;
+    }
+
+    /**
+     * Build and write a streamed response on the container's thread once a scheduler thread gives it its turn.
+     * The class is resolved now, from the request, but the request is only admitted and queued once the container
+     * starts writing the body, so a body that is never written holds no room; a full class still rejects before
+     * the first byte, leaving the response to the error handler. Rows are written as they are read, so the body
+     * runs where it is written: it holds a running place in its class until it is done, not a scheduler thread.
+     * The returned body throws {@link BulkheadFullException} when the request's class has no room left.
+     * @param endpointPriority the class of the endpoint, used unless the request names a lower one
+     */
+    public StreamingResponseBody stream(RequestPriority endpointPriority, Supplier<StreamingResponseBody> body) {
+        RequestPriority priority = resolve(endpointPriority);
+        return outputStream -> {
+            Lane lane = admit(priority);
+            CompletableFuture<Long> turn = new CompletableFuture<>();
+            // Handed over unless the writer stopped waiting, in which case the scheduler thread gives the place back
+            enqueue(lane, () -> !turn.complete(System.nanoTime()));
+            long startedNanos;
+            try {
+                startedNanos = turn.get();
+            } catch (InterruptedException ex) {
+                if (!turn.cancel(false)) {
+                    release(lane, turn.join());
+                }
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to stream a " + lane.name + " request");
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException(ex.getCause());
+            }
+            try {
+                body.get().writeTo(outputStream);
+            } finally {
+                release(lane, startedNanos);
+            }
+        };
+    }
+
+    /** Stop the threads once the requests already admitted are completed */
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            shutdown = true;
+            notifyAll();
+        }
+    }
+
+    /** The endpoint's class, or a lower one named by the request; a header that would raise it is ignored */
+    private RequestPriority resolve(RequestPriority endpointPriority) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            RequestPriority requested = RequestPriority.fromString(attributes.getRequest().getHeader(PRIORITY_HEADER));
+            if (requested != null && requested.compareTo(endpointPriority) > 0) {
+                return requested;
+            }
+        }
+        return endpointPriority;
+    }
+
+    private Lane admit(RequestPriority priority) {
+        Lane lane = lanes.get(priority);
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Priority scheduler is shut down");
+            }
+            if (lane.admitted < lane.capacity) {
+                lane.admitted++;
+                return lane;
+            }
+        }
+        lane.rejected.increment();
+        throw new BulkheadFullException(lane.name, retryAfterSeconds);
+    }
+
+    private synchronized void enqueue(Lane lane, BooleanSupplier command) {
+        double start = Math.max(virtualTime, lane.lastFinishTag);
+        lane.lastFinishTag = start + lane.averageServiceNanos / lane.weight;
+        lane.queue.addLast(new Task(command, lane.lastFinishTag, System.nanoTime()));
+        notifyAll();
+    }
+
+    /** The class whose head request has the earliest finish tag among those allowed another thread */
+    private Lane next() {
+        Lane next = null;
+        for (Lane lane : lanes.values()) {
+            if (!lane.queue.isEmpty() && lane.running < lane.maxRunning
+                    && (next == null || lane.queue.peekFirst().finishTag < next.queue.peekFirst().finishTag)) {
+                next = lane;
+            }
+        }
+        return next;
+    }
+
+    private void work() {
+        while (true) {
+            Lane lane;
+            Task task;
+            synchronized (this) {
+                while ((lane = next()) == null) {
+                    if (shutdown && lanes.values().stream().allMatch(l -> l.queue.isEmpty())) {
+                        return;
+                    }
+                    try {
+                        wait();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                task = lane.queue.removeFirst();
+                lane.running++;
+                virtualTime = task.finishTag;
+            }
+
+            long startedNanos = System.nanoTime();
+            lane.queueTimer.record(startedNanos - task.queuedNanos, TimeUnit.NANOSECONDS);
+            boolean done = true;
+            try {
+                done = task.command.getAsBoolean();
+            } catch (RuntimeException ex) {
+                log.error("Unexpected failure of a {} request", lane.name, ex);
+            } finally {
+                if (done) {
+                    release(lane, startedNanos);
+                }
+            }
+        }
+    }
+
+    /** Give back the running place of a request that started at {@code startedNanos} */
+    private void release(Lane lane, long startedNanos) {
+        long serviceNanos = System.nanoTime() - startedNanos;
+        lane.serviceTimer.record(serviceNanos, TimeUnit.NANOSECONDS);
+        synchronized (this) {
+            lane.running--;
+            lane.admitted--;
+            lane.averageServiceNanos += SERVICE_TIME_SMOOTHING * (serviceNanos - lane.averageServiceNanos);
+            notifyAll();
+        }
+    }
+
+    /** A queued request; its command returns false when it handed its running place to another thread */
+    private record Task(BooleanSupplier command, double finishTag, long queuedNanos) {
+    }
+
+    /** The queue, weight and bookkeeping of one class; mutable state is guarded by the scheduler's lock */
+    private static final class Lane {
+
+        private final String name;
+        private final double weight;
+        private final int maxRunning;
+        private final int capacity;
+        private final Deque<Task> queue = new ArrayDeque<>();
+        private final Timer queueTimer;
+        private final Timer serviceTimer;
+        private final Counter rejected;
+
+        private int admitted;
+        private int running;
+        private double lastFinishTag;
+        private double averageServiceNanos = INITIAL_SERVICE_NANOS;
+
+        private Lane(RequestPriority priority, double weight, int maxRunning, int queue, MeterRegistry meterRegistry) {
+            this.name = priority.name().toLowerCase();
+            this.weight = weight;
+            this.maxRunning = maxRunning;
+            this.capacity = maxRunning + queue;
+            this.queueTimer = Timer.builder(QUEUE_TIMER)
+                    .description("Time requests waited for a scheduler thread")
+                    .tag("priority", name)
+                    .register(meterRegistry);
+            this.serviceTimer = Timer.builder(SERVICE_TIMER)
+                    .description("Time requests ran on a scheduler thread")
+                    .tag("priority", name)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder(REJECTED_COUNTER)
+                    .description("Requests turned away because their priority class was full")
+                    .tag("priority", name)
+                    .register(meterRegistry);
+            Gauge.builder(QUEUED_GAUGE, this.queue, Deque::size)
+                    .description("Requests waiting for a scheduler thread")
+                    .tag("priority", name)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Single-flight reads: concurrent callers asking for the same key share one database load and mapping.
+ * <p>
+ * The first caller for a key loads it in a read-only transaction; callers arriving while that load is in flight
+ * wait for its result (or its exception) without a transaction of their own, so they hold no connection. A
+ * waiting caller gives up after {@code coalescing.max-wait} and loads the key itself, and so does every waiting
+ * caller if the load is cancelled because its thread was interrupted. A shared result is at most one load older
+ * than a caller's own read would have been. A mutable result is copied for each caller that shares it, so that
+ * no two callers (nor a response cached by one of them) hold the same instance.
+ * <p>
+ * Calls are counted per load in {@value #REQUESTS_COUNTER}, tagged {@code loaded}, {@code shared} or
+ * {@code fallback}, and {@value #RATIO_GAUGE} is the share of calls served by another caller's load.
+ */
+@Component
+public class ReadCoalescer {
+
+    static final String REQUESTS_COUNTER = "app.coalescing.requests";
+    static final String RATIO_GAUGE = "app.coalescing.ratio";
+
+    private final TransactionTemplate readOnly;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final Map<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, LoadMeters> meters = new ConcurrentHashMap<>();
+
+    public ReadCoalescer(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                         @Value("${coalescing.enabled:true}") boolean enabled,
+                         @Value("${coalescing.max-wait:2s}") Duration maxWait) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Load an immutable value in a read-only transaction, or share the load already in flight for the same key.
+     * @see #load(String, Object, Supplier, UnaryOperator)
+     */
+    public <T> T load(String load, Object key, Supplier<T> loader) {
+        return load(load, key, loader, UnaryOperator.identity());
+    }
+
+    /**
+     * Load a value in a read-only transaction, or share a copy of the load already in flight for the same key.
+     * @param load name of the kind of load, used as the metrics tag
+     * @param key identifies the value within its kind; must implement {@code equals} and {@code hashCode}
+     * @param loader reads and maps the value; its exceptions are rethrown to every caller sharing the load
+     * @param copy copies the loaded value for each caller sharing it; the caller that loaded it keeps the original
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String load, Object key, Supplier<T> loader, UnaryOperator<T> copy) {
+        if (!enabled) {
+            return readOnly.execute(status -> loader.get());
+        }
+        LoadMeters loadMeters = meters.computeIfAbsent(load, LoadMeters::new);
+        Flight flight = new Flight(load, key);
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flight, leader);
+        if (existing == null) {
+            loadMeters.loaded.increment();
+            return lead(flight, leader, loader);
+        }
+
+        try {
+            T value = (T) existing.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            loadMeters.shared.increment();
+            return value == null ? null : copy.apply(value);
+        } catch (ExecutionException ex) {
+            loadMeters.shared.increment();
+            if (ex.getCause() instanceof RuntimeException runtime) throw runtime;
+            if (ex.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException | CancellationException ex) {
+            loadMeters.fallback.increment();
+            return readOnly.execute(status -> loader.get());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a shared " + load + " load");
+        }
+    }
+
+    private <T> T lead(Flight flight, CompletableFuture<Object> leader, Supplier<T> loader) {
+        try {
+            T value = readOnly.execute(status -> loader.get());
+            leader.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            if (Thread.currentThread().isInterrupted()) {
+                // The failure is this caller's cancellation, not the load's: let the others load on their own
+                leader.cancel(false);
+            } else {
+                leader.completeExceptionally(ex);
+            }
+            throw ex;
+        } finally {
+            inFlight.remove(flight, leader);
+        }
+    }
+
+    private record Flight(String load, Object key) {
+    }
+
+    private final class LoadMeters {
+
+        private final Counter loaded;
+        private final Counter shared;
+        private final Counter fallback;
+
+        private LoadMeters(String load) {
+            this.loaded = counter(load, "loaded");
+            this.shared = counter(load, "shared");
+            this.fallback = counter(load, "fallback");
+            Gauge.builder(RATIO_GAUGE, this, LoadMeters::ratio)
+                    .description("Share of reads served by a load another caller had in flight")
+                    .tag("load", load)
+                    .register(meterRegistry);
+        }
+
+        private Counter counter(String load, String result) {
+            return Counter.builder(REQUESTS_COUNTER)
+                    .description("Coalesced reads by who loaded the value")
+                    .tag("load", load)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+
+        private double ratio() {
+            double total = loaded.count() + shared.count() + fallback.count();
+            return total == 0 ? 0 : shared.count() / total;
+        }
+    }
+}
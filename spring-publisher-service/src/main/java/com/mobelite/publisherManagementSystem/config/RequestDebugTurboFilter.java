@@ -0,0 +1,40 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enables DEBUG output of selected loggers for the requests flagged by {@link RequestLoggingFilter},
+ * leaving the configured levels untouched for every other request.
+ * Declared in {@code logback-spring.xml} with one {@code <logger>} element per logger name prefix.
+ */
+public class RequestDebugTurboFilter extends TurboFilter {
+
+    private final List<String> loggerPrefixes = new ArrayList<>();
+
+    public void addLogger(String loggerPrefix) {
+        loggerPrefixes.add(loggerPrefix.trim());
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Only ever widens DEBUG; checked before the MDC lookup so other levels stay as cheap as before
+        if (level == null || level.levelInt != Level.DEBUG_INT || MDC.get(RequestLoggingFilter.DEBUG_KEY) == null) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        for (String prefix : loggerPrefixes) {
+            if (name.startsWith(prefix)) {
+                return FilterReply.ACCEPT;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
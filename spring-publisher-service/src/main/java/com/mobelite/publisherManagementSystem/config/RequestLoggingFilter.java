@@ -0,0 +1,81 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Puts the per-request logging context in the MDC: a request ID for correlating log lines,
+ * whether the request's SQL is sampled, and whether DEBUG output is enabled for it.
+ * DEBUG is enabled by sending {@value #DEBUG_HEADER} with the configured token; without a token the header is ignored.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String DEBUG_HEADER = "X-Debug-Logging";
+
+    public static final String REQUEST_ID_KEY = "requestId";
+    public static final String DEBUG_KEY = "debugLogging";
+    public static final String SQL_SAMPLED_KEY = "sqlSampled";
+
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    private final SqlLogSampler sqlLogSampler;
+    private final byte[] debugToken;
+
+    public RequestLoggingFilter(SqlLogSampler sqlLogSampler,
+                                @Value("${logging.request-debug.token:}") String debugToken) {
+        this.sqlLogSampler = sqlLogSampler;
+        this.debugToken = debugToken.isBlank() ? null : debugToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = requestId(request.getHeader(REQUEST_ID_HEADER));
+        boolean debug = isDebugRequested(request.getHeader(DEBUG_HEADER));
+
+        MDC.put(REQUEST_ID_KEY, requestId);
+        if (debug) {
+            MDC.put(DEBUG_KEY, "true");
+        }
+        if (debug || sqlLogSampler.sampleRequest()) {
+            MDC.put(SQL_SAMPLED_KEY, "true");
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID_KEY);
+            MDC.remove(DEBUG_KEY);
+            MDC.remove(SQL_SAMPLED_KEY);
+        }
+    }
+
+    private boolean isDebugRequested(String header) {
+        return debugToken != null && header != null
+                && MessageDigest.isEqual(debugToken, header.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String requestId(String header) {
+        if (header != null && !header.isBlank() && header.length() <= MAX_REQUEST_ID_LENGTH) {
+            return header;
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
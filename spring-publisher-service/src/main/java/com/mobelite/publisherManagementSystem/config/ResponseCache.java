@@ -0,0 +1,463 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stale-while-revalidate cache of the catalog's read responses, which also keeps the reads answering from their
+ * last good response while the database cannot be reached.
+ * <p>
+ * Responses are cached per request URI, query string included, least recently used first out. A response younger
+ * than {@code cache.swr.fresh-for} is served as is. For {@code cache.swr.stale-while-revalidate} after that it is
+ * still served at once while a single request per response refreshes it in the background, so a burst of requests
+ * for an expired listing neither waits for the database nor piles onto it. Older responses are loaded again while
+ * the client waits.
+ * <p>
+ * A load that fails because the database is unreachable (no connection, no transaction, a transient or
+ * connection-class SQL failure) puts the cache in degraded mode until the next load succeeds. Meanwhile responses
+ * up to {@code cache.swr.stale-if-error} past their freshness are served instead of the error, and one background
+ * refresh at a time probes whether the database is back. Older responses and uncached requests still fail.
+ * <p>
+ * Responses served from the cache carry {@value #CACHE_HEADER} ({@code HIT} or {@code STALE}) and {@code Age};
+ * stale ones also carry a {@code Warning}: {@code 110} while revalidating, {@code 111} when revalidation failed.
+ * Loaded responses carry {@value #CACHE_HEADER} {@code MISS}. Streamed responses are cached as the bytes written,
+ * up to {@code cache.swr.max-entry-bytes}. Every write request through the API empties the cache, see
+ * {@link ResponseCacheInvalidationAdvice}.
+ * <p>
+ * Requests are counted in {@value #REQUESTS_COUNTER} by result ({@code hit}, {@code stale}, {@code degraded},
+ * {@code miss}) and background refreshes in {@value #REFRESHES_COUNTER}; {@value #ENTRIES_GAUGE} and
+ * {@value #DEGRADED_GAUGE} give the cache's size and mode.
+ */
+@Component
+@Slf4j
+public class ResponseCache implements DisposableBean {
+
+    public static final String CACHE_HEADER = "X-Cache";
+
+    static final String REQUESTS_COUNTER = "app.cache.requests";
+    static final String REFRESHES_COUNTER = "app.cache.refreshes";
+    static final String ENTRIES_GAUGE = "app.cache.entries";
+    static final String DEGRADED_GAUGE = "app.cache.degraded";
+
+    private static final String HIT = "HIT";
+    private static final String STALE = "STALE";
+    private static final String MISS = "MISS";
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+    private static final String REVALIDATION_FAILED_WARNING = "111 - \"Revalidation Failed\"";
+
+    private final boolean enabled;
+    private final long freshNanos;
+    private final long staleWhileRevalidateNanos;
+    private final long staleIfErrorNanos;
+    private final int maxEntries;
+    private final long maxEntryBytes;
+    private final LongSupplier nanoClock;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final TaskDecorator taskDecorator;
+    private final Map<String, Entry> entries;
+    private final AtomicBoolean degraded = new AtomicBoolean();
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter degradedHits;
+    private final Counter misses;
+    private final Counter refreshed;
+    private final Counter refreshFailures;
+
+    /** Bumped by every invalidation; a load started before one is not cached */
+    private long generation;
+
+    @Autowired
+    public ResponseCache(TaskDecorator taskDecorator, MeterRegistry meterRegistry,
+                         @Value("${cache.swr.enabled:true}") boolean enabled,
+                         @Value("${cache.swr.fresh-for:5s}") Duration freshFor,
+                         @Value("${cache.swr.stale-while-revalidate:30s}") Duration staleWhileRevalidate,
+                         @Value("${cache.swr.stale-if-error:10m}") Duration staleIfError,
+                         @Value("${cache.swr.max-entries:1000}") int maxEntries,
+                         @Value("${cache.swr.max-entry-bytes:1MB}") DataSize maxEntryBytes,
+                         @Value("${cache.swr.refresh-threads:2}") int refreshThreads) {
+        this(taskDecorator, meterRegistry, enabled, freshFor, staleWhileRevalidate, staleIfError, maxEntries,
+                maxEntryBytes, refreshThreads, System::nanoTime);
+    }
+
+    ResponseCache(TaskDecorator taskDecorator, MeterRegistry meterRegistry, boolean enabled, Duration freshFor,
+                  Duration staleWhileRevalidate, Duration staleIfError, int maxEntries, DataSize maxEntryBytes,
+                  int refreshThreads, LongSupplier nanoClock) {
+        this.taskDecorator = taskDecorator;
+        this.enabled = enabled;
+        this.freshNanos = freshFor.toNanos();
+        this.staleWhileRevalidateNanos = freshNanos + staleWhileRevalidate.toNanos();
+        this.staleIfErrorNanos = freshNanos + staleIfError.toNanos();
+        this.maxEntries = maxEntries;
+        this.maxEntryBytes = maxEntryBytes.toBytes();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ResponseCache.this.maxEntries;
+            }
+        };
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxEntries)), new CustomizableThreadFactory("cache-refresh-"));
+
+        this.hits = requests(meterRegistry, "hit");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.degradedHits = requests(meterRegistry, "degraded");
+        this.misses = requests(meterRegistry, "miss");
+        this.refreshed = refreshes(meterRegistry, "success");
+        this.refreshFailures = refreshes(meterRegistry, "failure");
+        Gauge.builder(ENTRIES_GAUGE, this, ResponseCache::size)
+                .description("Responses currently cached")
+                .register(meterRegistry);
+        Gauge.builder(DEGRADED_GAUGE, degraded, flag -> flag.get() ? 1 : 0)
+                .description("Whether cached responses stand in for an unreachable database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Serve the response of the current request from the cache, or load it.
+     * @param load starts loading the response body, typically on a scheduler or bulkhead; called again in the
+     *             background to refresh a stale response
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<ResponseEntity<T>> get(Supplier<CompletableFuture<T>> load) {
+        if (!enabled) {
+            return load.get().thenApply(ResponseEntity::ok);
+        }
+        String key = key("object");
+        long now = nanoClock.getAsLong();
+        Entry entry = lookup(key);
+        Freshness freshness = freshness(entry, now);
+        if (freshness != Freshness.EXPIRED) {
+            if (freshness != Freshness.FRESH) {
+                refresh(key, entry, freshness, load);
+            }
+            return CompletableFuture.completedFuture(served(entry, freshness, now, ResponseEntity.ok()).body((T) entry.value()));
+        }
+
+        misses.increment();
+        long loadGeneration = generation();
+        CompletableFuture<T> loading;
+        try {
+            loading = load.get();
+        } catch (RuntimeException ex) {
+            return CompletableFuture.completedFuture(fallback(entry, ex, ResponseEntity.ok()).body((T) entry.value()));
+        }
+        return loading.handle((value, ex) -> {
+            if (ex == null) {
+                loaded(key, value, loadGeneration);
+                return ResponseEntity.ok().header(CACHE_HEADER, MISS).body(value);
+            }
+            return fallback(entry, unwrap(ex), ResponseEntity.ok()).body((T) entry.value());
+        });
+    }
+
+    /**
+     * Serve the streamed JSON response of the current request from the cache, or stream it and keep what was
+     * written.
+     * @param body admits the request and returns the body that streams it; called again in the background to
+     *             refresh a stale response
+     */
+    public ResponseEntity<StreamingResponseBody> stream(Supplier<StreamingResponseBody> body) {
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (!enabled) {
+            return ok.body(body.get());
+        }
+        String key = key("stream");
+        long now = nanoClock.getAsLong();
+        Entry entry = lookup(key);
+        Freshness freshness = freshness(entry, now);
+        if (freshness != Freshness.EXPIRED) {
+            if (freshness != Freshness.FRESH) {
+                refresh(key, entry, freshness, () -> buffer(body));
+            }
+            byte[] bytes = (byte[]) entry.value();
+            return served(entry, freshness, now, ok).body(outputStream -> outputStream.write(bytes));
+        }
+
+        misses.increment();
+        long loadGeneration = generation();
+        StreamingResponseBody streamed = body.get();
+        return ok.header(CACHE_HEADER, MISS).body(outputStream -> {
+            CachingOutputStream caching = new CachingOutputStream(outputStream, maxEntryBytes);
+            try {
+                streamed.writeTo(caching);
+            } catch (IOException | RuntimeException ex) {
+                failed(ex);
+                throw ex;
+            }
+            loaded(key, caching.cached(), loadGeneration);
+        });
+    }
+
+    /** Drop every cached response, and any load already in flight from being cached */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        generation++;
+    }
+
+    /**
+     * Whether a response was served from the cache rather than loaded for the request.
+     */
+    public static boolean isServedFromCache(HttpServletResponse response) {
+        String result = response.getHeader(CACHE_HEADER);
+        return HIT.equals(result) || STALE.equals(result);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Stop the refresh threads; refreshes already queued are dropped */
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    static boolean isDatabaseUnavailable(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof DataAccessResourceFailureException
+                    || cause instanceof TransientDataAccessException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+            // SQLSTATE class 08: connection exception
+            if (cause instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Freshness freshness(Entry entry, long now) {
+        if (entry == null) return Freshness.EXPIRED;
+
+        long age = now - entry.loadedNanos();
+        if (age < freshNanos) return Freshness.FRESH;
+        if (age < staleWhileRevalidateNanos) return Freshness.STALE;
+        if (degraded.get() && age < staleIfErrorNanos) return Freshness.DEGRADED;
+        return Freshness.EXPIRED;
+    }
+
+    private ResponseEntity.BodyBuilder served(Entry entry, Freshness freshness, long now, ResponseEntity.BodyBuilder builder) {
+        builder.header(HttpHeaders.AGE, String.valueOf(TimeUnit.NANOSECONDS.toSeconds(now - entry.loadedNanos())));
+        switch (freshness) {
+            case FRESH -> {
+                hits.increment();
+                builder.header(CACHE_HEADER, HIT);
+            }
+            case STALE -> {
+                staleHits.increment();
+                builder.header(CACHE_HEADER, STALE).header(HttpHeaders.WARNING, STALE_WARNING);
+            }
+            default -> {
+                degradedHits.increment();
+                builder.header(CACHE_HEADER, STALE).header(HttpHeaders.WARNING, REVALIDATION_FAILED_WARNING);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * The last good response in place of a failed load, if the database is unreachable and the response is
+     * recent enough; otherwise the failure itself.
+     */
+    private ResponseEntity.BodyBuilder fallback(Entry entry, Throwable ex, ResponseEntity.BodyBuilder builder) {
+        failed(ex);
+        long now = nanoClock.getAsLong();
+        if (entry != null && freshness(entry, now) == Freshness.DEGRADED) {
+            return served(entry, Freshness.DEGRADED, now, builder);
+        }
+        if (ex instanceof RuntimeException runtime) throw runtime;
+        if (ex instanceof Error error) throw error;
+        throw new CompletionException(ex);
+    }
+
+    /**
+     * Refresh a stale response in the background, once per response; while degraded, once at a time overall.
+     */
+    private <T> void refresh(String key, Entry entry, Freshness freshness, Supplier<CompletableFuture<T>> load) {
+        boolean probe = freshness == Freshness.DEGRADED;
+        if (probe && !probing.compareAndSet(false, true)) return;
+        if (!entry.refreshing().compareAndSet(false, true)) {
+            if (probe) probing.set(false);
+            return;
+        }
+
+        long loadGeneration = generation();
+        CompletableFuture<T> loading;
+        try {
+            loading = load.get();
+        } catch (RuntimeException ex) {
+            loading = CompletableFuture.failedFuture(ex);
+        }
+        loading.whenComplete((value, ex) -> {
+            if (probe) probing.set(false);
+            if (ex == null) {
+                refreshed.increment();
+                loaded(key, value, loadGeneration);
+            } else {
+                refreshFailures.increment();
+                entry.refreshing().set(false);
+                failed(unwrap(ex));
+                log.debug("Refreshing the cached response of {} failed", key, ex);
+            }
+        });
+    }
+
+    /** Stream a response into memory on a refresh thread */
+    private CompletableFuture<byte[]> buffer(Supplier<StreamingResponseBody> body) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                CachingOutputStream buffer = new CachingOutputStream(OutputStream.nullOutputStream(), maxEntryBytes);
+                try {
+                    body.get().writeTo(buffer);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return buffer.cached();
+            }, command -> refreshExecutor.execute(taskDecorator.decorate(command)));
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private void loaded(String key, Object value, long loadGeneration) {
+        if (degraded.compareAndSet(true, false)) {
+            log.info("The database answers again: serving fresh responses");
+        }
+        if (value == null) return;
+
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                entries.put(key, new Entry(value, nanoClock.getAsLong(), new AtomicBoolean()));
+            }
+        }
+    }
+
+    private void failed(Throwable ex) {
+        if (isDatabaseUnavailable(ex) && degraded.compareAndSet(false, true)) {
+            log.warn("The database cannot be reached: serving cached responses up to {}s stale",
+                    TimeUnit.NANOSECONDS.toSeconds(staleIfErrorNanos - freshNanos), ex);
+        }
+    }
+
+    private synchronized Entry lookup(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    private static String key(String kind) {
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        String query = request.getQueryString();
+        return kind + " " + request.getRequestURI() + (query == null ? "" : "?" + query);
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(REQUESTS_COUNTER)
+                .description("Cacheable read requests by how they were served")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter refreshes(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(REFRESHES_COUNTER)
+                .description("Background refreshes of stale responses")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private enum Freshness { FRESH, STALE, DEGRADED, EXPIRED }
+
+    private record Entry(Object value, long loadedNanos, AtomicBoolean refreshing) {
+    }
+
+    /** Passes the bytes through and keeps a copy of them, unless there are more than the limit */
+    private static final class CachingOutputStream extends FilterOutputStream {
+
+        private final long limit;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        private CachingOutputStream(OutputStream out, long limit) {
+            super(out);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            keep(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            keep(b, off, len);
+        }
+
+        private void keep(byte[] b, int off, int len) {
+            if (copy == null) return;
+            if (copy.size() + len > limit) {
+                copy = null;
+            } else {
+                copy.write(b, off, len);
+            }
+        }
+
+        /** The bytes written, or null if there were too many */
+        private byte[] cached() {
+            return copy == null ? null : copy.toByteArray();
+        }
+    }
+}
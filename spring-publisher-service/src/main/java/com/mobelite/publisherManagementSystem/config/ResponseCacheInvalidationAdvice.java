@@ -0,0 +1,38 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Empties the {@link ResponseCache} once a write request has been handled. The handler's transaction has
+ * committed by then and the client has not seen the response yet, so its next read is not served from before
+ * the write.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ResponseCacheInvalidationAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ResponseCache responseCache;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!HttpMethod.GET.equals(request.getMethod()) && !HttpMethod.HEAD.equals(request.getMethod())) {
+            responseCache.invalidateAll();
+        }
+        return body;
+    }
+}
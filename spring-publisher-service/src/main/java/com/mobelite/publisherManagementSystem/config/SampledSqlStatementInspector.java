@@ -0,0 +1,27 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs the SQL of sampled requests at INFO, within the sampler's per-second budget.
+ * Requests with debug logging enabled get every statement from Hibernate's own {@code org.hibernate.SQL} logger instead.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SampledSqlStatementInspector implements StatementInspector {
+
+    private final SqlLogSampler sampler;
+
+    @Override
+    public String inspect(String sql) {
+        if (MDC.get(RequestLoggingFilter.SQL_SAMPLED_KEY) != null && sampler.tryAcquire()) {
+            log.info("Sampled SQL: {}", sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,50 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the {@code ?fields=} sparse fieldset filter into the application ObjectMapper.
+ * Resource DTOs are bound to {@link SparseFieldsFilter#FILTER_ID} here rather than through
+ * {@code @JsonFilter}, so any other ObjectMapper keeps serializing them as plain beans.
+ */
+@Configuration
+public class SparseFieldsConfig {
+
+    @Bean
+    public Module sparseFieldsModule() {
+        return new SimpleModule("SparseFieldsModule") {
+            @Override
+            public void setupModule(SetupContext context) {
+                super.setupModule(context);
+                context.insertAnnotationIntrospector(new NopAnnotationIntrospector() {
+                    @Override
+                    public Object findFilterId(Annotated annotated) {
+                        if (annotated instanceof AnnotatedClass annotatedClass
+                                && SparseFieldsFilter.isResourceType(annotatedClass.getRawType())) {
+                            return SparseFieldsFilter.FILTER_ID;
+                        }
+                        return null;
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Serialize every field unless a request supplies its own selection.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsDefaultFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(SparseFieldsFilter.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
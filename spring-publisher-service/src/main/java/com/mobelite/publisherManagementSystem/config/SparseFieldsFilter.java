@@ -0,0 +1,65 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+
+import java.util.List;
+
+/**
+ * Jackson property filter applying a {@link FieldSelection} to the top-level resource DTOs
+ * of a response. Resources nested inside another resource (e.g. the book summaries of an
+ * author) are always written in full.
+ */
+public class SparseFieldsFilter extends SimpleBeanPropertyFilter {
+
+    public static final String FILTER_ID = "sparseFields";
+
+    private static final List<Class<?>> RESOURCE_TYPES = List.of(
+            AuthorResponseDto.class,
+            PublicationResponseDto.class,
+            PublicationSummaryResponseDto.class
+    );
+
+    private final FieldSelection selection;
+
+    public SparseFieldsFilter(FieldSelection selection) {
+        this.selection = selection;
+    }
+
+    /**
+     * Whether the given type is a resource DTO the filter applies to.
+     */
+    public static boolean isResourceType(Class<?> type) {
+        for (Class<?> resourceType : RESOURCE_TYPES) {
+            if (resourceType.isAssignableFrom(type)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator jgen, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        if (selection.includes(writer.getName()) || isNestedResource(jgen)) {
+            writer.serializeAsField(pojo, jgen, provider);
+        } else if (!jgen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, jgen, provider);
+        }
+    }
+
+    private static boolean isNestedResource(JsonGenerator jgen) {
+        JsonStreamContext context = jgen.getOutputContext().getParent();
+        while (context != null) {
+            Object value = context.getCurrentValue();
+            if (value != null && isResourceType(value.getClass())) return true;
+            context = context.getParent();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,39 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+
+/**
+ * Applies the {@code ?fields=} parameter of the current request to the Jackson output.
+ */
+@RestControllerAdvice
+public class SparseFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) return;
+
+        String[] values = servletRequest.getServletRequest().getParameterValues(FIELDS_PARAMETER);
+        if (values == null) return;
+
+        FieldSelection selection = FieldSelection.of(Arrays.asList(values));
+        if (!selection.isAll()) {
+            bodyContainer.setFilters(new SimpleFilterProvider()
+                    .addFilter(SparseFieldsFilter.FILTER_ID, new SparseFieldsFilter(selection)));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides which requests get their SQL logged and caps the number of logged statements per second.
+ * Both checks are lock-free so they can sit on the statement path.
+ */
+@Component
+public class SqlLogSampler {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double sampleRate;
+    private final int maxPerSecond;
+    private final LongSupplier nanoClock;
+    private final AtomicLong currentSecond = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger loggedThisSecond = new AtomicInteger();
+
+    @Autowired
+    public SqlLogSampler(@Value("${logging.sql-sampling.rate:0.01}") double sampleRate,
+                         @Value("${logging.sql-sampling.max-per-second:20}") int maxPerSecond) {
+        this(sampleRate, maxPerSecond, System::nanoTime);
+    }
+
+    SqlLogSampler(double sampleRate, int maxPerSecond, LongSupplier nanoClock) {
+        this.sampleRate = sampleRate;
+        this.maxPerSecond = maxPerSecond;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Whether a new request should have its statements logged.
+     */
+    public boolean sampleRequest() {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * Take one slot of the per-second budget; false once the budget of the current second is spent.
+     */
+    public boolean tryAcquire() {
+        long second = nanoClock.getAsLong() / NANOS_PER_SECOND;
+        long previous = currentSecond.get();
+        if (second != previous && currentSecond.compareAndSet(previous, second)) {
+            loggedThisSecond.set(0);
+        }
+        return loggedThisSecond.incrementAndGet() <= maxPerSecond;
+    }
+}
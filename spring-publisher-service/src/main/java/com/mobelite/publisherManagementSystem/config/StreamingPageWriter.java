@@ -0,0 +1,176 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Writes a paged list response straight to an output stream, one row at a time.
+ * The envelope and page metadata are produced by the application's ObjectMapper from the same
+ * {@link ApiResponseDto} and {@link PageImpl} types the regular endpoints return, so the JSON matches theirs;
+ * only the content array is written incrementally, flushing every few rows so clients get data early.
+ */
+@Component
+public class StreamingPageWriter {
+
+    private static final String DATA_FIELD = "data";
+    private static final String CONTENT_FIELD = "content";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter valueWriter;
+    private final ObjectMapper pageMetadataMapper;
+    private final int flushEveryRows;
+
+    public StreamingPageWriter(ObjectMapper objectMapper,
+                               @Value("${streaming.list.flush-every-rows:64}") int flushEveryRows) {
+        this.objectMapper = objectMapper;
+        // Flushing after every row would turn each row into its own network chunk
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.pageMetadataMapper = objectMapper.copy().addMixIn(PageImpl.class, PageMetadataMixin.class);
+        this.flushEveryRows = Math.max(1, flushEveryRows);
+    }
+
+    /**
+     * Write a success envelope whose data is a page of the rows pushed by {@code rows}.
+     * Nothing is written before the first row (or the end of an empty page), so a query that fails up front
+     * leaves the response to the error handler. A failure after that leaves the JSON unterminated.
+     *
+     * @param rows  pushes each row of the page to the given sink; rows may be reused once written
+     * @param total total element count, only called when it cannot be derived from the page itself
+     */
+    public <T> void write(OutputStream out, String message, Pageable pageable,
+                          Consumer<Consumer<T>> rows, LongSupplier total) throws IOException {
+        JsonNode envelope = envelopeTree(message);
+        try (JsonGenerator generator = createGenerator(out)) {
+            int[] count = {0};
+            forEachRow(rows, row -> {
+                if (count[0] == 0) {
+                    startPage(generator, envelope);
+                }
+                valueWriter.writeValue(generator, row);
+                if (++count[0] % flushEveryRows == 0) {
+                    generator.flush();
+                }
+            });
+            if (count[0] == 0) {
+                startPage(generator, envelope);
+            }
+            generator.writeEndArray();
+
+            Page<?> page = PageableExecutionUtils.getPage(Collections.nCopies(count[0], null), pageable, total);
+            writeFields(generator, pageMetadataMapper.valueToTree(page));
+            generator.writeEndObject();
+            endEnvelope(generator, envelope);
+        }
+    }
+
+    /**
+     * Write a success envelope around an already materialized page.
+     */
+    public void write(OutputStream out, String message, Page<?> page) throws IOException {
+        ApiResponseDto<Page<?>> envelope = ApiResponseDto.<Page<?>>builder()
+                .success(true)
+                .message(message)
+                .data(page)
+                .build();
+
+        try (JsonGenerator generator = createGenerator(out)) {
+            valueWriter.writeValue(generator, envelope);
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // A response cut short by a failure must not be closed into valid JSON
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        return generator;
+    }
+
+    private JsonNode envelopeTree(String message) {
+        // Placeholder data keeps the field in the tree whatever the null-inclusion setting
+        ApiResponseDto<Object> envelope = ApiResponseDto.builder()
+                .success(true)
+                .message(message)
+                .data(Collections.emptyMap())
+                .build();
+        return objectMapper.valueToTree(envelope);
+    }
+
+    /** The envelope's fields before its data, then the page up to the start of its content array */
+    private void startPage(JsonGenerator generator, JsonNode envelope) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, JsonNode> field : envelope.properties()) {
+            generator.writeFieldName(field.getKey());
+            if (DATA_FIELD.equals(field.getKey())) {
+                break;
+            }
+            valueWriter.writeValue(generator, field.getValue());
+        }
+        generator.writeStartObject();
+        generator.writeFieldName(CONTENT_FIELD);
+        generator.writeStartArray();
+    }
+
+    /** The envelope's fields after its data */
+    private void endEnvelope(JsonGenerator generator, JsonNode envelope) throws IOException {
+        boolean afterData = false;
+        for (Map.Entry<String, JsonNode> field : envelope.properties()) {
+            if (afterData) {
+                generator.writeFieldName(field.getKey());
+                valueWriter.writeValue(generator, field.getValue());
+            }
+            afterData |= DATA_FIELD.equals(field.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    private <T> void forEachRow(Consumer<Consumer<T>> rows, RowWriter<T> writer) throws IOException {
+        try {
+            rows.accept(row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void writeFields(JsonGenerator generator, JsonNode node) throws IOException {
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+            generator.writeFieldName(field.getKey());
+            valueWriter.writeValue(generator, field.getValue());
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T row) throws IOException;
+    }
+
+    @JsonIgnoreProperties(CONTENT_FIELD)
+    private abstract static class PageMetadataMixin {
+    }
+}
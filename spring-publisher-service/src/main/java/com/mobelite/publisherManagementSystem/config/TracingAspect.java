@@ -0,0 +1,151 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a span around every service and repository method called through a Spring proxy,
+ * as a child of the current span (the HTTP or GraphQL request, or the caller one layer up).
+ * Spans are named {@code Class.method} and tagged with the layer, the requested page and the number of rows returned.
+ * Spring Data repositories get the same spans through {@link TracingConfig}.
+ * <p>
+ * Mappers are called once per row, and a span per row would cost more than the mapping itself, so mapper calls
+ * made inside a traced method are only counted and timed, and reported as tags of that method's span.
+ * A mapper called outside any traced method gets its own span.
+ */
+@Aspect
+@Component
+public class TracingAspect {
+
+    static final String LAYER_TAG = "app.layer";
+    static final String PAGE_NUMBER_TAG = "app.page.number";
+    static final String PAGE_SIZE_TAG = "app.page.size";
+    static final String RESULT_COUNT_TAG = "app.result.count";
+    static final String TOTAL_COUNT_TAG = "app.result.total";
+    static final String MAPPER_CALLS_TAG = "app.mapper.calls";
+    static final String MAPPER_TIME_TAG = "app.mapper.time_us";
+
+    private final Tracer tracer;
+    private final Map<Method, String> spanNames = new ConcurrentHashMap<>();
+    private final ThreadLocal<MapperTally> mapperTally = new ThreadLocal<>();
+
+    public TracingAspect(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+    }
+
+    @Around("com.mobelite.publisherManagementSystem.config.MethodTimingAspect.serviceLayer()")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace("service", spanName(joinPoint), joinPoint.getArgs(), joinPoint::proceed);
+    }
+
+    @Around("com.mobelite.publisherManagementSystem.config.MethodTimingAspect.repositoryLayer()")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace("repository", spanName(joinPoint), joinPoint.getArgs(), joinPoint::proceed);
+    }
+
+    @Around("com.mobelite.publisherManagementSystem.config.MethodTimingAspect.mapperLayer()")
+    public Object traceMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        MapperTally tally = mapperTally.get();
+        if (tally == null) {
+            return trace("mapper", spanName(joinPoint), joinPoint.getArgs(), joinPoint::proceed);
+        }
+        if (tally.inMapper) {
+            // Nested mapper (MapStruct "uses"), already timed by the outer call
+            return joinPoint.proceed();
+        }
+        tally.inMapper = true;
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            tally.nanos += System.nanoTime() - start;
+            tally.calls++;
+            tally.inMapper = false;
+        }
+    }
+
+    /**
+     * Run the invocation inside a new span, so that spans and logs written by the callee are parented to it.
+     */
+    Object trace(String layer, String name, Object[] args, Invocation invocation) throws Throwable {
+        Span span = tracer.nextSpan().name(name).tag(LAYER_TAG, layer);
+        tagArguments(span, args);
+        MapperTally outerTally = mapperTally.get();
+        MapperTally tally = new MapperTally();
+        mapperTally.set(tally);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span.start())) {
+            Object result = invocation.proceed();
+            tagResult(span, result);
+            return result;
+        } catch (Throwable ex) {
+            span.error(ex);
+            throw ex;
+        } finally {
+            if (outerTally == null) {
+                mapperTally.remove();
+            } else {
+                mapperTally.set(outerTally);
+            }
+            if (tally.calls > 0) {
+                span.tag(MAPPER_CALLS_TAG, tally.calls);
+                span.tag(MAPPER_TIME_TAG, TimeUnit.NANOSECONDS.toMicros(tally.nanos));
+            }
+            span.end();
+        }
+    }
+
+    private String spanName(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String name = spanNames.get(method);
+        if (name == null) {
+            name = spanNames.computeIfAbsent(method, key -> key.getDeclaringClass().getSimpleName() + "." + key.getName());
+        }
+        return name;
+    }
+
+    private static void tagArguments(Span span, Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof Pageable pageable && pageable.isPaged()) {
+                span.tag(PAGE_NUMBER_TAG, pageable.getPageNumber());
+                span.tag(PAGE_SIZE_TAG, pageable.getPageSize());
+            }
+        }
+    }
+
+    private static void tagResult(Span span, Object result) {
+        if (result instanceof Page<?> page) {
+            span.tag(RESULT_COUNT_TAG, page.getNumberOfElements());
+            span.tag(TOTAL_COUNT_TAG, page.getTotalElements());
+        } else if (result instanceof Collection<?> collection) {
+            span.tag(RESULT_COUNT_TAG, collection.size());
+        }
+    }
+
+    /**
+     * Mapper calls made so far by the traced method running on this thread.
+     */
+    private static final class MapperTally {
+        private int calls;
+        private long nanos;
+        private boolean inMapper;
+    }
+
+    @FunctionalInterface
+    interface Invocation {
+        Object proceed() throws Throwable;
+    }
+}
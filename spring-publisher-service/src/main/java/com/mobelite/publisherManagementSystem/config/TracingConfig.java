@@ -0,0 +1,76 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracing that is not covered by Spring Boot's auto-configuration or {@link TracingAspect}.
+ * HTTP, GraphQL and JDBC spans come from their observations; sampling is configured through
+ * {@code management.tracing.sampling.probability}.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Carries the current trace (and MDC) into the application task executor, which also runs streamed responses.
+     */
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    /**
+     * Writes spans to a local JSON-lines file; off by default.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.export.file.enabled", havingValue = "true")
+    public JsonLinesSpanExporter jsonLinesSpanExporter(
+            @Value("${tracing.export.file.path:traces/spans.jsonl}") Path path) throws IOException {
+        return new JsonLinesSpanExporter(path);
+    }
+
+    /**
+     * Adds a span around every Spring Data repository method, named after the repository interface.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryTracingPostProcessor(ObjectProvider<TracingAspect> tracingAspect) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repository) -> proxyFactory.addAdvice(
+                                    repositoryInterceptor(tracingAspect, repository.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static MethodInterceptor repositoryInterceptor(ObjectProvider<TracingAspect> tracingAspect,
+                                                           Class<?> repositoryInterface) {
+        Map<Method, String> spanNames = new ConcurrentHashMap<>();
+        return invocation -> {
+            if (invocation.getMethod().getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            String name = spanNames.computeIfAbsent(invocation.getMethod(),
+                    method -> repositoryInterface.getSimpleName() + "." + method.getName());
+            return tracingAspect.getObject().trace("repository", name, invocation.getArguments(), invocation::proceed);
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * How many requests of one endpoint may run at once, estimated from their latency in the style of TCP Vegas.
+ * <p>
+ * The lowest latency seen is taken as the endpoint's latency without queuing. A request that took longer spent
+ * the difference waiting (for a thread, a connection or a slow database), so {@code limit * (1 - noLoad / latency)}
+ * estimates how many requests are queued. The limit grows while that queue is short, and shrinks by
+ * {@code log10(limit)} per sample while it is long. The no-load latency is re-measured from a single sample every
+ * {@value #PROBE_MULTIPLIER} times the limit samples (with jitter), so a lasting change in the endpoint's own
+ * latency, such as a slower database, becomes the new reference and the limit settles near what it can serve.
+ * Samples taken while less than half the limit was in use say nothing about the capacity and are ignored.
+ * Admission is lock-free; samples are folded in under a lock.
+ */
+public class VegasConcurrencyLimit {
+
+    static final int PROBE_MULTIPLIER = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    private double estimatedLimit;
+    private long noLoadRttNanos;
+    private long samplesUntilProbe;
+
+    public VegasConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    VegasConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, LongSupplier nanoClock) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.nanoClock = nanoClock;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+        scheduleProbe();
+    }
+
+    /**
+     * Admit a request if fewer than the limit are running.
+     * @return the permit to release when the request completes, or {@code null} when the limit is reached
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(nanoClock.getAsLong(), current + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        long rtt = Math.max(1, rttNanos);
+        if (--samplesUntilProbe <= 0) {
+            scheduleProbe();
+            noLoadRttNanos = rtt;
+            return;
+        }
+        if (noLoadRttNanos == 0 || rtt < noLoadRttNanos) {
+            noLoadRttNanos = rtt;
+            return;
+        }
+        if (inFlightAtStart * 2 < estimatedLimit) {
+            return;
+        }
+
+        double step = Math.log10(Math.max(10, estimatedLimit));
+        double queued = Math.ceil(estimatedLimit * (1 - (double) noLoadRttNanos / rtt));
+        double newLimit;
+        if (queued <= step) {
+            newLimit = estimatedLimit + 6 * step;
+        } else if (queued < 3 * step) {
+            newLimit = estimatedLimit + step;
+        } else if (queued > 6 * step) {
+            newLimit = estimatedLimit - step;
+        } else {
+            return;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    private void scheduleProbe() {
+        samplesUntilProbe = (long) (PROBE_MULTIPLIER * estimatedLimit * ThreadLocalRandom.current().nextDouble(0.5, 1.0));
+    }
+
+    /**
+     * A running request. Release it exactly once, when the request completes.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * @param sample whether the request's latency says something about the endpoint's capacity;
+         *               failed and rejected requests do not
+         */
+        public void release(boolean sample) {
+            inFlight.decrementAndGet();
+            if (sample) {
+                onSample(nanoClock.getAsLong() - startNanos, inFlightAtStart);
+            }
+        }
+    }
+}
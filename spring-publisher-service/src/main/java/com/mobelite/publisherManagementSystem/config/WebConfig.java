@@ -1,9 +1,11 @@
 package com.mobelite.publisherManagementSystem.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -25,4 +27,17 @@ public class WebConfig {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Puts the API endpoints behind their adaptive concurrency limits, unless {@code concurrency.limit.enabled=false}.
+     */
+    @Bean
+    public WebMvcConfigurer concurrencyLimitConfigurer(ObjectProvider<AdaptiveConcurrencyLimitInterceptor> interceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                interceptor.ifAvailable(limit -> registry.addInterceptor(limit).addPathPatterns("/api/**"));
+            }
+        };
+    }
+}
@@ -13,11 +13,19 @@ import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.mobelite.publisherManagementSystem.config.BulkheadRegistry;
+import com.mobelite.publisherManagementSystem.config.PriorityScheduler;
+import com.mobelite.publisherManagementSystem.config.ResponseCache;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.author.AuthorRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.author.AuthorResponseDto;
+import com.mobelite.publisherManagementSystem.enums.RequestPriority;
 import com.mobelite.publisherManagementSystem.service.AuthorService;
 
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 
 /**
  * REST Controller for Author operations.
@@ -31,6 +39,9 @@ import com.mobelite.publisherManagementSystem.service.AuthorService;
 public class AuthorController {
 
     private final AuthorService authorService;
+    private final BulkheadRegistry bulkheads;
+    private final PriorityScheduler priorityScheduler;
+    private final ResponseCache responseCache;
 
     @Operation(summary = "Create a new author", description = "Creates a new author with the provided information")
     @PostMapping
@@ -50,28 +61,33 @@ public class AuthorController {
 
     @Operation(summary = "Get author by ID", description = "Retrieves an author by their unique identifier")
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponseDto<AuthorResponseDto>> getAuthorById(
-            @Parameter(description = "Author ID") @PathVariable Long id) {
-
-        AuthorResponseDto author = authorService.getAuthorById(id);
-
-        ApiResponseDto<AuthorResponseDto> response = ApiResponseDto.<AuthorResponseDto>builder()
-                .success(true)
-                .message("Author retrieved successfully")
-                .data(author)
-                .build();
-
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<ApiResponseDto<AuthorResponseDto>>> getAuthorById(
+            @Parameter(description = "Author ID") @PathVariable Long id,
+            @Parameter(description = "Comma-separated list of fields to return (all when omitted)") @RequestParam(required = false) Set<String> fields) {
+        return responseCache.get(() -> priorityScheduler.supplyAsync(RequestPriority.INTERACTIVE, () -> {
+            AuthorResponseDto author = authorService.getAuthorById(id, FieldSelection.of(fields));
+
+            ApiResponseDto<AuthorResponseDto> response = ApiResponseDto.<AuthorResponseDto>builder()
+                    .success(true)
+                    .message("Author retrieved successfully")
+                    .data(author)
+                    .build();
+
+            return response;
+        }));
     }
 
     @Operation(summary = "Get all authors", description = "Retrieves all authors without pagination")
     @GetMapping
-    public ResponseEntity<ApiResponseDto<Page<AuthorResponseDto>>> getAllAuthors(
-            @PageableDefault(size = 20, sort = "name") Pageable pageable
+    public CompletableFuture<ResponseEntity<ApiResponseDto<Page<AuthorResponseDto>>>> getAllAuthors(
+            @PageableDefault(size = 20, sort = "name") Pageable pageable,
+            @Parameter(description = "Comma-separated list of fields to return (all when omitted)") @RequestParam(required = false) Set<String> fields
     ) {
-        Page<AuthorResponseDto> response = authorService.getAllAuthors(pageable);
+        return responseCache.get(() -> bulkheads.get(BulkheadRegistry.AUTHORS).supplyAsync(() -> {
+            Page<AuthorResponseDto> response = authorService.getAllAuthors(pageable, FieldSelection.of(fields));
 
-        return  ResponseEntity.ok(ApiResponseDto.success(response));
+            return ApiResponseDto.success(response);
+        }));
     }
 
     @Operation(summary = "Delete author by ID", description = "Deletes an author by their unique identifier")
@@ -7,17 +7,27 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.mobelite.publisherManagementSystem.config.PriorityScheduler;
+import com.mobelite.publisherManagementSystem.config.ResponseCache;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.book.BookCreateRequestDto;
 import com.mobelite.publisherManagementSystem.dto.request.book.BookUpdateRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.book.BookResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.book.BookSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.enums.RequestPriority;
 import com.mobelite.publisherManagementSystem.service.BookService;
+import com.mobelite.publisherManagementSystem.service.CatalogStreamService;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST Controller for Book entity operations.
@@ -31,6 +41,9 @@ import com.mobelite.publisherManagementSystem.service.BookService;
 public class BookController {
 
     private final BookService bookService;
+    private final CatalogStreamService catalogStreamService;
+    private final PriorityScheduler priorityScheduler;
+    private final ResponseCache responseCache;
 
     @PostMapping
     @Operation(summary = "Create a new book", description = "Creates a new book in the library system")
@@ -67,67 +80,94 @@ public class BookController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get book by ID", description = "Retrieves a book by its unique identifier")
-    public ResponseEntity<ApiResponseDto<BookResponseDto>> getBookById(
-            @Parameter(description = "Book ID") @PathVariable Long id) {
-
-        BookResponseDto book = bookService.getBookById(id);
-
-        ApiResponseDto<BookResponseDto> response = ApiResponseDto.<BookResponseDto>builder()
-                .success(true)
-                .message("Book retrieved successfully")
-                .data(book)
-                .build();
-
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<ApiResponseDto<BookResponseDto>>> getBookById(
+            @Parameter(description = "Book ID") @PathVariable Long id,
+            @Parameter(description = "Comma-separated list of fields to return (all when omitted)") @RequestParam(required = false) Set<String> fields) {
+        return responseCache.get(() -> priorityScheduler.supplyAsync(RequestPriority.INTERACTIVE, () -> {
+            BookResponseDto book = bookService.getBookById(id, FieldSelection.of(fields));
+
+            ApiResponseDto<BookResponseDto> response = ApiResponseDto.<BookResponseDto>builder()
+                    .success(true)
+                    .message("Book retrieved successfully")
+                    .data(book)
+                    .build();
+
+            return response;
+        }));
     }
 
     @GetMapping("/isbn/{isbn}")
     @Operation(summary = "Get book by ISBN", description = "Retrieves a book by its ISBN")
-    public ResponseEntity<ApiResponseDto<BookResponseDto>> getBookByIsbn(
-            @Parameter(description = "Book ISBN") @PathVariable String isbn) {
-
-        BookResponseDto book = bookService.getBookByIsbn(isbn);
-
-        ApiResponseDto<BookResponseDto> response = ApiResponseDto.<BookResponseDto>builder()
-                .success(true)
-                .message("Book retrieved successfully")
-                .data(book)
-                .build();
-
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<ApiResponseDto<BookResponseDto>>> getBookByIsbn(
+            @Parameter(description = "Book ISBN") @PathVariable String isbn,
+            @Parameter(description = "Comma-separated list of fields to return (all when omitted)") @RequestParam(required = false) Set<String> fields) {
+        return responseCache.get(() -> priorityScheduler.supplyAsync(RequestPriority.INTERACTIVE, () -> {
+            BookResponseDto book = bookService.getBookByIsbn(isbn, FieldSelection.of(fields));
+
+            ApiResponseDto<BookResponseDto> response = ApiResponseDto.<BookResponseDto>builder()
+                    .success(true)
+                    .message("Book retrieved successfully")
+                    .data(book)
+                    .build();
+
+            return response;
+        }));
     }
 
     @GetMapping
     @Operation(summary = "Get all books", description = "Retrieves all books with pagination")
-    public ResponseEntity<ApiResponseDto<Page<BookResponseDto>>> getAllBooks(
-            @PageableDefault(size = 20, sort = "title") Pageable pageable) {
-
-        Page<BookResponseDto> books = bookService.getAllBooks(pageable);
+    public CompletableFuture<ResponseEntity<ApiResponseDto<Page<BookResponseDto>>>> getAllBooks(
+            @PageableDefault(size = 20, sort = "title") Pageable pageable,
+            @Parameter(description = "Comma-separated list of fields to return (all when omitted)") @RequestParam(required = false) Set<String> fields) {
+        return responseCache.get(() -> priorityScheduler.supplyAsync(RequestPriority.BULK, () -> {
+            Page<BookResponseDto> books = bookService.getAllBooks(pageable, FieldSelection.of(fields));
+
+            ApiResponseDto<Page<BookResponseDto>> response = ApiResponseDto.<Page<BookResponseDto>>builder()
+                    .success(true)
+                    .message("Books retrieved successfully")
+                    .data(books)
+                    .build();
+
+            return response;
+        }));
+    }
 
-        ApiResponseDto<Page<BookResponseDto>> response = ApiResponseDto.<Page<BookResponseDto>>builder()
-                .success(true)
-                .message("Books retrieved successfully")
-                .data(books)
-                .build();
+    @GetMapping(params = {"!fields", "!view"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get all books (streamed)", description = "Retrieves all books with pagination, writing rows as they are read")
+    public ResponseEntity<StreamingResponseBody> streamAllBooks(
+            @PageableDefault(size = 20, sort = "title") Pageable pageable) {
 
-        return ResponseEntity.ok(response);
+        return responseCache.stream(() -> priorityScheduler
+                .stream(RequestPriority.BULK, () -> catalogStreamService.streamAllBooks(pageable, "Books retrieved successfully")));
     }
 
     @GetMapping("/author/{authorId}")
     @Operation(summary = "Get books by author", description = "Retrieves books by author ID")
-    public ResponseEntity<ApiResponseDto<Page<BookSummaryResponseDto>>> getBooksByAuthor(
+    public CompletableFuture<ResponseEntity<ApiResponseDto<Page<BookSummaryResponseDto>>>> getBooksByAuthor(
             @Parameter(description = "Author ID") @PathVariable Long authorId,
-            @PageableDefault(size = 20, sort = "title") Pageable pageable) {
-
-        Page<BookSummaryResponseDto> books = bookService.getBooksByAuthor(authorId, pageable);
+            @PageableDefault(size = 20, sort = "title") Pageable pageable,
+            @Parameter(description = "Comma-separated list of fields to return (all when omitted)") @RequestParam(required = false) Set<String> fields) {
+        return responseCache.get(() -> priorityScheduler.supplyAsync(RequestPriority.BULK, () -> {
+            Page<BookSummaryResponseDto> books = bookService.getBooksByAuthor(authorId, pageable, FieldSelection.of(fields));
+
+            ApiResponseDto<Page<BookSummaryResponseDto>> response = ApiResponseDto.<Page<BookSummaryResponseDto>>builder()
+                    .success(true)
+                    .message("Books by author retrieved successfully")
+                    .data(books)
+                    .build();
+
+            return response;
+        }));
+    }
 
-        ApiResponseDto<Page<BookSummaryResponseDto>> response = ApiResponseDto.<Page<BookSummaryResponseDto>>builder()
-                .success(true)
-                .message("Books by author retrieved successfully")
-                .data(books)
-                .build();
+    @GetMapping(value = "/author/{authorId}", params = {"!fields", "!view"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get books by author (streamed)", description = "Retrieves books by author ID, writing rows as they are read")
+    public ResponseEntity<StreamingResponseBody> streamBooksByAuthor(
+            @Parameter(description = "Author ID") @PathVariable Long authorId,
+            @PageableDefault(size = 20, sort = "title") Pageable pageable) {
 
-        return ResponseEntity.ok(response);
+        return responseCache.stream(() -> priorityScheduler
+                .stream(RequestPriority.BULK, () -> catalogStreamService.streamBooksByAuthor(authorId, pageable, "Books by author retrieved successfully")));
     }
 
     @DeleteMapping("/{id}")
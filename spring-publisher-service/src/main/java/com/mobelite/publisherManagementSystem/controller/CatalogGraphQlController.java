@@ -0,0 +1,120 @@
+package com.mobelite.publisherManagementSystem.controller;
+
+import com.mobelite.publisherManagementSystem.dto.response.graph.AuthorNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.BookNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.MagazineNodeDto;
+import com.mobelite.publisherManagementSystem.service.CatalogGraphService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GraphQL Controller for the read-only catalogue graph ({@code /graphql}).
+ * Associations are {@link BatchMapping}s, so Spring registers a per-request DataLoader for each
+ * and a query costs one database round trip per association level, however many parents it has.
+ */
+@Controller
+@RequiredArgsConstructor
+public class CatalogGraphQlController {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final CatalogGraphService catalogGraphService;
+
+    @QueryMapping
+    public AuthorNodeDto author(@Argument Long id) {
+        return catalogGraphService.getAuthor(id);
+    }
+
+    @QueryMapping
+    public List<AuthorNodeDto> authors(@Argument int page, @Argument int size) {
+        return catalogGraphService.getAuthors(pageOf(page, size));
+    }
+
+    @QueryMapping
+    public BookNodeDto book(@Argument Long id) {
+        return catalogGraphService.getBook(id);
+    }
+
+    @QueryMapping
+    public BookNodeDto bookByIsbn(@Argument String isbn) {
+        return catalogGraphService.getBookByIsbn(isbn);
+    }
+
+    @QueryMapping
+    public List<BookNodeDto> books(@Argument int page, @Argument int size) {
+        return catalogGraphService.getBooks(pageOf(page, size));
+    }
+
+    @QueryMapping
+    public MagazineNodeDto magazine(@Argument Long id) {
+        return catalogGraphService.getMagazine(id);
+    }
+
+    @QueryMapping
+    public List<MagazineNodeDto> magazines(@Argument int page, @Argument int size) {
+        return catalogGraphService.getMagazines(pageOf(page, size));
+    }
+
+    @BatchMapping(typeName = "Book", field = "author")
+    public Map<BookNodeDto, AuthorNodeDto> bookAuthor(List<BookNodeDto> books) {
+        Set<Long> authorIds = books.stream()
+                .map(BookNodeDto::getAuthorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, AuthorNodeDto> authors = catalogGraphService.getAuthorsByIds(authorIds);
+
+        Map<BookNodeDto, AuthorNodeDto> result = new LinkedHashMap<>();
+        for (BookNodeDto book : books) {
+            AuthorNodeDto author = authors.get(book.getAuthorId());
+            if (author != null) {
+                result.put(book, author);
+            }
+        }
+        return result;
+    }
+
+    @BatchMapping(typeName = "Author", field = "books")
+    public Map<AuthorNodeDto, List<BookNodeDto>> authorBooks(List<AuthorNodeDto> authors) {
+        Map<Long, List<BookNodeDto>> books = catalogGraphService.getBooksByAuthorIds(idsOf(authors, AuthorNodeDto::getId));
+        return authors.stream().collect(Collectors.toMap(
+                author -> author, author -> books.getOrDefault(author.getId(), List.of()), (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @BatchMapping(typeName = "Author", field = "magazines")
+    public Map<AuthorNodeDto, List<MagazineNodeDto>> authorMagazines(List<AuthorNodeDto> authors) {
+        Map<Long, List<MagazineNodeDto>> magazines = catalogGraphService.getMagazinesByAuthorIds(idsOf(authors, AuthorNodeDto::getId));
+        return authors.stream().collect(Collectors.toMap(
+                author -> author, author -> magazines.getOrDefault(author.getId(), List.of()), (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @BatchMapping(typeName = "Magazine", field = "authors")
+    public Map<MagazineNodeDto, List<AuthorNodeDto>> magazineAuthors(List<MagazineNodeDto> magazines) {
+        Map<Long, List<AuthorNodeDto>> authors = catalogGraphService.getAuthorsByMagazineIds(idsOf(magazines, MagazineNodeDto::getId));
+        return magazines.stream().collect(Collectors.toMap(
+                magazine -> magazine, magazine -> authors.getOrDefault(magazine.getId(), List.of()), (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private static Pageable pageOf(int page, int size) {
+        return PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), Sort.by("id"));
+    }
+
+    private static <T> Set<Long> idsOf(List<T> nodes, Function<T, Long> id) {
+        return nodes.stream().map(id).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,80 @@
+package com.mobelite.publisherManagementSystem.controller;
+
+import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.fixture.FixtureDatasetResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.fixture.FixtureSnapshotResponseDto;
+import com.mobelite.publisherManagementSystem.service.FixtureService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for test fixtures.
+ * Lets test suites seed datasets in bulk and snapshot / restore the catalog.
+ * Only registered with the {@code fixtures} profile: never enable it where the data matters.
+ */
+@RestController
+@RequestMapping("/api/v1/test/fixtures")
+@Profile("fixtures")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Test Fixtures", description = "Bulk seeding and snapshot restore for test suites (fixtures profile only)")
+public class FixtureController {
+
+    private final FixtureService fixtureService;
+
+    @Operation(summary = "Seed a dataset", description = "Inserts a named dataset (smoke, ui or catalog) in bulk")
+    @PostMapping("/datasets/{dataset}")
+    public ResponseEntity<ApiResponseDto<FixtureDatasetResponseDto>> seedDataset(
+            @Parameter(description = "Dataset name") @PathVariable String dataset) {
+
+        FixtureDatasetResponseDto seeded = fixtureService.seedDataset(dataset);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponseDto.success(seeded, "Dataset seeded successfully"));
+    }
+
+    @Operation(summary = "Get snapshots", description = "Lists the names of the catalog snapshots")
+    @GetMapping("/snapshots")
+    public ResponseEntity<ApiResponseDto<List<String>>> getSnapshots() {
+        return ResponseEntity.ok(ApiResponseDto.success(fixtureService.getSnapshotNames()));
+    }
+
+    @Operation(summary = "Create a snapshot", description = "Snapshots the catalog, replacing a snapshot of the same name")
+    @PutMapping("/snapshots/{name}")
+    public ResponseEntity<ApiResponseDto<FixtureSnapshotResponseDto>> createSnapshot(
+            @Parameter(description = "Snapshot name") @PathVariable String name) {
+
+        FixtureSnapshotResponseDto snapshot = fixtureService.createSnapshot(name);
+
+        return ResponseEntity.ok(ApiResponseDto.success(snapshot, "Snapshot created successfully"));
+    }
+
+    @Operation(summary = "Restore a snapshot", description = "Replaces the catalog with the snapshot's content")
+    @PostMapping("/snapshots/{name}/restore")
+    public ResponseEntity<ApiResponseDto<FixtureSnapshotResponseDto>> restoreSnapshot(
+            @Parameter(description = "Snapshot name") @PathVariable String name) {
+
+        FixtureSnapshotResponseDto snapshot = fixtureService.restoreSnapshot(name);
+
+        return ResponseEntity.ok(ApiResponseDto.success(snapshot, "Snapshot restored successfully"));
+    }
+
+    @Operation(summary = "Delete a snapshot", description = "Deletes a catalog snapshot")
+    @DeleteMapping("/snapshots/{name}")
+    public ResponseEntity<ApiResponseDto<Void>> deleteSnapshot(
+            @Parameter(description = "Snapshot name") @PathVariable String name) {
+
+        fixtureService.deleteSnapshot(name);
+
+        return ResponseEntity.ok(ApiResponseDto.success(null, "Snapshot deleted successfully"));
+    }
+}
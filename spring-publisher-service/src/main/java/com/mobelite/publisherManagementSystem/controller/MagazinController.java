@@ -1,9 +1,14 @@
 package com.mobelite.publisherManagementSystem.controller;
 
+import com.mobelite.publisherManagementSystem.config.PriorityScheduler;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.magazine.MagazineRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.NormalizedPageDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.NormalizedMagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.enums.RequestPriority;
 import com.mobelite.publisherManagementSystem.service.MagazineService;
 
 import jakarta.validation.Valid;
@@ -22,6 +27,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * REST Controller for Magazine Management operations.
  * Provides endpoints for creating, reading, updating, and deleting magazines.
@@ -34,6 +42,7 @@ import org.springframework.web.bind.annotation.*;
 public class MagazinController {
 
     private final MagazineService magazineService;
+    private final PriorityScheduler priorityScheduler;
 
     @PostMapping
     @Operation(
@@ -80,9 +89,10 @@ public class MagazinController {
             description = "Retrieves a magazine by its unique identifier"
     )
     public ResponseEntity<ApiResponseDto<MagazineResponseDto>> getMagazineById(
-            @Parameter(description = "Magazine ID", required = true) @PathVariable Long id) {
+            @Parameter(description = "Magazine ID", required = true) @PathVariable Long id,
+            @Parameter(description = "Comma-separated list of fields to return (all when omitted)") @RequestParam(required = false) Set<String> fields) {
 
-        MagazineResponseDto magazine = magazineService.getMagazineById(id);
+        MagazineResponseDto magazine = magazineService.getMagazineById(id, FieldSelection.of(fields));
 
         ApiResponseDto<MagazineResponseDto> response = ApiResponseDto.<MagazineResponseDto>builder()
                 .success(true)
@@ -98,22 +108,48 @@ public class MagazinController {
             summary = "Get all magazines",
             description = "Retrieves all magazines with pagination and sorting support"
     )
-    public ResponseEntity<ApiResponseDto<Page<MagazineSummaryResponseDto>>> getAllMagazines(
+    public CompletableFuture<ResponseEntity<ApiResponseDto<Page<MagazineSummaryResponseDto>>>> getAllMagazines(
             @Parameter(description = "Page number (0-based)", example = "0") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of items per page", example = "10") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort by field", example = "title") @RequestParam(defaultValue = "title") String sortBy,
-            @Parameter(description = "Sort direction (ASC/DESC)", example = "ASC") @RequestParam(defaultValue = "ASC") Sort.Direction sortDirection) {
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        Page<MagazineSummaryResponseDto> magazines = magazineService.getAllMagazines(pageable);
-
-        ApiResponseDto<Page<MagazineSummaryResponseDto>> response = ApiResponseDto.<Page<MagazineSummaryResponseDto>>builder()
-                .success(true)
-                .message("Magazines retrieved successfully")
-                .data(magazines)
-                .build();
+            @Parameter(description = "Sort direction (ASC/DESC)", example = "ASC") @RequestParam(defaultValue = "ASC") Sort.Direction sortDirection,
+            @Parameter(description = "Comma-separated list of fields to return (all when omitted)") @RequestParam(required = false) Set<String> fields) {
+        return priorityScheduler.supplyAsync(RequestPriority.BULK, () -> {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+            Page<MagazineSummaryResponseDto> magazines = magazineService.getAllMagazines(pageable, FieldSelection.of(fields));
+
+            ApiResponseDto<Page<MagazineSummaryResponseDto>> response = ApiResponseDto.<Page<MagazineSummaryResponseDto>>builder()
+                    .success(true)
+                    .message("Magazines retrieved successfully")
+                    .data(magazines)
+                    .build();
+
+            return ResponseEntity.ok(response);
+        });
+    }
 
-        return ResponseEntity.ok(response);
+    @GetMapping(params = "view=normalized")
+    @Operation(
+            summary = "Get all magazines (normalized)",
+            description = "Retrieves all magazines with pagination; magazines reference authors by ID and each author is listed once in 'authors'"
+    )
+    public CompletableFuture<ResponseEntity<ApiResponseDto<NormalizedPageDto<NormalizedMagazineSummaryResponseDto>>>> getAllMagazinesNormalized(
+            @Parameter(description = "Page number (0-based)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort by field", example = "title") @RequestParam(defaultValue = "title") String sortBy,
+            @Parameter(description = "Sort direction (ASC/DESC)", example = "ASC") @RequestParam(defaultValue = "ASC") Sort.Direction sortDirection) {
+        return priorityScheduler.supplyAsync(RequestPriority.BULK, () -> {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+            NormalizedPageDto<NormalizedMagazineSummaryResponseDto> magazines = magazineService.getAllMagazinesNormalized(pageable);
+
+            ApiResponseDto<NormalizedPageDto<NormalizedMagazineSummaryResponseDto>> response = ApiResponseDto.<NormalizedPageDto<NormalizedMagazineSummaryResponseDto>>builder()
+                    .success(true)
+                    .message("Magazines retrieved successfully")
+                    .data(magazines)
+                    .build();
+
+            return ResponseEntity.ok(response);
+        });
     }
 
     @DeleteMapping("/{id}")
@@ -1,9 +1,16 @@
 package com.mobelite.publisherManagementSystem.controller;
 
+import com.mobelite.publisherManagementSystem.config.BulkheadRegistry;
+import com.mobelite.publisherManagementSystem.config.PriorityScheduler;
+import com.mobelite.publisherManagementSystem.config.ResponseCache;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.NormalizedPageDto;
 import com.mobelite.publisherManagementSystem.dto.response.publication.GroupedPublicationsResponse;
 import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.enums.RequestPriority;
+import com.mobelite.publisherManagementSystem.service.CatalogStreamService;
 import com.mobelite.publisherManagementSystem.service.PublicationService;
 
 import lombok.RequiredArgsConstructor;
@@ -16,8 +23,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST Controller for Publication entity operations.
@@ -31,65 +43,132 @@ import org.springframework.web.bind.annotation.*;
 public class PublicationController {
 
     private final PublicationService publicationService;
+    private final CatalogStreamService catalogStreamService;
+    private final BulkheadRegistry bulkheads;
+    private final PriorityScheduler priorityScheduler;
+    private final ResponseCache responseCache;
 
     @GetMapping("/{id}")
     @Operation(summary = "Get publication by ID", description = "Retrieves a publication by its ID")
-    public ResponseEntity<ApiResponseDto<PublicationResponseDto>> getPublicationById(
-            @Parameter(description = "Publication ID") @PathVariable Long id) {
-        PublicationResponseDto response = publicationService.getPublicationById(id);
-
-        ApiResponseDto<PublicationResponseDto> apiResponse = ApiResponseDto.<PublicationResponseDto>builder()
-                .success(true)
-                .message("Publication retrieved successfully")
-                .data(response)
-                .build();
-
-        return ResponseEntity.ok(apiResponse);
+    public CompletableFuture<ResponseEntity<ApiResponseDto<PublicationResponseDto>>> getPublicationById(
+            @Parameter(description = "Publication ID") @PathVariable Long id,
+            @Parameter(description = "Comma-separated list of fields to return (all when omitted)") @RequestParam(required = false) Set<String> fields) {
+        return responseCache.get(() -> priorityScheduler.supplyAsync(RequestPriority.INTERACTIVE, () -> {
+            PublicationResponseDto response = publicationService.getPublicationById(id, FieldSelection.of(fields));
+
+            ApiResponseDto<PublicationResponseDto> apiResponse = ApiResponseDto.<PublicationResponseDto>builder()
+                    .success(true)
+                    .message("Publication retrieved successfully")
+                    .data(response)
+                    .build();
+
+            return apiResponse;
+        }));
     }
 
     @GetMapping
     @Operation(summary = "Get all publications", description = "Retrieves all publications with pagination")
-    public ResponseEntity<ApiResponseDto<Page<PublicationSummaryResponseDto>>> getAllPublications(
+    public CompletableFuture<ResponseEntity<ApiResponseDto<Page<PublicationSummaryResponseDto>>>> getAllPublications(
+            @PageableDefault(size = 20, sort = "title") Pageable pageable,
+            @Parameter(description = "Comma-separated list of fields to return (all when omitted)") @RequestParam(required = false) Set<String> fields) {
+        return responseCache.get(() -> priorityScheduler.supplyAsync(RequestPriority.BULK, () -> {
+            Page<PublicationSummaryResponseDto> response = publicationService.getAllPublications(pageable, FieldSelection.of(fields));
+
+            ApiResponseDto<Page<PublicationSummaryResponseDto>> apiResponse = ApiResponseDto.<Page<PublicationSummaryResponseDto>>builder()
+                    .success(true)
+                    .message("Publications retrieved successfully")
+                    .data(response)
+                    .build();
+
+            return apiResponse;
+        }));
+    }
+
+    @GetMapping(params = {"!fields", "!view"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get all publications (streamed)", description = "Retrieves all publications with pagination, writing rows as they are read")
+    public ResponseEntity<StreamingResponseBody> streamAllPublications(
             @PageableDefault(size = 20, sort = "title") Pageable pageable) {
-        Page<PublicationSummaryResponseDto> response = publicationService.getAllPublications(pageable);
+        return responseCache.stream(() -> priorityScheduler
+                .stream(RequestPriority.BULK, () -> catalogStreamService.streamAllPublications(pageable, "Publications retrieved successfully")));
+    }
 
-        ApiResponseDto<Page<PublicationSummaryResponseDto>> apiResponse = ApiResponseDto.<Page<PublicationSummaryResponseDto>>builder()
-                .success(true)
-                .message("Publications retrieved successfully")
-                .data(response)
-                .build();
+    @GetMapping(params = "view=normalized")
+    @Operation(summary = "Get all publications (normalized)", description = "Retrieves all publications with pagination; magazines reference authors by ID and each author is listed once in 'authors'")
+    public CompletableFuture<ResponseEntity<ApiResponseDto<NormalizedPageDto<PublicationSummaryResponseDto>>>> getAllPublicationsNormalized(
+            @PageableDefault(size = 20, sort = "title") Pageable pageable) {
+        return responseCache.get(() -> priorityScheduler.supplyAsync(RequestPriority.BULK, () -> {
+            NormalizedPageDto<PublicationSummaryResponseDto> response = publicationService.getAllPublicationsNormalized(pageable);
 
-        return ResponseEntity.ok(apiResponse);
+            ApiResponseDto<NormalizedPageDto<PublicationSummaryResponseDto>> apiResponse = ApiResponseDto.<NormalizedPageDto<PublicationSummaryResponseDto>>builder()
+                    .success(true)
+                    .message("Publications retrieved successfully")
+                    .data(response)
+                    .build();
+
+            return apiResponse;
+        }));
     }
 
     @GetMapping("/grouped")
     @Operation(summary = "Get grouped publications", description = "Retrieves all publications grouped by type (book or magazine)")
-    public ResponseEntity<ApiResponseDto<GroupedPublicationsResponse>> getAllPublicationsGroupedByType() {
-        GroupedPublicationsResponse response = publicationService.getAllPublicationsGroupedByType();
-
-        ApiResponseDto<GroupedPublicationsResponse> apiResponse = ApiResponseDto.<GroupedPublicationsResponse>builder()
-                .success(true)
-                .message("Publications grouped successfully")
-                .data(response)
-                .build();
-
-        return ResponseEntity.ok(apiResponse);
+    public CompletableFuture<ResponseEntity<ApiResponseDto<GroupedPublicationsResponse>>> getAllPublicationsGroupedByType() {
+        return responseCache.get(() -> bulkheads.get(BulkheadRegistry.GROUPED).supplyAsync(() -> {
+            GroupedPublicationsResponse response = publicationService.getAllPublicationsGroupedByType();
+
+            ApiResponseDto<GroupedPublicationsResponse> apiResponse = ApiResponseDto.<GroupedPublicationsResponse>builder()
+                    .success(true)
+                    .message("Publications grouped successfully")
+                    .data(response)
+                    .build();
+
+            return apiResponse;
+        }));
     }
 
     @GetMapping("/search/title")
     @Operation(summary = "Search publications by title", description = "Searches publications by title (case-insensitive)")
-    public ResponseEntity<ApiResponseDto<Page<PublicationSummaryResponseDto>>> searchPublicationsByTitle(
+    public CompletableFuture<ResponseEntity<ApiResponseDto<Page<PublicationSummaryResponseDto>>>> searchPublicationsByTitle(
+            @Parameter(description = "Title to search for") @RequestParam String title,
+            @PageableDefault(size = 20, sort = "title") Pageable pageable,
+            @Parameter(description = "Comma-separated list of fields to return (all when omitted)") @RequestParam(required = false) Set<String> fields) {
+        return responseCache.get(() -> bulkheads.get(BulkheadRegistry.SEARCH).supplyAsync(() -> {
+            Page<PublicationSummaryResponseDto> response = publicationService.searchPublicationsByTitle(title, pageable, FieldSelection.of(fields));
+
+            ApiResponseDto<Page<PublicationSummaryResponseDto>> apiResponse = ApiResponseDto.<Page<PublicationSummaryResponseDto>>builder()
+                    .success(true)
+                    .message("Publications searched successfully")
+                    .data(response)
+                    .build();
+
+            return apiResponse;
+        }));
+    }
+
+    @GetMapping(value = "/search/title", params = {"!fields", "!view"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Search publications by title (streamed)", description = "Searches publications by title (case-insensitive), writing rows as they are read")
+    public ResponseEntity<StreamingResponseBody> streamPublicationsByTitle(
             @Parameter(description = "Title to search for") @RequestParam String title,
             @PageableDefault(size = 20, sort = "title") Pageable pageable) {
-        Page<PublicationSummaryResponseDto> response = publicationService.searchPublicationsByTitle(title, pageable);
+        return responseCache.stream(() -> bulkheads.get(BulkheadRegistry.SEARCH)
+                .stream(() -> catalogStreamService.streamPublicationsByTitle(title, pageable, "Publications searched successfully")));
+    }
 
-        ApiResponseDto<Page<PublicationSummaryResponseDto>> apiResponse = ApiResponseDto.<Page<PublicationSummaryResponseDto>>builder()
-                .success(true)
-                .message("Publications searched successfully")
-                .data(response)
-                .build();
+    @GetMapping(value = "/search/title", params = "view=normalized")
+    @Operation(summary = "Search publications by title (normalized)", description = "Searches publications by title (case-insensitive); magazines reference authors by ID and each author is listed once in 'authors'")
+    public CompletableFuture<ResponseEntity<ApiResponseDto<NormalizedPageDto<PublicationSummaryResponseDto>>>> searchPublicationsByTitleNormalized(
+            @Parameter(description = "Title to search for") @RequestParam String title,
+            @PageableDefault(size = 20, sort = "title") Pageable pageable) {
+        return responseCache.get(() -> bulkheads.get(BulkheadRegistry.SEARCH).supplyAsync(() -> {
+            NormalizedPageDto<PublicationSummaryResponseDto> response = publicationService.searchPublicationsByTitleNormalized(title, pageable);
 
-        return ResponseEntity.ok(apiResponse);
+            ApiResponseDto<NormalizedPageDto<PublicationSummaryResponseDto>> apiResponse = ApiResponseDto.<NormalizedPageDto<PublicationSummaryResponseDto>>builder()
+                    .success(true)
+                    .message("Publications searched successfully")
+                    .data(response)
+                    .build();
+
+            return apiResponse;
+        }));
     }
 
     @DeleteMapping("/{id}")
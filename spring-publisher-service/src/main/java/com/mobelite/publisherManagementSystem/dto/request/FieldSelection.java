@@ -0,0 +1,66 @@
+package com.mobelite.publisherManagementSystem.dto.request;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Sparse fieldset requested through the {@code ?fields=} query parameter.
+ * An empty selection means every field is returned; {@code id} and {@code type}
+ * are always kept so clients can still identify each item.
+ */
+@EqualsAndHashCode
+@ToString
+public final class FieldSelection {
+
+    private static final FieldSelection ALL = new FieldSelection(Collections.emptySet());
+    private static final Set<String> ALWAYS_INCLUDED = Set.of("id", "type");
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Selection returning every field.
+     */
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Build a selection from raw parameter values; each value may itself be comma-separated.
+     * @param values The requested field names, may be null
+     * @return The selection, or {@link #all()} when nothing was requested
+     */
+    public static FieldSelection of(Collection<String> values) {
+        if (values == null || values.isEmpty()) return ALL;
+
+        Set<String> fields = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value == null) continue;
+            for (String field : value.split(",")) {
+                if (!field.isBlank()) {
+                    fields.add(field.trim());
+                }
+            }
+        }
+        if (fields.isEmpty()) return ALL;
+
+        fields.addAll(ALWAYS_INCLUDED);
+        return new FieldSelection(Collections.unmodifiableSet(fields));
+    }
+
+    public boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    public boolean includes(String field) {
+        return isAll() || fields.contains(field);
+    }
+}
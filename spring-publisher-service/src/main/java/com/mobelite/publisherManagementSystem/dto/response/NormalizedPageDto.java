@@ -0,0 +1,39 @@
+package com.mobelite.publisherManagementSystem.dto.response;
+
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Page of items in normalized form: items reference authors by ID and
+ * {@code authors} holds each author of the page exactly once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedPageDto<T> {
+    private List<T> content;
+    private Map<Long, AuthorSummaryDto> authors;
+    private int number;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    public static <T> NormalizedPageDto<T> of(Page<T> page, Map<Long, AuthorSummaryDto> authors) {
+        return NormalizedPageDto.<T>builder()
+                .content(page.getContent())
+                .authors(authors)
+                .number(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .build();
+    }
+}
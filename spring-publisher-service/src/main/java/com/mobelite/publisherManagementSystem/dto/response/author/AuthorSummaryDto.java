@@ -1,17 +1,21 @@
 package com.mobelite.publisherManagementSystem.dto.response.author;
 
 import lombok.Builder;
-import lombok.Data;
+import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
 
-@Data
+/**
+ * Immutable author summary. Instances are shared between the items of a response
+ * (and across responses through {@code AuthorSummaryCache}), so they must not be modified.
+ */
+@Value
 @Builder
 @Jacksonized
 public class AuthorSummaryDto {
-    private Long id;
-    private String name;
-    private String nationality;
-    private LocalDate birthDate;
+    Long id;
+    String name;
+    String nationality;
+    LocalDate birthDate;
 }
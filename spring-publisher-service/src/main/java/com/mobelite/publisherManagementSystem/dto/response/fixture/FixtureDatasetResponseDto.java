@@ -0,0 +1,22 @@
+package com.mobelite.publisherManagementSystem.dto.response.fixture;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureDatasetResponseDto {
+    private String dataset;
+    /** Prefix of every seeded author name and publication title */
+    private String prefix;
+    private List<Long> authorIds;
+    private int books;
+    private int magazines;
+    private long elapsedMillis;
+}
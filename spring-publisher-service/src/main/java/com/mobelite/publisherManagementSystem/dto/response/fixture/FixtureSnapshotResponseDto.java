@@ -0,0 +1,19 @@
+package com.mobelite.publisherManagementSystem.dto.response.fixture;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureSnapshotResponseDto {
+    private String name;
+    /** Rows per table in the snapshot */
+    private Map<String, Long> rows;
+    private long elapsedMillis;
+}
@@ -0,0 +1,23 @@
+package com.mobelite.publisherManagementSystem.dto.response.graph;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * GraphQL view of an author. Holds scalar fields only; books and magazines
+ * are resolved by batch loaders.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthorNodeDto {
+    private Long id;
+    private String name;
+    private LocalDate birthDate;
+    private String nationality;
+}
@@ -0,0 +1,24 @@
+package com.mobelite.publisherManagementSystem.dto.response.graph;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * GraphQL view of a book. Keeps the author's ID so the author can be
+ * resolved by a batch loader.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookNodeDto {
+    private Long id;
+    private String title;
+    private LocalDate publicationDate;
+    private String isbn;
+    private Long authorId;
+}
@@ -0,0 +1,23 @@
+package com.mobelite.publisherManagementSystem.dto.response.graph;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * GraphQL view of a magazine. Holds scalar fields only; authors are
+ * resolved by a batch loader.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MagazineNodeDto {
+    private Long id;
+    private String title;
+    private LocalDate publicationDate;
+    private Integer issueNumber;
+}
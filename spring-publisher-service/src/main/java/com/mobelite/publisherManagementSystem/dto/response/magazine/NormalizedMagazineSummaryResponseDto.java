@@ -0,0 +1,25 @@
+package com.mobelite.publisherManagementSystem.dto.response.magazine;
+
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.enums.PublicationType;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+/**
+ * Magazine summary for normalized list responses.
+ * Authors are referenced by ID and listed once in the response's author table.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@SuperBuilder
+public class NormalizedMagazineSummaryResponseDto extends PublicationSummaryResponseDto {
+    private Integer issueNumber;
+    private List<Long> authorIds;
+
+    public NormalizedMagazineSummaryResponseDto() {
+        setType(PublicationType.MAGAZINE);
+    }
+}
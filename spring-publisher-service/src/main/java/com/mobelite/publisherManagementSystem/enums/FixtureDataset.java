@@ -0,0 +1,31 @@
+package com.mobelite.publisherManagementSystem.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Named datasets the test fixture endpoints can seed in bulk.
+ * Every book has an author and every magazine has two, picked round-robin among the dataset's authors.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FixtureDataset {
+    /** A handful of each entity, enough for the smoke scenarios */
+    SMOKE(5, 10, 5),
+    /** More authors and publications than fit on one page of the UI tables */
+    UI(30, 60, 30),
+    /** A catalog large enough for listing, search and load tests */
+    CATALOG(1_000, 7_000, 3_000);
+
+    private final int authors;
+    private final int books;
+    private final int magazines;
+
+    public static FixtureDataset fromString(String name) {
+        try {
+            return FixtureDataset.valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
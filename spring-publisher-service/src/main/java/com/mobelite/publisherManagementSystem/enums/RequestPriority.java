@@ -0,0 +1,24 @@
+package com.mobelite.publisherManagementSystem.enums;
+
+/**
+ * Scheduling class of an API request: interactive lookups a user waits for, or bulk listings that can wait
+ * for the capacity interactive requests leave. Declared from the highest class to the lowest.
+ */
+public enum RequestPriority {
+    INTERACTIVE,
+    BULK;
+
+    /**
+     * @return the class named by a request header (case-insensitive), or {@code null} when it names none
+     */
+    public static RequestPriority fromString(String priority) {
+        if (priority == null || priority.isBlank()) {
+            return null;
+        }
+        try {
+            return RequestPriority.valueOf(priority.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.mobelite.publisherManagementSystem.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a bulkhead has no thread or queue slot left for a request.
+ * The request is turned away at once with a 503, so no stack trace is captured.
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkhead;
+    private final long retryAfterSeconds;
+
+    public BulkheadFullException(String bulkhead, long retryAfterSeconds) {
+        super("Too many concurrent '" + bulkhead + "' requests, please retry later", null, false, false);
+        this.bulkhead = bulkhead;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.mobelite.publisherManagementSystem.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when an endpoint already runs as many requests as its adaptive concurrency limit allows.
+ * The request is turned away at once with a 503, so no stack trace is captured.
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final String endpoint;
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitExceededException(String endpoint, long retryAfterSeconds) {
+        super("Server is busy, please retry later", null, false, false);
+        this.endpoint = endpoint;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,7 +1,11 @@
 package com.mobelite.publisherManagementSystem.exception;
 
+/**
+ * Thrown when a resource would duplicate an existing one.
+ * This is an expected outcome mapped straight to an error response, so no stack trace is captured.
+ */
 public class DuplicateResourceException extends RuntimeException {
     public DuplicateResourceException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
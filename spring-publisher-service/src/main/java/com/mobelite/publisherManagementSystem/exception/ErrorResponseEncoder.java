@@ -0,0 +1,134 @@
+package com.mobelite.publisherManagementSystem.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Encodes {@link ApiResponseDto#error(String)} bodies as JSON without going through the message converters.
+ * The constant parts of the body are serialized once by the application's ObjectMapper, and the
+ * timestamp once per millisecond, so each error only costs escaping its message.
+ */
+@Component
+public class ErrorResponseEncoder {
+
+    private static final String MESSAGE_MARKER = "\u0001message\u0001";
+    private static final String TIMESTAMP_MARKER = "\u0001timestamp\u0001";
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final byte[] prefix;
+    private final byte[] middle;
+    private final byte[] suffix;
+    private volatile EncodedTimestamp timestamp = new EncodedTimestamp(Long.MIN_VALUE, null);
+
+    @Autowired
+    public ErrorResponseEncoder(ObjectMapper objectMapper) {
+        this(objectMapper, Clock.systemDefaultZone());
+    }
+
+    ErrorResponseEncoder(ObjectMapper objectMapper, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+
+        // Serialize an error envelope with marker values, then keep what surrounds them
+        ObjectNode template = objectMapper.valueToTree(ApiResponseDto.error(MESSAGE_MARKER));
+        template.put("timestamp", TIMESTAMP_MARKER);
+        byte[] encoded = serialize(template);
+        byte[] message = serialize(MESSAGE_MARKER);
+        byte[] time = serialize(TIMESTAMP_MARKER);
+        int messageAt = indexOf(encoded, message);
+        int timeAt = indexOf(encoded, time);
+        if (messageAt < 0 || timeAt < messageAt) {
+            throw new IllegalStateException("Unexpected error envelope layout: " + new String(encoded, StandardCharsets.UTF_8));
+        }
+        this.prefix = Arrays.copyOfRange(encoded, 0, messageAt);
+        this.middle = Arrays.copyOfRange(encoded, messageAt + message.length, timeAt);
+        this.suffix = Arrays.copyOfRange(encoded, timeAt + time.length, encoded.length);
+    }
+
+    /**
+     * Whether a response with the given Accept header can be served as JSON.
+     * The most specific range covering JSON decides, so {@code application/json;q=0} refuses it
+     * even next to a wildcard range.
+     */
+    public boolean acceptsJson(String acceptHeader) {
+        if (acceptHeader == null || acceptHeader.isBlank()) {
+            return true;
+        }
+        MediaType match = null;
+        for (MediaType mediaType : MediaType.parseMediaTypes(acceptHeader)) {
+            if (mediaType.includes(MediaType.APPLICATION_JSON) && (match == null || match.includes(mediaType))) {
+                match = mediaType;
+            }
+        }
+        return match != null && match.getQualityValue() > 0;
+    }
+
+    /**
+     * JSON body equivalent to serializing {@code ApiResponseDto.error(message)}.
+     */
+    public byte[] encode(String message) {
+        byte[] quotedMessage = JsonStringEncoder.getInstance().quoteAsUTF8(message);
+        byte[] time = currentTimestamp();
+
+        byte[] body = new byte[prefix.length + quotedMessage.length + middle.length + time.length + suffix.length + 2];
+        int at = append(body, 0, prefix);
+        body[at++] = '"';
+        at = append(body, at, quotedMessage);
+        body[at++] = '"';
+        at = append(body, at, middle);
+        at = append(body, at, time);
+        append(body, at, suffix);
+        return body;
+    }
+
+    private byte[] currentTimestamp() {
+        long now = clock.millis();
+        EncodedTimestamp current = timestamp;
+        if (current.millis() != now) {
+            current = new EncodedTimestamp(now, serialize(LocalDateTime.now(clock)));
+            timestamp = current;
+        }
+        return current.json();
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot encode error response", ex);
+        }
+    }
+
+    private static int append(byte[] target, int at, byte[] source) {
+        System.arraycopy(source, 0, target, at, source.length);
+        return at + source.length;
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        outer:
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private record EncodedTimestamp(long millis, byte[] json) {
+    }
+}
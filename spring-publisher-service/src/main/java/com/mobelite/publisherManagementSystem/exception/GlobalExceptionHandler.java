@@ -3,9 +3,13 @@ import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -14,6 +18,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
@@ -24,33 +29,81 @@ import java.util.Set;
 /**
  * Global exception handler for the application.
  * Handles various exceptions and returns appropriate error responses.
+ * Not-found and conflict responses are expected under normal traffic: they are counted
+ * ({@value #EXPECTED_ERRORS_METER}) rather than logged as errors, and JSON bodies are pre-encoded.
  */
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    static final String EXPECTED_ERRORS_METER = "api.expected.errors";
+
+    private final ErrorResponseEncoder errorResponseEncoder;
+    private final Counter notFoundCounter;
+    private final Counter conflictCounter;
+
+    public GlobalExceptionHandler(ErrorResponseEncoder errorResponseEncoder, MeterRegistry meterRegistry) {
+        this.errorResponseEncoder = errorResponseEncoder;
+        this.notFoundCounter = Counter.builder(EXPECTED_ERRORS_METER)
+                .description("Not-found and conflict responses")
+                .tag("status", "404")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder(EXPECTED_ERRORS_METER)
+                .description("Not-found and conflict responses")
+                .tag("status", "409")
+                .register(meterRegistry);
+    }
+
     /**
      * Handle resource not found exceptions.
      * @param ex The exception
+     * @param request The current request
      * @return Error response with NOT_FOUND status
      */
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<ApiResponseDto<Object>> handleResourceNotFoundException(ResourceNotFoundException ex) {
-        log.error("Resource not found: {}", ex.getMessage());
-        ApiResponseDto<Object> response = ApiResponseDto.error(ex.getMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    public ResponseEntity<?> handleResourceNotFoundException(ResourceNotFoundException ex, WebRequest request) {
+        notFoundCounter.increment();
+        log.debug("Resource not found: {}", ex.getMessage());
+        return expectedError(HttpStatus.NOT_FOUND, ex.getMessage(), request);
     }
 
     /**
      * Handle duplicate resource exceptions.
      * @param ex The exception
+     * @param request The current request
      * @return Error response with CONFLICT status
      */
     @ExceptionHandler(DuplicateResourceException.class)
-    public ResponseEntity<ApiResponseDto<Object>> handleDuplicateResourceException(DuplicateResourceException ex) {
-        log.error("Duplicate resource: {}", ex.getMessage());
-        ApiResponseDto<Object> response = ApiResponseDto.error(ex.getMessage());
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    public ResponseEntity<?> handleDuplicateResourceException(DuplicateResourceException ex, WebRequest request) {
+        conflictCounter.increment();
+        log.debug("Duplicate resource: {}", ex.getMessage());
+        return expectedError(HttpStatus.CONFLICT, ex.getMessage(), request);
+    }
+
+    /**
+     * Handle requests turned away by a full bulkhead; they are counted by the bulkhead, not logged as errors.
+     * @param ex The exception
+     * @return Error response with SERVICE_UNAVAILABLE status and a Retry-After header
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ApiResponseDto<Object>> handleBulkheadFullException(BulkheadFullException ex) {
+        log.debug("Bulkhead full: {}", ex.getBulkhead());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponseDto.error(ex.getMessage()));
+    }
+
+    /**
+     * Handle requests turned away by an endpoint's adaptive concurrency limit; they are counted, not logged as errors.
+     * @param ex The exception
+     * @return Error response with SERVICE_UNAVAILABLE status and a Retry-After header
+     */
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ApiResponseDto<Object>> handleConcurrencyLimitExceededException(ConcurrencyLimitExceededException ex) {
+        log.debug("Concurrency limit reached: {}", ex.getEndpoint());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponseDto.error(ex.getMessage()));
     }
 
     /**
@@ -215,4 +268,17 @@ public class GlobalExceptionHandler {
         ApiResponseDto<Object> response = ApiResponseDto.error("An unexpected error occurred");
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
+
+    /**
+     * Error response for an expected failure: pre-encoded JSON when the client accepts JSON,
+     * otherwise the regular envelope for the negotiated format (CBOR, Smile).
+     */
+    private ResponseEntity<?> expectedError(HttpStatus status, String message, WebRequest request) {
+        if (errorResponseEncoder.acceptsJson(request.getHeader(HttpHeaders.ACCEPT))) {
+            return ResponseEntity.status(status)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(errorResponseEncoder.encode(message));
+        }
+        return ResponseEntity.status(status).body(ApiResponseDto.error(message));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.mobelite.publisherManagementSystem.exception;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+/**
+ * GraphQL counterpart of {@link GlobalExceptionHandler}: maps application exceptions
+ * to GraphQL error types. Anything else is reported as an internal error by Spring.
+ */
+@Component
+@Slf4j
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        if (ex instanceof ResourceNotFoundException) {
+            log.debug("Resource not found: {}", ex.getMessage());
+            return toError(ErrorType.NOT_FOUND, ex, env);
+        }
+        if (ex instanceof BusinessException || ex instanceof IllegalArgumentException) {
+            log.error("Invalid GraphQL request: {}", ex.getMessage());
+            return toError(ErrorType.BAD_REQUEST, ex, env);
+        }
+        return null;
+    }
+
+    private static GraphQLError toError(ErrorType errorType, Throwable ex, DataFetchingEnvironment env) {
+        return GraphqlErrorBuilder.newError(env)
+                .errorType(errorType)
+                .message(ex.getMessage())
+                .build();
+    }
+}
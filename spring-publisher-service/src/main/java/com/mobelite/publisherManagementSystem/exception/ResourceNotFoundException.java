@@ -1,7 +1,11 @@
 package com.mobelite.publisherManagementSystem.exception;
 
+/**
+ * Thrown when a requested resource does not exist.
+ * This is an expected outcome mapped straight to an error response, so no stack trace is captured.
+ */
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-}
\ No newline at end of file
+}
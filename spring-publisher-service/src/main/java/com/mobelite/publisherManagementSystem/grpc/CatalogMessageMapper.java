@@ -0,0 +1,140 @@
+package com.mobelite.publisherManagementSystem.grpc;
+
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
+import com.mobelite.publisherManagementSystem.dto.response.book.BookResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.book.BookSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.grpc.v1.Author;
+import com.mobelite.publisherManagementSystem.grpc.v1.AuthorSummary;
+import com.mobelite.publisherManagementSystem.grpc.v1.Book;
+import com.mobelite.publisherManagementSystem.grpc.v1.BookSummary;
+import com.mobelite.publisherManagementSystem.grpc.v1.Magazine;
+import com.mobelite.publisherManagementSystem.grpc.v1.MagazineSummary;
+import com.mobelite.publisherManagementSystem.grpc.v1.Publication;
+import com.mobelite.publisherManagementSystem.grpc.v1.PublicationSummary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Maps the response DTOs returned by the service layer to protobuf messages.
+ * Protobuf setters reject nulls, so absent values become the proto3 defaults.
+ */
+@Component
+public class CatalogMessageMapper {
+
+    public Book toBook(BookResponseDto dto) {
+        Book.Builder builder = Book.newBuilder()
+                .setId(orZero(dto.getId()))
+                .setTitle(orEmpty(dto.getTitle()))
+                .setPublicationDate(formatDate(dto.getPublicationDate()))
+                .setIsbn(orEmpty(dto.getIsbn()));
+        if (dto.getAuthor() != null) {
+            builder.setAuthor(toAuthorSummary(dto.getAuthor()));
+        }
+        return builder.build();
+    }
+
+    public Magazine toMagazine(MagazineResponseDto dto) {
+        Magazine.Builder builder = Magazine.newBuilder()
+                .setId(orZero(dto.getId()))
+                .setTitle(orEmpty(dto.getTitle()))
+                .setPublicationDate(formatDate(dto.getPublicationDate()))
+                .setIssueNumber(orZero(dto.getIssueNumber()));
+        addAuthors(dto.getAuthors(), builder::addAuthors);
+        return builder.build();
+    }
+
+    public Publication toPublication(PublicationResponseDto dto) {
+        if (dto instanceof BookResponseDto book) {
+            return Publication.newBuilder().setBook(toBook(book)).build();
+        } else if (dto instanceof MagazineResponseDto magazine) {
+            return Publication.newBuilder().setMagazine(toMagazine(magazine)).build();
+        }
+        throw new IllegalArgumentException("Unknown publication type");
+    }
+
+    public BookSummary toBookSummary(BookSummaryResponseDto dto) {
+        return BookSummary.newBuilder()
+                .setId(orZero(dto.getId()))
+                .setTitle(orEmpty(dto.getTitle()))
+                .setPublicationDate(formatDate(dto.getPublicationDate()))
+                .setIsbn(orEmpty(dto.getIsbn()))
+                .setAuthorName(orEmpty(dto.getAuthorName()))
+                .build();
+    }
+
+    public MagazineSummary toMagazineSummary(MagazineSummaryResponseDto dto) {
+        MagazineSummary.Builder builder = MagazineSummary.newBuilder()
+                .setId(orZero(dto.getId()))
+                .setTitle(orEmpty(dto.getTitle()))
+                .setPublicationDate(formatDate(dto.getPublicationDate()))
+                .setIssueNumber(orZero(dto.getIssueNumber()));
+        addAuthors(dto.getAuthors(), builder::addAuthors);
+        return builder.build();
+    }
+
+    public PublicationSummary toPublicationSummary(PublicationSummaryResponseDto dto) {
+        if (dto instanceof BookSummaryResponseDto book) {
+            return PublicationSummary.newBuilder().setBook(toBookSummary(book)).build();
+        } else if (dto instanceof MagazineSummaryResponseDto magazine) {
+            return PublicationSummary.newBuilder().setMagazine(toMagazineSummary(magazine)).build();
+        }
+        throw new IllegalArgumentException("Unknown publication type");
+    }
+
+    public Author toAuthor(AuthorResponseDto dto) {
+        Author.Builder builder = Author.newBuilder()
+                .setId(orZero(dto.getId()))
+                .setName(orEmpty(dto.getName()))
+                .setNationality(orEmpty(dto.getNationality()))
+                .setBirthDate(formatDate(dto.getBirthDate()));
+        if (dto.getBooks() != null) {
+            dto.getBooks().forEach(book -> builder.addBooks(toBookSummary(book)));
+        }
+        if (dto.getMagazines() != null) {
+            dto.getMagazines().forEach(magazine -> builder.addMagazines(toMagazineSummary(magazine)));
+        }
+        return builder.build();
+    }
+
+    public AuthorSummary toAuthorSummary(AuthorSummaryDto dto) {
+        return AuthorSummary.newBuilder()
+                .setId(orZero(dto.getId()))
+                .setName(orEmpty(dto.getName()))
+                .setNationality(orEmpty(dto.getNationality()))
+                .setBirthDate(formatDate(dto.getBirthDate()))
+                .build();
+    }
+
+    private void addAuthors(List<AuthorSummaryDto> authors, Consumer<AuthorSummary> sink) {
+        if (authors == null) return;
+        for (AuthorSummaryDto author : authors) {
+            if (author != null) {
+                sink.accept(toAuthorSummary(author));
+            }
+        }
+    }
+
+    private static String formatDate(LocalDate date) {
+        return date == null ? "" : date.toString();
+    }
+
+    private static String orEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static long orZero(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    private static int orZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,70 @@
+package com.mobelite.publisherManagementSystem.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC server next to the servlet container and binds every
+ * {@link BindableService} bean to it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "grpc.server", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final List<BindableService> services;
+
+    @Value("${grpc.server.port:9090}")
+    private int port;
+
+    @Value("${grpc.server.shutdown-grace-period:30s}")
+    private Duration shutdownGracePeriod;
+
+    private Server server;
+
+    @Override
+    public void start() {
+        ServerBuilder<?> builder = ServerBuilder.forPort(port);
+        services.forEach(builder::addService);
+        try {
+            server = builder.build().start();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to start gRPC server on port " + port, ex);
+        }
+        log.info("gRPC server started on port {} with {} service(s)", port, services.size());
+    }
+
+    @Override
+    public void stop() {
+        if (server == null) return;
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null && !server.isShutdown();
+    }
+}
@@ -0,0 +1,217 @@
+package com.mobelite.publisherManagementSystem.grpc;
+
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.exception.BusinessException;
+import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.grpc.v1.Author;
+import com.mobelite.publisherManagementSystem.grpc.v1.Book;
+import com.mobelite.publisherManagementSystem.grpc.v1.BookSummary;
+import com.mobelite.publisherManagementSystem.grpc.v1.GetAuthorByIdRequest;
+import com.mobelite.publisherManagementSystem.grpc.v1.GetBookByIsbnRequest;
+import com.mobelite.publisherManagementSystem.grpc.v1.GetPublicationByIdRequest;
+import com.mobelite.publisherManagementSystem.grpc.v1.GetPublicationsRequest;
+import com.mobelite.publisherManagementSystem.grpc.v1.GetPublicationsResponse;
+import com.mobelite.publisherManagementSystem.grpc.v1.Publication;
+import com.mobelite.publisherManagementSystem.grpc.v1.PublicationSummary;
+import com.mobelite.publisherManagementSystem.grpc.v1.PublisherCatalogGrpc;
+import com.mobelite.publisherManagementSystem.grpc.v1.ScanBooksByAuthorRequest;
+import com.mobelite.publisherManagementSystem.grpc.v1.ScanPublicationsRequest;
+import com.mobelite.publisherManagementSystem.service.AuthorService;
+import com.mobelite.publisherManagementSystem.service.BookService;
+import com.mobelite.publisherManagementSystem.service.CatalogStreamService;
+import com.mobelite.publisherManagementSystem.service.PublicationService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * gRPC implementation of the publisher catalogue.
+ * Delegates to the same services as the REST controllers; scans read keyset batches
+ * through the service layer on the server side and stream each row to the caller.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PublisherCatalogGrpcService extends PublisherCatalogGrpc.PublisherCatalogImplBase {
+
+    static final int DEFAULT_BATCH_SIZE = 500;
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final BookService bookService;
+    private final PublicationService publicationService;
+    private final AuthorService authorService;
+    private final CatalogStreamService catalogStreamService;
+    private final CatalogMessageMapper catalogMessageMapper;
+
+    @Override
+    public void getBookByIsbn(GetBookByIsbnRequest request, StreamObserver<Book> responseObserver) {
+        unary(responseObserver,
+                () -> catalogMessageMapper.toBook(bookService.getBookByIsbn(request.getIsbn(), FieldSelection.all())));
+    }
+
+    @Override
+    public void getPublicationById(GetPublicationByIdRequest request, StreamObserver<Publication> responseObserver) {
+        unary(responseObserver,
+                () -> catalogMessageMapper.toPublication(
+                        publicationService.getPublicationById(request.getId(), FieldSelection.all())));
+    }
+
+    @Override
+    public void getPublications(GetPublicationsRequest request, StreamObserver<GetPublicationsResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            Set<Long> missingIds = new LinkedHashSet<>(request.getIdsList());
+            List<PublicationResponseDto> publications = publicationService.getPublicationsByIds(request.getIdsList());
+
+            GetPublicationsResponse.Builder builder = GetPublicationsResponse.newBuilder();
+            for (PublicationResponseDto publication : publications) {
+                missingIds.remove(publication.getId());
+                builder.addPublications(catalogMessageMapper.toPublication(publication));
+            }
+            return builder.addAllMissingIds(missingIds).build();
+        });
+    }
+
+    @Override
+    public void getAuthorById(GetAuthorByIdRequest request, StreamObserver<Author> responseObserver) {
+        unary(responseObserver,
+                () -> catalogMessageMapper.toAuthor(authorService.getAuthorById(request.getId(), FieldSelection.all())));
+    }
+
+    @Override
+    public void scanPublications(ScanPublicationsRequest request, StreamObserver<PublicationSummary> responseObserver) {
+        String title = request.getTitleContains().isBlank() ? null : request.getTitleContains();
+        stream(responseObserver, request.getBatchSize(),
+                (afterId, limit, sink) -> catalogStreamService.scanPublications(title, afterId, limit, sink),
+                catalogMessageMapper::toPublicationSummary);
+    }
+
+    @Override
+    public void scanBooksByAuthor(ScanBooksByAuthorRequest request, StreamObserver<BookSummary> responseObserver) {
+        stream(responseObserver, request.getBatchSize(),
+                (afterId, limit, sink) -> catalogStreamService.scanBooksByAuthor(request.getAuthorId(), afterId, limit, sink),
+                catalogMessageMapper::toBookSummary);
+    }
+
+    private <M> void unary(StreamObserver<M> responseObserver, Supplier<M> call) {
+        try {
+            responseObserver.onNext(call.get());
+            responseObserver.onCompleted();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(toStatus(ex));
+        }
+    }
+
+    /**
+     * Read the rows in id order, one keyset batch at a time, and push them to the caller as fast as it reads them.
+     * The scan stops while the call is not ready and resumes from its on-ready handler, so a slow client
+     * holds neither a thread nor a connection; it ends early when the client cancels the call.
+     */
+    private <D extends PublicationSummaryResponseDto, M> void stream(StreamObserver<M> responseObserver,
+                                                                      int requestedBatchSize,
+                                                                      BatchLoader<D> batchLoader,
+                                                                      Function<D, M> toMessage) {
+        ServerCallStreamObserver<M> callObserver = (ServerCallStreamObserver<M>) responseObserver;
+        int batchSize = requestedBatchSize <= 0 ? DEFAULT_BATCH_SIZE : Math.min(requestedBatchSize, MAX_BATCH_SIZE);
+
+        Scan<D, M> scan = new Scan<>(callObserver, batchLoader, toMessage, batchSize);
+        callObserver.setOnCancelHandler(() -> log.debug("Catalogue scan cancelled by client after id {}", scan.lastId));
+        callObserver.setOnReadyHandler(scan);
+        scan.run();
+    }
+
+    private StatusRuntimeException toStatus(RuntimeException ex) {
+        if (ex instanceof ResourceNotFoundException) {
+            return Status.NOT_FOUND.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof BusinessException || ex instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        log.error("Unexpected gRPC error: {}", ex.getMessage(), ex);
+        return Status.INTERNAL.withDescription("An unexpected error occurred").asRuntimeException();
+    }
+
+    /**
+     * Reads one batch of rows with an id above {@code afterId}, in id order, into the sink.
+     */
+    @FunctionalInterface
+    private interface BatchLoader<D> {
+        void load(long afterId, int limit, Consumer<D> sink);
+    }
+
+    /**
+     * Sends the rows of one scan. Runs on the call's serializing executor, from the call itself and then
+     * from the on-ready handler, so it is never run twice at once.
+     */
+    private final class Scan<D extends PublicationSummaryResponseDto, M> implements Runnable {
+
+        private final ServerCallStreamObserver<M> callObserver;
+        private final BatchLoader<D> batchLoader;
+        private final Function<D, M> toMessage;
+        private final int batchSize;
+        private final Deque<M> pending = new ArrayDeque<>();
+        private long lastId;
+        private boolean exhausted;
+        private boolean done;
+
+        private Scan(ServerCallStreamObserver<M> callObserver, BatchLoader<D> batchLoader,
+                     Function<D, M> toMessage, int batchSize) {
+            this.callObserver = callObserver;
+            this.batchLoader = batchLoader;
+            this.toMessage = toMessage;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void run() {
+            if (done) {
+                return;
+            }
+            try {
+                while (!pending.isEmpty() || !exhausted) {
+                    if (callObserver.isCancelled()) {
+                        done = true;
+                        return;
+                    }
+                    if (!callObserver.isReady()) {
+                        // Resumed by the on-ready handler once the client has read what was sent
+                        return;
+                    }
+                    if (pending.isEmpty()) {
+                        loadBatch();
+                    } else {
+                        callObserver.onNext(pending.poll());
+                    }
+                }
+                done = true;
+                callObserver.onCompleted();
+            } catch (RuntimeException ex) {
+                done = true;
+                callObserver.onError(toStatus(ex));
+            }
+        }
+
+        private void loadBatch() {
+            // Rows are reused by the loader, so each is converted to its message as it arrives
+            batchLoader.load(lastId, batchSize, row -> {
+                pending.add(toMessage.apply(row));
+                lastId = row.getId();
+            });
+            exhausted = pending.size() < batchSize;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mobelite.publisherManagementSystem.mapper;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.author.AuthorRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.author.AuthorResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
@@ -9,6 +10,7 @@ import com.mobelite.publisherManagementSystem.entity.Author;
 import com.mobelite.publisherManagementSystem.entity.Book;
 import com.mobelite.publisherManagementSystem.entity.Magazine;
 import org.mapstruct.*;
+import org.mapstruct.control.DeepClone;
 
 import java.util.Collections;
 import java.util.List;
@@ -30,8 +32,40 @@ public interface AuthorMapper {
     @Mapping(target = "magazines", source = "magazines", qualifiedByName = "mapMagazinesToSummary")
     AuthorResponseDto toResponseDto(Author author);
 
+    /**
+     * Copy a response, with its own copies of every nested object, so it can be handed to another caller.
+     */
+    @BeanMapping(mappingControl = DeepClone.class)
+    AuthorResponseDto copy(AuthorResponseDto response);
+
+    @Named("toResponseDtoWithoutPublications")
+    @Mapping(target = "books", ignore = true)
+    @Mapping(target = "magazines", ignore = true)
+    AuthorResponseDto toResponseDtoWithoutPublications(Author author);
+
+    /**
+     * Map an author, touching only the collections requested by the field selection
+     * so unrequested lazy associations are never initialized.
+     */
+    default AuthorResponseDto toResponseDto(Author author, FieldSelection fields) {
+        AuthorResponseDto dto = toResponseDtoWithoutPublications(author);
+        if (fields.includes("books")) {
+            dto.setBooks(mapBooksToSummary(author.getBooks()));
+        }
+        if (fields.includes("magazines")) {
+            dto.setMagazines(mapMagazinesToSummary(author.getMagazines()));
+        }
+        return dto;
+    }
+
     AuthorSummaryDto toSummaryDto(Author author);
 
+    /**
+     * Map an author summary, reusing the instance already produced for this author in the context.
+     */
+    @Named("toSummaryDtoMemoized")
+    AuthorSummaryDto toSummaryDto(Author author, @Context AuthorMappingContext context);
+
     @Mapping(target = "authorName", source = "author.name")
     BookSummaryResponseDto mapBookToSummary(Book book);
 
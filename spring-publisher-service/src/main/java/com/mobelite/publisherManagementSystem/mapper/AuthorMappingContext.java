@@ -0,0 +1,56 @@
+package com.mobelite.publisherManagementSystem.mapper;
+
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
+import com.mobelite.publisherManagementSystem.entity.Author;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.MappingTarget;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MapStruct {@code @Context} memoizing author summaries for the duration of one request.
+ * The first occurrence of an author is mapped (or taken from the shared {@link AuthorSummaryCache});
+ * every later occurrence reuses the same immutable {@link AuthorSummaryDto}.
+ */
+public class AuthorMappingContext {
+
+    private final Map<Long, AuthorSummaryDto> summaries = new HashMap<>();
+    private final AuthorSummaryCache sharedCache;
+
+    AuthorMappingContext(AuthorSummaryCache sharedCache) {
+        this.sharedCache = sharedCache;
+    }
+
+    /**
+     * Context without a shared cache; summaries are only reused within this context.
+     */
+    public static AuthorMappingContext local() {
+        return new AuthorMappingContext(null);
+    }
+
+    @BeforeMapping
+    public AuthorSummaryDto findSummary(Author author) {
+        if (author == null || author.getId() == null) return null;
+
+        AuthorSummaryDto summary = summaries.get(author.getId());
+        if (summary == null && sharedCache != null) {
+            summary = sharedCache.get(author);
+            if (summary != null) {
+                summaries.put(author.getId(), summary);
+            }
+        }
+        return summary;
+    }
+
+    @AfterMapping
+    public void rememberSummary(Author author, @MappingTarget AuthorSummaryDto summary) {
+        if (author == null || author.getId() == null) return;
+
+        summaries.put(author.getId(), summary);
+        if (sharedCache != null) {
+            sharedCache.put(summary);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.mobelite.publisherManagementSystem.mapper;
+
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
+import com.mobelite.publisherManagementSystem.entity.Author;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Per-response author table used as a MapStruct {@code @Context} when building normalized
+ * list responses. Each author is mapped to a summary the first time it is referenced and
+ * only its ID is handed back, so shared authors cost one DTO per response.
+ */
+public class AuthorSideTable {
+
+    private final Function<Author, AuthorSummaryDto> summaryMapper;
+    private final Map<Long, AuthorSummaryDto> authors = new LinkedHashMap<>();
+
+    public AuthorSideTable(Function<Author, AuthorSummaryDto> summaryMapper) {
+        this.summaryMapper = summaryMapper;
+    }
+
+    /**
+     * Register the given authors and return their IDs in the same order.
+     */
+    public List<Long> reference(Collection<Author> referenced) {
+        if (referenced == null || referenced.isEmpty()) return Collections.emptyList();
+
+        List<Long> ids = new ArrayList<>(referenced.size());
+        for (Author author : referenced) {
+            if (author == null) continue;
+            authors.computeIfAbsent(author.getId(), id -> summaryMapper.apply(author));
+            ids.add(author.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Unique authors referenced so far, keyed by ID in first-seen order.
+     */
+    public Map<Long, AuthorSummaryDto> getAuthors() {
+        return Collections.unmodifiableMap(authors);
+    }
+}
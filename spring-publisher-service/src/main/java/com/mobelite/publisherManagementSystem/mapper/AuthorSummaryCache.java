@@ -0,0 +1,99 @@
+package com.mobelite.publisherManagementSystem.mapper;
+
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
+import com.mobelite.publisherManagementSystem.entity.Author;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of author summaries shared across requests.
+ * Authors carry no version column, so an entry is only reused while it still matches the
+ * entity's summarized fields; a changed author simply gets a fresh summary.
+ */
+@Component
+public class AuthorSummaryCache implements MeterBinder {
+
+    private final int maxSize;
+    private final Map<Long, AuthorSummaryDto> summaries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public AuthorSummaryCache(@Value("${mapping.author-summary-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.summaries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, AuthorSummaryDto> eldest) {
+                return size() > AuthorSummaryCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Start a mapping context for one request, backed by this cache.
+     */
+    public AuthorMappingContext newContext() {
+        return new AuthorMappingContext(this);
+    }
+
+    /**
+     * Cached summary of the given author, or null if absent or stale.
+     */
+    public AuthorSummaryDto get(Author author) {
+        if (maxSize <= 0 || author.getId() == null) return null;
+
+        AuthorSummaryDto summary;
+        synchronized (summaries) {
+            summary = summaries.get(author.getId());
+        }
+        if (summary != null && matches(summary, author)) {
+            hits.increment();
+            return summary;
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(AuthorSummaryDto summary) {
+        if (maxSize <= 0 || summary.getId() == null) return;
+
+        synchronized (summaries) {
+            summaries.put(summary.getId(), summary);
+        }
+    }
+
+    public int size() {
+        synchronized (summaries) {
+            return summaries.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("mapping.author.summary.cache.requests", hits, LongAdder::sum)
+                .description("Author summary cache lookups")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("mapping.author.summary.cache.requests", misses, LongAdder::sum)
+                .description("Author summary cache lookups")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("mapping.author.summary.cache.size", this, AuthorSummaryCache::size)
+                .description("Author summaries currently cached")
+                .register(registry);
+    }
+
+    static boolean matches(AuthorSummaryDto summary, Author author) {
+        return Objects.equals(summary.getName(), author.getName())
+                && Objects.equals(summary.getNationality(), author.getNationality())
+                && Objects.equals(summary.getBirthDate(), author.getBirthDate());
+    }
+}
@@ -1,14 +1,16 @@
 package com.mobelite.publisherManagementSystem.mapper;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.book.BookCreateRequestDto;
 import com.mobelite.publisherManagementSystem.dto.request.book.BookUpdateRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.book.BookResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.book.BookSummaryResponseDto;
 import com.mobelite.publisherManagementSystem.entity.Book;
 import org.mapstruct.*;
+import org.mapstruct.control.DeepClone;
 
 
-@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+@Mapper(componentModel = "spring", uses = {AuthorMapper.class}, unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface BookMapper {
 
 
@@ -19,9 +21,47 @@ public interface BookMapper {
     @Mapping(target = "author", source = "author")
     BookResponseDto toResponse(Book book);
 
+    @Mapping(target = "author", source = "author", qualifiedByName = "toSummaryDtoMemoized")
+    BookResponseDto toResponse(Book book, @Context AuthorMappingContext context);
+
     @Mapping(target = "authorName", source = "author.name")
     BookSummaryResponseDto toSummaryResponse(Book book);
 
+    /**
+     * Copy a response, with its own copies of every nested object, so it can be handed to another caller.
+     */
+    @BeanMapping(mappingControl = DeepClone.class)
+    BookResponseDto copy(BookResponseDto response);
+
+    @Named("toResponseWithoutAuthor")
+    @Mapping(target = "author", ignore = true)
+    BookResponseDto toResponseWithoutAuthor(Book book);
+
+    @Named("toSummaryResponseWithoutAuthor")
+    @Mapping(target = "authorName", ignore = true)
+    BookSummaryResponseDto toSummaryResponseWithoutAuthor(Book book);
+
+    /**
+     * Map a book, loading its author only when requested by the field selection.
+     */
+    default BookResponseDto toResponse(Book book, FieldSelection fields) {
+        return fields.includes("author") ? toResponse(book) : toResponseWithoutAuthor(book);
+    }
+
+    /**
+     * Map a book for a list, sharing author summaries through the context.
+     */
+    default BookResponseDto toResponse(Book book, FieldSelection fields, AuthorMappingContext context) {
+        return fields.includes("author") ? toResponse(book, context) : toResponseWithoutAuthor(book);
+    }
+
+    /**
+     * Map a book summary, loading its author only when requested by the field selection.
+     */
+    default BookSummaryResponseDto toSummaryResponse(Book book, FieldSelection fields) {
+        return fields.includes("authorName") ? toSummaryResponse(book) : toSummaryResponseWithoutAuthor(book);
+    }
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "author", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
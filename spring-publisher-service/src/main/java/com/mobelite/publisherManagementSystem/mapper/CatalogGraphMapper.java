@@ -0,0 +1,29 @@
+package com.mobelite.publisherManagementSystem.mapper;
+
+import com.mobelite.publisherManagementSystem.dto.response.graph.AuthorNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.BookNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.MagazineNodeDto;
+import com.mobelite.publisherManagementSystem.entity.Author;
+import com.mobelite.publisherManagementSystem.entity.Book;
+import com.mobelite.publisherManagementSystem.entity.Magazine;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Maps entities to the scalar-only GraphQL node DTOs. None of these mappings
+ * touch a lazy collection; the author of a book is read by ID only.
+ */
+@Mapper(
+        componentModel = "spring",
+        unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface CatalogGraphMapper {
+
+    AuthorNodeDto toNode(Author author);
+
+    @Mapping(target = "authorId", source = "author.id")
+    BookNodeDto toNode(Book book);
+
+    MagazineNodeDto toNode(Magazine magazine);
+}
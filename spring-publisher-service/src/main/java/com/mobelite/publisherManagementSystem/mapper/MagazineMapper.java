@@ -1,11 +1,16 @@
 package com.mobelite.publisherManagementSystem.mapper;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.magazine.MagazineRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.NormalizedMagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.entity.Author;
 import com.mobelite.publisherManagementSystem.entity.Magazine;
 import org.mapstruct.*;
 
+import java.util.List;
+
 
 @Mapper(
         componentModel = "spring",
@@ -29,6 +34,51 @@ public interface MagazineMapper {
     MagazineSummaryResponseDto toSummaryDto(Magazine magazine);
 
 
+    @Mapping(target = "title", source = "title")
+    @Mapping(target = "issueNumber", source = "issueNumber")
+    @Mapping(target = "authors", source = "authors", qualifiedByName = "toSummaryDtoMemoized")
+    MagazineSummaryResponseDto toSummaryDto(Magazine magazine, @Context AuthorMappingContext context);
+
+
+    @Named("toResponseDtoWithoutAuthors")
+    @Mapping(target = "authors", ignore = true)
+    MagazineResponseDto toResponseDtoWithoutAuthors(Magazine magazine);
+
+
+    @Named("toSummaryDtoWithoutAuthors")
+    @Mapping(target = "authors", ignore = true)
+    MagazineSummaryResponseDto toSummaryDtoWithoutAuthors(Magazine magazine);
+
+
+    /**
+     * Map a magazine, loading its authors only when requested by the field selection.
+     */
+    default MagazineResponseDto toResponseDto(Magazine magazine, FieldSelection fields) {
+        return fields.includes("authors") ? toResponseDto(magazine) : toResponseDtoWithoutAuthors(magazine);
+    }
+
+
+    /**
+     * Map a magazine summary, loading its authors only when requested by the field selection.
+     */
+    default MagazineSummaryResponseDto toSummaryDto(Magazine magazine, FieldSelection fields, AuthorMappingContext context) {
+        return fields.includes("authors") ? toSummaryDto(magazine, context) : toSummaryDtoWithoutAuthors(magazine);
+    }
+
+
+    /**
+     * Map a magazine summary for a normalized list, registering its authors in the response's author table.
+     */
+    @Mapping(target = "type", constant = "MAGAZINE")
+    @Mapping(target = "authorIds", source = "authors")
+    NormalizedMagazineSummaryResponseDto toNormalizedSummaryDto(Magazine magazine, @Context AuthorSideTable authorTable);
+
+
+    default List<Long> referenceAuthors(List<Author> authors, @Context AuthorSideTable authorTable) {
+        return authorTable.reference(authors);
+    }
+
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "authors", ignore = true)
     @Mapping(target = "title", source = "title")
@@ -1,26 +1,61 @@
 package com.mobelite.publisherManagementSystem.mapper;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.response.book.BookResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.book.BookSummaryResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.NormalizedMagazineSummaryResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.entity.Author;
 import com.mobelite.publisherManagementSystem.entity.Publication;
 import com.mobelite.publisherManagementSystem.entity.Book;
 import com.mobelite.publisherManagementSystem.entity.Magazine;
 import org.mapstruct.*;
 
+import java.util.List;
 
-@Mapper(componentModel = "spring")
+
+@Mapper(componentModel = "spring", uses = {AuthorMapper.class})
 public interface PublicationMapper {
 
     BookResponseDto bookToResponseDto(Book book);
     MagazineResponseDto magazineToResponseDto(Magazine magazine);
 
+    // The summaries' constructors set their type; publication listings do not load a book's author
+    @Mapping(target = "type", ignore = true)
+    @Mapping(target = "authorName", ignore = true)
     BookSummaryResponseDto bookToSummaryDto(Book book);
+
+    @Mapping(target = "type", ignore = true)
     MagazineSummaryResponseDto magazineToSummaryDto(Magazine magazine);
 
+    @Mapping(target = "type", ignore = true)
+    @Mapping(target = "authors", source = "authors", qualifiedByName = "toSummaryDtoMemoized")
+    MagazineSummaryResponseDto magazineToSummaryDto(Magazine magazine, @Context AuthorMappingContext context);
+
+    @Mapping(target = "type", constant = "MAGAZINE")
+    @Mapping(target = "authorIds", source = "authors")
+    NormalizedMagazineSummaryResponseDto magazineToNormalizedSummaryDto(Magazine magazine, @Context AuthorSideTable authorTable);
+
+    default List<Long> referenceAuthors(List<Author> authors, @Context AuthorSideTable authorTable) {
+        return authorTable.reference(authors);
+    }
+
+    @Named("bookToResponseDtoWithoutAuthor")
+    @Mapping(target = "author", ignore = true)
+    BookResponseDto bookToResponseDtoWithoutAuthor(Book book);
+
+    @Named("magazineToResponseDtoWithoutAuthors")
+    @Mapping(target = "authors", ignore = true)
+    MagazineResponseDto magazineToResponseDtoWithoutAuthors(Magazine magazine);
+
+    @Named("magazineToSummaryDtoWithoutAuthors")
+    @Mapping(target = "type", ignore = true)
+    @Mapping(target = "authors", ignore = true)
+    MagazineSummaryResponseDto magazineToSummaryDtoWithoutAuthors(Magazine magazine);
+
     default PublicationResponseDto toResponseDto(Publication publication) {
         if (publication instanceof Book) {
             return bookToResponseDto((Book) publication);
@@ -30,6 +65,19 @@ public interface PublicationMapper {
         throw new IllegalArgumentException("Unknown publication type");
     }
 
+    default PublicationResponseDto toResponseDto(Publication publication, FieldSelection fields) {
+        if (publication instanceof Book) {
+            return fields.includes("author")
+                    ? bookToResponseDto((Book) publication)
+                    : bookToResponseDtoWithoutAuthor((Book) publication);
+        } else if (publication instanceof Magazine) {
+            return fields.includes("authors")
+                    ? magazineToResponseDto((Magazine) publication)
+                    : magazineToResponseDtoWithoutAuthors((Magazine) publication);
+        }
+        throw new IllegalArgumentException("Unknown publication type");
+    }
+
     default PublicationSummaryResponseDto toSummaryResponseDto(Publication publication) {
         if (publication instanceof Book) {
             return bookToSummaryDto((Book) publication);
@@ -39,4 +87,28 @@ public interface PublicationMapper {
         throw new IllegalArgumentException("Unknown publication type");
     }
 
+    default PublicationSummaryResponseDto toSummaryResponseDto(Publication publication, FieldSelection fields, AuthorMappingContext context) {
+        if (publication instanceof Book) {
+            return bookToSummaryDto((Book) publication);
+        } else if (publication instanceof Magazine) {
+            return fields.includes("authors")
+                    ? magazineToSummaryDto((Magazine) publication, context)
+                    : magazineToSummaryDtoWithoutAuthors((Magazine) publication);
+        }
+        throw new IllegalArgumentException("Unknown publication type");
+    }
+
+    /**
+     * Map a publication for a normalized list: books are unchanged (they carry only the author's name),
+     * magazines reference their authors through the response's author table.
+     */
+    default PublicationSummaryResponseDto toNormalizedSummaryResponseDto(Publication publication, AuthorSideTable authorTable) {
+        if (publication instanceof Book) {
+            return bookToSummaryDto((Book) publication);
+        } else if (publication instanceof Magazine) {
+            return magazineToNormalizedSummaryDto((Magazine) publication, authorTable);
+        }
+        throw new IllegalArgumentException("Unknown publication type");
+    }
+
 }
\ No newline at end of file
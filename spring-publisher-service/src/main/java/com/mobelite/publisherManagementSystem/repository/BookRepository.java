@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +22,6 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     Page<Book> findByAuthorId(Long authorId, Pageable pageable);
 
+    List<Book> findByAuthorIdIn(Collection<Long> authorIds);
+
 }
\ No newline at end of file
@@ -0,0 +1,333 @@
+package com.mobelite.publisherManagementSystem.repository;
+
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
+import com.mobelite.publisherManagementSystem.dto.response.book.BookResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.book.BookSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Read-only JDBC access to list rows, bypassing the persistence context.
+ * Rows are decoded straight into DTOs that are reused from one row to the next, so consumers
+ * must write each DTO out before returning and must not keep a reference to it.
+ * Queries run in a read-only transaction so the driver fetches the result set in chunks.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class CatalogSummaryJdbcRepository {
+
+    private static final Map<String, String> PUBLICATION_SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title",
+            "publicationDate", "publication_date");
+
+    private static final Map<String, String> BOOK_SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title",
+            "publicationDate", "publication_date",
+            "isbn", "isbn");
+
+    private static final String AUTHOR_COLUMNS =
+            "a.id AS author_id, a.name AS author_name, a.nationality AS author_nationality, a.birth_date AS author_birth_date";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CatalogSummaryJdbcRepository(DataSource dataSource,
+                                        @Value("${streaming.list.fetch-size:256}") int fetchSize) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    /**
+     * Whether every sort property of a publication list maps to a column.
+     */
+    public boolean supportsPublicationSort(Sort sort) {
+        return supportsSort(sort, PUBLICATION_SORT_COLUMNS);
+    }
+
+    /**
+     * Whether every sort property of a book list maps to a column.
+     */
+    public boolean supportsBookSort(Sort sort) {
+        return supportsSort(sort, BOOK_SORT_COLUMNS);
+    }
+
+    /**
+     * Stream one page of publication summaries, optionally filtered by a case-insensitive title fragment.
+     * Magazines come with their authors; books carry neither author nor type, as in the mapped list.
+     */
+    public void streamPublicationSummaries(String titleFragment, Pageable pageable,
+                                           Consumer<PublicationSummaryResponseDto> sink) {
+        MapSqlParameterSource params = pageParams(pageable);
+        String orderBy = orderBy(pageable.getSort(), PUBLICATION_SORT_COLUMNS);
+        String sql = "SELECT p.id, p.publication_type, p.title, p.publication_date, p.isbn, p.issue_number, " + AUTHOR_COLUMNS
+                + " FROM (SELECT p.id, p.publication_type, p.title, p.publication_date, p.isbn, p.issue_number"
+                + " FROM publications p" + titleFilter(titleFragment, params)
+                + orderBy + " LIMIT :limit OFFSET :offset) p"
+                + " LEFT JOIN magazine_authors ma ON ma.magazine_id = p.id"
+                + " LEFT JOIN authors a ON a.id = ma.author_id"
+                + orderBy;
+
+        queryPublicationSummaries(sql, params, sink);
+    }
+
+    /**
+     * Stream up to {@code limit} publication summaries with an id above {@code afterId}, in id order,
+     * optionally filtered by a case-insensitive title fragment.
+     * Keyset batches need neither an offset nor a count, and do not skip or repeat rows when others are
+     * inserted or deleted between batches.
+     */
+    public void scanPublicationSummaries(String titleFragment, long afterId, int limit,
+                                         Consumer<PublicationSummaryResponseDto> sink) {
+        MapSqlParameterSource params = keysetParams(afterId, limit);
+        String filter = titleFilter(titleFragment, params);
+        String sql = "SELECT p.id, p.publication_type, p.title, p.publication_date, p.isbn, p.issue_number, " + AUTHOR_COLUMNS
+                + " FROM (SELECT p.id, p.publication_type, p.title, p.publication_date, p.isbn, p.issue_number"
+                + " FROM publications p" + (filter.isEmpty() ? " WHERE" : filter + " AND") + " p.id > :afterId"
+                + " ORDER BY p.id ASC LIMIT :limit) p"
+                + " LEFT JOIN magazine_authors ma ON ma.magazine_id = p.id"
+                + " LEFT JOIN authors a ON a.id = ma.author_id"
+                + " ORDER BY p.id ASC";
+
+        queryPublicationSummaries(sql, params, sink);
+    }
+
+    public long countPublications(String titleFragment) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM publications p" + titleFilter(titleFragment, params), params, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Stream one page of books with their author summary, optionally restricted to one author.
+     */
+    public void streamBooks(Long authorId, Pageable pageable, Consumer<BookResponseDto> sink) {
+        MapSqlParameterSource params = pageParams(pageable);
+        Map<Long, AuthorSummaryDto> authors = new HashMap<>();
+        BookResponseDto book = new BookResponseDto();
+
+        jdbcTemplate.query(bookPageSql(authorId, params, pageable), params, (RowCallbackHandler) rs -> {
+            book.setId(rs.getLong("id"));
+            book.setTitle(rs.getString("title"));
+            book.setPublicationDate(rs.getObject("publication_date", LocalDate.class));
+            book.setIsbn(rs.getString("isbn"));
+            book.setAuthor(readAuthor(rs, authors));
+            sink.accept(book);
+        });
+    }
+
+    /**
+     * Stream one page of book summaries, optionally restricted to one author.
+     */
+    public void streamBookSummaries(Long authorId, Pageable pageable, Consumer<BookSummaryResponseDto> sink) {
+        MapSqlParameterSource params = pageParams(pageable);
+        queryBookSummaries(bookPageSql(authorId, params, pageable), params, sink);
+    }
+
+    /**
+     * Stream up to {@code limit} book summaries with an id above {@code afterId}, in id order,
+     * optionally restricted to one author.
+     */
+    public void scanBookSummaries(Long authorId, long afterId, int limit, Consumer<BookSummaryResponseDto> sink) {
+        MapSqlParameterSource params = keysetParams(afterId, limit);
+        String sql = "SELECT p.id, p.title, p.publication_date, p.isbn, " + AUTHOR_COLUMNS
+                + " FROM publications p LEFT JOIN authors a ON a.id = p.author_id"
+                + bookFilter(authorId, params) + " AND p.id > :afterId"
+                + " ORDER BY p.id ASC LIMIT :limit";
+
+        queryBookSummaries(sql, params, sink);
+    }
+
+    public long countBooks(Long authorId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM publications p" + bookFilter(authorId, params), params, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    private void queryPublicationSummaries(String sql, MapSqlParameterSource params,
+                                           Consumer<PublicationSummaryResponseDto> sink) {
+        PublicationRowHandler handler = new PublicationRowHandler(sink);
+        jdbcTemplate.query(sql, params, handler);
+        handler.finish();
+    }
+
+    private void queryBookSummaries(String sql, MapSqlParameterSource params, Consumer<BookSummaryResponseDto> sink) {
+        BookSummaryResponseDto book = BookSummaryResponseDto.builder().build();
+
+        jdbcTemplate.query(sql, params, (RowCallbackHandler) rs -> {
+            book.setId(rs.getLong("id"));
+            book.setTitle(rs.getString("title"));
+            book.setPublicationDate(rs.getObject("publication_date", LocalDate.class));
+            book.setIsbn(rs.getString("isbn"));
+            book.setAuthorName(rs.getString("author_name"));
+            sink.accept(book);
+        });
+    }
+
+    private String bookPageSql(Long authorId, MapSqlParameterSource params, Pageable pageable) {
+        return "SELECT p.id, p.title, p.publication_date, p.isbn, " + AUTHOR_COLUMNS
+                + " FROM publications p LEFT JOIN authors a ON a.id = p.author_id"
+                + bookFilter(authorId, params)
+                + orderBy(pageable.getSort(), BOOK_SORT_COLUMNS)
+                + " LIMIT :limit OFFSET :offset";
+    }
+
+    private static String bookFilter(Long authorId, MapSqlParameterSource params) {
+        if (authorId == null) {
+            return " WHERE p.publication_type = 'BOOK'";
+        }
+        params.addValue("authorId", authorId);
+        return " WHERE p.publication_type = 'BOOK' AND p.author_id = :authorId";
+    }
+
+    private static String titleFilter(String titleFragment, MapSqlParameterSource params) {
+        if (titleFragment == null) {
+            return "";
+        }
+        params.addValue("title", "%" + escapeLike(titleFragment) + "%");
+        return " WHERE upper(p.title) LIKE upper(:title) ESCAPE '\\'";
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static MapSqlParameterSource pageParams(Pageable pageable) {
+        return new MapSqlParameterSource()
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+    }
+
+    private static MapSqlParameterSource keysetParams(long afterId, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+    }
+
+    private static boolean supportsSort(Sort sort, Map<String, String> columns) {
+        return sort.stream().allMatch(order -> columns.containsKey(order.getProperty()));
+    }
+
+    /**
+     * ORDER BY clause for the given sort, always ending on the id so pages and magazine rows stay contiguous.
+     */
+    private static String orderBy(Sort sort, Map<String, String> columns) {
+        StringBuilder clause = new StringBuilder(" ORDER BY ");
+        boolean sortedById = false;
+        for (Sort.Order order : sort) {
+            String column = "p." + columns.get(order.getProperty());
+            clause.append(order.isIgnoreCase() ? "upper(" + column + ")" : column)
+                    .append(order.isAscending() ? " ASC" : " DESC");
+            if (order.getNullHandling() == Sort.NullHandling.NULLS_FIRST) {
+                clause.append(" NULLS FIRST");
+            } else if (order.getNullHandling() == Sort.NullHandling.NULLS_LAST) {
+                clause.append(" NULLS LAST");
+            }
+            clause.append(", ");
+            sortedById |= "id".equals(order.getProperty());
+        }
+        if (!sortedById) {
+            clause.append("p.id ASC");
+        } else {
+            clause.setLength(clause.length() - 2);
+        }
+        return clause.toString();
+    }
+
+    private static AuthorSummaryDto readAuthor(ResultSet rs, Map<Long, AuthorSummaryDto> authors) throws SQLException {
+        long authorId = rs.getLong("author_id");
+        if (rs.wasNull()) {
+            return null;
+        }
+        AuthorSummaryDto author = authors.get(authorId);
+        if (author == null) {
+            author = AuthorSummaryDto.builder()
+                    .id(authorId)
+                    .name(rs.getString("author_name"))
+                    .nationality(rs.getString("author_nationality"))
+                    .birthDate(rs.getObject("author_birth_date", LocalDate.class))
+                    .build();
+            authors.put(authorId, author);
+        }
+        return author;
+    }
+
+    /**
+     * Folds the one-row-per-author result of the publication query back into one DTO per publication.
+     */
+    private static final class PublicationRowHandler implements RowCallbackHandler {
+
+        private final Consumer<PublicationSummaryResponseDto> sink;
+        private final Map<Long, AuthorSummaryDto> authors = new HashMap<>();
+        private final BookSummaryResponseDto book = BookSummaryResponseDto.builder().build();
+        private final MagazineSummaryResponseDto magazine = MagazineSummaryResponseDto.builder()
+                .authors(new ArrayList<>())
+                .build();
+        private boolean magazinePending;
+
+        private PublicationRowHandler(Consumer<PublicationSummaryResponseDto> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (magazinePending && magazine.getId() == id) {
+                addAuthor(rs);
+                return;
+            }
+            finish();
+
+            if ("MAGAZINE".equals(rs.getString("publication_type"))) {
+                magazine.setId(id);
+                magazine.setTitle(rs.getString("title"));
+                magazine.setPublicationDate(rs.getObject("publication_date", LocalDate.class));
+                magazine.setIssueNumber(rs.getObject("issue_number", Integer.class));
+                magazine.getAuthors().clear();
+                addAuthor(rs);
+                magazinePending = true;
+            } else {
+                book.setId(id);
+                book.setTitle(rs.getString("title"));
+                book.setPublicationDate(rs.getObject("publication_date", LocalDate.class));
+                book.setIsbn(rs.getString("isbn"));
+                sink.accept(book);
+            }
+        }
+
+        private void addAuthor(ResultSet rs) throws SQLException {
+            AuthorSummaryDto author = readAuthor(rs, authors);
+            if (author != null) {
+                magazine.getAuthors().add(author);
+            }
+        }
+
+        private void finish() {
+            if (magazinePending) {
+                magazinePending = false;
+                sink.accept(magazine);
+            }
+        }
+    }
+}
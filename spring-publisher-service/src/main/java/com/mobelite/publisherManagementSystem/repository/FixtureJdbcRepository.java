@@ -0,0 +1,123 @@
+package com.mobelite.publisherManagementSystem.repository;
+
+import com.mobelite.publisherManagementSystem.enums.FixtureDataset;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based SQL behind the test fixtures: a dataset is seeded with one statement per table, and a snapshot is
+ * a copy of the catalog tables in its own schema, restored by truncating the live tables and copying back.
+ * Identity sequences are left alone on restore, so ids handed out after a snapshot are never reused.
+ * Only present with the {@code fixtures} profile.
+ */
+@Repository
+@Profile("fixtures")
+public class FixtureJdbcRepository {
+
+    /** Catalog tables in foreign-key order: parents are restored before children */
+    static final List<String> TABLES = List.of("authors", "publications", "magazine_authors");
+
+    private static final String SNAPSHOT_SCHEMA_PREFIX = "fixture_snapshot_";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FixtureJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert the dataset's authors, books and magazines, named after the given prefix, and return the author ids.
+     */
+    public List<Long> seed(FixtureDataset dataset, String prefix, long isbnBase) {
+        List<Long> authorIds = jdbcTemplate.queryForList("""
+                INSERT INTO authors (name, birth_date, nationality)
+                SELECT ? || ' Author ' || i, DATE '1940-01-01' + (i * 7) % 20000,
+                       (ARRAY['Tunisian', 'French', 'British', 'American', 'German'])[1 + i % 5]
+                FROM generate_series(1, ?) AS i
+                ORDER BY i
+                RETURNING id""", Long.class, prefix, dataset.getAuthors());
+
+        jdbcTemplate.update("""
+                WITH a AS (SELECT id, row_number() OVER (ORDER BY id) - 1 AS k FROM authors WHERE name LIKE ? || ' Author %')
+                INSERT INTO publications (publication_type, title, publication_date, isbn, author_id)
+                SELECT 'BOOK', ? || ' Book ' || i, DATE '1990-01-01' + i % 12000, (? + i)::text, a.id
+                FROM generate_series(1, ?) AS i JOIN a ON a.k = i % ?""",
+                prefix, prefix, isbnBase, dataset.getBooks(), dataset.getAuthors());
+
+        jdbcTemplate.update("""
+                INSERT INTO publications (publication_type, title, publication_date, issue_number)
+                SELECT 'MAGAZINE', ? || ' Magazine ' || i, DATE '1990-01-01' + i % 12000, 1 + i % 300
+                FROM generate_series(1, ?) AS i""", prefix, dataset.getMagazines());
+
+        jdbcTemplate.update("""
+                WITH a AS (SELECT id, row_number() OVER (ORDER BY id) - 1 AS k FROM authors WHERE name LIKE ? || ' Author %'),
+                     m AS (SELECT id, row_number() OVER (ORDER BY id) AS k FROM publications WHERE title LIKE ? || ' Magazine %')
+                INSERT INTO magazine_authors (magazine_id, author_id)
+                SELECT DISTINCT m.id, a.id
+                FROM m CROSS JOIN generate_series(0, 1) AS j JOIN a ON a.k = (m.k + j) % ?""",
+                prefix, prefix, dataset.getAuthors());
+
+        return authorIds;
+    }
+
+    /**
+     * Copy the catalog tables into the snapshot's schema, replacing an earlier snapshot of the same name.
+     */
+    public Map<String, Long> snapshot(String name) {
+        String schema = schema(name);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + schema);
+        for (String table : TABLES) {
+            jdbcTemplate.execute("CREATE TABLE " + schema + "." + table + " AS TABLE public." + table);
+        }
+        return rowCounts(schema);
+    }
+
+    /**
+     * Replace the content of the catalog tables with the snapshot's.
+     */
+    public Map<String, Long> restore(String name) {
+        String schema = schema(name);
+        jdbcTemplate.execute("TRUNCATE " + String.join(", ", TABLES.stream().map(table -> "public." + table).toList()));
+        for (String table : TABLES) {
+            jdbcTemplate.execute("INSERT INTO public." + table + " SELECT * FROM " + schema + "." + table);
+        }
+        jdbcTemplate.execute("ANALYZE " + String.join(", ", TABLES));
+        return rowCounts(schema);
+    }
+
+    public boolean exists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM information_schema.schemata WHERE schema_name = ?)",
+                Boolean.class, schema(name)));
+    }
+
+    public List<String> snapshotNames() {
+        return jdbcTemplate.queryForList("""
+                SELECT substr(schema_name, ?) FROM information_schema.schemata
+                WHERE schema_name LIKE ? ORDER BY schema_name""",
+                String.class, SNAPSHOT_SCHEMA_PREFIX.length() + 1, SNAPSHOT_SCHEMA_PREFIX + "%");
+    }
+
+    public void drop(String name) {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema(name) + " CASCADE");
+    }
+
+    private Map<String, Long> rowCounts(String schema) {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        for (String table : TABLES) {
+            rows.put(table, jdbcTemplate.queryForObject("SELECT count(*) FROM " + schema + "." + table, Long.class));
+        }
+        return rows;
+    }
+
+    /** Snapshot names are validated by the service, so they are safe to use as identifiers */
+    private static String schema(String name) {
+        return SNAPSHOT_SCHEMA_PREFIX + name;
+    }
+}
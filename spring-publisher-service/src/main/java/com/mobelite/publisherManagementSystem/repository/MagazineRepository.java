@@ -3,14 +3,19 @@ package com.mobelite.publisherManagementSystem.repository;
 import com.mobelite.publisherManagementSystem.entity.Magazine;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface MagazineRepository extends JpaRepository<Magazine, Long> {
 
-
-
+    @EntityGraph(attributePaths = {"authors"})
+    @Query("SELECT m FROM Magazine m WHERE m.id IN :ids")
+    List<Magazine> findAllWithAuthorsByIdIn(Collection<Long> ids);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.mobelite.publisherManagementSystem.entity.Magazine;
 import com.mobelite.publisherManagementSystem.entity.Publication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,6 +27,7 @@ public interface PublicationRepository extends JpaRepository<Publication, Long>
     @Query("SELECT b FROM Book b")
     List<Book> findAllBooks();
 
+    @EntityGraph(attributePaths = {"authors"})
     @Query("SELECT m FROM Magazine m")
     List<Magazine> findAllMagazines();
 
@@ -1,5 +1,6 @@
 package com.mobelite.publisherManagementSystem.service;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.author.AuthorRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.author.AuthorResponseDto;
 import com.mobelite.publisherManagementSystem.entity.Author;
@@ -25,20 +26,22 @@ public interface AuthorService {
     AuthorResponseDto createAuthor(AuthorRequestDto authorRequestDto);
 
     /**
-     * Get author by ID.
+     * Get author by ID, fetching only the collections requested by the field selection.
      *
      * @param id Author ID
+     * @param fields Requested fields, {@link FieldSelection#all()} for every field
      * @return Author response
      */
-    AuthorResponseDto getAuthorById(Long id);
+    AuthorResponseDto getAuthorById(Long id, FieldSelection fields);
 
     /**
-     * Get all authors with pagination.
+     * Get all authors with pagination, fetching only the collections requested by the field selection.
      *
      * @param pageable Pagination information
+     * @param fields Requested fields, {@link FieldSelection#all()} for every field
      * @return Page of author responses
      */
-    Page<AuthorResponseDto> getAllAuthors(Pageable pageable);
+    Page<AuthorResponseDto> getAllAuthors(Pageable pageable, FieldSelection fields);
 
     /**
      * Delete an author by ID.
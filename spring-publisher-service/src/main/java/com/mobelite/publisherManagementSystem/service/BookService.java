@@ -1,5 +1,6 @@
 package com.mobelite.publisherManagementSystem.service;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.book.BookCreateRequestDto;
 import com.mobelite.publisherManagementSystem.dto.request.book.BookUpdateRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.book.BookResponseDto;
@@ -31,35 +32,37 @@ public interface BookService {
     BookResponseDto updateBook(Long id, BookUpdateRequestDto request);
 
     /**
-     * Get a book by ID.
+     * Get a book by ID, loading its author only when requested.
      * @param id The book ID
+     * @param fields Requested fields, {@link FieldSelection#all()} for every field
      * @return The book response
-     * @throws IllegalArgumentException if book doesn't exist
      */
-    BookResponseDto getBookById(Long id);
+    BookResponseDto getBookById(Long id, FieldSelection fields);
 
     /**
-     * Get a book by ISBN.
+     * Get a book by ISBN, loading its author only when requested.
      * @param isbn The ISBN
+     * @param fields Requested fields, {@link FieldSelection#all()} for every field
      * @return The book response
-     * @throws IllegalArgumentException if book doesn't exist
      */
-    BookResponseDto getBookByIsbn(String isbn);
+    BookResponseDto getBookByIsbn(String isbn, FieldSelection fields);
 
     /**
-     * Get all books with pagination.
+     * Get all books with pagination, loading authors only when requested.
      * @param pageable Pagination information
-     * @return Page of book summaries
+     * @param fields Requested fields, {@link FieldSelection#all()} for every field
+     * @return Page of books
      */
-    Page<BookResponseDto> getAllBooks(Pageable pageable);
+    Page<BookResponseDto> getAllBooks(Pageable pageable, FieldSelection fields);
 
     /**
-     * Get books by author ID.
+     * Get books by author ID, loading the author name only when requested.
      * @param authorId The author ID
      * @param pageable Pagination information
+     * @param fields Requested fields, {@link FieldSelection#all()} for every field
      * @return Page of book summaries
      */
-    Page<BookSummaryResponseDto> getBooksByAuthor(Long authorId, Pageable pageable);
+    Page<BookSummaryResponseDto> getBooksByAuthor(Long authorId, Pageable pageable, FieldSelection fields);
 
 
     /**
@@ -0,0 +1,95 @@
+package com.mobelite.publisherManagementSystem.service;
+
+import com.mobelite.publisherManagementSystem.dto.response.graph.AuthorNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.BookNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.MagazineNodeDto;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface backing the GraphQL catalogue.
+ * Root lookups return scalar-only nodes; the batch methods resolve one association
+ * level for a whole set of parents in a single query.
+ */
+public interface CatalogGraphService {
+
+    /**
+     * Get author by ID.
+     * @param id Author ID
+     * @return Author node
+     */
+    AuthorNodeDto getAuthor(Long id);
+
+    /**
+     * Get a page of authors.
+     * @param pageable Pagination information
+     * @return Author nodes of the requested page
+     */
+    List<AuthorNodeDto> getAuthors(Pageable pageable);
+
+    /**
+     * Get book by ID.
+     * @param id Book ID
+     * @return Book node
+     */
+    BookNodeDto getBook(Long id);
+
+    /**
+     * Get book by ISBN.
+     * @param isbn Book ISBN
+     * @return Book node
+     */
+    BookNodeDto getBookByIsbn(String isbn);
+
+    /**
+     * Get a page of books.
+     * @param pageable Pagination information
+     * @return Book nodes of the requested page
+     */
+    List<BookNodeDto> getBooks(Pageable pageable);
+
+    /**
+     * Get magazine by ID.
+     * @param id Magazine ID
+     * @return Magazine node
+     */
+    MagazineNodeDto getMagazine(Long id);
+
+    /**
+     * Get a page of magazines.
+     * @param pageable Pagination information
+     * @return Magazine nodes of the requested page
+     */
+    List<MagazineNodeDto> getMagazines(Pageable pageable);
+
+    /**
+     * Load authors by ID in one query.
+     * @param ids Author IDs
+     * @return Authors keyed by ID; unknown IDs are absent
+     */
+    Map<Long, AuthorNodeDto> getAuthorsByIds(Collection<Long> ids);
+
+    /**
+     * Load the books of several authors in one query.
+     * @param authorIds Author IDs
+     * @return Books keyed by author ID; authors without books are absent
+     */
+    Map<Long, List<BookNodeDto>> getBooksByAuthorIds(Collection<Long> authorIds);
+
+    /**
+     * Load the magazines of several authors in one query.
+     * @param authorIds Author IDs
+     * @return Magazines keyed by author ID; authors without magazines are absent
+     */
+    Map<Long, List<MagazineNodeDto>> getMagazinesByAuthorIds(Collection<Long> authorIds);
+
+    /**
+     * Load the authors of several magazines in one query.
+     * @param magazineIds Magazine IDs
+     * @return Authors keyed by magazine ID; magazines without authors are absent
+     */
+    Map<Long, List<AuthorNodeDto>> getAuthorsByMagazineIds(Collection<Long> magazineIds);
+}
@@ -0,0 +1,70 @@
+package com.mobelite.publisherManagementSystem.service;
+
+import com.mobelite.publisherManagementSystem.dto.response.book.BookSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.function.Consumer;
+
+/**
+ * Service interface for list endpoints that stream their JSON response, and for scans that read the catalogue
+ * in batches.
+ * Each stream method returns the response body; rows are read and written only when the body is written,
+ * producing the same JSON as the corresponding paged endpoint.
+ * Scan methods read one keyset batch, in id order, and reuse the row passed to the sink from one row to the next.
+ */
+public interface CatalogStreamService {
+
+    /**
+     * Stream a page of publication summaries.
+     * @param pageable Pagination information
+     * @param message Envelope message
+     * @return Response body writing the page
+     */
+    StreamingResponseBody streamAllPublications(Pageable pageable, String message);
+
+    /**
+     * Stream a page of publication summaries whose title contains the given text (case-insensitive).
+     * @param title Title to search for
+     * @param pageable Pagination information
+     * @param message Envelope message
+     * @return Response body writing the page
+     */
+    StreamingResponseBody streamPublicationsByTitle(String title, Pageable pageable, String message);
+
+    /**
+     * Stream a page of books.
+     * @param pageable Pagination information
+     * @param message Envelope message
+     * @return Response body writing the page
+     */
+    StreamingResponseBody streamAllBooks(Pageable pageable, String message);
+
+    /**
+     * Stream a page of book summaries by author.
+     * @param authorId Author ID
+     * @param pageable Pagination information
+     * @param message Envelope message
+     * @return Response body writing the page
+     */
+    StreamingResponseBody streamBooksByAuthor(Long authorId, Pageable pageable, String message);
+
+    /**
+     * Read the next batch of publication summaries, optionally filtered by title (case-insensitive).
+     * @param title Title to search for, or null for every publication
+     * @param afterId Id of the last row already read, 0 for the first batch
+     * @param limit Maximum number of rows
+     * @param sink Consumer of each row, which must not keep it
+     */
+    void scanPublications(String title, long afterId, int limit, Consumer<PublicationSummaryResponseDto> sink);
+
+    /**
+     * Read the next batch of book summaries by author.
+     * @param authorId Author ID
+     * @param afterId Id of the last row already read, 0 for the first batch
+     * @param limit Maximum number of rows
+     * @param sink Consumer of each row, which must not keep it
+     */
+    void scanBooksByAuthor(Long authorId, long afterId, int limit, Consumer<BookSummaryResponseDto> sink);
+}
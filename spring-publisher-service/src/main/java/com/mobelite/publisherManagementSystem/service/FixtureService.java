@@ -0,0 +1,52 @@
+package com.mobelite.publisherManagementSystem.service;
+
+import com.mobelite.publisherManagementSystem.dto.response.fixture.FixtureDatasetResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.fixture.FixtureSnapshotResponseDto;
+
+import java.util.List;
+
+/**
+ * Service interface for test fixtures: bulk seeding of named datasets, and snapshots of the catalog
+ * that test suites restore instead of deleting what they created one entity at a time.
+ * Only available with the {@code fixtures} profile, never in production.
+ */
+public interface FixtureService {
+
+    /**
+     * Seed a named dataset in bulk. Every call adds a new copy, with its own name prefix.
+     *
+     * @param dataset Dataset name, see {@link com.mobelite.publisherManagementSystem.enums.FixtureDataset}
+     * @return Seeded dataset
+     */
+    FixtureDatasetResponseDto seedDataset(String dataset);
+
+    /**
+     * Snapshot the current catalog under a name, replacing an earlier snapshot of that name.
+     *
+     * @param name Snapshot name
+     * @return Snapshot summary
+     */
+    FixtureSnapshotResponseDto createSnapshot(String name);
+
+    /**
+     * Restore the catalog to a snapshot. Everything written since is lost.
+     *
+     * @param name Snapshot name
+     * @return Snapshot summary
+     */
+    FixtureSnapshotResponseDto restoreSnapshot(String name);
+
+    /**
+     * Get the names of the existing snapshots.
+     *
+     * @return Snapshot names
+     */
+    List<String> getSnapshotNames();
+
+    /**
+     * Delete a snapshot.
+     *
+     * @param name Snapshot name
+     */
+    void deleteSnapshot(String name);
+}
@@ -1,8 +1,11 @@
 package com.mobelite.publisherManagementSystem.service;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.magazine.MagazineRequestDto;
+import com.mobelite.publisherManagementSystem.dto.response.NormalizedPageDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.NormalizedMagazineSummaryResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -29,20 +32,31 @@ public interface MagazineService {
     MagazineResponseDto updateMagazine(Long id, MagazineRequestDto requestDto);
 
     /**
-     * Get magazine by ID.
+     * Get magazine by ID, loading its authors only when requested.
      * @param id Magazine ID
+     * @param fields Requested fields, {@link FieldSelection#all()} for every field
      * @return Magazine response
      */
-    MagazineResponseDto getMagazineById(Long id);
+    MagazineResponseDto getMagazineById(Long id, FieldSelection fields);
 
 
     /**
-     * Get all magazines with pagination.
+     * Get all magazines with pagination, loading authors only when requested.
      *
      * @param pageable Pagination information
+     * @param fields Requested fields, {@link FieldSelection#all()} for every field
      * @return Page of magazine summaries
      */
-    Page<MagazineSummaryResponseDto> getAllMagazines(Pageable pageable);
+    Page<MagazineSummaryResponseDto> getAllMagazines(Pageable pageable, FieldSelection fields);
+
+    /**
+     * Get all magazines with pagination in normalized form: magazines reference authors by ID
+     * and each author of the page is listed once.
+     *
+     * @param pageable Pagination information
+     * @return Normalized page of magazine summaries
+     */
+    NormalizedPageDto<NormalizedMagazineSummaryResponseDto> getAllMagazinesNormalized(Pageable pageable);
 
 
 
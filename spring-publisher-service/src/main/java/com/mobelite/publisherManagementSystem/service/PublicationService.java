@@ -1,11 +1,15 @@
 package com.mobelite.publisherManagementSystem.service;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import com.mobelite.publisherManagementSystem.dto.response.NormalizedPageDto;
 import com.mobelite.publisherManagementSystem.dto.response.publication.GroupedPublicationsResponse;
 import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 
 /**
  * Service interface for Publication operations.
@@ -14,18 +18,36 @@ import org.springframework.data.domain.Pageable;
 public interface PublicationService {
 
     /**
-     * Get a publication by ID.
+     * Get a publication by ID, loading its authors only when requested.
      * @param id The publication ID
+     * @param fields Requested fields, {@link FieldSelection#all()} for every field
      * @return The publication response
      */
-    PublicationResponseDto getPublicationById(Long id);
+    PublicationResponseDto getPublicationById(Long id, FieldSelection fields);
+
+    /**
+     * Get several publications by ID in a single query.
+     * Unknown IDs are skipped; the result follows the order of the requested IDs.
+     * @param ids The publication IDs
+     * @return The publication responses that were found
+     */
+    List<PublicationResponseDto> getPublicationsByIds(List<Long> ids);
 
     /**
-     * Get all publications with pagination.
+     * Get all publications with pagination, loading magazine authors only when requested.
      * @param pageable Pagination information
+     * @param fields Requested fields, {@link FieldSelection#all()} for every field
      * @return Page of publication summaries
      */
-    Page<PublicationSummaryResponseDto> getAllPublications(Pageable pageable);
+    Page<PublicationSummaryResponseDto> getAllPublications(Pageable pageable, FieldSelection fields);
+
+    /**
+     * Get all publications with pagination in normalized form: magazines reference authors by ID
+     * and each author of the page is listed once.
+     * @param pageable Pagination information
+     * @return Normalized page of publication summaries
+     */
+    NormalizedPageDto<PublicationSummaryResponseDto> getAllPublicationsNormalized(Pageable pageable);
 
     /**
      * Retrieves all publications grouped by type (books and magazines)
@@ -34,12 +56,21 @@ public interface PublicationService {
     GroupedPublicationsResponse getAllPublicationsGroupedByType();
 
     /**
-     * Search publications by title.
+     * Search publications by title, loading magazine authors only when requested.
      * @param title The title to search for
      * @param pageable Pagination information
+     * @param fields Requested fields, {@link FieldSelection#all()} for every field
      * @return Page of publication summaries
      */
-    Page<PublicationSummaryResponseDto> searchPublicationsByTitle(String title, Pageable pageable);
+    Page<PublicationSummaryResponseDto> searchPublicationsByTitle(String title, Pageable pageable, FieldSelection fields);
+
+    /**
+     * Search publications by title in normalized form.
+     * @param title The title to search for
+     * @param pageable Pagination information
+     * @return Normalized page of publication summaries
+     */
+    NormalizedPageDto<PublicationSummaryResponseDto> searchPublicationsByTitleNormalized(String title, Pageable pageable);
 
     /**
      * Delete a publication by ID.
@@ -1,12 +1,16 @@
 package com.mobelite.publisherManagementSystem.service.impl;
 
+import com.mobelite.publisherManagementSystem.config.ReadCoalescer;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.author.AuthorRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.author.AuthorResponseDto;
 import com.mobelite.publisherManagementSystem.entity.Author;
+import com.mobelite.publisherManagementSystem.entity.Magazine;
 import com.mobelite.publisherManagementSystem.exception.DuplicateResourceException;
 import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
 import com.mobelite.publisherManagementSystem.mapper.AuthorMapper;
 import com.mobelite.publisherManagementSystem.repository.AuthorRepository;
+import com.mobelite.publisherManagementSystem.repository.MagazineRepository;
 import com.mobelite.publisherManagementSystem.service.AuthorService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,8 +18,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -28,8 +35,12 @@ import java.util.stream.Collectors;
 @Transactional
 public class AuthorServiceImpl implements AuthorService {
 
+    static final String AUTHOR_BY_ID = "author";
+
     private final AuthorRepository authorRepository;
+    private final MagazineRepository magazineRepository;
     private final AuthorMapper authorMapper;
+    private final ReadCoalescer readCoalescer;
 
     @Override
     public AuthorResponseDto createAuthor(AuthorRequestDto authorRequestDto) {
@@ -45,35 +56,55 @@ public class AuthorServiceImpl implements AuthorService {
         return authorMapper.toResponseDto(savedAuthor);
     }
 
+    /**
+     * Coalesced: concurrent callers for the same author share one query, which runs in its own read-only
+     * transaction, so callers waiting for it hold no connection. Each gets its own copy of the author.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public AuthorResponseDto getAuthorById(Long id) {
-        Author author = authorRepository.findByIdWithPublications(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Author not found with ID: " + id));
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AuthorResponseDto getAuthorById(Long id, FieldSelection fields) {
+        return readCoalescer.load(AUTHOR_BY_ID, Arrays.asList(id, fields), () -> loadAuthor(id, fields), authorMapper::copy);
+    }
+
+    private AuthorResponseDto loadAuthor(Long id, FieldSelection fields) {
+        // Books and magazines are fetched apart: joined together they would return a row per pair of them
+        Optional<Author> author = fields.includes("books")
+                ? authorRepository.findByIdWithBooks(id)
+                : authorRepository.findById(id);
+        if (author.isPresent() && fields.includes("magazines")) {
+            fetchMagazines(List.of(id));
+        }
 
-        return authorMapper.toResponseDto(author);
+        return author
+                .map(found -> authorMapper.toResponseDto(found, fields))
+                .orElseThrow(() -> new ResourceNotFoundException("Author not found with ID: " + id));
     }
 
     /**
-     * Get all authors with their books and magazines with pagination support.
+     * Get all authors with pagination, fetching only the collections requested by the field selection.
+     * The page is read on its own and each collection with one query for the whole page: fetching a collection
+     * in the paged query would make Hibernate read every author and page in memory.
      */
     @Transactional(readOnly = true)
     @Override
-    public Page<AuthorResponseDto> getAllAuthors(Pageable pageable) {
+    public Page<AuthorResponseDto> getAllAuthors(Pageable pageable, FieldSelection fields) {
         try {
-            // Use pageable in repository call - you'll need to update your repository method
-            Page<Author> authorPage = authorRepository.findAllWithMagazines(pageable);
+            Page<Author> authorPage = authorRepository.findAll(pageable);
 
-            // Initialize books collection for each author in the current page
-            for (Author author : authorPage.getContent()) {
-                author.getBooks().size();
+            // Initialize the requested collections of the authors in the current page
+            List<Long> authorIds = authorPage.getContent().stream().map(Author::getId).toList();
+            if (!authorIds.isEmpty() && fields.includes("books")) {
+                authorRepository.findAllWithBooksByIdIn(authorIds);
+            }
+            if (!authorIds.isEmpty() && fields.includes("magazines")) {
+                fetchMagazines(authorIds);
             }
 
             // Map authors to response DTOs
             List<AuthorResponseDto> authorResponseDtos = authorPage.getContent().stream()
                     .map(author -> {
                         try {
-                            return authorMapper.toResponseDto(author);
+                            return authorMapper.toResponseDto(author, fields);
                         } catch (Exception e) {
                             log.error("Error mapping author with ID {}: {}", author.getId(), e.getMessage(), e);
                             throw new RuntimeException("Failed to map author data for ID: " + author.getId(), e);
@@ -90,6 +121,20 @@ public class AuthorServiceImpl implements AuthorService {
         }
     }
 
+    /**
+     * Load the magazines of the given authors, and the authors of those magazines, with one query each.
+     */
+    private void fetchMagazines(List<Long> authorIds) {
+        List<Long> magazineIds = authorRepository.findAllWithMagazinesByIdIn(authorIds).stream()
+                .flatMap(author -> author.getMagazines().stream())
+                .map(Magazine::getId)
+                .distinct()
+                .toList();
+        if (!magazineIds.isEmpty()) {
+            magazineRepository.findAllWithAuthorsByIdIn(magazineIds);
+        }
+    }
+
     @Override
     public void deleteAuthor(Long id) {
         log.info("Attempting to delete author with ID: {}", id);
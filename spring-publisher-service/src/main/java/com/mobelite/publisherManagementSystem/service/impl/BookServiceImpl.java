@@ -1,5 +1,7 @@
 package com.mobelite.publisherManagementSystem.service.impl;
 
+import com.mobelite.publisherManagementSystem.config.ReadCoalescer;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.book.BookCreateRequestDto;
 import com.mobelite.publisherManagementSystem.dto.request.book.BookUpdateRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.book.BookResponseDto;
@@ -8,6 +10,8 @@ import com.mobelite.publisherManagementSystem.entity.Author;
 import com.mobelite.publisherManagementSystem.entity.Book;
 import com.mobelite.publisherManagementSystem.exception.DuplicateResourceException;
 import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.mapper.AuthorMappingContext;
+import com.mobelite.publisherManagementSystem.mapper.AuthorSummaryCache;
 import com.mobelite.publisherManagementSystem.mapper.BookMapper;
 import com.mobelite.publisherManagementSystem.repository.AuthorRepository;
 import com.mobelite.publisherManagementSystem.repository.BookRepository;
@@ -18,8 +22,11 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+
 /**
  * Implementation of BookService interface.
  * Handles all business logic for book operations.
@@ -30,9 +37,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class BookServiceImpl implements BookService {
 
+    static final String BOOK_BY_ID = "book";
+    static final String BOOK_BY_ISBN = "book-isbn";
+
     private final BookRepository bookRepository;
     private final AuthorRepository authorRepository;
     private final BookMapper bookMapper;
+    private final AuthorSummaryCache authorSummaryCache;
+    private final ReadCoalescer readCoalescer;
 
     @Override
     @Transactional
@@ -92,36 +104,47 @@ public class BookServiceImpl implements BookService {
         return bookMapper.toResponse(updatedBook);
     }
 
+    /**
+     * Lookups by ID and ISBN are coalesced: concurrent callers for the same book share one query, which runs in
+     * its own read-only transaction, so callers waiting for it hold no connection. Each gets its own copy of the book.
+     */
     @Override
-    public BookResponseDto getBookById(Long id) {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BookResponseDto getBookById(Long id, FieldSelection fields) {
 
-        Book book = bookRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Book with ID " + id + " not found"));
+        return readCoalescer.load(BOOK_BY_ID, Arrays.asList(id, fields), () -> {
+            Book book = bookRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Book with ID " + id + " not found"));
 
-        return bookMapper.toResponse(book);
+            return bookMapper.toResponse(book, fields);
+        }, bookMapper::copy);
     }
 
     @Override
-    public BookResponseDto getBookByIsbn(String isbn) {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BookResponseDto getBookByIsbn(String isbn, FieldSelection fields) {
 
-        Book book = bookRepository.findByIsbn(isbn)
-                .orElseThrow(() -> new ResourceNotFoundException("Book with ISBN " + isbn + " not found"));
+        return readCoalescer.load(BOOK_BY_ISBN, Arrays.asList(isbn, fields), () -> {
+            Book book = bookRepository.findByIsbn(isbn)
+                    .orElseThrow(() -> new ResourceNotFoundException("Book with ISBN " + isbn + " not found"));
 
-        return bookMapper.toResponse(book);
+            return bookMapper.toResponse(book, fields);
+        }, bookMapper::copy);
     }
 
     @Override
-    public Page<BookResponseDto> getAllBooks(Pageable pageable) {
+    public Page<BookResponseDto> getAllBooks(Pageable pageable, FieldSelection fields) {
 
+        AuthorMappingContext context = authorSummaryCache.newContext();
         return bookRepository.findAll(pageable)
-                .map(bookMapper::toResponse);
+                .map(book -> bookMapper.toResponse(book, fields, context));
     }
 
     @Override
-    public Page<BookSummaryResponseDto> getBooksByAuthor(Long authorId, Pageable pageable) {
+    public Page<BookSummaryResponseDto> getBooksByAuthor(Long authorId, Pageable pageable, FieldSelection fields) {
 
         return bookRepository.findByAuthorId(authorId, pageable)
-                .map(bookMapper::toSummaryResponse);
+                .map(book -> bookMapper.toSummaryResponse(book, fields));
     }
 
 
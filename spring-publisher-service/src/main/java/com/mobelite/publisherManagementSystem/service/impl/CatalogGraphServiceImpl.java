@@ -0,0 +1,147 @@
+package com.mobelite.publisherManagementSystem.service.impl;
+
+import com.mobelite.publisherManagementSystem.dto.response.graph.AuthorNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.BookNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.MagazineNodeDto;
+import com.mobelite.publisherManagementSystem.entity.Author;
+import com.mobelite.publisherManagementSystem.entity.Book;
+import com.mobelite.publisherManagementSystem.entity.Magazine;
+import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.mapper.CatalogGraphMapper;
+import com.mobelite.publisherManagementSystem.repository.AuthorRepository;
+import com.mobelite.publisherManagementSystem.repository.BookRepository;
+import com.mobelite.publisherManagementSystem.repository.MagazineRepository;
+import com.mobelite.publisherManagementSystem.service.CatalogGraphService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of CatalogGraphService interface.
+ * Each batch method issues exactly one query regardless of how many parents it is given.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CatalogGraphServiceImpl implements CatalogGraphService {
+
+    private final AuthorRepository authorRepository;
+    private final BookRepository bookRepository;
+    private final MagazineRepository magazineRepository;
+    private final CatalogGraphMapper catalogGraphMapper;
+
+    @Override
+    public AuthorNodeDto getAuthor(Long id) {
+        return authorRepository.findById(id)
+                .map(catalogGraphMapper::toNode)
+                .orElseThrow(() -> new ResourceNotFoundException("Author not found with ID: " + id));
+    }
+
+    @Override
+    public List<AuthorNodeDto> getAuthors(Pageable pageable) {
+        return authorRepository.findAll(pageable)
+                .map(catalogGraphMapper::toNode)
+                .getContent();
+    }
+
+    @Override
+    public BookNodeDto getBook(Long id) {
+        return bookRepository.findById(id)
+                .map(catalogGraphMapper::toNode)
+                .orElseThrow(() -> new ResourceNotFoundException("Book with ID " + id + " not found"));
+    }
+
+    @Override
+    public BookNodeDto getBookByIsbn(String isbn) {
+        return bookRepository.findByIsbn(isbn)
+                .map(catalogGraphMapper::toNode)
+                .orElseThrow(() -> new ResourceNotFoundException("Book with ISBN " + isbn + " not found"));
+    }
+
+    @Override
+    public List<BookNodeDto> getBooks(Pageable pageable) {
+        return bookRepository.findAll(pageable)
+                .map(catalogGraphMapper::toNode)
+                .getContent();
+    }
+
+    @Override
+    public MagazineNodeDto getMagazine(Long id) {
+        return magazineRepository.findById(id)
+                .map(catalogGraphMapper::toNode)
+                .orElseThrow(() -> new ResourceNotFoundException("Magazine not found with ID: " + id));
+    }
+
+    @Override
+    public List<MagazineNodeDto> getMagazines(Pageable pageable) {
+        return magazineRepository.findAll(pageable)
+                .map(catalogGraphMapper::toNode)
+                .getContent();
+    }
+
+    @Override
+    public Map<Long, AuthorNodeDto> getAuthorsByIds(Collection<Long> ids) {
+        Map<Long, AuthorNodeDto> authors = new HashMap<>();
+        if (ids.isEmpty()) return authors;
+
+        for (Author author : authorRepository.findAllById(ids)) {
+            authors.put(author.getId(), catalogGraphMapper.toNode(author));
+        }
+        log.debug("Batch loaded {} authors for {} IDs", authors.size(), ids.size());
+        return authors;
+    }
+
+    @Override
+    public Map<Long, List<BookNodeDto>> getBooksByAuthorIds(Collection<Long> authorIds) {
+        Map<Long, List<BookNodeDto>> booksByAuthor = new HashMap<>();
+        if (authorIds.isEmpty()) return booksByAuthor;
+
+        for (Book book : bookRepository.findByAuthorIdIn(authorIds)) {
+            BookNodeDto node = catalogGraphMapper.toNode(book);
+            booksByAuthor.computeIfAbsent(node.getAuthorId(), key -> new ArrayList<>()).add(node);
+        }
+        log.debug("Batch loaded books for {} of {} authors", booksByAuthor.size(), authorIds.size());
+        return booksByAuthor;
+    }
+
+    @Override
+    public Map<Long, List<MagazineNodeDto>> getMagazinesByAuthorIds(Collection<Long> authorIds) {
+        Map<Long, List<MagazineNodeDto>> magazinesByAuthor = new HashMap<>();
+        if (authorIds.isEmpty()) return magazinesByAuthor;
+
+        for (Author author : authorRepository.findAllWithMagazinesByIdIn(authorIds)) {
+            List<MagazineNodeDto> magazines = new ArrayList<>();
+            for (Magazine magazine : author.getMagazines()) {
+                magazines.add(catalogGraphMapper.toNode(magazine));
+            }
+            magazinesByAuthor.put(author.getId(), magazines);
+        }
+        log.debug("Batch loaded magazines for {} authors", authorIds.size());
+        return magazinesByAuthor;
+    }
+
+    @Override
+    public Map<Long, List<AuthorNodeDto>> getAuthorsByMagazineIds(Collection<Long> magazineIds) {
+        Map<Long, List<AuthorNodeDto>> authorsByMagazine = new HashMap<>();
+        if (magazineIds.isEmpty()) return authorsByMagazine;
+
+        for (Magazine magazine : magazineRepository.findAllWithAuthorsByIdIn(magazineIds)) {
+            List<AuthorNodeDto> authors = new ArrayList<>();
+            for (Author author : magazine.getAuthors()) {
+                authors.add(catalogGraphMapper.toNode(author));
+            }
+            authorsByMagazine.put(magazine.getId(), authors);
+        }
+        log.debug("Batch loaded authors for {} magazines", magazineIds.size());
+        return authorsByMagazine;
+    }
+}
@@ -0,0 +1,97 @@
+package com.mobelite.publisherManagementSystem.service.impl;
+
+import com.mobelite.publisherManagementSystem.config.StreamingPageWriter;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import com.mobelite.publisherManagementSystem.dto.response.book.BookResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.book.BookSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.repository.CatalogSummaryJdbcRepository;
+import com.mobelite.publisherManagementSystem.service.BookService;
+import com.mobelite.publisherManagementSystem.service.CatalogStreamService;
+import com.mobelite.publisherManagementSystem.service.PublicationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.function.Consumer;
+
+/**
+ * Implementation of CatalogStreamService interface.
+ * Pages whose sort maps onto plain columns are read through a JDBC cursor and written row by row;
+ * any other sort (e.g. on an association path) is served by the regular service and written in one go.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogStreamServiceImpl implements CatalogStreamService {
+
+    private final CatalogSummaryJdbcRepository summaryRepository;
+    private final PublicationService publicationService;
+    private final BookService bookService;
+    private final StreamingPageWriter pageWriter;
+
+    @Override
+    public StreamingResponseBody streamAllPublications(Pageable pageable, String message) {
+        return streamPublications(null, pageable, message);
+    }
+
+    @Override
+    public StreamingResponseBody streamPublicationsByTitle(String title, Pageable pageable, String message) {
+        return streamPublications(title, pageable, message);
+    }
+
+    @Override
+    public StreamingResponseBody streamAllBooks(Pageable pageable, String message) {
+        if (pageable.isUnpaged() || !summaryRepository.supportsBookSort(pageable.getSort())) {
+            log.debug("Sort {} not streamable, mapping the book page", pageable.getSort());
+            return materialized(bookService.getAllBooks(pageable, FieldSelection.all()), message);
+        }
+
+        return out -> pageWriter.<BookResponseDto>write(out, message, pageable,
+                sink -> summaryRepository.streamBooks(null, pageable, sink),
+                () -> summaryRepository.countBooks(null));
+    }
+
+    @Override
+    public StreamingResponseBody streamBooksByAuthor(Long authorId, Pageable pageable, String message) {
+        if (pageable.isUnpaged() || !summaryRepository.supportsBookSort(pageable.getSort())) {
+            log.debug("Sort {} not streamable, mapping the book page", pageable.getSort());
+            return materialized(bookService.getBooksByAuthor(authorId, pageable, FieldSelection.all()), message);
+        }
+
+        return out -> pageWriter.<BookSummaryResponseDto>write(out, message, pageable,
+                sink -> summaryRepository.streamBookSummaries(authorId, pageable, sink),
+                () -> summaryRepository.countBooks(authorId));
+    }
+
+    @Override
+    public void scanPublications(String title, long afterId, int limit, Consumer<PublicationSummaryResponseDto> sink) {
+        summaryRepository.scanPublicationSummaries(title, afterId, limit, sink);
+    }
+
+    @Override
+    public void scanBooksByAuthor(Long authorId, long afterId, int limit, Consumer<BookSummaryResponseDto> sink) {
+        summaryRepository.scanBookSummaries(authorId, afterId, limit, sink);
+    }
+
+    private StreamingResponseBody streamPublications(String title, Pageable pageable, String message) {
+        if (pageable.isUnpaged() || !summaryRepository.supportsPublicationSort(pageable.getSort())) {
+            log.debug("Sort {} not streamable, mapping the publication page", pageable.getSort());
+            Page<PublicationSummaryResponseDto> page = title == null
+                    ? publicationService.getAllPublications(pageable, FieldSelection.all())
+                    : publicationService.searchPublicationsByTitle(title, pageable, FieldSelection.all());
+            return materialized(page, message);
+        }
+
+        return out -> pageWriter.<PublicationSummaryResponseDto>write(out, message, pageable,
+                sink -> summaryRepository.streamPublicationSummaries(title, pageable, sink),
+                () -> summaryRepository.countPublications(title));
+    }
+
+    private StreamingResponseBody materialized(Page<?> page, String message) {
+        return out -> pageWriter.write(out, message, page);
+    }
+}
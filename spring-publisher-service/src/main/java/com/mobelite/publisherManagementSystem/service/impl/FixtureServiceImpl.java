@@ -0,0 +1,114 @@
+package com.mobelite.publisherManagementSystem.service.impl;
+
+import com.mobelite.publisherManagementSystem.dto.response.fixture.FixtureDatasetResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.fixture.FixtureSnapshotResponseDto;
+import com.mobelite.publisherManagementSystem.enums.FixtureDataset;
+import com.mobelite.publisherManagementSystem.exception.BusinessException;
+import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.repository.FixtureJdbcRepository;
+import com.mobelite.publisherManagementSystem.service.FixtureService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Implementation of FixtureService interface.
+ * Each operation runs in one transaction, so a failed seed or restore leaves the catalog as it was.
+ */
+@Service
+@Profile("fixtures")
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class FixtureServiceImpl implements FixtureService {
+
+    // Snapshot names become part of a schema name
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("[a-z0-9_]{1,40}");
+
+    private final FixtureJdbcRepository fixtureRepository;
+
+    @Override
+    public FixtureDatasetResponseDto seedDataset(String dataset) {
+        FixtureDataset fixtureDataset = FixtureDataset.fromString(dataset);
+        if (fixtureDataset == null) {
+            throw new ResourceNotFoundException("Fixture dataset not found: " + dataset);
+        }
+
+        // Titles and ISBNs are unique, so each copy of a dataset gets its own
+        long token = ThreadLocalRandom.current().nextLong(100_000, 1_000_000);
+        String prefix = "fixture-" + fixtureDataset.name().toLowerCase() + "-" + token;
+        // 13-digit ISBNs: the token, then up to 100 000 books per copy
+        long isbnBase = 9_790_000_000_000L + token * 100_000;
+
+        long start = System.nanoTime();
+        List<Long> authorIds = fixtureRepository.seed(fixtureDataset, prefix, isbnBase);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Seeded fixture dataset {} as '{}' in {} ms", fixtureDataset, prefix, elapsedMillis);
+
+        return FixtureDatasetResponseDto.builder()
+                .dataset(fixtureDataset.name())
+                .prefix(prefix)
+                .authorIds(authorIds)
+                .books(fixtureDataset.getBooks())
+                .magazines(fixtureDataset.getMagazines())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    @Override
+    public FixtureSnapshotResponseDto createSnapshot(String name) {
+        validateSnapshotName(name);
+
+        long start = System.nanoTime();
+        Map<String, Long> rows = fixtureRepository.snapshot(name);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Created fixture snapshot '{}' of {} in {} ms", name, rows, elapsedMillis);
+
+        return new FixtureSnapshotResponseDto(name, rows, elapsedMillis);
+    }
+
+    @Override
+    public FixtureSnapshotResponseDto restoreSnapshot(String name) {
+        requireSnapshot(name);
+
+        long start = System.nanoTime();
+        Map<String, Long> rows = fixtureRepository.restore(name);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Restored fixture snapshot '{}' ({}) in {} ms", name, rows, elapsedMillis);
+
+        return new FixtureSnapshotResponseDto(name, rows, elapsedMillis);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> getSnapshotNames() {
+        return fixtureRepository.snapshotNames();
+    }
+
+    @Override
+    public void deleteSnapshot(String name) {
+        requireSnapshot(name);
+        fixtureRepository.drop(name);
+        log.info("Deleted fixture snapshot '{}'", name);
+    }
+
+    private void requireSnapshot(String name) {
+        validateSnapshotName(name);
+        if (!fixtureRepository.exists(name)) {
+            throw new ResourceNotFoundException("Fixture snapshot not found: " + name);
+        }
+    }
+
+    private void validateSnapshotName(String name) {
+        if (name == null || !SNAPSHOT_NAME.matcher(name).matches()) {
+            throw new BusinessException("Snapshot name must be 1 to 40 lowercase letters, digits or underscores");
+        }
+    }
+}
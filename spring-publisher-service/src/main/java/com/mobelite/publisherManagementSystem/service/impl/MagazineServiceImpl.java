@@ -1,11 +1,18 @@
 package com.mobelite.publisherManagementSystem.service.impl;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.magazine.MagazineRequestDto;
+import com.mobelite.publisherManagementSystem.dto.response.NormalizedPageDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.NormalizedMagazineSummaryResponseDto;
 import com.mobelite.publisherManagementSystem.entity.Author;
 import com.mobelite.publisherManagementSystem.entity.Magazine;
 import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.mapper.AuthorMapper;
+import com.mobelite.publisherManagementSystem.mapper.AuthorMappingContext;
+import com.mobelite.publisherManagementSystem.mapper.AuthorSideTable;
+import com.mobelite.publisherManagementSystem.mapper.AuthorSummaryCache;
 import com.mobelite.publisherManagementSystem.mapper.MagazineMapper;
 import com.mobelite.publisherManagementSystem.repository.AuthorRepository;
 import com.mobelite.publisherManagementSystem.repository.MagazineRepository;
@@ -30,6 +37,8 @@ public class MagazineServiceImpl implements MagazineService {
     private final MagazineMapper magazineMapper;
     private final MagazineRepository magazineRepository;
     private final AuthorRepository authorRepository;
+    private final AuthorMapper authorMapper;
+    private final AuthorSummaryCache authorSummaryCache;
 
     @Override
     public MagazineResponseDto createMagazine(MagazineRequestDto requestDto) {
@@ -67,19 +76,37 @@ public class MagazineServiceImpl implements MagazineService {
 
     @Override
     @Transactional(readOnly = true)
-    public MagazineResponseDto getMagazineById(Long id) {
+    public MagazineResponseDto getMagazineById(Long id, FieldSelection fields) {
 
         Magazine magazine = magazineRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Magazine not found with ID: " + id));
-        return magazineMapper.toResponseDto(magazine);
+        return magazineMapper.toResponseDto(magazine, fields);
     }
 
 
     @Override
     @Transactional(readOnly = true)
-    public Page<MagazineSummaryResponseDto> getAllMagazines(Pageable pageable) {
+    public Page<MagazineSummaryResponseDto> getAllMagazines(Pageable pageable, FieldSelection fields) {
         Page<Magazine> magazines = magazineRepository.findAll(pageable);
-        return magazines.map(magazineMapper::toSummaryDto);
+        AuthorMappingContext context = authorSummaryCache.newContext();
+        return magazines.map(magazine -> magazineMapper.toSummaryDto(magazine, fields, context));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NormalizedPageDto<NormalizedMagazineSummaryResponseDto> getAllMagazinesNormalized(Pageable pageable) {
+        Page<Magazine> magazines = magazineRepository.findAll(pageable);
+
+        // Load the authors of the whole page in one query instead of one per magazine
+        if (magazines.hasContent()) {
+            magazineRepository.findAllWithAuthorsByIdIn(magazines.map(Magazine::getId).getContent());
+        }
+
+        AuthorMappingContext context = authorSummaryCache.newContext();
+        AuthorSideTable authorTable = new AuthorSideTable(author -> authorMapper.toSummaryDto(author, context));
+        Page<NormalizedMagazineSummaryResponseDto> page =
+                magazines.map(magazine -> magazineMapper.toNormalizedSummaryDto(magazine, authorTable));
+        return NormalizedPageDto.of(page, authorTable.getAuthors());
     }
 
 
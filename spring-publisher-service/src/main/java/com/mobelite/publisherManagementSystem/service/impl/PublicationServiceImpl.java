@@ -1,5 +1,7 @@
 package com.mobelite.publisherManagementSystem.service.impl;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import com.mobelite.publisherManagementSystem.dto.response.NormalizedPageDto;
 import com.mobelite.publisherManagementSystem.dto.response.publication.GroupedPublicationsResponse;
 import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
@@ -7,7 +9,12 @@ import com.mobelite.publisherManagementSystem.entity.Book;
 import com.mobelite.publisherManagementSystem.entity.Magazine;
 import com.mobelite.publisherManagementSystem.entity.Publication;
 import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.mapper.AuthorMapper;
+import com.mobelite.publisherManagementSystem.mapper.AuthorMappingContext;
+import com.mobelite.publisherManagementSystem.mapper.AuthorSideTable;
+import com.mobelite.publisherManagementSystem.mapper.AuthorSummaryCache;
 import com.mobelite.publisherManagementSystem.mapper.PublicationMapper;
+import com.mobelite.publisherManagementSystem.repository.MagazineRepository;
 import com.mobelite.publisherManagementSystem.repository.PublicationRepository;
 import com.mobelite.publisherManagementSystem.service.PublicationService;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +25,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 /**
@@ -31,23 +42,48 @@ import java.util.List;
 public class PublicationServiceImpl implements PublicationService {
     private final PublicationRepository publicationRepository;
     private final PublicationMapper publicationMapper;
+    private final MagazineRepository magazineRepository;
+    private final AuthorMapper authorMapper;
+    private final AuthorSummaryCache authorSummaryCache;
 
 
     @Override
     @Transactional(readOnly = true)
-    public PublicationResponseDto getPublicationById(Long id) {
+    public PublicationResponseDto getPublicationById(Long id, FieldSelection fields) {
 
         Publication publication = publicationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Publication not found with ID: " + id));
-        return publicationMapper.toResponseDto(publication);
+        return publicationMapper.toResponseDto(publication, fields);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PublicationSummaryResponseDto> getAllPublications(Pageable pageable) {
+    public List<PublicationResponseDto> getPublicationsByIds(List<Long> ids) {
+
+        Map<Long, Publication> publicationsById = publicationRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Publication::getId, Function.identity()));
+        return ids.stream()
+                .distinct()
+                .map(publicationsById::get)
+                .filter(Objects::nonNull)
+                .map(publicationMapper::toResponseDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PublicationSummaryResponseDto> getAllPublications(Pageable pageable, FieldSelection fields) {
 
         Page<Publication> publications = publicationRepository.findAll(pageable);
-        return publications.map(publicationMapper::toSummaryResponseDto);
+        AuthorMappingContext context = authorSummaryCache.newContext();
+        return publications.map(publication -> publicationMapper.toSummaryResponseDto(publication, fields, context));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NormalizedPageDto<PublicationSummaryResponseDto> getAllPublicationsNormalized(Pageable pageable) {
+
+        return toNormalizedPage(publicationRepository.findAll(pageable));
     }
 
     @Override
@@ -63,10 +99,35 @@ public class PublicationServiceImpl implements PublicationService {
     }
     @Override
     @Transactional(readOnly = true)
-    public Page<PublicationSummaryResponseDto> searchPublicationsByTitle(String title, Pageable pageable) {
+    public Page<PublicationSummaryResponseDto> searchPublicationsByTitle(String title, Pageable pageable, FieldSelection fields) {
 
         Page<Publication> publications = publicationRepository.findByTitleContainingIgnoreCase(title, pageable);
-        return publications.map(publicationMapper::toSummaryResponseDto);
+        AuthorMappingContext context = authorSummaryCache.newContext();
+        return publications.map(publication -> publicationMapper.toSummaryResponseDto(publication, fields, context));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NormalizedPageDto<PublicationSummaryResponseDto> searchPublicationsByTitleNormalized(String title, Pageable pageable) {
+
+        return toNormalizedPage(publicationRepository.findByTitleContainingIgnoreCase(title, pageable));
+    }
+
+    private NormalizedPageDto<PublicationSummaryResponseDto> toNormalizedPage(Page<Publication> publications) {
+        // Load the authors of every magazine on the page in one query instead of one per magazine
+        List<Long> magazineIds = publications.getContent().stream()
+                .filter(Magazine.class::isInstance)
+                .map(Publication::getId)
+                .toList();
+        if (!magazineIds.isEmpty()) {
+            magazineRepository.findAllWithAuthorsByIdIn(magazineIds);
+        }
+
+        AuthorMappingContext context = authorSummaryCache.newContext();
+        AuthorSideTable authorTable = new AuthorSideTable(author -> authorMapper.toSummaryDto(author, context));
+        Page<PublicationSummaryResponseDto> page =
+                publications.map(publication -> publicationMapper.toNormalizedSummaryResponseDto(publication, authorTable));
+        return NormalizedPageDto.of(page, authorTable.getAuthors());
     }
 
     @Override
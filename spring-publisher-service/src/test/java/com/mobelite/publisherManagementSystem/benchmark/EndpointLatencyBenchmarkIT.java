@@ -0,0 +1,436 @@
+package com.mobelite.publisherManagementSystem.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives every REST endpoint, and the GraphQL endpoint, through the embedded Tomcat of a context booted once
+ * against embedded Postgres, and fails when an endpoint's p99 latency or allocation per request regresses past
+ * the stored baseline, or exceeds an absolute ceiling whatever the baseline says.
+ * Run with {@code mvn test -Pbenchmark}; the regular build does not run it.
+ * <p>
+ * Each endpoint gets a warm-up, then its measured requests from {@code benchmark.concurrency} client threads.
+ * Latencies go into an HdrHistogram; allocation per request is the JVM-wide allocation over the measured
+ * requests (server and in-process client) divided by their count; a thread that ends during the requests is left
+ * out rather than taking its whole history off the total. Results are written to
+ * {@code target/benchmarks/}: a JSON summary and one {@code .hgrm} percentile distribution per endpoint.
+ * {@code -Dbenchmark.update-baseline=true} records the run as the new baseline; the ceilings still apply, so a
+ * pathological run cannot be recorded as the reference.
+ * As in every {@code @SpringBootTest}, metrics and trace export are off.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "grpc.server.enabled=false",
+        "cache.swr.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Endpoint Latency Benchmark")
+class EndpointLatencyBenchmarkIT {
+
+    private static final Path BASELINE = Path.of("src/test/resources/benchmark/endpoint-baseline.json");
+    private static final Path RESULTS = Path.of("target/benchmarks");
+
+    private static final int AUTHORS = 2_000;
+    private static final int PUBLICATIONS = 20_000;
+    /** Rows per delete endpoint, created up front so deletes never depend on other endpoints. */
+    private static final int DISPOSABLE = 1_500;
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 4);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("benchmark.warmup", 100);
+    private static final int MEASURED_REQUESTS = Integer.getInteger("benchmark.requests", 500);
+    private static final long MAX_NANOS_PER_PHASE = Long.getLong("benchmark.max-seconds", 15) * 1_000_000_000L;
+    private static final double LATENCY_TOLERANCE = Double.parseDouble(System.getProperty("benchmark.latency-tolerance", "0.5"));
+    private static final double ALLOCATION_TOLERANCE = Double.parseDouble(System.getProperty("benchmark.allocation-tolerance", "0.25"));
+    private static final long MAX_P99_MICROS = Long.getLong("benchmark.max-p99-millis", 2_000) * 1_000;
+    private static final long MAX_BYTES_PER_REQUEST = Long.getLong("benchmark.max-mb-per-request", 32) << 20;
+    /** Endpoints allowed past the default ceilings: the grouped listing returns the whole catalog, unpaged. */
+    private static final Map<String, Ceiling> CEILINGS = Map.of(
+            "publications.grouped", new Ceiling(10_000_000, 256L << 20));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("benchmark.update-baseline");
+    private static final Pattern ENDPOINTS = Pattern.compile(System.getProperty("benchmark.endpoints", ".*"));
+
+    private static EmbeddedPostgres postgres;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final AtomicLong created = new AtomicLong();
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        if (postgres == null) {
+            postgres = EmbeddedPostgres.builder().setServerConfig("fsync", "off").start();
+        }
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @BeforeAll
+    void seedCatalog() {
+        int authors = AUTHORS + DISPOSABLE;
+        jdbcTemplate.update("""
+                INSERT INTO authors (id, name, birth_date, nationality)
+                SELECT i, 'Author ' || i, DATE '1940-01-01' + (i * 7) % 20000,
+                       (ARRAY['Tunisian', 'French', 'British', 'American', 'German'])[1 + i % 5]
+                FROM generate_series(1, ?) AS i""", authors);
+
+        insertBooks(1, PUBLICATIONS, "i % 10 < 7");
+        insertMagazines(1, PUBLICATIONS, "i % 10 >= 7");
+        insertBooks(PUBLICATIONS + 1, PUBLICATIONS + DISPOSABLE, "true");
+        insertMagazines(PUBLICATIONS + DISPOSABLE + 1, PUBLICATIONS + 2 * DISPOSABLE, "true");
+        insertBooks(PUBLICATIONS + 2 * DISPOSABLE + 1, PUBLICATIONS + 3 * DISPOSABLE, "true");
+        jdbcTemplate.update("""
+                INSERT INTO magazine_authors (magazine_id, author_id)
+                SELECT p.id, 1 + (p.id + k * 397) % ?
+                FROM publications p CROSS JOIN generate_series(1, 5) AS k
+                WHERE p.publication_type = 'MAGAZINE'""", AUTHORS);
+
+        jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('authors', 'id'), " + authors + ")");
+        jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('publications', 'id'), " + (PUBLICATIONS + 3 * DISPOSABLE) + ")");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private void insertBooks(int from, int to, String filter) {
+        jdbcTemplate.update("""
+                INSERT INTO publications (id, publication_type, title, publication_date, isbn, author_id)
+                SELECT i, 'BOOK', 'Publication ' || i, DATE '1990-01-01' + i % 12000, '978-' || lpad(i::text, 10, '0'), 1 + i % ?
+                FROM generate_series(?, ?) AS i WHERE\s""" + filter, AUTHORS, from, to);
+    }
+
+    private void insertMagazines(int from, int to, String filter) {
+        jdbcTemplate.update("""
+                INSERT INTO publications (id, publication_type, title, publication_date, issue_number)
+                SELECT i, 'MAGAZINE', 'Publication ' || i, DATE '1990-01-01' + i % 12000, 1 + i % 300
+                FROM generate_series(?, ?) AS i WHERE\s""" + filter, from, to);
+    }
+
+    @Test
+    @DisplayName("Should keep every endpoint within its latency and allocation baseline")
+    void shouldKeepEveryEndpointWithinBaseline() throws Exception {
+        // given
+        JsonNode baseline = Files.exists(BASELINE) ? objectMapper.readTree(BASELINE.toFile()).path("endpoints") : null;
+        Files.createDirectories(RESULTS.resolve("hgrm"));
+
+        // when
+        Map<String, EndpointResult> results = new LinkedHashMap<>();
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            for (Endpoint endpoint : endpoints()) {
+                if (!ENDPOINTS.matcher(endpoint.name()).find()) {
+                    continue;
+                }
+                results.put(endpoint.name(), run(endpoint, workers));
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        writeResults(results);
+
+        // then
+        List<String> problems = new ArrayList<>();
+        results.forEach((name, result) -> {
+            if (result.errors() > 0) {
+                problems.add(name + ": " + result.errors() + " error responses");
+            }
+            Ceiling ceiling = CEILINGS.getOrDefault(name, new Ceiling(MAX_P99_MICROS, MAX_BYTES_PER_REQUEST));
+            if (result.p99Micros() > ceiling.p99Micros()) {
+                problems.add(name + ": p99 " + result.p99Micros() + " us, ceiling " + ceiling.p99Micros() + " us");
+            }
+            if (result.bytesPerRequest() > ceiling.bytesPerRequest()) {
+                problems.add(name + ": " + result.bytesPerRequest() + " bytes/request, ceiling " + ceiling.bytesPerRequest());
+            }
+            JsonNode expected = baseline != null ? baseline.get(name) : null;
+            if (expected == null || UPDATE_BASELINE) {
+                return;
+            }
+            long maxP99 = (long) (expected.path("p99Micros").asLong() * (1 + LATENCY_TOLERANCE));
+            long maxBytes = (long) (expected.path("bytesPerRequest").asLong() * (1 + ALLOCATION_TOLERANCE));
+            if (result.p99Micros() > maxP99) {
+                problems.add(name + ": p99 " + result.p99Micros() + " us, baseline " + expected.path("p99Micros").asLong() + " us");
+            }
+            if (result.bytesPerRequest() > maxBytes) {
+                problems.add(name + ": " + result.bytesPerRequest() + " bytes/request, baseline "
+                        + expected.path("bytesPerRequest").asLong());
+            }
+        });
+        if (UPDATE_BASELINE && problems.isEmpty()) {
+            writeBaseline(results);
+        }
+        assertThat(problems).as("Endpoints regressing past %s", BASELINE).isEmpty();
+    }
+
+    private List<Endpoint> endpoints() {
+        return List.of(
+                get("authors.get", r -> "/api/v1/authors/" + authorId(r)),
+                get("authors.list", r -> "/api/v1/authors?page=" + r.nextInt(50)),
+                post("authors.create", "/api/v1/authors", r -> """
+                        {"name":"Benchmark Author %d","birthDate":"1980-05-17","nationality":"Tunisian"}"""
+                        .formatted(created.incrementAndGet())),
+                delete("authors.delete", "/api/v1/authors/", AUTHORS + 1),
+
+                get("books.get", r -> "/api/v1/books/" + bookId(r)),
+                get("books.getByIsbn", r -> "/api/v1/books/isbn/978-" + "%010d".formatted(bookId(r))),
+                get("books.list", r -> "/api/v1/books?page=" + r.nextInt(50) + "&fields=id,title,isbn,author"),
+                get("books.list.streamed", r -> "/api/v1/books?page=" + r.nextInt(50)),
+                get("books.byAuthor", r -> "/api/v1/books/author/" + authorId(r) + "?fields=id,title,isbn"),
+                get("books.byAuthor.streamed", r -> "/api/v1/books/author/" + authorId(r)),
+                get("books.exists", r -> "/api/v1/books/" + bookId(r) + "/exists"),
+                post("books.create", "/api/v1/books", r -> {
+                    long n = created.incrementAndGet();
+                    return """
+                            {"title":"Benchmark Book %d","publicationDate":"2024-03-01","isbn":"979-%010d","authorId":%d}"""
+                            .formatted(n, n, authorId(r));
+                }),
+                put("books.update", r -> new Call("/api/v1/books/" + bookId(r), """
+                        {"authorId":%d}""".formatted(authorId(r)))),
+                delete("books.delete", "/api/v1/books/", PUBLICATIONS + 1),
+
+                get("magazines.get", r -> "/api/v1/magazines/" + magazineId(r)),
+                get("magazines.list", r -> "/api/v1/magazines?page=" + r.nextInt(50) + "&size=20"),
+                get("magazines.list.normalized", r -> "/api/v1/magazines?view=normalized&page=" + r.nextInt(50) + "&size=20"),
+                post("magazines.create", "/api/v1/magazines", r -> """
+                        {"title":"Benchmark Magazine %d","issueNumber":7,"publicationDate":"2024-03-01","authorIds":[%s]}"""
+                        .formatted(created.incrementAndGet(), authorIds(r, 3))),
+                put("magazines.update", r -> {
+                    int id = magazineId(r);
+                    return new Call("/api/v1/magazines/" + id, """
+                            {"title":"Publication %d","issueNumber":8,"publicationDate":"2024-03-01","authorIds":[%s]}"""
+                            .formatted(id, authorIds(r, 2)));
+                }),
+                delete("magazines.delete", "/api/v1/magazines/", PUBLICATIONS + DISPOSABLE + 1),
+
+                get("publications.get", r -> "/api/v1/publications/" + (1 + r.nextInt(PUBLICATIONS))),
+                get("publications.list", r -> "/api/v1/publications?page=" + r.nextInt(50) + "&fields=id,title,publicationDate"),
+                get("publications.list.streamed", r -> "/api/v1/publications?page=" + r.nextInt(50)),
+                get("publications.list.normalized", r -> "/api/v1/publications?view=normalized&page=" + r.nextInt(50)),
+                get("publications.grouped", r -> "/api/v1/publications/grouped"),
+                get("publications.search", r -> "/api/v1/publications/search/title?title=" + searchFragment(r) + "&fields=id,title"),
+                get("publications.search.streamed", r -> "/api/v1/publications/search/title?title=" + searchFragment(r)),
+                get("publications.search.normalized", r -> "/api/v1/publications/search/title?view=normalized&title=" + searchFragment(r)),
+                get("publications.exists", r -> "/api/v1/publications/" + (1 + r.nextInt(PUBLICATIONS)) + "/exists"),
+                get("publications.existsByTitle", r -> "/api/v1/publications/title/Publication%20" + (1 + r.nextInt(PUBLICATIONS)) + "/exists"),
+                delete("publications.delete", "/api/v1/publications/", PUBLICATIONS + 2 * DISPOSABLE + 1),
+
+                post("graphql.authors", "/graphql", r -> """
+                        {"query":"{ authors(page: %d, size: 20) { name books { title } magazines { title } } }"}"""
+                        .formatted(r.nextInt(50))),
+                post("graphql.books", "/graphql", r -> """
+                        {"query":"{ books(page: %d, size: 20) { title isbn author { name } } }"}"""
+                        .formatted(r.nextInt(50))));
+    }
+
+    private EndpointResult run(Endpoint endpoint, ExecutorService workers) throws Exception {
+        int warmup = Math.min(WARMUP_REQUESTS, endpoint.maxRequests() / 6);
+        int measured = Math.min(MEASURED_REQUESTS, endpoint.maxRequests() - warmup);
+        LongAdder errors = new LongAdder();
+
+        phase(endpoint, workers, warmup, null, errors);
+        Recorder recorder = new Recorder(3);
+        Map<Long, Long> allocatedBefore = allocatedBytes();
+        phase(endpoint, workers, measured, recorder, errors);
+        long allocated = 0;
+        for (Map.Entry<Long, Long> thread : allocatedBytes().entrySet()) {
+            allocated += thread.getValue() - allocatedBefore.getOrDefault(thread.getKey(), 0L);
+        }
+
+        Histogram histogram = recorder.getIntervalHistogram();
+        try (PrintStream out = new PrintStream(RESULTS.resolve("hgrm").resolve(endpoint.name() + ".hgrm").toFile())) {
+            histogram.outputPercentileDistribution(out, 1.0);
+        }
+        long count = Math.max(1, histogram.getTotalCount());
+        return new EndpointResult(histogram.getTotalCount(), errors.sum(),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9), histogram.getMaxValue(),
+                allocated / count);
+    }
+
+    private void phase(Endpoint endpoint, ExecutorService workers, int requests, Recorder recorder, LongAdder errors)
+            throws Exception {
+        AtomicInteger remaining = new AtomicInteger(requests);
+        long deadline = System.nanoTime() + MAX_NANOS_PER_PHASE;
+        List<Future<?>> running = new ArrayList<>();
+        for (int worker = 0; worker < CONCURRENCY; worker++) {
+            SplittableRandom random = new SplittableRandom(endpoint.name().hashCode() * 31L + worker);
+            running.add(workers.submit(() -> {
+                while (remaining.getAndDecrement() > 0 && System.nanoTime() < deadline) {
+                    HttpRequest request = endpoint.request(random, URI.create("http://localhost:" + port));
+                    long start = System.nanoTime();
+                    HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    long micros = (System.nanoTime() - start) / 1_000;
+                    if (recorder != null) {
+                        recorder.recordValue(micros);
+                    }
+                    if (response.statusCode() >= 400) {
+                        errors.increment();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : running) {
+            future.get();
+        }
+    }
+
+    /**
+     * Bytes allocated so far by each live thread, by thread id.
+     */
+    private static Map<Long, Long> allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] ids = threads.getAllThreadIds();
+        long[] allocated = threads.getThreadAllocatedBytes(ids);
+        Map<Long, Long> byThread = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (allocated[i] >= 0) {
+                byThread.put(ids[i], allocated[i]);
+            }
+        }
+        return byThread;
+    }
+
+    private void writeResults(Map<String, EndpointResult> results) throws IOException {
+        ObjectNode report = objectMapper.createObjectNode();
+        report.put("concurrency", CONCURRENCY);
+        report.putPOJO("endpoints", results);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(RESULTS.resolve("endpoint-latency.json").toFile(), report);
+    }
+
+    private void writeBaseline(Map<String, EndpointResult> results) throws IOException {
+        ObjectNode endpoints = objectMapper.createObjectNode();
+        results.forEach((name, result) -> endpoints.putObject(name)
+                .put("p99Micros", result.p99Micros())
+                .put("bytesPerRequest", result.bytesPerRequest()));
+        ObjectNode baseline = objectMapper.createObjectNode();
+        baseline.put("concurrency", CONCURRENCY);
+        baseline.set("endpoints", endpoints);
+        Files.createDirectories(BASELINE.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(BASELINE.toFile(), baseline);
+    }
+
+    private static int authorId(SplittableRandom random) {
+        return 1 + random.nextInt(AUTHORS);
+    }
+
+    /**
+     * Distinct author ids, as a magazine rejects duplicates.
+     */
+    private static String authorIds(SplittableRandom random, int count) {
+        int first = random.nextInt(AUTHORS - count + 1);
+        return IntStream.rangeClosed(first + 1, first + count).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static int bookId(SplittableRandom random) {
+        int id;
+        do {
+            id = 1 + random.nextInt(PUBLICATIONS);
+        } while (id % 10 >= 7);
+        return id;
+    }
+
+    private static int magazineId(SplittableRandom random) {
+        int id;
+        do {
+            id = 1 + random.nextInt(PUBLICATIONS);
+        } while (id % 10 < 7);
+        return id;
+    }
+
+    private static String searchFragment(SplittableRandom random) {
+        return "ation%20" + (1 + random.nextInt(999));
+    }
+
+    private static Endpoint get(String name, Function<SplittableRandom, String> path) {
+        return new Endpoint(name, "GET", Integer.MAX_VALUE, r -> new Call(path.apply(r), null));
+    }
+
+    private static Endpoint post(String name, String path, Function<SplittableRandom, String> body) {
+        return new Endpoint(name, "POST", Integer.MAX_VALUE, r -> new Call(path, body.apply(r)));
+    }
+
+    private static Endpoint put(String name, Function<SplittableRandom, Call> call) {
+        return new Endpoint(name, "PUT", Integer.MAX_VALUE, call);
+    }
+
+    /**
+     * Deletes walk through their own range of disposable rows, one row per request.
+     */
+    private static Endpoint delete(String name, String path, int firstId) {
+        AtomicInteger next = new AtomicInteger(firstId);
+        return new Endpoint(name, "DELETE", DISPOSABLE, r -> new Call(path + next.getAndIncrement(), null));
+    }
+
+    private record Endpoint(String name, String method, int maxRequests, Function<SplittableRandom, Call> call) {
+
+        HttpRequest request(SplittableRandom random, URI base) {
+            Call next = call.apply(random);
+            HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(next.path()))
+                    .header("Accept", "application/json");
+            if (next.body() == null) {
+                return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+            }
+            return builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(next.body()))
+                    .build();
+        }
+    }
+
+    private record Call(String path, String body) {
+    }
+
+    private record Ceiling(long p99Micros, long bytesPerRequest) {
+    }
+
+    private record EndpointResult(long requests, long errors, long p50Micros, long p90Micros, long p99Micros,
+                                  long p999Micros, long maxMicros, long bytesPerRequest) {
+    }
+}
@@ -0,0 +1,335 @@
+package com.mobelite.publisherManagementSystem.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sends interactive lookups ({@code GET /api/v1/books/{id}} and {@code /api/v1/authors/{id}}) at a fixed rate,
+ * whatever the response times, while the database slows down and recovers, and measures the goodput: responses
+ * per second that succeed within the SLO. Run with {@code mvn test -Pbenchmark}, next to the endpoint benchmark.
+ * <p>
+ * The database slowdown is simulated by delaying every SQL statement by {@code overload.delay-ms} in a
+ * datasource proxy, so each request holds its connection longer, as with a slow Postgres. After an unrecorded
+ * warm-up, the run has three phases: normal, slowed down and recovered. The defaults (50 lookups/s, 200 ms per
+ * statement, 10 connections) leave the slowed database about two thirds of the capacity the load needs. Per-second counts and per-phase latencies are written to
+ * {@code target/benchmarks/goodput-under-slowdown.json}.
+ * <p>
+ * With the adaptive concurrency limit on (the default), the test fails if the goodput during the second half of
+ * the slowdown drops below {@code overload.min-goodput-ratio} of the capacity the slowed database leaves
+ * (connections / time a lookup spends in statements), or if the goodput does not come back after it. Run it again with
+ * {@code -Dconcurrency.limit.enabled=false} to see the same load without the limit; nothing is asserted then.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "grpc.server.enabled=false",
+        "cache.swr.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create"
+})
+@Import(GoodputUnderSlowdownBenchmarkIT.SlowDatabase.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Goodput Under Database Slowdown Benchmark")
+class GoodputUnderSlowdownBenchmarkIT {
+
+    private static final Path RESULTS = Path.of("target/benchmarks");
+
+    private static final int AUTHORS = 1_000;
+    private static final int BOOKS = 10_000;
+    /** A book lookup reads the book and its author, an author lookup only the author */
+    private static final double STATEMENTS_PER_LOOKUP = 1.5;
+
+    private static final int RATE = Integer.getInteger("overload.rate", 50);
+    private static final long DELAY_MILLIS = Long.getLong("overload.delay-ms", 200);
+    private static final long SLO_MILLIS = Long.getLong("overload.slo-ms", 1_000);
+    private static final int WARMUP_SECONDS = Integer.getInteger("overload.warmup-seconds", 15);
+    private static final int NORMAL_SECONDS = Integer.getInteger("overload.normal-seconds", 10);
+    private static final int SLOW_SECONDS = Integer.getInteger("overload.slow-seconds", 20);
+    private static final int RECOVERED_SECONDS = Integer.getInteger("overload.recovered-seconds", 10);
+    private static final double MIN_GOODPUT_RATIO = Double.parseDouble(System.getProperty("overload.min-goodput-ratio", "0.5"));
+
+    private static final int SENT = 0;
+    private static final int OK = 1;
+    /** Succeeded within the SLO */
+    private static final int GOOD = 2;
+    private static final int REJECTED = 3;
+    private static final int FAILED = 4;
+
+    /** Delay added to every statement; changed by the test while the load runs. */
+    private static final AtomicLong statementDelayMillis = new AtomicLong();
+
+    private static EmbeddedPostgres postgres;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${concurrency.limit.enabled:true}")
+    private boolean limitEnabled;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connections;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        if (postgres == null) {
+            postgres = EmbeddedPostgres.builder().setServerConfig("fsync", "off").start();
+        }
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @BeforeAll
+    void seedCatalog() {
+        jdbcTemplate.update("""
+                INSERT INTO authors (id, name, birth_date, nationality)
+                SELECT i, 'Author ' || i, DATE '1940-01-01' + (i * 7) % 20000, 'Tunisian'
+                FROM generate_series(1, ?) AS i""", AUTHORS);
+        jdbcTemplate.update("""
+                INSERT INTO publications (id, publication_type, title, publication_date, isbn, author_id)
+                SELECT i, 'BOOK', 'Publication ' || i, DATE '1990-01-01' + i % 12000, '978-' || lpad(i::text, 10, '0'), 1 + i % ?
+                FROM generate_series(1, ?) AS i""", AUTHORS, BOOKS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("Should keep serving within the SLO while the database is slow")
+    void shouldKeepGoodputDuringSlowdown() throws Exception {
+        // given
+        int seconds = NORMAL_SECONDS + SLOW_SECONDS + RECOVERED_SECONDS;
+        Second[] timeline = new Second[seconds];
+        for (int second = 0; second < seconds; second++) {
+            timeline[second] = new Second();
+        }
+        Histogram[] latencies = {new Histogram(3), new Histogram(3), new Histogram(3)};
+        drive(WARMUP_SECONDS, null, null);
+
+        // when
+        drive(seconds, timeline, latencies);
+        writeResults(timeline, latencies);
+
+        // then
+        if (!limitEnabled) {
+            return;
+        }
+        double capacity = Math.min(RATE, connections * 1_000.0 / (DELAY_MILLIS * STATEMENTS_PER_LOOKUP));
+        double slowGoodput = averageGoodput(timeline, NORMAL_SECONDS + SLOW_SECONDS / 2, NORMAL_SECONDS + SLOW_SECONDS);
+        double recoveredGoodput = averageGoodput(timeline, seconds - RECOVERED_SECONDS / 2, seconds);
+        assertThat(slowGoodput)
+                .as("Goodput in the second half of the slowdown, for a capacity of %.0f/s", capacity)
+                .isGreaterThanOrEqualTo(MIN_GOODPUT_RATIO * capacity);
+        assertThat(recoveredGoodput)
+                .as("Goodput once the database has recovered, at %d requests/s", RATE)
+                .isGreaterThanOrEqualTo(0.9 * RATE);
+    }
+
+    /**
+     * Send {@link #RATE} lookups per second for the given number of seconds, slowing the database down during the
+     * slow phase, and wait for every response. Outcomes are recorded per second of sending when a timeline is given.
+     */
+    private void drive(int seconds, Second[] timeline, Histogram[] latencies) throws Exception {
+        List<CompletableFuture<?>> responses = new ArrayList<>(RATE * seconds);
+        SplittableRandom random = new SplittableRandom(seconds);
+        long periodNanos = 1_000_000_000L / RATE;
+        long start = System.nanoTime();
+        for (long i = 0; i < (long) RATE * seconds; i++) {
+            long sendAt = start + i * periodNanos;
+            LockSupport.parkNanos(sendAt - System.nanoTime());
+            int second = (int) (i / RATE);
+            if (timeline == null) {
+                responses.add(client.sendAsync(lookup(random), HttpResponse.BodyHandlers.discarding()));
+                continue;
+            }
+            statementDelayMillis.set(phase(second) == 1 ? DELAY_MILLIS : 0);
+            Second counts = timeline[second];
+            Histogram histogram = latencies[phase(second)];
+            counts.increment(SENT);
+            responses.add(client.sendAsync(lookup(random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sendAt);
+                        if (failure != null) {
+                            counts.increment(FAILED);
+                        } else if (response.statusCode() == 503) {
+                            counts.increment(REJECTED);
+                        } else if (response.statusCode() < 400) {
+                            counts.increment(OK);
+                            if (millis <= SLO_MILLIS) {
+                                counts.increment(GOOD);
+                            }
+                            synchronized (histogram) {
+                                histogram.recordValue(millis);
+                            }
+                        } else {
+                            counts.increment(FAILED);
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(responses.stream()
+                .map(response -> response.exceptionally(failure -> null))
+                .toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+        statementDelayMillis.set(0);
+    }
+
+    private HttpRequest lookup(SplittableRandom random) {
+        String path = random.nextBoolean()
+                ? "/api/v1/books/" + (1 + random.nextInt(BOOKS))
+                : "/api/v1/authors/" + (1 + random.nextInt(AUTHORS)) + "?fields=id,name,nationality";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+    }
+
+    /**
+     * 0 before the slowdown, 1 during it, 2 after it.
+     */
+    private static int phase(int second) {
+        if (second < NORMAL_SECONDS) return 0;
+        return second < NORMAL_SECONDS + SLOW_SECONDS ? 1 : 2;
+    }
+
+    private static double averageGoodput(Second[] timeline, int from, int to) {
+        long good = 0;
+        for (int second = from; second < to; second++) {
+            good += timeline[second].get(GOOD);
+        }
+        return (double) good / Math.max(1, to - from);
+    }
+
+    private void writeResults(Second[] timeline, Histogram[] latencies) throws IOException {
+        ObjectNode report = objectMapper.createObjectNode();
+        report.put("limitEnabled", limitEnabled);
+        report.put("rate", RATE);
+        report.put("delayMillis", DELAY_MILLIS);
+        report.put("sloMillis", SLO_MILLIS);
+        String[] phases = {"normal", "slow", "recovered"};
+        ObjectNode phaseLatencies = report.putObject("successLatencyMillis");
+        for (int phase = 0; phase < phases.length; phase++) {
+            phaseLatencies.putObject(phases[phase])
+                    .put("count", latencies[phase].getTotalCount())
+                    .put("p50", latencies[phase].getValueAtPercentile(50))
+                    .put("p99", latencies[phase].getValueAtPercentile(99))
+                    .put("max", latencies[phase].getMaxValue());
+        }
+        ArrayNode seconds = report.putArray("seconds");
+        System.out.printf("%n%-4s %-9s %6s %6s %6s %6s %6s%n", "s", "phase", "sent", "ok", "good", "503", "failed");
+        for (int second = 0; second < timeline.length; second++) {
+            Second counts = timeline[second];
+            seconds.addObject()
+                    .put("second", second)
+                    .put("phase", phases[phase(second)])
+                    .put("sent", counts.get(SENT))
+                    .put("ok", counts.get(OK))
+                    .put("goodput", counts.get(GOOD))
+                    .put("rejected", counts.get(REJECTED))
+                    .put("failed", counts.get(FAILED));
+            System.out.printf("%-4d %-9s %6d %6d %6d %6d %6d%n", second, phases[phase(second)],
+                    counts.get(SENT), counts.get(OK), counts.get(GOOD), counts.get(REJECTED), counts.get(FAILED));
+        }
+        Files.createDirectories(RESULTS);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(RESULTS.resolve("goodput-under-slowdown.json").toFile(), report);
+    }
+
+    /**
+     * Requests sent in one second and what became of them.
+     */
+    private static final class Second {
+
+        private final AtomicLongArray counts = new AtomicLongArray(FAILED + 1);
+
+        void increment(int outcome) {
+            counts.incrementAndGet(outcome);
+        }
+
+        long get(int outcome) {
+            return counts.get(outcome);
+        }
+    }
+
+    @TestConfiguration
+    static class SlowDatabase {
+
+        /**
+         * Delays every statement by the current {@link #statementDelayMillis} while holding its connection.
+         */
+        @Bean
+        static BeanPostProcessor slowDatabasePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("slow-database")
+                            .listener(new QueryExecutionListener() {
+                                @Override
+                                public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                    long delay = statementDelayMillis.get();
+                                    if (delay > 0) {
+                                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(delay));
+                                    }
+                                }
+
+                                @Override
+                                public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                }
+                            })
+                            .build();
+                }
+            };
+        }
+    }
+}
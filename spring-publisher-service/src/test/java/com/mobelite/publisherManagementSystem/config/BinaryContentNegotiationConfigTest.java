@@ -0,0 +1,182 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobelite.publisherManagementSystem.controller.BookController;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import com.mobelite.publisherManagementSystem.dto.request.book.BookCreateRequestDto;
+import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
+import com.mobelite.publisherManagementSystem.dto.response.book.BookResponseDto;
+import com.mobelite.publisherManagementSystem.service.BookService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Binary Content Negotiation Tests")
+class BinaryContentNegotiationConfigTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private PriorityScheduler priorityScheduler;
+
+    @Spy
+    private ResponseCache responseCache = new ResponseCache(runnable -> runnable, new SimpleMeterRegistry(), false,
+            Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(10), 10, DataSize.ofKilobytes(64), 1);
+
+    @InjectMocks
+    private BookController bookController;
+
+    private final BinaryContentNegotiationConfig config = new BinaryContentNegotiationConfig();
+
+    private MockMvc mockMvc;
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+    private BookResponseDto bookResponseDto;
+
+    @BeforeEach
+    void setUp() {
+        MappingJackson2CborHttpMessageConverter cborConverter =
+                config.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json());
+        MappingJackson2SmileHttpMessageConverter smileConverter =
+                config.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json());
+        MappingJackson2HttpMessageConverter jsonConverter =
+                new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+
+        jsonMapper = jsonConverter.getObjectMapper();
+        cborMapper = cborConverter.getObjectMapper();
+        smileMapper = smileConverter.getObjectMapper();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(bookController)
+                .setMessageConverters(jsonConverter, smileConverter, cborConverter)
+                .build();
+
+        bookResponseDto = BookResponseDto.builder()
+                .id(1L)
+                .title("Binary Book")
+                .publicationDate(LocalDate.of(2024, 1, 15))
+                .isbn("978-0123456789")
+                .author(AuthorSummaryDto.builder().id(2L).name("Test Author").nationality("French").build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should encode response as CBOR when requested through Accept header")
+    void shouldEncodeResponseAsCbor_WhenAcceptIsCbor() throws Exception {
+        // given
+        given(bookService.getBookById(1L, FieldSelection.all())).willReturn(bookResponseDto);
+
+        // when
+        MvcResult result = performScheduled(get("/api/v1/books/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertThat(result.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+        ApiResponseDto<BookResponseDto> body = cborMapper.readValue(
+                result.getResponse().getContentAsByteArray(), new TypeReference<>() {});
+        assertThat(body.isSuccess()).isTrue();
+        assertThat(body.getData().getIsbn()).isEqualTo("978-0123456789");
+        assertThat(body.getData().getAuthor().getName()).isEqualTo("Test Author");
+    }
+
+    @Test
+    @DisplayName("Should encode response as Smile and keep JSON as default representation")
+    void shouldEncodeResponseAsSmile_AndKeepJsonAsDefault() throws Exception {
+        // given
+        given(bookService.getBookById(1L, FieldSelection.all())).willReturn(bookResponseDto);
+
+        // when
+        MvcResult smile = performScheduled(get("/api/v1/books/1")
+                        .accept(BinaryContentNegotiationConfig.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult json = performScheduled(get("/api/v1/books/1").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertThat(smile.getResponse().getContentType())
+                .isEqualTo(BinaryContentNegotiationConfig.APPLICATION_SMILE.toString());
+        assertThat(json.getResponse().getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        ApiResponseDto<BookResponseDto> body = smileMapper.readValue(
+                smile.getResponse().getContentAsByteArray(), new TypeReference<>() {});
+        assertThat(body.getData().getPublicationDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(smile.getResponse().getContentAsByteArray().length)
+                .isLessThan(json.getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("Should read CBOR request body")
+    void shouldReadCborRequestBody() throws Exception {
+        // given
+        BookCreateRequestDto request = BookCreateRequestDto.builder()
+                .title("Binary Book")
+                .publicationDate(LocalDate.of(2024, 1, 15))
+                .isbn("978-0123456789")
+                .authorId(2L)
+                .build();
+        given(bookService.createBook(any(BookCreateRequestDto.class))).willReturn(bookResponseDto);
+
+        // when
+        MvcResult result = mockMvc.perform(post("/api/v1/books")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // then
+        ApiResponseDto<BookResponseDto> body = jsonMapper.readValue(
+                result.getResponse().getContentAsByteArray(), new TypeReference<>() {});
+        assertThat(body.getData().getTitle()).isEqualTo("Binary Book");
+    }
+
+    /**
+     * Run the work the controller schedules inline, then dispatch its result as the container would.
+     */
+    private ResultActions performScheduled(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        willAnswer(invocation -> CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(1).get()))
+                .given(priorityScheduler).supplyAsync(any(), any());
+        MvcResult started = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+}
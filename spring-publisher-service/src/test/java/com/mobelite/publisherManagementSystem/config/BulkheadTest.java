@@ -0,0 +1,114 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.mobelite.publisherManagementSystem.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bulkhead Tests")
+class BulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Bulkhead bulkhead = new Bulkhead("test", 1, 1, 3, runnable -> runnable, meterRegistry);
+
+    @AfterEach
+    void shutdown() {
+        bulkhead.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should reject at once when every thread and queue slot is taken, and admit again once one is free")
+    void shouldRejectWhenFull() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = bulkhead.supplyAsync(() -> await(release, "running"));
+        CompletableFuture<String> queued = bulkhead.supplyAsync(() -> "queued");
+
+        // when / then
+        assertThatThrownBy(() -> bulkhead.supplyAsync(() -> "rejected"))
+                .isInstanceOf(BulkheadFullException.class)
+                .satisfies(ex -> assertThat(((BulkheadFullException) ex).getRetryAfterSeconds()).isEqualTo(3));
+        assertThat(meterRegistry.counter(Bulkhead.REJECTED_COUNTER, "bulkhead", "test").count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(bulkhead.supplyAsync(() -> "admitted").get(5, TimeUnit.SECONDS)).isEqualTo("admitted");
+    }
+
+    @Test
+    @DisplayName("Should write a streamed body on the calling thread while holding one of the bulkhead's threads")
+    void shouldStreamOnCallingThread() throws Exception {
+        // given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompletableFuture<Void> streamed = CompletableFuture.runAsync(() -> {
+            try {
+                bulkhead.stream(() -> body -> {
+                    writing.countDown();
+                    await(release, null);
+                    body.write(Thread.currentThread().getName().getBytes(StandardCharsets.UTF_8));
+                }).writeTo(out);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<String> queued = bulkhead.supplyAsync(() -> "queued");
+
+        // then
+        assertThatThrownBy(() -> queued.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        release.countDown();
+        streamed.get(5, TimeUnit.SECONDS);
+        assertThat(out.toString(StandardCharsets.UTF_8)).doesNotStartWith("bulkhead-test-");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    @DisplayName("Should only take a slot when a streamed body is written, so a body never written holds none")
+    void shouldNotHoldSlot_WhenStreamedBodyIsNeverWritten() throws Exception {
+        // given: more streamed bodies than slots, none of them written (e.g. the client went away first)
+        for (int i = 0; i < 3; i++) {
+            bulkhead.stream(() -> out -> out.write(1));
+        }
+
+        // when
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = bulkhead.supplyAsync(() -> await(release, "running"));
+        CompletableFuture<String> queued = bulkhead.supplyAsync(() -> "queued");
+
+        // then
+        assertThatThrownBy(() -> bulkhead.stream(() -> out -> out.write(1)).writeTo(new ByteArrayOutputStream()))
+                .isInstanceOf(BulkheadFullException.class);
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    private static String await(CountDownLatch latch, String value) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+            return value;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
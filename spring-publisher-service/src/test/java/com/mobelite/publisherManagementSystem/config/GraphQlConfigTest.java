@@ -0,0 +1,49 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.mobelite.publisherManagementSystem.controller.CatalogGraphQlController;
+import graphql.analysis.FieldComplexityEnvironment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GraphQlConfig Field Complexity Tests")
+class GraphQlConfigTest {
+
+    @Mock
+    private FieldComplexityEnvironment environment;
+
+    @Test
+    @DisplayName("Should cost an oversized page as the largest page the controller serves")
+    void shouldCapOversizedPageSize() {
+        // given
+        given(environment.getArguments()).willReturn(Map.of("size", Integer.MAX_VALUE));
+
+        // when
+        int complexity = GraphQlConfig.fieldComplexity(environment, 20);
+
+        // then
+        assertThat(complexity).isEqualTo(CatalogGraphQlController.MAX_PAGE_SIZE * 21);
+    }
+
+    @Test
+    @DisplayName("Should saturate instead of overflowing when the cost does not fit in an int")
+    void shouldSaturateOverflowingCost() {
+        // given
+        given(environment.getArguments()).willReturn(Map.of("size", CatalogGraphQlController.MAX_PAGE_SIZE));
+
+        // when
+        int complexity = GraphQlConfig.fieldComplexity(environment, Integer.MAX_VALUE / 50);
+
+        // then
+        assertThat(complexity).isEqualTo(Integer.MAX_VALUE);
+        assertThat(GraphQlConfig.fieldComplexity(environment, Integer.MIN_VALUE + 1)).isEqualTo(Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,63 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JSON Lines Span Exporter Tests")
+class JsonLinesSpanExporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should append one JSON object per finished span")
+    void shouldWriteOneLinePerSpan() throws Exception {
+        // given
+        Path file = directory.resolve("traces/spans.jsonl");
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new JsonLinesSpanExporter(file)))
+                .build();
+        Tracer tracer = tracerProvider.get("test");
+
+        // when
+        Span parent = tracer.spanBuilder("AuthorServiceImpl.getAuthorById").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            tracer.spanBuilder("AuthorRepository.findByIdWithPublications").startSpan()
+                    .setAttribute("app.result.count", 3L)
+                    .setStatus(StatusCode.ERROR, "timeout")
+                    .end();
+        } finally {
+            parent.end();
+        }
+        tracerProvider.shutdown().join(5, TimeUnit.SECONDS);
+
+        // then
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        JsonNode child = objectMapper.readTree(lines.get(0));
+        JsonNode root = objectMapper.readTree(lines.get(1));
+        assertThat(child.get("name").asText()).isEqualTo("AuthorRepository.findByIdWithPublications");
+        assertThat(child.get("parentSpanId").asText()).isEqualTo(root.get("spanId").asText());
+        assertThat(child.get("traceId").asText()).isEqualTo(root.get("traceId").asText());
+        assertThat(child.get("attributes").get("app.result.count").asLong()).isEqualTo(3L);
+        assertThat(child.get("status").asText()).isEqualTo("ERROR");
+        assertThat(root.has("parentSpanId")).isFalse();
+    }
+}
@@ -0,0 +1,78 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.service.BookService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Method Timing Aspect Tests")
+class MethodTimingAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private SimpleMeterRegistry registry;
+    private MethodTimingAspect aspect;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new SimpleMeterRegistry();
+        aspect = new MethodTimingAspect(registry);
+
+        Method method = BookService.class.getMethod("existsById", Long.class);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getMethod()).willReturn(method);
+    }
+
+    @Test
+    @DisplayName("Should record successful calls on one timer per method")
+    void shouldRecordSuccessfulCalls() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willReturn(true);
+
+        // when
+        Object first = aspect.timeService(joinPoint);
+        aspect.timeService(joinPoint);
+
+        // then
+        Timer timer = registry.get(MethodTimingAspect.SERVICE_TIMER)
+                .tag("class", "BookService")
+                .tag("method", "existsById")
+                .tag("outcome", "success")
+                .timer();
+        assertThat(first).isEqualTo(true);
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should record failed calls under the error outcome and rethrow")
+    void shouldRecordFailedCalls() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willThrow(new ResourceNotFoundException("Book with ID 1 not found"));
+
+        // when / then
+        assertThatThrownBy(() -> aspect.timeRepository(joinPoint))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(registry.get(MethodTimingAspect.REPOSITORY_TIMER).tag("outcome", "error").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.find(MethodTimingAspect.REPOSITORY_TIMER).tag("outcome", "success").timer()).isNull();
+    }
+}
@@ -0,0 +1,207 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.mobelite.publisherManagementSystem.enums.RequestPriority;
+import com.mobelite.publisherManagementSystem.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Priority Scheduler Tests")
+class PrioritySchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PriorityScheduler scheduler;
+
+    @AfterEach
+    void shutdown() {
+        RequestContextHolder.resetRequestAttributes();
+        scheduler.destroy();
+    }
+
+    @Test
+    @DisplayName("Should keep a thread free for interactive requests while bulk requests queue")
+    void shouldReserveThreadForInteractive() throws Exception {
+        // given: two threads, one of them reserved
+        scheduler = scheduler(2, 1, 8, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = scheduler.supplyAsync(RequestPriority.BULK, () -> await(release, "running"));
+        CompletableFuture<String> queued = scheduler.supplyAsync(RequestPriority.BULK, () -> "queued");
+
+        // when
+        CompletableFuture<String> interactive = scheduler.supplyAsync(RequestPriority.INTERACTIVE, () -> "interactive");
+
+        // then
+        assertThat(interactive.get(5, TimeUnit.SECONDS)).isEqualTo("interactive");
+        assertThat(queued).isNotDone();
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(meterRegistry.timer(PriorityScheduler.QUEUE_TIMER, "priority", "interactive").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer(PriorityScheduler.SERVICE_TIMER, "priority", "bulk").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should share the threads between waiting classes in proportion to their weights")
+    void shouldShareByWeight() throws Exception {
+        // given: one thread, busy, and interactive weighing twice as much as bulk
+        scheduler = scheduler(1, 0, 2, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> gate = scheduler.supplyAsync(RequestPriority.INTERACTIVE, () -> {
+            started.countDown();
+            return await(release, "gate");
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Boolean>> requests = new ArrayList<>();
+
+        // when: bulk requests queue before the interactive ones
+        for (int i = 0; i < 6; i++) {
+            requests.add(scheduler.supplyAsync(RequestPriority.BULK, () -> order.add("B")));
+        }
+        for (int i = 0; i < 6; i++) {
+            requests.add(scheduler.supplyAsync(RequestPriority.INTERACTIVE, () -> order.add("I")));
+        }
+        release.countDown();
+        gate.get(5, TimeUnit.SECONDS);
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then: two interactive requests for every bulk one while both wait, then the rest of bulk
+        assertThat(String.join("", order)).isEqualTo("IIBIIBIIBBBB");
+    }
+
+    @Test
+    @DisplayName("Should take the class from the request header and reject once the class is full")
+    void shouldClassifyByHeaderAndReject() throws Exception {
+        // given: room for a single bulk request
+        scheduler = scheduler(1, 0, 8, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = scheduler.supplyAsync(RequestPriority.BULK, () -> await(release, "running"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(PriorityScheduler.PRIORITY_HEADER, "bulk");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // when / then
+        assertThatThrownBy(() -> scheduler.supplyAsync(RequestPriority.INTERACTIVE, () -> "rejected"))
+                .isInstanceOf(BulkheadFullException.class)
+                .satisfies(ex -> assertThat(((BulkheadFullException) ex).getBulkhead()).isEqualTo("bulk"));
+        assertThat(meterRegistry.counter(PriorityScheduler.REJECTED_COUNTER, "priority", "bulk").count()).isEqualTo(1.0);
+
+        RequestContextHolder.resetRequestAttributes();
+        CompletableFuture<String> interactive = scheduler.supplyAsync(RequestPriority.INTERACTIVE, () -> "interactive");
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(interactive.get(5, TimeUnit.SECONDS)).isEqualTo("interactive");
+    }
+
+    @Test
+    @DisplayName("Should ignore a header that would raise the request's class")
+    void shouldNotRaiseClassFromHeader() throws Exception {
+        // given: room for a single bulk request, taken
+        scheduler = scheduler(1, 0, 8, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = scheduler.supplyAsync(RequestPriority.BULK, () -> await(release, "running"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(PriorityScheduler.PRIORITY_HEADER, "interactive");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // when / then
+        assertThatThrownBy(() -> scheduler.supplyAsync(RequestPriority.BULK, () -> "rejected"))
+                .isInstanceOf(BulkheadFullException.class)
+                .satisfies(ex -> assertThat(((BulkheadFullException) ex).getBulkhead()).isEqualTo("bulk"));
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+    }
+
+    @Test
+    @DisplayName("Should only admit a streamed request when its body is written, so a body never written holds no room")
+    void shouldNotHoldRoom_WhenStreamedBodyIsNeverWritten() throws Exception {
+        // given: room for a single bulk request, and streamed bodies that are never written
+        scheduler = scheduler(1, 0, 8, 0);
+        for (int i = 0; i < 3; i++) {
+            scheduler.stream(RequestPriority.BULK, () -> out -> out.write(1));
+        }
+
+        // when
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = scheduler.supplyAsync(RequestPriority.BULK, () -> await(release, "running"));
+
+        // then
+        StreamingResponseBody full = scheduler.stream(RequestPriority.BULK, () -> out -> out.write(1));
+        assertThatThrownBy(() -> full.writeTo(new ByteArrayOutputStream())).isInstanceOf(BulkheadFullException.class);
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        scheduler.stream(RequestPriority.BULK, () -> body -> body.write(1)).writeTo(out);
+        assertThat(out.toByteArray()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Should write a streamed request on the calling thread, freeing the scheduler thread but not its class's place")
+    void shouldStreamOnCallingThread() throws Exception {
+        // given: a single thread, taken by neither class in reserve
+        scheduler = scheduler(1, 0, 8, 1);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompletableFuture<Void> streamed = CompletableFuture.runAsync(() -> {
+            try {
+                scheduler.stream(RequestPriority.BULK, () -> body -> {
+                    writing.countDown();
+                    await(release, null);
+                    body.write(Thread.currentThread().getName().getBytes(StandardCharsets.UTF_8));
+                }).writeTo(out);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<String> interactive = scheduler.supplyAsync(RequestPriority.INTERACTIVE, () -> "interactive");
+        CompletableFuture<String> bulk = scheduler.supplyAsync(RequestPriority.BULK, () -> "bulk");
+
+        // then
+        assertThat(interactive.get(5, TimeUnit.SECONDS)).isEqualTo("interactive");
+        assertThatThrownBy(() -> bulk.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        release.countDown();
+        streamed.get(5, TimeUnit.SECONDS);
+        assertThat(out.toString(StandardCharsets.UTF_8)).doesNotStartWith("priority-");
+        assertThat(bulk.get(5, TimeUnit.SECONDS)).isEqualTo("bulk");
+    }
+
+    private PriorityScheduler scheduler(int threads, int reservedThreads, double interactiveWeight, int bulkQueue) {
+        return new PriorityScheduler(runnable -> runnable, meterRegistry, threads, reservedThreads,
+                interactiveWeight, 10, 1, bulkQueue, 3, 10);
+    }
+
+    private static String await(CountDownLatch latch, String value) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+            return value;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
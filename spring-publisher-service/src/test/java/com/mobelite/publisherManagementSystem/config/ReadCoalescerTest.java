@@ -0,0 +1,155 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Read Coalescer Tests")
+class ReadCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void shutdown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one load between concurrent callers of the same key")
+    void shouldShareLoadBetweenConcurrentCallers() throws Exception {
+        // given
+        ReadCoalescer coalescer = coalescer(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = callers.submit(() -> coalescer.load("book", 1L, () -> slowLoad(release, "book 1")));
+        awaitLoadStarted();
+
+        // when
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            followers.add(callers.submit(() -> coalescer.load("book", 1L, () -> slowLoad(release, "book 1 again"))));
+        }
+        Thread.sleep(200);
+        String other = coalescer.load("book", 2L, () -> "book 2");
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("book 1");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("book 1");
+        }
+        assertThat(other).isEqualTo("book 2");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.counter(ReadCoalescer.REQUESTS_COUNTER, "load", "book", "result", "shared").count()).isEqualTo(3);
+        assertThat(meterRegistry.get(ReadCoalescer.RATIO_GAUGE).tag("load", "book").gauge().value()).isEqualTo(0.6);
+    }
+
+    @Test
+    @DisplayName("Should hand each caller sharing a mutable load its own copy")
+    void shouldCopySharedMutableValue() throws Exception {
+        // given
+        ReadCoalescer coalescer = coalescer(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        Future<StringBuilder> leader = callers.submit(() -> coalescer.load("book", 3L,
+                () -> new StringBuilder(slowLoad(release, "book 3")), StringBuilder::new));
+        awaitLoadStarted();
+
+        // when
+        Future<StringBuilder> follower = callers.submit(() -> coalescer.load("book", 3L,
+                () -> new StringBuilder("unexpected"), StringBuilder::new));
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        StringBuilder loaded = leader.get(5, TimeUnit.SECONDS);
+        StringBuilder shared = follower.get(5, TimeUnit.SECONDS);
+        assertThat(shared).isNotSameAs(loaded).hasToString("book 3");
+        shared.append(" changed");
+        assertThat(loaded).hasToString("book 3");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should stop waiting after the maximum wait and load on its own")
+    void shouldFallBackAfterMaxWait() throws Exception {
+        // given
+        ReadCoalescer coalescer = coalescer(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = callers.submit(() -> coalescer.load("author", 7L, () -> slowLoad(release, "slow")));
+        awaitLoadStarted();
+
+        // when
+        String own = coalescer.load("author", 7L, () -> "own");
+        release.countDown();
+
+        // then
+        assertThat(own).isEqualTo("own");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(meterRegistry.counter(ReadCoalescer.REQUESTS_COUNTER, "load", "author", "result", "fallback").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rethrow the failure of a shared load to every caller")
+    void shouldShareFailure() throws Exception {
+        // given
+        ReadCoalescer coalescer = coalescer(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = callers.submit(() -> coalescer.load("book", 9L, () -> {
+            slowLoad(release, null);
+            throw new ResourceNotFoundException("Book with ID 9 not found");
+        }));
+        awaitLoadStarted();
+
+        // when
+        Future<String> follower = callers.submit(() -> coalescer.load("book", 9L, () -> "unexpected"));
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        for (Future<String> caller : List.of(leader, follower)) {
+            assertThatThrownBy(() -> caller.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ResourceNotFoundException.class);
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    private ReadCoalescer coalescer(Duration maxWait) {
+        return new ReadCoalescer(mock(PlatformTransactionManager.class), meterRegistry, true, maxWait);
+    }
+
+    private String slowLoad(CountDownLatch release, String value) {
+        loads.incrementAndGet();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+            return value;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void awaitLoadStarted() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
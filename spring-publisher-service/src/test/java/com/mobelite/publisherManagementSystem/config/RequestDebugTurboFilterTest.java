@@ -0,0 +1,59 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Request Debug Turbo Filter Tests")
+class RequestDebugTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final RequestDebugTurboFilter filter = new RequestDebugTurboFilter();
+
+    private Logger appLogger;
+    private Logger otherLogger;
+
+    @BeforeEach
+    void setUp() {
+        filter.addLogger("com.mobelite");
+        appLogger = loggerContext.getLogger("com.mobelite.publisherManagementSystem.service.impl.BookServiceImpl");
+        otherLogger = loggerContext.getLogger("org.apache.catalina.core.StandardWrapper");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.remove(RequestLoggingFilter.DEBUG_KEY);
+    }
+
+    @Test
+    @DisplayName("Should accept DEBUG of matching loggers only for flagged requests")
+    void shouldAcceptDebug_WhenRequestIsFlagged() {
+        // given
+        MDC.put(RequestLoggingFilter.DEBUG_KEY, "true");
+
+        // when / then
+        assertThat(decide(appLogger, Level.DEBUG)).isEqualTo(FilterReply.ACCEPT);
+        assertThat(decide(otherLogger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(appLogger, Level.TRACE)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Should leave configured levels in charge for other requests")
+    void shouldStayNeutral_WhenRequestIsNotFlagged() {
+        // when / then
+        assertThat(decide(appLogger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(appLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message", null, null);
+    }
+}
@@ -0,0 +1,157 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Response Cache Tests")
+class ResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private ResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // fresh for 5s, then served stale while revalidating for 30s, or for 10m while the database is down
+        cache = new ResponseCache(runnable -> runnable, meterRegistry, true, Duration.ofSeconds(5),
+                Duration.ofSeconds(30), Duration.ofMinutes(10), 10, DataSize.ofKilobytes(1), 1, now::get);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                new MockHttpServletRequest("GET", "/api/v1/books/1")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        cache.destroy();
+    }
+
+    @Test
+    @DisplayName("Should serve a stale response at once and refresh it once in the background")
+    void shouldServeStaleWhileRevalidating() throws Exception {
+        // given
+        CompletableFuture<String> refresh = new CompletableFuture<>();
+        assertThat(header(get(() -> CompletableFuture.completedFuture("v1")), ResponseCache.CACHE_HEADER)).isEqualTo("MISS");
+        advance(10);
+
+        // when: two requests while the refresh is running
+        ResponseEntity<String> first = get(() -> refresh);
+        ResponseEntity<String> second = get(() -> CompletableFuture.completedFuture("unexpected"));
+        refresh.complete("v2");
+        ResponseEntity<String> refreshed = get(() -> CompletableFuture.completedFuture("unexpected"));
+
+        // then
+        assertThat(first.getBody()).isEqualTo("v1");
+        assertThat(header(first, ResponseCache.CACHE_HEADER)).isEqualTo("STALE");
+        assertThat(header(first, HttpHeaders.AGE)).isEqualTo("10");
+        assertThat(header(first, HttpHeaders.WARNING)).startsWith("110");
+        assertThat(second.getBody()).isEqualTo("v1");
+        assertThat(loads).hasValue(2);
+        assertThat(refreshed.getBody()).isEqualTo("v2");
+        assertThat(header(refreshed, ResponseCache.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(meterRegistry.counter(ResponseCache.REFRESHES_COUNTER, "result", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve the last good response while the database is down, for a bounded time")
+    void shouldServeLastGoodResponseWhileDatabaseIsDown() throws Exception {
+        // given: a response past its stale-while-revalidate window
+        get(() -> CompletableFuture.completedFuture("v1"));
+        advance(60);
+
+        // when
+        ResponseEntity<String> degraded = get(() -> CompletableFuture.failedFuture(
+                new CannotCreateTransactionException("Could not open JPA EntityManager for transaction")));
+
+        // then
+        assertThat(degraded.getBody()).isEqualTo("v1");
+        assertThat(header(degraded, ResponseCache.CACHE_HEADER)).isEqualTo("STALE");
+        assertThat(header(degraded, HttpHeaders.WARNING)).startsWith("111");
+        assertThat(meterRegistry.get(ResponseCache.DEGRADED_GAUGE).gauge().value()).isEqualTo(1);
+
+        advance(TimeUnit.MINUTES.toSeconds(10));
+        assertThatThrownBy(() -> get(() -> CompletableFuture.failedFuture(
+                new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"))))
+                .hasCauseInstanceOf(CannotCreateTransactionException.class);
+
+        get(() -> CompletableFuture.completedFuture("v2"));
+        assertThat(meterRegistry.get(ResponseCache.DEGRADED_GAUGE).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep a streamed response and not cache a load that raced an invalidation")
+    void shouldCacheStreamedResponseAndHonourInvalidation() throws Exception {
+        // given
+        StreamingResponseBody body = outputStream -> outputStream.write("{\"page\":1}".getBytes(StandardCharsets.UTF_8));
+        ResponseEntity<StreamingResponseBody> miss = cache.stream(() -> {
+            loads.incrementAndGet();
+            return body;
+        });
+        write(miss);
+
+        // when
+        ResponseEntity<StreamingResponseBody> hit = cache.stream(() -> {
+            throw new AssertionError("A cached response must not be streamed again");
+        });
+        CompletableFuture<String> racing = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<String>> pending = cache.get(() -> racing);
+        cache.invalidateAll();
+        racing.complete("before the write");
+        pending.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(write(hit)).isEqualTo("{\"page\":1}");
+        assertThat(header(hit, ResponseCache.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    private ResponseEntity<String> get(Supplier<CompletableFuture<String>> load) throws Exception {
+        try {
+            return cache.<String>get(() -> {
+                loads.incrementAndGet();
+                return load.get();
+            }).get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private void advance(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private static String header(ResponseEntity<?> response, String name) {
+        return response.getHeaders().getFirst(name);
+    }
+
+    private static String write(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
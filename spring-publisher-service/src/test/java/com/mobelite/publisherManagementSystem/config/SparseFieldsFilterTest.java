@@ -0,0 +1,100 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.book.BookSummaryResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Sparse Fieldset Filter Tests")
+class SparseFieldsFilterTest {
+
+    private final SparseFieldsConfig config = new SparseFieldsConfig();
+
+    private ObjectMapper objectMapper;
+    private ApiResponseDto<AuthorResponseDto> response;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json().modulesToInstall(config.sparseFieldsModule());
+        config.sparseFieldsDefaultFilterCustomizer().customize(builder);
+        objectMapper = builder.build();
+
+        BookSummaryResponseDto book = BookSummaryResponseDto.builder()
+                .id(10L)
+                .title("Nested Book")
+                .isbn("978-0123456789")
+                .authorName("John Doe")
+                .build();
+        AuthorResponseDto author = AuthorResponseDto.builder()
+                .id(1L)
+                .name("John Doe")
+                .nationality("American")
+                .books(List.of(book))
+                .magazines(List.of())
+                .build();
+        response = ApiResponseDto.success(author);
+    }
+
+    @Test
+    @DisplayName("Should serialize every field when no selection is applied")
+    void shouldSerializeEveryField_WhenNoSelection() throws Exception {
+        // when
+        JsonNode data = objectMapper.readTree(objectMapper.writeValueAsString(response)).get("data");
+
+        // then
+        assertThat(data.has("nationality")).isTrue();
+        assertThat(data.has("books")).isTrue();
+        assertThat(data.has("magazines")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep only selected fields and id on the top-level resource")
+    void shouldKeepOnlySelectedFields() throws Exception {
+        // given
+        FieldSelection selection = FieldSelection.of(List.of("name"));
+
+        // when
+        JsonNode root = readWithSelection(selection);
+        JsonNode data = root.get("data");
+
+        // then
+        assertThat(root.get("success").asBoolean()).isTrue();
+        assertThat(data.get("id").asLong()).isEqualTo(1L);
+        assertThat(data.get("name").asText()).isEqualTo("John Doe");
+        assertThat(data.has("nationality")).isFalse();
+        assertThat(data.has("books")).isFalse();
+        assertThat(data.has("magazines")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write nested resources in full")
+    void shouldWriteNestedResourcesInFull() throws Exception {
+        // given
+        FieldSelection selection = FieldSelection.of(List.of("name,books"));
+
+        // when
+        JsonNode book = readWithSelection(selection).get("data").get("books").get(0);
+
+        // then
+        assertThat(book.get("title").asText()).isEqualTo("Nested Book");
+        assertThat(book.get("isbn").asText()).isEqualTo("978-0123456789");
+        assertThat(book.get("authorName").asText()).isEqualTo("John Doe");
+    }
+
+    private JsonNode readWithSelection(FieldSelection selection) throws Exception {
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+                .addFilter(SparseFieldsFilter.FILTER_ID, new SparseFieldsFilter(selection));
+        return objectMapper.readTree(objectMapper.writer(filters).writeValueAsString(response));
+    }
+}
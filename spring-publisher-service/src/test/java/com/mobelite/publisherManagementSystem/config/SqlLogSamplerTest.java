@@ -0,0 +1,48 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SQL Log Sampler Tests")
+class SqlLogSamplerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("Should cap logged statements per second and refill on the next second")
+    void shouldCapStatementsPerSecond() {
+        // given
+        SqlLogSampler sampler = new SqlLogSampler(1.0, 2, nanos::get);
+
+        // when
+        boolean first = sampler.tryAcquire();
+        boolean second = sampler.tryAcquire();
+        boolean third = sampler.tryAcquire();
+        nanos.set(1_500_000_000L);
+        boolean nextSecond = sampler.tryAcquire();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(nextSecond).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should sample every request at rate 1 and none at rate 0")
+    void shouldFollowSampleRate() {
+        // given
+        SqlLogSampler always = new SqlLogSampler(1.0, 10, nanos::get);
+        SqlLogSampler never = new SqlLogSampler(0.0, 10, nanos::get);
+
+        // when / then
+        for (int i = 0; i < 100; i++) {
+            assertThat(always.sampleRequest()).isTrue();
+            assertThat(never.sampleRequest()).isFalse();
+        }
+    }
+}
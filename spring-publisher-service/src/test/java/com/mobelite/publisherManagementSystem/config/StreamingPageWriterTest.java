@@ -0,0 +1,191 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
+import com.mobelite.publisherManagementSystem.dto.response.book.BookSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Streaming Page Writer Tests")
+class StreamingPageWriterTest {
+
+    private ObjectMapper objectMapper;
+    private StreamingPageWriter pageWriter;
+    private List<PublicationSummaryResponseDto> publications;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        pageWriter = new StreamingPageWriter(objectMapper, 1);
+
+        AuthorSummaryDto author = AuthorSummaryDto.builder()
+                .id(1L)
+                .name("John Doe")
+                .nationality("American")
+                .birthDate(LocalDate.of(1970, 5, 1))
+                .build();
+        publications = List.of(
+                BookSummaryResponseDto.builder()
+                        .id(10L)
+                        .title("A Book")
+                        .publicationDate(LocalDate.of(2024, 1, 15))
+                        .isbn("978-0123456789")
+                        .build(),
+                MagazineSummaryResponseDto.builder()
+                        .id(11L)
+                        .title("B Magazine")
+                        .publicationDate(LocalDate.of(2024, 2, 1))
+                        .issueNumber(7)
+                        .authors(List.of(author))
+                        .build());
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as the materialized page, even when rows are reused")
+    void shouldMatchMaterializedPage_WhenRowsAreReused() throws Exception {
+        // given
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("title"));
+        String expected = objectMapper.writeValueAsString(envelope(new PageImpl<>(publications, pageable, 5)));
+
+        // when
+        String streamed = stream(pageable, reusingRows(), () -> 5L);
+
+        // then
+        assertThat(objectMapper.readTree(streamed)).isEqualTo(objectMapper.readTree(expected));
+    }
+
+    @Test
+    @DisplayName("Should derive the total from a partial last page without counting")
+    void shouldSkipCount_WhenPageIsPartial() throws Exception {
+        // given
+        Pageable pageable = PageRequest.of(1, 5);
+        AtomicInteger counts = new AtomicInteger();
+
+        // when
+        JsonNode data = objectMapper.readTree(stream(pageable, reusingRows(), () -> {
+            counts.incrementAndGet();
+            return 0L;
+        })).get("data");
+
+        // then
+        assertThat(counts).hasValue(0);
+        assertThat(data.get("totalElements").asLong()).isEqualTo(7L);
+        assertThat(data.get("numberOfElements").asInt()).isEqualTo(2);
+        assertThat(data.get("last").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should write an empty page like the materialized one")
+    void shouldMatchMaterializedPage_WhenEmpty() throws Exception {
+        // given
+        Pageable pageable = PageRequest.of(0, 20);
+        String expected = objectMapper.writeValueAsString(envelope(new PageImpl<>(List.of(), pageable, 0)));
+
+        // when
+        String streamed = stream(pageable, sink -> { }, () -> 0L);
+
+        // then
+        assertThat(objectMapper.readTree(streamed)).isEqualTo(objectMapper.readTree(expected));
+    }
+
+    @Test
+    @DisplayName("Should write nothing when the query fails before the first row")
+    void shouldWriteNothing_WhenQueryFailsBeforeFirstRow() {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Consumer<Consumer<PublicationSummaryResponseDto>> failing = sink -> {
+            throw new DataAccessResourceFailureException("Connection refused");
+        };
+
+        // when / then
+        assertThatThrownBy(() -> pageWriter.write(out, "Publications retrieved successfully",
+                PageRequest.of(0, 20), failing, () -> 0L))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave the JSON unterminated when the query fails mid-page")
+    void shouldLeaveJsonUnterminated_WhenQueryFailsMidPage() {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Consumer<Consumer<PublicationSummaryResponseDto>> failing = sink -> {
+            sink.accept(publications.get(0));
+            throw new DataAccessResourceFailureException("Connection reset");
+        };
+
+        // when
+        assertThatThrownBy(() -> pageWriter.write(out, "Publications retrieved successfully",
+                PageRequest.of(0, 20), failing, () -> 0L))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        // then
+        assertThat(out.toString()).contains("\"A Book\"");
+        assertThatThrownBy(() -> objectMapper.readTree(out.toString())).isInstanceOf(JsonProcessingException.class);
+    }
+
+    /**
+     * Push copies of the publications through a single instance per type, as the JDBC repository does.
+     */
+    private Consumer<Consumer<PublicationSummaryResponseDto>> reusingRows() {
+        return sink -> {
+            BookSummaryResponseDto book = BookSummaryResponseDto.builder().build();
+            MagazineSummaryResponseDto magazine = MagazineSummaryResponseDto.builder().authors(new ArrayList<>()).build();
+            for (PublicationSummaryResponseDto publication : publications) {
+                if (publication instanceof BookSummaryResponseDto source) {
+                    book.setId(source.getId());
+                    book.setTitle(source.getTitle());
+                    book.setPublicationDate(source.getPublicationDate());
+                    book.setIsbn(source.getIsbn());
+                    sink.accept(book);
+                } else if (publication instanceof MagazineSummaryResponseDto source) {
+                    magazine.setId(source.getId());
+                    magazine.setTitle(source.getTitle());
+                    magazine.setPublicationDate(source.getPublicationDate());
+                    magazine.setIssueNumber(source.getIssueNumber());
+                    magazine.getAuthors().clear();
+                    magazine.getAuthors().addAll(source.getAuthors());
+                    sink.accept(magazine);
+                }
+            }
+        };
+    }
+
+    private String stream(Pageable pageable, Consumer<Consumer<PublicationSummaryResponseDto>> rows,
+                          LongSupplier total) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        pageWriter.write(out, "Publications retrieved successfully", pageable, rows, total);
+        return out.toString();
+    }
+
+    private ApiResponseDto<Object> envelope(Object data) {
+        return ApiResponseDto.builder()
+                .success(true)
+                .message("Publications retrieved successfully")
+                .data(data)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.service.BookService;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tracing Aspect Tests")
+class TracingAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private SimpleTracer tracer;
+    private TracingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        tracer = new SimpleTracer();
+        aspect = new TracingAspect(new StaticListableBeanFactory(Map.of("tracer", tracer)).getBeanProvider(Tracer.class));
+    }
+
+    @Test
+    @DisplayName("Should name the span after the method and tag it with the page and row counts")
+    void shouldTagPageAndRowCounts() throws Throwable {
+        // given
+        Pageable pageable = PageRequest.of(2, 5);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getMethod()).willReturn(BookService.class.getMethod("getAllBooks", Pageable.class, FieldSelection.class));
+        given(joinPoint.getArgs()).willReturn(new Object[]{pageable, FieldSelection.all()});
+        given(joinPoint.proceed()).willReturn(new PageImpl<>(List.of("a", "b"), pageable, 12));
+
+        // when
+        aspect.traceService(joinPoint);
+
+        // then
+        SimpleSpan span = tracer.onlySpan();
+        assertThat(span.getName()).isEqualTo("BookService.getAllBooks");
+        assertThat(span.getTags())
+                .containsEntry(TracingAspect.LAYER_TAG, "service")
+                .containsEntry(TracingAspect.PAGE_NUMBER_TAG, "2")
+                .containsEntry(TracingAspect.PAGE_SIZE_TAG, "5")
+                .containsEntry(TracingAspect.RESULT_COUNT_TAG, "2")
+                .containsEntry(TracingAspect.TOTAL_COUNT_TAG, "12");
+    }
+
+    @Test
+    @DisplayName("Should parent nested calls to the outer span and record errors")
+    void shouldParentNestedCallsAndRecordErrors() {
+        // given
+        ResourceNotFoundException failure = new ResourceNotFoundException("Book not found");
+
+        // when / then
+        assertThatThrownBy(() -> aspect.trace("service", "BookService.getBookById", new Object[0],
+                () -> aspect.trace("repository", "BookRepository.findById", new Object[0], () -> {
+                    throw failure;
+                })))
+                .isSameAs(failure);
+
+        SimpleSpan service = span("BookService.getBookById");
+        SimpleSpan repository = span("BookRepository.findById");
+        assertThat(repository.getParentId()).isEqualTo(service.getSpanId());
+        assertThat(repository.getError()).isSameAs(failure);
+        assertThat(service.getError()).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("Should fold mapper calls into the enclosing span instead of opening one span per row")
+    void shouldFoldMapperCallsIntoEnclosingSpan() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willReturn("summary");
+
+        // when
+        aspect.trace("service", "PublicationServiceImpl.getAllPublications", new Object[0], () -> {
+            aspect.traceMapper(joinPoint);
+            aspect.traceMapper(joinPoint);
+            return aspect.traceMapper(joinPoint);
+        });
+
+        // then
+        SimpleSpan span = tracer.onlySpan();
+        assertThat(span.getName()).isEqualTo("PublicationServiceImpl.getAllPublications");
+        assertThat(span.getTags())
+                .containsEntry(TracingAspect.MAPPER_CALLS_TAG, "3")
+                .containsKey(TracingAspect.MAPPER_TIME_TAG);
+    }
+
+    private SimpleSpan span(String name) {
+        return tracer.getSpans().stream()
+                .filter(span -> name.equals(span.getName()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,127 @@
+package com.mobelite.publisherManagementSystem.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Vegas Concurrency Limit Tests")
+class VegasConcurrencyLimitTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("Should reject requests beyond the limit and admit again once one completes")
+    void shouldRejectBeyondLimit() {
+        // given
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(2, 1, 10, nanos::get);
+        VegasConcurrencyLimit.Permit first = limit.tryAcquire();
+        VegasConcurrencyLimit.Permit second = limit.tryAcquire();
+
+        // when
+        VegasConcurrencyLimit.Permit rejected = limit.tryAcquire();
+        first.release(false);
+        VegasConcurrencyLimit.Permit admitted = limit.tryAcquire();
+
+        // then
+        assertThat(second).isNotNull();
+        assertThat(rejected).isNull();
+        assertThat(admitted).isNotNull();
+        assertThat(limit.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should grow while latency is steady and shrink as soon as it rises")
+    void shouldFollowLatency() {
+        // given
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(10, 2, 100, nanos::get);
+
+        // when
+        for (int batch = 0; batch < 50; batch++) {
+            runFullBatch(limit, 10 * MILLIS);
+        }
+        int steady = limit.getLimit();
+        for (int batch = 0; batch < 3; batch++) {
+            runFullBatch(limit, 100 * MILLIS);
+        }
+        int slowed = limit.getLimit();
+
+        // then
+        assertThat(steady).isEqualTo(100);
+        assertThat(slowed).isLessThan(steady / 2).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should settle near what a slowed-down backend can serve instead of queuing on it")
+    void shouldSettleNearCapacityOfSlowBackend() {
+        // given: 10 connections, each request holding one for 10 ms, then 100 ms
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(20, 2, 200, nanos::get);
+        int connections = 10;
+
+        // when
+        for (int batch = 0; batch < 200; batch++) {
+            runQueuedBatch(limit, connections, 10 * MILLIS);
+        }
+        for (int batch = 0; batch < 2_000; batch++) {
+            runQueuedBatch(limit, connections, 100 * MILLIS);
+        }
+
+        // then: oscillating around the connections rather than climbing to the maximum
+        assertThat(limit.getLimit()).isBetween(connections / 2, 6 * connections);
+    }
+
+    @Test
+    @DisplayName("Should not change from requests that leave most of the limit unused")
+    void shouldNotChangeWhenUnderused() {
+        // given
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(10, 2, 100, nanos::get);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            VegasConcurrencyLimit.Permit permit = limit.tryAcquire();
+            nanos.addAndGet((i % 2 == 0 ? 10 : 100) * MILLIS);
+            permit.release(true);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    /**
+     * Fill the limit and complete every request after the same latency.
+     */
+    private void runFullBatch(VegasConcurrencyLimit limit, long latencyNanos) {
+        List<VegasConcurrencyLimit.Permit> permits = acquireAll(limit);
+        nanos.addAndGet(latencyNanos);
+        permits.forEach(permit -> permit.release(true));
+    }
+
+    /**
+     * Fill the limit and serve the requests through the given number of connections, so that requests beyond
+     * the connections queue for them.
+     */
+    private void runQueuedBatch(VegasConcurrencyLimit limit, int connections, long serviceNanos) {
+        List<VegasConcurrencyLimit.Permit> permits = acquireAll(limit);
+        for (int i = 0; i < permits.size(); i++) {
+            if (i % connections == 0) {
+                nanos.addAndGet(serviceNanos);
+            }
+            permits.get(i).release(true);
+        }
+    }
+
+    private static List<VegasConcurrencyLimit.Permit> acquireAll(VegasConcurrencyLimit limit) {
+        List<VegasConcurrencyLimit.Permit> permits = new ArrayList<>();
+        VegasConcurrencyLimit.Permit permit;
+        while ((permit = limit.tryAcquire()) != null) {
+            permits.add(permit);
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,136 @@
+package com.mobelite.publisherManagementSystem.controller;
+
+import com.mobelite.publisherManagementSystem.config.GraphQlConfig;
+import com.mobelite.publisherManagementSystem.dto.response.graph.AuthorNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.BookNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.MagazineNodeDto;
+import com.mobelite.publisherManagementSystem.exception.GraphQlExceptionResolver;
+import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.service.CatalogGraphService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@GraphQlTest(CatalogGraphQlController.class)
+@Import({GraphQlConfig.class, GraphQlExceptionResolver.class})
+@DisplayName("Catalog GraphQL Controller Tests")
+class CatalogGraphQlControllerTest {
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @MockitoBean
+    private CatalogGraphService catalogGraphService;
+
+    private AuthorNodeDto firstAuthor;
+    private AuthorNodeDto secondAuthor;
+
+    @BeforeEach
+    void setUp() {
+        firstAuthor = AuthorNodeDto.builder().id(1L).name("John Doe").nationality("American").build();
+        secondAuthor = AuthorNodeDto.builder().id(2L).name("Jane Roe").nationality("British").build();
+    }
+
+    @Test
+    @DisplayName("Should resolve each association level with a single batch call")
+    void shouldResolveEachAssociationLevelWithSingleBatchCall() {
+        // given
+        BookNodeDto firstBook = book(10L, "First Book", 1L);
+        BookNodeDto secondBook = book(11L, "Second Book", 2L);
+        MagazineNodeDto magazine = MagazineNodeDto.builder()
+                .id(20L).title("Shared Magazine").publicationDate(LocalDate.of(2024, 1, 1)).issueNumber(3).build();
+
+        given(catalogGraphService.getAuthors(any(Pageable.class))).willReturn(List.of(firstAuthor, secondAuthor));
+        given(catalogGraphService.getBooksByAuthorIds(Set.of(1L, 2L)))
+                .willReturn(Map.of(1L, List.of(firstBook), 2L, List.of(secondBook)));
+        given(catalogGraphService.getAuthorsByIds(Set.of(1L, 2L)))
+                .willReturn(Map.of(1L, firstAuthor, 2L, secondAuthor));
+        given(catalogGraphService.getMagazinesByAuthorIds(Set.of(1L, 2L)))
+                .willReturn(Map.of(1L, List.of(magazine)));
+
+        // when
+        GraphQlTester.Response response = graphQlTester.document("""
+                {
+                  authors(size: 10) {
+                    name
+                    books { title author { name } }
+                    magazines { title }
+                  }
+                }
+                """).execute();
+
+        // then
+        response.path("authors[0].books[0].author.name").entity(String.class).isEqualTo("John Doe");
+        response.path("authors[1].books[0].title").entity(String.class).isEqualTo("Second Book");
+        response.path("authors[0].magazines[0].title").entity(String.class).isEqualTo("Shared Magazine");
+        response.path("authors[1].magazines").entityList(Object.class).hasSize(0);
+
+        verify(catalogGraphService, times(1)).getBooksByAuthorIds(any());
+        verify(catalogGraphService, times(1)).getAuthorsByIds(any());
+        verify(catalogGraphService, times(1)).getMagazinesByAuthorIds(any());
+    }
+
+    @Test
+    @DisplayName("Should report NOT_FOUND when author does not exist")
+    void shouldReportNotFound_WhenAuthorDoesNotExist() {
+        // given
+        given(catalogGraphService.getAuthor(99L))
+                .willThrow(new ResourceNotFoundException("Author not found with ID: 99"));
+
+        // when & then
+        graphQlTester.document("{ author(id: 99) { name } }")
+                .execute()
+                .errors()
+                .satisfy(errors -> {
+                    assertThat(errors).hasSize(1);
+                    assertThat(errors.get(0).getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+                    assertThat(errors.get(0).getMessage()).isEqualTo("Author not found with ID: 99");
+                });
+    }
+
+    @Test
+    @DisplayName("Should reject queries exceeding the complexity limit before fetching data")
+    void shouldRejectQueriesExceedingComplexityLimit() {
+        // when & then
+        graphQlTester.document("""
+                {
+                  authors(size: 100) {
+                    books { author { magazines { authors { name books { title } } } } }
+                  }
+                }
+                """)
+                .execute()
+                .errors()
+                .satisfy(errors -> assertThat(errors).isNotEmpty());
+
+        verify(catalogGraphService, never()).getAuthors(any());
+    }
+
+    private static BookNodeDto book(Long id, String title, Long authorId) {
+        return BookNodeDto.builder()
+                .id(id)
+                .title(title)
+                .publicationDate(LocalDate.of(2024, 1, 1))
+                .authorId(authorId)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.mobelite.publisherManagementSystem.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobelite.publisherManagementSystem.dto.response.ApiResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Error Response Encoder Tests")
+class ErrorResponseEncoderTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-15T10:15:30.123Z"), ZoneOffset.UTC);
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        encoder = new ErrorResponseEncoder(objectMapper, clock);
+    }
+
+    @Test
+    @DisplayName("Should encode the same JSON as the serialized error envelope")
+    void shouldMatchSerializedEnvelope() throws Exception {
+        // given
+        String message = "Book with ISBN \"978-0\\12\" not found";
+        ApiResponseDto<Object> expected = ApiResponseDto.error(message);
+        expected.setTimestamp(LocalDateTime.now(clock));
+
+        // when
+        byte[] body = encoder.encode(message);
+
+        // then
+        assertThat(new String(body)).isEqualTo(objectMapper.writeValueAsString(expected));
+        assertThat(objectMapper.readValue(body, ApiResponseDto.class).getMessage()).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("Should serve JSON only to clients that accept it")
+    void shouldDetectJsonClients() {
+        // when / then
+        assertThat(encoder.acceptsJson(null)).isTrue();
+        assertThat(encoder.acceptsJson("*/*")).isTrue();
+        assertThat(encoder.acceptsJson("application/cbor, application/*;q=0.5")).isTrue();
+        assertThat(encoder.acceptsJson("application/cbor")).isFalse();
+        assertThat(encoder.acceptsJson("application/x-jackson-smile")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refuse JSON to clients that rule it out with q=0")
+    void shouldRespectZeroQuality() {
+        // when / then
+        assertThat(encoder.acceptsJson("application/json;q=0")).isFalse();
+        assertThat(encoder.acceptsJson("application/json;q=0, */*")).isFalse();
+        assertThat(encoder.acceptsJson("*/*;q=0, application/json")).isTrue();
+        assertThat(encoder.acceptsJson("application/*;q=0, application/json;q=0.1")).isTrue();
+    }
+}
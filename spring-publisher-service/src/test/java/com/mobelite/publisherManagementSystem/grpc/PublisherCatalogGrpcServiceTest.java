@@ -0,0 +1,294 @@
+package com.mobelite.publisherManagementSystem.grpc;
+
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
+import com.mobelite.publisherManagementSystem.dto.response.book.BookResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.book.BookSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.publication.PublicationSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.grpc.v1.Book;
+import com.mobelite.publisherManagementSystem.grpc.v1.GetBookByIsbnRequest;
+import com.mobelite.publisherManagementSystem.grpc.v1.GetPublicationsRequest;
+import com.mobelite.publisherManagementSystem.grpc.v1.GetPublicationsResponse;
+import com.mobelite.publisherManagementSystem.grpc.v1.PublicationSummary;
+import com.mobelite.publisherManagementSystem.grpc.v1.PublisherCatalogGrpc;
+import com.mobelite.publisherManagementSystem.grpc.v1.ScanPublicationsRequest;
+import com.mobelite.publisherManagementSystem.service.AuthorService;
+import com.mobelite.publisherManagementSystem.service.BookService;
+import com.mobelite.publisherManagementSystem.service.CatalogStreamService;
+import com.mobelite.publisherManagementSystem.service.PublicationService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PublisherCatalog gRPC In-Process Tests")
+class PublisherCatalogGrpcServiceTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private PublicationService publicationService;
+
+    @Mock
+    private AuthorService authorService;
+
+    @Mock
+    private CatalogStreamService catalogStreamService;
+
+    private Server server;
+    private ManagedChannel channel;
+    private PublisherCatalogGrpc.PublisherCatalogBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String serverName = InProcessServerBuilder.generateName();
+        PublisherCatalogGrpcService service = new PublisherCatalogGrpcService(
+                bookService, publicationService, authorService, catalogStreamService, new CatalogMessageMapper());
+
+        server = InProcessServerBuilder.forName(serverName).directExecutor().addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+        stub = PublisherCatalogGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Unary Lookup Tests")
+    class UnaryLookupTests {
+
+        @Test
+        @DisplayName("Should return book when found by ISBN")
+        void shouldReturnBook_WhenFoundByIsbn() {
+            // given
+            given(bookService.getBookByIsbn("978-0123456789", FieldSelection.all())).willReturn(createBookResponseDto(1L));
+
+            // when
+            Book result = stub.getBookByIsbn(GetBookByIsbnRequest.newBuilder().setIsbn("978-0123456789").build());
+
+            // then
+            assertThat(result.getTitle()).isEqualTo("Book 1");
+            assertThat(result.getPublicationDate()).isEqualTo("2024-01-15");
+            assertThat(result.getAuthor().getName()).isEqualTo("Test Author");
+        }
+
+        @Test
+        @DisplayName("Should map ResourceNotFoundException to NOT_FOUND status")
+        void shouldReturnNotFoundStatus_WhenBookNotFound() {
+            // given
+            given(bookService.getBookByIsbn("missing", FieldSelection.all()))
+                    .willThrow(new ResourceNotFoundException("Book with ISBN missing not found"));
+
+            // when & then
+            assertThatThrownBy(() -> stub.getBookByIsbn(GetBookByIsbnRequest.newBuilder().setIsbn("missing").build()))
+                    .isInstanceOf(StatusRuntimeException.class)
+                    .satisfies(ex -> assertThat(((StatusRuntimeException) ex).getStatus().getCode())
+                            .isEqualTo(Status.Code.NOT_FOUND));
+        }
+
+        @Test
+        @DisplayName("Should return found publications and report missing IDs")
+        void shouldReturnPublicationsAndMissingIds() {
+            // given
+            MagazineResponseDto magazine = MagazineResponseDto.builder()
+                    .id(2L)
+                    .title("Magazine 2")
+                    .issueNumber(7)
+                    .authors(List.of(createAuthorSummaryDto()))
+                    .build();
+            List<PublicationResponseDto> found = List.of(createBookResponseDto(1L), magazine);
+            given(publicationService.getPublicationsByIds(List.of(1L, 2L, 3L))).willReturn(found);
+
+            // when
+            GetPublicationsResponse result = stub.getPublications(
+                    GetPublicationsRequest.newBuilder().addAllIds(List.of(1L, 2L, 3L)).build());
+
+            // then
+            assertThat(result.getPublicationsList()).hasSize(2);
+            assertThat(result.getPublications(0).hasBook()).isTrue();
+            assertThat(result.getPublications(1).getMagazine().getIssueNumber()).isEqualTo(7);
+            assertThat(result.getPublications(1).getMagazine().getAuthorsList()).hasSize(1);
+            assertThat(result.getMissingIdsList()).containsExactly(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming Scan Tests")
+    class StreamingScanTests {
+
+        @Test
+        @DisplayName("Should stream every publication across keyset batches")
+        void shouldStreamEveryPublicationAcrossKeysetBatches() {
+            // given
+            givenPublications(5);
+
+            // when
+            List<PublicationSummary> result = new ArrayList<>();
+            stub.scanPublications(ScanPublicationsRequest.newBuilder().setBatchSize(2).build())
+                    .forEachRemaining(result::add);
+
+            // then
+            assertThat(result).hasSize(5);
+            assertThat(result.get(0).getBook().getId()).isEqualTo(1L);
+            assertThat(result.get(1).getMagazine().getId()).isEqualTo(2L);
+            assertThat(result.get(4).getBook().getId()).isEqualTo(5L);
+            verify(catalogStreamService).scanPublications(isNull(), eq(0L), eq(2), any());
+            verify(catalogStreamService).scanPublications(isNull(), eq(2L), eq(2), any());
+            verify(catalogStreamService).scanPublications(isNull(), eq(4L), eq(2), any());
+        }
+
+        @Test
+        @DisplayName("Should filter by title when a title filter is given")
+        void shouldFilterByTitle_WhenTitleFilterGiven() {
+            // given
+            willAnswer(invocation -> {
+                Consumer<PublicationSummaryResponseDto> sink = invocation.getArgument(3);
+                sink.accept(createBookSummary(1L));
+                return null;
+            }).given(catalogStreamService).scanPublications(eq("spring"), eq(0L), eq(500), any());
+
+            // when
+            List<PublicationSummary> result = new ArrayList<>();
+            stub.scanPublications(ScanPublicationsRequest.newBuilder().setTitleContains("spring").build())
+                    .forEachRemaining(result::add);
+
+            // then
+            assertThat(result).hasSize(1);
+            verify(catalogStreamService, times(1)).scanPublications(any(), anyLong(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("Should stop reading batches until the client asks for more rows")
+        void shouldPauseScan_UntilClientRequestsMoreRows() {
+            // given
+            givenPublications(5);
+            List<PublicationSummary> received = new ArrayList<>();
+            AtomicBoolean completed = new AtomicBoolean();
+            AtomicReference<ClientCallStreamObserver<ScanPublicationsRequest>> call = new AtomicReference<>();
+
+            // when
+            PublisherCatalogGrpc.newStub(channel).scanPublications(
+                    ScanPublicationsRequest.newBuilder().setBatchSize(2).build(),
+                    new ClientResponseObserver<ScanPublicationsRequest, PublicationSummary>() {
+                        @Override
+                        public void beforeStart(ClientCallStreamObserver<ScanPublicationsRequest> requestStream) {
+                            requestStream.disableAutoRequestWithInitial(1);
+                            call.set(requestStream);
+                        }
+
+                        @Override
+                        public void onNext(PublicationSummary value) {
+                            received.add(value);
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                        }
+
+                        @Override
+                        public void onCompleted() {
+                            completed.set(true);
+                        }
+                    });
+
+            // then
+            assertThat(received).hasSize(1);
+            assertThat(completed).isFalse();
+            verify(catalogStreamService, times(1)).scanPublications(any(), anyLong(), anyInt(), any());
+
+            // when
+            call.get().request(4);
+
+            // then
+            assertThat(received).hasSize(5);
+            assertThat(completed).isTrue();
+            verify(catalogStreamService, times(3)).scanPublications(any(), anyLong(), anyInt(), any());
+        }
+
+        private void givenPublications(long count) {
+            willAnswer(invocation -> {
+                long afterId = invocation.getArgument(1);
+                int limit = invocation.getArgument(2);
+                Consumer<PublicationSummaryResponseDto> sink = invocation.getArgument(3);
+                for (long id = afterId + 1; id <= afterId + limit && id <= count; id++) {
+                    sink.accept(id % 2 == 0 ? createMagazineSummary(id) : createBookSummary(id));
+                }
+                return null;
+            }).given(catalogStreamService).scanPublications(any(), anyLong(), anyInt(), any());
+        }
+    }
+
+    private AuthorSummaryDto createAuthorSummaryDto() {
+        return AuthorSummaryDto.builder()
+                .id(10L)
+                .name("Test Author")
+                .nationality("French")
+                .build();
+    }
+
+    private BookResponseDto createBookResponseDto(Long id) {
+        return BookResponseDto.builder()
+                .id(id)
+                .title("Book " + id)
+                .publicationDate(LocalDate.of(2024, 1, 15))
+                .isbn("978-0123456789")
+                .author(createAuthorSummaryDto())
+                .build();
+    }
+
+    private BookSummaryResponseDto createBookSummary(Long id) {
+        BookSummaryResponseDto dto = new BookSummaryResponseDto();
+        dto.setId(id);
+        dto.setTitle("Book " + id);
+        dto.setAuthorName("Test Author");
+        return dto;
+    }
+
+    private MagazineSummaryResponseDto createMagazineSummary(Long id) {
+        MagazineSummaryResponseDto dto = new MagazineSummaryResponseDto();
+        dto.setId(id);
+        dto.setTitle("Magazine " + id);
+        dto.setIssueNumber(1);
+        return dto;
+    }
+}
@@ -0,0 +1,116 @@
+package com.mobelite.publisherManagementSystem.mapper;
+
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
+import com.mobelite.publisherManagementSystem.entity.Author;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Author Mapping Context Tests")
+class AuthorMappingContextTest {
+
+    private final AuthorMapper authorMapper = new AuthorMapperImpl();
+
+    private Author author;
+
+    @BeforeEach
+    void setUp() {
+        author = Author.builder()
+                .id(1L)
+                .name("John Doe")
+                .nationality("American")
+                .birthDate(LocalDate.of(1970, 1, 1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should reuse the same summary for repeated authors within a context")
+    void shouldReuseSummary_WithinContext() {
+        // given
+        AuthorMappingContext context = AuthorMappingContext.local();
+        Author sameAuthorAgain = Author.builder().id(1L).name("John Doe").nationality("American")
+                .birthDate(LocalDate.of(1970, 1, 1)).build();
+
+        // when
+        AuthorSummaryDto first = authorMapper.toSummaryDto(author, context);
+        AuthorSummaryDto second = authorMapper.toSummaryDto(sameAuthorAgain, context);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getName()).isEqualTo("John Doe");
+    }
+
+    @Test
+    @DisplayName("Should reuse summaries across contexts through the shared cache")
+    void shouldReuseSummary_AcrossContexts() {
+        // given
+        AuthorSummaryCache cache = new AuthorSummaryCache(100);
+
+        // when
+        AuthorSummaryDto first = authorMapper.toSummaryDto(author, cache.newContext());
+        AuthorSummaryDto second = authorMapper.toSummaryDto(author, cache.newContext());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should map a fresh summary when the cached one no longer matches the author")
+    void shouldMapFreshSummary_WhenAuthorChanged() {
+        // given
+        AuthorSummaryCache cache = new AuthorSummaryCache(100);
+        AuthorSummaryDto stale = authorMapper.toSummaryDto(author, cache.newContext());
+        author.setName("John Smith");
+
+        // when
+        AuthorSummaryDto fresh = authorMapper.toSummaryDto(author, cache.newContext());
+
+        // then
+        assertThat(fresh).isNotSameAs(stale);
+        assertThat(fresh.getName()).isEqualTo("John Smith");
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used summary when the cache is full")
+    void shouldEvictLeastRecentlyUsed_WhenCacheFull() {
+        // given
+        AuthorSummaryCache cache = new AuthorSummaryCache(1);
+        Author other = Author.builder().id(2L).name("Jane Roe").build();
+        AuthorSummaryDto first = authorMapper.toSummaryDto(author, cache.newContext());
+
+        // when
+        authorMapper.toSummaryDto(other, cache.newContext());
+        AuthorSummaryDto again = authorMapper.toSummaryDto(author, cache.newContext());
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(again).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should report cache hits and misses as metrics")
+    void shouldReportHitsAndMisses() {
+        // given
+        AuthorSummaryCache cache = new AuthorSummaryCache(100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // when
+        authorMapper.toSummaryDto(author, cache.newContext());
+        authorMapper.toSummaryDto(author, cache.newContext());
+        authorMapper.toSummaryDto(author, cache.newContext());
+
+        // then
+        assertThat(registry.get("mapping.author.summary.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("mapping.author.summary.cache.requests").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("mapping.author.summary.cache.size").gauge().value()).isEqualTo(1.0);
+    }
+}
\ No newline at end of file
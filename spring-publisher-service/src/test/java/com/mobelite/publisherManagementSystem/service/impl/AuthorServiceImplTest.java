@@ -1,5 +1,7 @@
 package com.mobelite.publisherManagementSystem.service.impl;
 
+import com.mobelite.publisherManagementSystem.config.ReadCoalescer;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.author.AuthorRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.author.AuthorResponseDto;
 import com.mobelite.publisherManagementSystem.entity.Author;
@@ -9,6 +11,8 @@ import com.mobelite.publisherManagementSystem.exception.DuplicateResourceExcepti
 import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
 import com.mobelite.publisherManagementSystem.mapper.AuthorMapper;
 import com.mobelite.publisherManagementSystem.repository.AuthorRepository;
+import com.mobelite.publisherManagementSystem.repository.MagazineRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,12 +20,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.Duration;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -36,9 +43,16 @@ class AuthorServiceImplTest {
     @Mock
     private AuthorRepository authorRepository;
 
+    @Mock
+    private MagazineRepository magazineRepository;
+
     @Mock
     private AuthorMapper authorMapper;
 
+    @Spy
+    private ReadCoalescer readCoalescer =
+            new ReadCoalescer(mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), true, Duration.ofSeconds(1));
+
     @InjectMocks
     private AuthorServiceImpl authorService;
 
@@ -108,33 +122,36 @@ class AuthorServiceImplTest {
         @DisplayName("Should return author when found by ID")
         void shouldReturnAuthor_WhenFoundById() {
             // given
-            given(authorRepository.findByIdWithPublications(AUTHOR_ID)).willReturn(Optional.of(author));
-            given(authorMapper.toResponseDto(author)).willReturn(authorResponseDto);
+            given(authorRepository.findByIdWithBooks(AUTHOR_ID)).willReturn(Optional.of(author));
+            given(authorRepository.findAllWithMagazinesByIdIn(List.of(AUTHOR_ID))).willReturn(List.of(author));
+            given(authorMapper.toResponseDto(author, FieldSelection.all())).willReturn(authorResponseDto);
 
             // when
-            AuthorResponseDto result = authorService.getAuthorById(AUTHOR_ID);
+            AuthorResponseDto result = authorService.getAuthorById(AUTHOR_ID, FieldSelection.all());
 
             // then
             assertThat(result).isNotNull();
             assertThat(result.getName()).isEqualTo(AUTHOR_NAME);
 
-            verify(authorRepository).findByIdWithPublications(AUTHOR_ID);
-            verify(authorMapper).toResponseDto(author);
+            verify(authorRepository).findByIdWithBooks(AUTHOR_ID);
+            verify(authorRepository).findAllWithMagazinesByIdIn(List.of(AUTHOR_ID));
+            verify(authorMapper).toResponseDto(author, FieldSelection.all());
         }
 
         @Test
         @DisplayName("Should throw ResourceNotFoundException when author not found by ID")
         void shouldThrowResourceNotFoundException_WhenAuthorNotFoundById() {
             // given
-            given(authorRepository.findByIdWithPublications(AUTHOR_ID)).willReturn(Optional.empty());
+            given(authorRepository.findByIdWithBooks(AUTHOR_ID)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> authorService.getAuthorById(AUTHOR_ID))
+            assertThatThrownBy(() -> authorService.getAuthorById(AUTHOR_ID, FieldSelection.all()))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage("Author not found with ID: " + AUTHOR_ID);
 
-            verify(authorRepository).findByIdWithPublications(AUTHOR_ID);
-            verify(authorMapper, never()).toResponseDto(any());
+            verify(authorRepository).findByIdWithBooks(AUTHOR_ID);
+            verify(authorRepository, never()).findAllWithMagazinesByIdIn(any());
+            verify(authorMapper, never()).toResponseDto(any(), any());
         }
     }
 
@@ -150,12 +167,13 @@ class AuthorServiceImplTest {
             List<AuthorResponseDto> expectedResponses = createAuthorResponseDtos();
             Pageable pageable = PageRequest.of(0, 10);
 
-            given(authorRepository.findAllWithMagazines(pageable)).willReturn(new PageImpl<>(authors));
-            given(authorMapper.toResponseDto(authors.get(0))).willReturn(expectedResponses.get(0));
-            given(authorMapper.toResponseDto(authors.get(1))).willReturn(expectedResponses.get(1));
+            given(authorRepository.findAll(pageable)).willReturn(new PageImpl<>(authors));
+            given(authorRepository.findAllWithMagazinesByIdIn(List.of(1L, 2L))).willReturn(authors);
+            given(authorMapper.toResponseDto(authors.get(0), FieldSelection.all())).willReturn(expectedResponses.get(0));
+            given(authorMapper.toResponseDto(authors.get(1), FieldSelection.all())).willReturn(expectedResponses.get(1));
 
             // when
-            Page<AuthorResponseDto> result = authorService.getAllAuthors(pageable);
+            Page<AuthorResponseDto> result = authorService.getAllAuthors(pageable, FieldSelection.all());
 
             // then
             assertThat(result).isNotNull();
@@ -172,9 +190,12 @@ class AuthorServiceImplTest {
             assertThat(secondAuthor.getNationality()).isEqualTo("British");
 
             // Verify interactions
-            verify(authorRepository).findAllWithMagazines(pageable);
-            verify(authorMapper).toResponseDto(authors.get(0));
-            verify(authorMapper).toResponseDto(authors.get(1));
+            verify(authorRepository).findAll(pageable);
+            verify(authorRepository).findAllWithBooksByIdIn(List.of(1L, 2L));
+            verify(authorRepository).findAllWithMagazinesByIdIn(List.of(1L, 2L));
+            verify(magazineRepository).findAllWithAuthorsByIdIn(List.of(1L, 2L));
+            verify(authorMapper).toResponseDto(authors.get(0), FieldSelection.all());
+            verify(authorMapper).toResponseDto(authors.get(1), FieldSelection.all());
         }
 
         @Test
@@ -182,18 +203,18 @@ class AuthorServiceImplTest {
         void shouldReturnEmptyList_WhenNoAuthorsExist() {
             // given
             Pageable pageable = PageRequest.of(0, 10);
-            given(authorRepository.findAllWithMagazines(pageable)).willReturn(new PageImpl<>(Collections.emptyList()));
+            given(authorRepository.findAll(pageable)).willReturn(new PageImpl<>(Collections.emptyList()));
 
             // when
-            Page<AuthorResponseDto> result = authorService.getAllAuthors(pageable);
+            Page<AuthorResponseDto> result = authorService.getAllAuthors(pageable, FieldSelection.all());
 
             // then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isZero();
 
-            verify(authorRepository).findAllWithMagazines(pageable);
-            verify(authorMapper, never()).toResponseDto(any());
+            verify(authorRepository).findAll(pageable);
+            verify(authorMapper, never()).toResponseDto(any(), any());
         }
 
         @Test
@@ -201,16 +222,16 @@ class AuthorServiceImplTest {
         void shouldThrowRuntimeException_WhenRepositoryThrowsException() {
             // given
             Pageable pageable = PageRequest.of(0, 10);
-            given(authorRepository.findAllWithMagazines(pageable)).willThrow(new RuntimeException("Database error"));
+            given(authorRepository.findAll(pageable)).willThrow(new RuntimeException("Database error"));
 
             // when & then
-            assertThatThrownBy(() -> authorService.getAllAuthors(pageable))
+            assertThatThrownBy(() -> authorService.getAllAuthors(pageable, FieldSelection.all()))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Failed to fetch authors")
                     .hasCauseInstanceOf(RuntimeException.class);
 
-            verify(authorRepository).findAllWithMagazines(pageable);
-            verify(authorMapper, never()).toResponseDto(any());
+            verify(authorRepository).findAll(pageable);
+            verify(authorMapper, never()).toResponseDto(any(), any());
         }
 
         @Test
@@ -219,18 +240,18 @@ class AuthorServiceImplTest {
             // given
             Pageable pageable = PageRequest.of(0, 10);
             List<Author> authors = createAuthorsWithPublications();
-            given(authorRepository.findAllWithMagazines(pageable)).willReturn(new PageImpl<>(authors));
-            given(authorMapper.toResponseDto(any(Author.class)))
+            given(authorRepository.findAll(pageable)).willReturn(new PageImpl<>(authors));
+            given(authorMapper.toResponseDto(any(Author.class), eq(FieldSelection.all())))
                     .willThrow(new RuntimeException("Mapping error"));
 
             // when & then
-            assertThatThrownBy(() -> authorService.getAllAuthors(pageable))
+            assertThatThrownBy(() -> authorService.getAllAuthors(pageable, FieldSelection.all()))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Failed to fetch authors")
                     .hasCauseInstanceOf(RuntimeException.class);
 
-            verify(authorRepository).findAllWithMagazines(pageable);
-            verify(authorMapper).toResponseDto(any(Author.class));
+            verify(authorRepository).findAll(pageable);
+            verify(authorMapper).toResponseDto(any(Author.class), eq(FieldSelection.all()));
         }
 
         @Test
@@ -241,19 +262,89 @@ class AuthorServiceImplTest {
             List<Author> authors = createAuthorsWithEmptyPublications();
             List<AuthorResponseDto> expectedResponses = createAuthorResponseDtos();
 
-            given(authorRepository.findAllWithMagazines(pageable)).willReturn(new PageImpl<>(authors));
-            given(authorMapper.toResponseDto(authors.get(0))).willReturn(expectedResponses.get(0));
+            given(authorRepository.findAll(pageable)).willReturn(new PageImpl<>(authors));
+            given(authorMapper.toResponseDto(authors.get(0), FieldSelection.all())).willReturn(expectedResponses.get(0));
 
             // when
-            Page<AuthorResponseDto> result = authorService.getAllAuthors(pageable);
+            Page<AuthorResponseDto> result = authorService.getAllAuthors(pageable, FieldSelection.all());
 
             // then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).getName()).isEqualTo("John Doe");
 
-            verify(authorRepository).findAllWithMagazines(pageable);
-            verify(authorMapper).toResponseDto(any(Author.class));
+            verify(authorRepository).findAll(pageable);
+            verify(authorMapper).toResponseDto(any(Author.class), eq(FieldSelection.all()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sparse Fieldset Tests")
+    class SparseFieldsetTests {
+
+        @Test
+        @DisplayName("Should skip publication fetch joins when only scalar fields are requested")
+        void shouldSkipFetchJoins_WhenOnlyScalarFieldsRequested() {
+            // given
+            FieldSelection fields = FieldSelection.of(List.of("name"));
+            given(authorRepository.findById(AUTHOR_ID)).willReturn(Optional.of(author));
+            given(authorMapper.toResponseDto(author, fields)).willReturn(authorResponseDto);
+
+            // when
+            AuthorResponseDto result = authorService.getAuthorById(AUTHOR_ID, fields);
+
+            // then
+            assertThat(result).isEqualTo(authorResponseDto);
+            verify(authorRepository).findById(AUTHOR_ID);
+            verify(authorRepository, never()).findByIdWithBooks(any());
+            verify(authorRepository, never()).findAllWithMagazinesByIdIn(any());
+        }
+
+        @Test
+        @DisplayName("Should fetch only books when books are requested")
+        void shouldFetchOnlyBooks_WhenBooksRequested() {
+            // given
+            FieldSelection fields = FieldSelection.of(List.of("name,books"));
+            given(authorRepository.findByIdWithBooks(AUTHOR_ID)).willReturn(Optional.of(author));
+            given(authorMapper.toResponseDto(author, fields)).willReturn(authorResponseDto);
+
+            // when
+            authorService.getAuthorById(AUTHOR_ID, fields);
+
+            // then
+            verify(authorRepository).findByIdWithBooks(AUTHOR_ID);
+            verify(authorRepository, never()).findAllWithMagazinesByIdIn(any());
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when author does not exist")
+        void shouldThrowResourceNotFoundException_WhenAuthorDoesNotExist() {
+            // given
+            FieldSelection fields = FieldSelection.of(List.of("name"));
+            given(authorRepository.findById(AUTHOR_ID)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> authorService.getAuthorById(AUTHOR_ID, fields))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Author not found with ID: " + AUTHOR_ID);
+        }
+
+        @Test
+        @DisplayName("Should page authors without magazine fetch join when magazines are not requested")
+        void shouldPageWithoutMagazines_WhenMagazinesNotRequested() {
+            // given
+            FieldSelection fields = FieldSelection.of(List.of("name"));
+            Pageable pageable = PageRequest.of(0, 10);
+            given(authorRepository.findAll(pageable)).willReturn(new PageImpl<>(List.of(author), pageable, 1));
+            given(authorMapper.toResponseDto(author, fields)).willReturn(authorResponseDto);
+
+            // when
+            Page<AuthorResponseDto> result = authorService.getAllAuthors(pageable, fields);
+
+            // then
+            assertThat(result.getContent()).containsExactly(authorResponseDto);
+            verify(authorRepository, never()).findAllWithMagazinesByIdIn(any());
+            verify(authorRepository, never()).findAllWithBooksByIdIn(any());
         }
     }
 
@@ -1,5 +1,7 @@
 package com.mobelite.publisherManagementSystem.service.impl;
 
+import com.mobelite.publisherManagementSystem.config.ReadCoalescer;
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.book.BookCreateRequestDto;
 import com.mobelite.publisherManagementSystem.dto.request.book.BookUpdateRequestDto;
 import com.mobelite.publisherManagementSystem.dto.response.book.BookResponseDto;
@@ -9,9 +11,11 @@ import com.mobelite.publisherManagementSystem.entity.Author;
 import com.mobelite.publisherManagementSystem.entity.Book;
 import com.mobelite.publisherManagementSystem.exception.DuplicateResourceException;
 import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.mapper.AuthorSummaryCache;
 import com.mobelite.publisherManagementSystem.mapper.BookMapper;
 import com.mobelite.publisherManagementSystem.repository.AuthorRepository;
 import com.mobelite.publisherManagementSystem.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,13 +23,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -48,6 +55,13 @@ class BookServiceImplTest {
     @Mock
     private BookMapper bookMapper;
 
+    @Mock
+    private AuthorSummaryCache authorSummaryCache;
+
+    @Spy
+    private ReadCoalescer readCoalescer =
+            new ReadCoalescer(mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), true, Duration.ofSeconds(1));
+
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -320,10 +334,10 @@ class BookServiceImplTest {
         void shouldGetBookByIdSuccessfully() {
             // Given
             when(bookRepository.findById(1L)).thenReturn(Optional.of(testBook));
-            when(bookMapper.toResponse(testBook)).thenReturn(responseDto);
+            when(bookMapper.toResponse(testBook, FieldSelection.all())).thenReturn(responseDto);
 
             // When
-            BookResponseDto result = bookService.getBookById(1L);
+            BookResponseDto result = bookService.getBookById(1L, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -331,7 +345,7 @@ class BookServiceImplTest {
             assertThat(result.getIsbn()).isEqualTo(testBook.getIsbn());
 
             verify(bookRepository).findById(1L);
-            verify(bookMapper).toResponse(testBook);
+            verify(bookMapper).toResponse(testBook, FieldSelection.all());
         }
 
         @Test
@@ -341,12 +355,12 @@ class BookServiceImplTest {
             when(bookRepository.findById(1L)).thenReturn(Optional.empty());
 
             // When & Then
-            assertThatThrownBy(() -> bookService.getBookById(1L))
+            assertThatThrownBy(() -> bookService.getBookById(1L, FieldSelection.all()))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage("Book with ID 1 not found");
 
             verify(bookRepository).findById(1L);
-            verify(bookMapper, never()).toResponse(any(Book.class));
+            verify(bookMapper, never()).toResponse(any(Book.class), any(FieldSelection.class));
         }
 
         @Test
@@ -355,10 +369,10 @@ class BookServiceImplTest {
             // Given
             String isbn = "978-0123456789";
             when(bookRepository.findByIsbn(isbn)).thenReturn(Optional.of(testBook));
-            when(bookMapper.toResponse(testBook)).thenReturn(responseDto);
+            when(bookMapper.toResponse(testBook, FieldSelection.all())).thenReturn(responseDto);
 
             // When
-            BookResponseDto result = bookService.getBookByIsbn(isbn);
+            BookResponseDto result = bookService.getBookByIsbn(isbn, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -366,7 +380,7 @@ class BookServiceImplTest {
             assertThat(result.getIsbn()).isEqualTo(isbn);
 
             verify(bookRepository).findByIsbn(isbn);
-            verify(bookMapper).toResponse(testBook);
+            verify(bookMapper).toResponse(testBook, FieldSelection.all());
         }
 
         @Test
@@ -377,12 +391,12 @@ class BookServiceImplTest {
             when(bookRepository.findByIsbn(isbn)).thenReturn(Optional.empty());
 
             // When & Then
-            assertThatThrownBy(() -> bookService.getBookByIsbn(isbn))
+            assertThatThrownBy(() -> bookService.getBookByIsbn(isbn, FieldSelection.all()))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage("Book with ISBN 978-0123456789 not found");
 
             verify(bookRepository).findByIsbn(isbn);
-            verify(bookMapper, never()).toResponse(any(Book.class));
+            verify(bookMapper, never()).toResponse(any(Book.class), any(FieldSelection.class));
         }
 
         @Test
@@ -393,7 +407,7 @@ class BookServiceImplTest {
             when(bookRepository.findByIsbn(isbn)).thenReturn(Optional.empty());
 
             // When & Then
-            assertThatThrownBy(() -> bookService.getBookByIsbn(isbn))
+            assertThatThrownBy(() -> bookService.getBookByIsbn(isbn, FieldSelection.all()))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage("Book with ISBN null not found");
 
@@ -417,7 +431,7 @@ class BookServiceImplTest {
             when(bookMapper.toSummaryResponse(testBook)).thenReturn(summaryResponseDto);
 
             // When
-            Page<BookResponseDto> result = bookService.getAllBooks(pageable);
+            Page<BookResponseDto> result = bookService.getAllBooks(pageable, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -442,7 +456,7 @@ class BookServiceImplTest {
             when(bookRepository.findAll(pageable)).thenReturn(emptyPage);
 
             // When
-            Page<BookResponseDto> result = bookService.getAllBooks(pageable);
+            Page<BookResponseDto> result = bookService.getAllBooks(pageable, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -464,10 +478,10 @@ class BookServiceImplTest {
             Page<Book> bookPage = new PageImpl<>(books, pageable, 1);
 
             when(bookRepository.findByAuthorId(authorId, pageable)).thenReturn(bookPage);
-            when(bookMapper.toSummaryResponse(testBook)).thenReturn(summaryResponseDto);
+            when(bookMapper.toSummaryResponse(testBook, FieldSelection.all())).thenReturn(summaryResponseDto);
 
             // When
-            Page<BookSummaryResponseDto> result = bookService.getBooksByAuthor(authorId, pageable);
+            Page<BookSummaryResponseDto> result = bookService.getBooksByAuthor(authorId, pageable, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -477,7 +491,7 @@ class BookServiceImplTest {
             assertThat(result.getContent().get(0).getAuthorName()).isEqualTo("Test Author");
 
             verify(bookRepository).findByAuthorId(authorId, pageable);
-            verify(bookMapper).toSummaryResponse(testBook);
+            verify(bookMapper).toSummaryResponse(testBook, FieldSelection.all());
         }
 
         @Test
@@ -491,7 +505,7 @@ class BookServiceImplTest {
             when(bookRepository.findByAuthorId(authorId, pageable)).thenReturn(emptyPage);
 
             // When
-            Page<BookSummaryResponseDto> result = bookService.getBooksByAuthor(authorId, pageable);
+            Page<BookSummaryResponseDto> result = bookService.getBooksByAuthor(authorId, pageable, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -499,7 +513,7 @@ class BookServiceImplTest {
             assertThat(result.getTotalElements()).isEqualTo(0);
 
             verify(bookRepository).findByAuthorId(authorId, pageable);
-            verify(bookMapper, never()).toSummaryResponse(any(Book.class));
+            verify(bookMapper, never()).toSummaryResponse(any(Book.class), any(FieldSelection.class));
         }
 
         @Test
@@ -536,7 +550,7 @@ class BookServiceImplTest {
             when(bookMapper.toSummaryResponse(book2)).thenReturn(summaryDto2);
 
             // When
-            Page<BookResponseDto> result = bookService.getAllBooks(pageable);
+            Page<BookResponseDto> result = bookService.getAllBooks(pageable, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -564,15 +578,15 @@ class BookServiceImplTest {
         void shouldHandleMapperThrowingException() {
             // Given
             when(bookRepository.findById(1L)).thenReturn(Optional.of(testBook));
-            when(bookMapper.toResponse(testBook)).thenThrow(new RuntimeException("Mapping error"));
+            when(bookMapper.toResponse(testBook, FieldSelection.all())).thenThrow(new RuntimeException("Mapping error"));
 
             // When & Then
-            assertThatThrownBy(() -> bookService.getBookById(1L))
+            assertThatThrownBy(() -> bookService.getBookById(1L, FieldSelection.all()))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Mapping error");
 
             verify(bookRepository).findById(1L);
-            verify(bookMapper).toResponse(testBook);
+            verify(bookMapper).toResponse(testBook, FieldSelection.all());
         }
 
         @Test
@@ -582,12 +596,12 @@ class BookServiceImplTest {
             when(bookRepository.findById(1L)).thenThrow(new RuntimeException("Database connection error"));
 
             // When & Then
-            assertThatThrownBy(() -> bookService.getBookById(1L))
+            assertThatThrownBy(() -> bookService.getBookById(1L, FieldSelection.all()))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Database connection error");
 
             verify(bookRepository).findById(1L);
-            verify(bookMapper, never()).toResponse(any(Book.class));
+            verify(bookMapper, never()).toResponse(any(Book.class), any(FieldSelection.class));
         }
         @Nested
         @DisplayName("Delete Book Tests")
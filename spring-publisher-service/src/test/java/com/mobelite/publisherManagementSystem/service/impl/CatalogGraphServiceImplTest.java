@@ -0,0 +1,124 @@
+package com.mobelite.publisherManagementSystem.service.impl;
+
+import com.mobelite.publisherManagementSystem.dto.response.graph.AuthorNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.BookNodeDto;
+import com.mobelite.publisherManagementSystem.dto.response.graph.MagazineNodeDto;
+import com.mobelite.publisherManagementSystem.entity.Author;
+import com.mobelite.publisherManagementSystem.entity.Book;
+import com.mobelite.publisherManagementSystem.entity.Magazine;
+import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.mapper.CatalogGraphMapper;
+import com.mobelite.publisherManagementSystem.repository.AuthorRepository;
+import com.mobelite.publisherManagementSystem.repository.BookRepository;
+import com.mobelite.publisherManagementSystem.repository.MagazineRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogGraphService Unit Tests")
+class CatalogGraphServiceImplTest {
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private MagazineRepository magazineRepository;
+
+    @Mock
+    private CatalogGraphMapper catalogGraphMapper;
+
+    @InjectMocks
+    private CatalogGraphServiceImpl catalogGraphService;
+
+    @Nested
+    @DisplayName("Root Lookup Tests")
+    class RootLookupTests {
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when author does not exist")
+        void shouldThrowResourceNotFoundException_WhenAuthorDoesNotExist() {
+            // given
+            given(authorRepository.findById(99L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> catalogGraphService.getAuthor(99L))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Author not found with ID: 99");
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Loading Tests")
+    class BatchLoadingTests {
+
+        @Test
+        @DisplayName("Should group books by author with a single query")
+        void shouldGroupBooksByAuthor() {
+            // given
+            Book first = Book.builder().id(10L).title("First Book").build();
+            Book second = Book.builder().id(11L).title("Second Book").build();
+            BookNodeDto firstNode = BookNodeDto.builder().id(10L).authorId(1L).build();
+            BookNodeDto secondNode = BookNodeDto.builder().id(11L).authorId(1L).build();
+            given(bookRepository.findByAuthorIdIn(Set.of(1L, 2L))).willReturn(List.of(first, second));
+            given(catalogGraphMapper.toNode(first)).willReturn(firstNode);
+            given(catalogGraphMapper.toNode(second)).willReturn(secondNode);
+
+            // when
+            Map<Long, List<BookNodeDto>> result = catalogGraphService.getBooksByAuthorIds(Set.of(1L, 2L));
+
+            // then
+            assertThat(result).containsOnlyKeys(1L);
+            assertThat(result.get(1L)).containsExactly(firstNode, secondNode);
+            verify(bookRepository).findByAuthorIdIn(Set.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("Should key magazine authors by magazine ID")
+        void shouldKeyMagazineAuthorsByMagazineId() {
+            // given
+            Author author = Author.builder().id(1L).name("John Doe").build();
+            Magazine magazine = new Magazine();
+            magazine.setId(20L);
+            magazine.setAuthors(List.of(author));
+            AuthorNodeDto authorNode = AuthorNodeDto.builder().id(1L).name("John Doe").build();
+            given(magazineRepository.findAllWithAuthorsByIdIn(Set.of(20L))).willReturn(List.of(magazine));
+            given(catalogGraphMapper.toNode(author)).willReturn(authorNode);
+
+            // when
+            Map<Long, List<AuthorNodeDto>> result = catalogGraphService.getAuthorsByMagazineIds(Set.of(20L));
+
+            // then
+            assertThat(result).containsEntry(20L, List.of(authorNode));
+        }
+
+        @Test
+        @DisplayName("Should not query when no IDs are given")
+        void shouldNotQuery_WhenNoIdsGiven() {
+            // when
+            Map<Long, List<MagazineNodeDto>> result = catalogGraphService.getMagazinesByAuthorIds(Set.of());
+
+            // then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(authorRepository);
+        }
+    }
+}
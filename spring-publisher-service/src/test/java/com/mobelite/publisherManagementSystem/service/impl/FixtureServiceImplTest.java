@@ -0,0 +1,100 @@
+package com.mobelite.publisherManagementSystem.service.impl;
+
+import com.mobelite.publisherManagementSystem.dto.response.fixture.FixtureDatasetResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.fixture.FixtureSnapshotResponseDto;
+import com.mobelite.publisherManagementSystem.enums.FixtureDataset;
+import com.mobelite.publisherManagementSystem.exception.BusinessException;
+import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.repository.FixtureJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FixtureServiceImpl Unit Tests")
+class FixtureServiceImplTest {
+
+    @Mock
+    private FixtureJdbcRepository fixtureRepository;
+
+    @InjectMocks
+    private FixtureServiceImpl fixtureService;
+
+    @Test
+    @DisplayName("Should seed a dataset under a fresh prefix on every call")
+    void shouldSeedDatasetUnderFreshPrefix() {
+        // given
+        when(fixtureRepository.seed(eq(FixtureDataset.UI), anyString(), anyLong())).thenReturn(List.of(1L, 2L));
+
+        // when
+        FixtureDatasetResponseDto first = fixtureService.seedDataset("ui");
+        FixtureDatasetResponseDto second = fixtureService.seedDataset("UI");
+
+        // then
+        assertThat(first.getDataset()).isEqualTo("UI");
+        assertThat(first.getAuthorIds()).containsExactly(1L, 2L);
+        assertThat(first.getBooks()).isEqualTo(FixtureDataset.UI.getBooks());
+        assertThat(first.getPrefix()).startsWith("fixture-ui-").isNotEqualTo(second.getPrefix());
+
+        ArgumentCaptor<Long> isbnBases = ArgumentCaptor.forClass(Long.class);
+        verify(fixtureRepository, times(2)).seed(eq(FixtureDataset.UI), anyString(), isbnBases.capture());
+        assertThat(isbnBases.getAllValues()).allSatisfy(base -> assertThat(String.valueOf(base)).hasSize(13));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown dataset")
+    void shouldRejectUnknownDataset() {
+        // when / then
+        assertThatThrownBy(() -> fixtureService.seedDataset("huge"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("huge");
+        verifyNoInteractions(fixtureRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot name that is not a plain identifier")
+    void shouldRejectUnsafeSnapshotName() {
+        // when / then
+        assertThatThrownBy(() -> fixtureService.createSnapshot("x; DROP TABLE authors"))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(fixtureRepository);
+    }
+
+    @Test
+    @DisplayName("Should restore an existing snapshot")
+    void shouldRestoreExistingSnapshot() {
+        // given
+        when(fixtureRepository.exists("suite")).thenReturn(true);
+        when(fixtureRepository.restore("suite")).thenReturn(Map.of("authors", 30L));
+
+        // when
+        FixtureSnapshotResponseDto restored = fixtureService.restoreSnapshot("suite");
+
+        // then
+        assertThat(restored.getName()).isEqualTo("suite");
+        assertThat(restored.getRows()).containsEntry("authors", 30L);
+    }
+
+    @Test
+    @DisplayName("Should not restore a missing snapshot")
+    void shouldNotRestoreMissingSnapshot() {
+        // given
+        when(fixtureRepository.exists("suite")).thenReturn(false);
+
+        // when / then
+        assertThatThrownBy(() -> fixtureService.restoreSnapshot("suite"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(fixtureRepository, never()).restore(any());
+    }
+}
@@ -1,11 +1,18 @@
 package com.mobelite.publisherManagementSystem.service.impl;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.request.magazine.MagazineRequestDto;
+import com.mobelite.publisherManagementSystem.dto.response.NormalizedPageDto;
+import com.mobelite.publisherManagementSystem.dto.response.author.AuthorSummaryDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineSummaryResponseDto;
+import com.mobelite.publisherManagementSystem.dto.response.magazine.NormalizedMagazineSummaryResponseDto;
 import com.mobelite.publisherManagementSystem.entity.Author;
 import com.mobelite.publisherManagementSystem.entity.Magazine;
 import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.mapper.AuthorMapper;
+import com.mobelite.publisherManagementSystem.mapper.AuthorSideTable;
+import com.mobelite.publisherManagementSystem.mapper.AuthorSummaryCache;
 import com.mobelite.publisherManagementSystem.mapper.MagazineMapper;
 import com.mobelite.publisherManagementSystem.repository.AuthorRepository;
 import com.mobelite.publisherManagementSystem.repository.MagazineRepository;
@@ -44,6 +51,12 @@ class MagazineServiceImplTest {
     @Mock
     private AuthorRepository authorRepository;
 
+    @Mock
+    private AuthorMapper authorMapper;
+
+    @Mock
+    private AuthorSummaryCache authorSummaryCache;
+
     @InjectMocks
     private MagazineServiceImpl magazineService;
 
@@ -226,17 +239,17 @@ class MagazineServiceImplTest {
             // Arrange
             Long magazineId = 1L;
             when(magazineRepository.findById(magazineId)).thenReturn(Optional.of(magazine));
-            when(magazineMapper.toResponseDto(magazine)).thenReturn(responseDto);
+            when(magazineMapper.toResponseDto(magazine, FieldSelection.all())).thenReturn(responseDto);
 
             // Act
-            MagazineResponseDto result = magazineService.getMagazineById(magazineId);
+            MagazineResponseDto result = magazineService.getMagazineById(magazineId, FieldSelection.all());
 
             // Assert
             assertThat(result).isNotNull();
             assertThat(result.getTitle()).isEqualTo("Test Magazine");
 
             verify(magazineRepository).findById(magazineId);
-            verify(magazineMapper).toResponseDto(magazine);
+            verify(magazineMapper).toResponseDto(magazine, FieldSelection.all());
         }
 
         @Test
@@ -247,12 +260,12 @@ class MagazineServiceImplTest {
             when(magazineRepository.findById(magazineId)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> magazineService.getMagazineById(magazineId))
+            assertThatThrownBy(() -> magazineService.getMagazineById(magazineId, FieldSelection.all()))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage("Magazine not found with ID: " + magazineId);
 
             verify(magazineRepository).findById(magazineId);
-            verify(magazineMapper, never()).toResponseDto(any());
+            verify(magazineMapper, never()).toResponseDto(any(), any(FieldSelection.class));
         }
     }
 
@@ -269,10 +282,10 @@ class MagazineServiceImplTest {
             Page<Magazine> magazinePage = new PageImpl<>(magazineList, pageable, 1);
 
             when(magazineRepository.findAll(pageable)).thenReturn(magazinePage);
-            when(magazineMapper.toSummaryDto(magazine)).thenReturn(summaryDto);
+            when(magazineMapper.toSummaryDto(eq(magazine), eq(FieldSelection.all()), any())).thenReturn(summaryDto);
 
             // Act
-            Page<MagazineSummaryResponseDto> result = magazineService.getAllMagazines(pageable);
+            Page<MagazineSummaryResponseDto> result = magazineService.getAllMagazines(pageable, FieldSelection.all());
 
             // Assert
             assertThat(result).isNotNull();
@@ -281,7 +294,7 @@ class MagazineServiceImplTest {
             assertThat(result.getTotalElements()).isEqualTo(1);
 
             verify(magazineRepository).findAll(pageable);
-            verify(magazineMapper).toSummaryDto(magazine);
+            verify(magazineMapper).toSummaryDto(eq(magazine), eq(FieldSelection.all()), any());
         }
 
         @Test
@@ -294,7 +307,7 @@ class MagazineServiceImplTest {
             when(magazineRepository.findAll(pageable)).thenReturn(emptyPage);
 
             // Act
-            Page<MagazineSummaryResponseDto> result = magazineService.getAllMagazines(pageable);
+            Page<MagazineSummaryResponseDto> result = magazineService.getAllMagazines(pageable, FieldSelection.all());
 
             // Assert
             assertThat(result).isNotNull();
@@ -302,7 +315,63 @@ class MagazineServiceImplTest {
             assertThat(result.getTotalElements()).isEqualTo(0);
 
             verify(magazineRepository).findAll(pageable);
-            verify(magazineMapper, never()).toSummaryDto(any());
+            verify(magazineMapper, never()).toSummaryDto(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should list each shared author once in normalized page")
+        void shouldListEachSharedAuthorOnce_InNormalizedPage() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10);
+            Magazine secondMagazine = new Magazine();
+            secondMagazine.setId(2L);
+            secondMagazine.setTitle("Second Magazine");
+            secondMagazine.setAuthors(List.of(author2));
+            Page<Magazine> magazinePage = new PageImpl<>(Arrays.asList(magazine, secondMagazine), pageable, 2);
+
+            when(magazineRepository.findAll(pageable)).thenReturn(magazinePage);
+            when(authorMapper.toSummaryDto(any(Author.class), any())).thenAnswer(invocation -> {
+                Author author = invocation.getArgument(0);
+                return AuthorSummaryDto.builder().id(author.getId()).name(author.getName()).build();
+            });
+            when(magazineMapper.toNormalizedSummaryDto(any(Magazine.class), any(AuthorSideTable.class))).thenAnswer(invocation -> {
+                Magazine mapped = invocation.getArgument(0);
+                AuthorSideTable authorTable = invocation.getArgument(1);
+                return NormalizedMagazineSummaryResponseDto.builder()
+                        .id(mapped.getId())
+                        .authorIds(authorTable.reference(mapped.getAuthors()))
+                        .build();
+            });
+
+            // Act
+            NormalizedPageDto<NormalizedMagazineSummaryResponseDto> result = magazineService.getAllMagazinesNormalized(pageable);
+
+            // Assert
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.getContent().get(0).getAuthorIds()).containsExactly(1L, 2L);
+            assertThat(result.getContent().get(1).getAuthorIds()).containsExactly(2L);
+            assertThat(result.getAuthors()).containsOnlyKeys(1L, 2L);
+            assertThat(result.getTotalElements()).isEqualTo(2);
+
+            verify(magazineRepository).findAllWithAuthorsByIdIn(List.of(1L, 2L));
+            verify(authorMapper).toSummaryDto(eq(author1), any());
+            verify(authorMapper).toSummaryDto(eq(author2), any());
+        }
+
+        @Test
+        @DisplayName("Should skip author query when normalized page is empty")
+        void shouldSkipAuthorQuery_WhenNormalizedPageIsEmpty() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10);
+            when(magazineRepository.findAll(pageable)).thenReturn(new PageImpl<>(Collections.emptyList(), pageable, 0));
+
+            // Act
+            NormalizedPageDto<NormalizedMagazineSummaryResponseDto> result = magazineService.getAllMagazinesNormalized(pageable);
+
+            // Assert
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.getAuthors()).isEmpty();
+            verify(magazineRepository, never()).findAllWithAuthorsByIdIn(any());
         }
     }
 
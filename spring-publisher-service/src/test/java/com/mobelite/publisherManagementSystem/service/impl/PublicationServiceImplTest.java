@@ -1,5 +1,6 @@
 package com.mobelite.publisherManagementSystem.service.impl;
 
+import com.mobelite.publisherManagementSystem.dto.request.FieldSelection;
 import com.mobelite.publisherManagementSystem.dto.response.book.BookSummaryResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.magazine.MagazineSummaryResponseDto;
 import com.mobelite.publisherManagementSystem.dto.response.publication.GroupedPublicationsResponse;
@@ -10,6 +11,7 @@ import com.mobelite.publisherManagementSystem.entity.Book;
 import com.mobelite.publisherManagementSystem.entity.Magazine;
 import com.mobelite.publisherManagementSystem.entity.Publication;
 import com.mobelite.publisherManagementSystem.exception.ResourceNotFoundException;
+import com.mobelite.publisherManagementSystem.mapper.AuthorSummaryCache;
 import com.mobelite.publisherManagementSystem.mapper.PublicationMapper;
 import com.mobelite.publisherManagementSystem.repository.AuthorRepository;
 import com.mobelite.publisherManagementSystem.repository.PublicationRepository;
@@ -49,6 +51,9 @@ class PublicationServiceImplTest {
     @Mock
     private PublicationMapper publicationMapper;
 
+    @Mock
+    private AuthorSummaryCache authorSummaryCache;
+
     @InjectMocks
     private PublicationServiceImpl publicationService;
 
@@ -92,10 +97,10 @@ class PublicationServiceImplTest {
         void shouldGetPublicationByIdSuccessfully() {
             // Given
             when(publicationRepository.findById(1L)).thenReturn(Optional.of(testPublication));
-            when(publicationMapper.toResponseDto(testPublication)).thenReturn(responseDto);
+            when(publicationMapper.toResponseDto(testPublication, FieldSelection.all())).thenReturn(responseDto);
 
             // When
-            PublicationResponseDto result = publicationService.getPublicationById(1L);
+            PublicationResponseDto result = publicationService.getPublicationById(1L, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -103,7 +108,7 @@ class PublicationServiceImplTest {
             assertThat(result.getTitle()).isEqualTo("Test Publication");
 
             verify(publicationRepository).findById(1L);
-            verify(publicationMapper).toResponseDto(testPublication);
+            verify(publicationMapper).toResponseDto(testPublication, FieldSelection.all());
         }
 
         @Test
@@ -113,13 +118,36 @@ class PublicationServiceImplTest {
             when(publicationRepository.findById(1L)).thenReturn(Optional.empty());
 
             // When & Then
-            assertThatThrownBy(() -> publicationService.getPublicationById(1L))
+            assertThatThrownBy(() -> publicationService.getPublicationById(1L, FieldSelection.all()))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage("Publication not found with ID: 1");
 
             verify(publicationRepository).findById(1L);
             verifyNoInteractions(publicationMapper);
         }
+
+        @Test
+        @DisplayName("Should get publications by IDs in requested order and skip unknown IDs")
+        void shouldGetPublicationsByIdsInRequestedOrder() {
+            // Given
+            Publication otherPublication = new TestPublication();
+            otherPublication.setId(2L);
+            otherPublication.setTitle("Other Publication");
+            PublicationResponseDto otherResponseDto = new PublicationResponseDto();
+            otherResponseDto.setId(2L);
+
+            List<Long> ids = Arrays.asList(2L, 99L, 1L);
+            when(publicationRepository.findAllById(ids)).thenReturn(Arrays.asList(testPublication, otherPublication));
+            when(publicationMapper.toResponseDto(testPublication)).thenReturn(responseDto);
+            when(publicationMapper.toResponseDto(otherPublication)).thenReturn(otherResponseDto);
+
+            // When
+            List<PublicationResponseDto> result = publicationService.getPublicationsByIds(ids);
+
+            // Then
+            assertThat(result).extracting(PublicationResponseDto::getId).containsExactly(2L, 1L);
+            verify(publicationRepository).findAllById(ids);
+        }
     }
 
     @Nested
@@ -135,10 +163,10 @@ class PublicationServiceImplTest {
             Page<Publication> publicationPage = new PageImpl<>(publications, pageable, 1);
 
             when(publicationRepository.findAll(pageable)).thenReturn(publicationPage);
-            when(publicationMapper.toSummaryResponseDto(testPublication)).thenReturn(summaryResponseDto);
+            when(publicationMapper.toSummaryResponseDto(eq(testPublication), eq(FieldSelection.all()), any())).thenReturn(summaryResponseDto);
 
             // When
-            Page<PublicationSummaryResponseDto> result = publicationService.getAllPublications(pageable);
+            Page<PublicationSummaryResponseDto> result = publicationService.getAllPublications(pageable, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -147,7 +175,7 @@ class PublicationServiceImplTest {
             assertThat(result.getContent().get(0).getTitle()).isEqualTo("Test Publication");
 
             verify(publicationRepository).findAll(pageable);
-            verify(publicationMapper).toSummaryResponseDto(testPublication);
+            verify(publicationMapper).toSummaryResponseDto(eq(testPublication), eq(FieldSelection.all()), any());
         }
 
         @Test
@@ -160,7 +188,7 @@ class PublicationServiceImplTest {
             when(publicationRepository.findAll(pageable)).thenReturn(emptyPage);
 
             // When
-            Page<PublicationSummaryResponseDto> result = publicationService.getAllPublications(pageable);
+            Page<PublicationSummaryResponseDto> result = publicationService.getAllPublications(pageable, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -186,10 +214,10 @@ class PublicationServiceImplTest {
             Page<Publication> publicationPage = new PageImpl<>(publications, pageable, 1);
 
             when(publicationRepository.findByTitleContainingIgnoreCase(searchTitle, pageable)).thenReturn(publicationPage);
-            when(publicationMapper.toSummaryResponseDto(testPublication)).thenReturn(summaryResponseDto);
+            when(publicationMapper.toSummaryResponseDto(eq(testPublication), eq(FieldSelection.all()), any())).thenReturn(summaryResponseDto);
 
             // When
-            Page<PublicationSummaryResponseDto> result = publicationService.searchPublicationsByTitle(searchTitle, pageable);
+            Page<PublicationSummaryResponseDto> result = publicationService.searchPublicationsByTitle(searchTitle, pageable, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -197,7 +225,7 @@ class PublicationServiceImplTest {
             assertThat(result.getContent().get(0).getTitle()).isEqualTo("Test Publication");
 
             verify(publicationRepository).findByTitleContainingIgnoreCase(searchTitle, pageable);
-            verify(publicationMapper).toSummaryResponseDto(testPublication);
+            verify(publicationMapper).toSummaryResponseDto(eq(testPublication), eq(FieldSelection.all()), any());
         }
 
         @Test
@@ -211,7 +239,7 @@ class PublicationServiceImplTest {
             when(publicationRepository.findByTitleContainingIgnoreCase(searchTitle, pageable)).thenReturn(emptyPage);
 
             // When
-            Page<PublicationSummaryResponseDto> result = publicationService.searchPublicationsByTitle(searchTitle, pageable);
+            Page<PublicationSummaryResponseDto> result = publicationService.searchPublicationsByTitle(searchTitle, pageable, FieldSelection.all());
 
             // Then
             assertThat(result).isNotNull();
@@ -22,6 +22,17 @@ public final class ConfigManager {
     // headless = false → shows browser window (useful for debugging)
     private final boolean headless;
     private final String browserName;
+    // Delay in ms after every browser action; 0 in normal runs, Playwright auto-waits for elements instead
+    private final double slowMo;
+    // Scenarios run in parallel on this many threads, each with its own pooled browser
+    private final int threads;
+    // fixtures.enabled = true → the suite seeds fixtures.dataset in bulk and restores a snapshot of the catalog
+    // at the end, instead of creating and deleting entities one by one; needs the service's "fixtures" profile
+    private final boolean fixturesEnabled;
+    // adaptive → recent actions and screenshots in a bounded ring, full Playwright tracing only after a failure
+    private final TracingMode tracingMode;
+    private final int tracingRingActions;
+    private final String fixturesDataset;
 
     // JSON parser and generator for Java ( Serialization / Deserialization)
     private final ObjectMapper objectMapper;
@@ -32,6 +43,13 @@ public final class ConfigManager {
         this.apiBaseUrl = props.getProperty("api.base.url");
         this.headless = Boolean.parseBoolean(props.getProperty("browser.headless", "true"));
         this.browserName = props.getProperty("browser.name");
+        this.slowMo = Double.parseDouble(setting(props, "browser.slowmo", "0"));
+        this.threads = Integer.parseInt(setting(props, "ui.threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        this.fixturesEnabled = Boolean.parseBoolean(setting(props, "fixtures.enabled", "false"));
+        this.fixturesDataset = setting(props, "fixtures.dataset", "ui");
+        this.tracingMode = TracingMode.fromString(setting(props, "tracing.mode", "adaptive"));
+        this.tracingRingActions = Integer.parseInt(setting(props, "tracing.ring.actions", "100"));
         this.objectMapper = createObjectMapper();
     }
 
@@ -61,6 +79,12 @@ public final class ConfigManager {
         }
         return properties;
     }
+
+    /** A system property overrides the environment file, e.g. -Dui.threads=1 */
+    private static String setting(Properties props, String key, String defaultValue) {
+        return System.getProperty(key, props.getProperty(key, defaultValue));
+    }
+
     private ObjectMapper createObjectMapper() {
         return new ObjectMapper()
                 .registerModule(new JavaTimeModule()) // support LocalDate, LocalDateTime
@@ -0,0 +1,24 @@
+package com.mobelite.config;
+
+/**
+ * How much of each scenario is traced ({@code tracing.mode}).
+ */
+public enum TracingMode {
+    /** No Playwright tracing and no action ring */
+    OFF,
+    /**
+     * Only a bounded ring of recent actions and screenshots; full Playwright tracing starts for every scenario
+     * once one has failed, and for a scenario that runs again (a retry)
+     */
+    ADAPTIVE,
+    /** Full Playwright tracing for every scenario, kept only when it fails */
+    ALWAYS;
+
+    public static TracingMode fromString(String mode) {
+        try {
+            return TracingMode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported tracing mode: " + mode + " (off, adaptive or always)");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.mobelite.factory;
+
+import com.microsoft.playwright.*;
+import com.mobelite.config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Warm browsers shared by the scenarios of a run, one per runner thread.
+ * <p>
+ * Playwright objects are not thread-safe, so every thread that runs scenarios owns its own {@link Playwright},
+ * {@link Browser} and API request context. They are created on the thread's first use and reused by all
+ * the scenarios it runs afterwards, so the pool holds as many browsers as there are runner threads
+ * ({@code ui.threads}, one per core by default). Isolation between scenarios comes from the
+ * {@link BrowserContext} each one opens on the pooled browser, not from relaunching it.
+ */
+@Slf4j
+public final class BrowserPool {
+
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final ThreadLocal<PooledBrowser> threadLocalBrowser = new ThreadLocal<>();
+    private static final Queue<PooledBrowser> launched = new ConcurrentLinkedQueue<>();
+
+    private BrowserPool() {
+    }
+
+    /** The browser of the calling thread, launched on first use */
+    public static Browser browser() {
+        PooledBrowser pooled = acquire();
+        if (pooled.browser == null) {
+            pooled.browser = launch(pooled.playwright);
+            log.info("Launched {} browser for {}", config.getBrowserName(), Thread.currentThread().getName());
+        }
+        return pooled.browser;
+    }
+
+    /** The API request context of the calling thread, created on first use */
+    public static APIRequestContext apiRequestContext() {
+        PooledBrowser pooled = acquire();
+        if (pooled.apiRequestContext == null) {
+            pooled.apiRequestContext = pooled.playwright.request().newContext(
+                    new APIRequest.NewContextOptions()
+                            .setBaseURL(config.getApiBaseUrl())
+                            .setExtraHTTPHeaders(Map.of(
+                                    "Content-Type", "application/json",
+                                    "Accept", "application/json",
+                                    "User-Agent", "E2E-API-Client/1.0"
+                            ))
+            );
+        }
+        return pooled.apiRequestContext;
+    }
+
+    /** Close every pooled browser, whichever thread launched it. Call once, when all scenarios are done. */
+    public static void closeAll() {
+        PooledBrowser pooled;
+        while ((pooled = launched.poll()) != null) {
+            try {
+                pooled.close();
+            } catch (Exception e) {
+                log.warn("Failed to close pooled browser: {}", e.getMessage());
+            }
+        }
+        threadLocalBrowser.remove();
+    }
+
+    private static PooledBrowser acquire() {
+        PooledBrowser pooled = threadLocalBrowser.get();
+        if (pooled == null) {
+            pooled = new PooledBrowser(Playwright.create());
+            threadLocalBrowser.set(pooled);
+            launched.add(pooled);
+        }
+        return pooled;
+    }
+
+    private static Browser launch(Playwright playwright) {
+        BrowserType.LaunchOptions options = new BrowserType.LaunchOptions()
+                .setHeadless(config.isHeadless())
+                .setSlowMo(config.getSlowMo());
+        String browserName = config.getBrowserName().toLowerCase();
+        return switch (browserName) {
+            case "firefox" -> playwright.firefox().launch(options);
+            case "chrome" -> playwright.chromium().launch(options
+                    .setArgs(List.of("--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage")));
+            case "webkit" -> playwright.webkit().launch(options);
+            default -> throw new IllegalArgumentException("Unsupported browser: " + browserName);
+        };
+    }
+
+    private static final class PooledBrowser {
+
+        private final Playwright playwright;
+        private Browser browser;
+        private APIRequestContext apiRequestContext;
+
+        private PooledBrowser(Playwright playwright) {
+            this.playwright = playwright;
+        }
+
+        private void close() {
+            if (apiRequestContext != null) {
+                apiRequestContext.dispose();
+            }
+            if (browser != null) {
+                browser.close();
+            }
+            playwright.close();
+        }
+    }
+}
@@ -3,85 +3,36 @@ package com.mobelite.factory;
 import com.microsoft.playwright.*;
 import com.mobelite.config.ConfigManager;
 
-import java.util.Arrays;
-import java.util.Map;
-
+/**
+ * Per-scenario browser state. Scenarios may run in parallel: each one gets its own {@link BrowserContext}
+ * (cookies, local storage and cache are not shared) and page, opened on the warm browser that
+ * {@link BrowserPool} keeps for the runner thread.
+ */
 public class PlaywrightFactory {
 
-    private static Playwright playwright;
-    private static Browser browser;
-
     private static final ThreadLocal<BrowserContext> threadLocalContext = new ThreadLocal<>();
     private static final ThreadLocal<Page> threadLocalPage = new ThreadLocal<>();
+    private static final ThreadLocal<ScenarioTrace> threadLocalTrace = new ThreadLocal<>();
 
-    private static final ConfigManager config = ConfigManager.getInstance();
-    private static APIRequestContext apiRequestContext;
-    private static final String BASE_API_URL = config.getApiBaseUrl();
-
-    /** Launch browser once per suite */
+    /** Launch the calling thread's browser ahead of its first scenario */
     public static void launchBrowserOnce() {
-        if (playwright == null) {
-            playwright = Playwright.create();
-        }
-        if (browser == null) {
-            boolean headless = config.isHeadless();
-            String browserName = config.getBrowserName().toLowerCase();
-
-            switch (browserName) {
-                case "firefox":
-                    browser = playwright.firefox().launch(new BrowserType.LaunchOptions().setHeadless(headless));
-                    break;
-                case "chrome":
-                    browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
-                            .setHeadless(headless)
-                            .setSlowMo(500)
-                            .setArgs(Arrays.asList("--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage")));
-                    break;
-                case "webkit":
-                    browser = playwright.webkit().launch(new BrowserType.LaunchOptions()
-                            .setHeadless(headless)
-                            .setSlowMo(500));
-                    break;
-                default:
-                    throw new IllegalArgumentException("Unsupported browser: " + browserName);
-            }
-        }
+        BrowserPool.browser();
     }
 
-
-
-    /** Create new context & page per scenario */
-    public static void initContextAndPage() {
-        BrowserContext context = browser.newContext();
-        context.tracing().start(new Tracing.StartOptions()
-                .setScreenshots(true)
-                .setSnapshots(true)
-                .setSources(false));
+    /** Create new context & page per scenario, recorded as the tracing mode says (see {@link ScenarioTrace}) */
+    public static void initContextAndPage(String scenarioId) {
+        BrowserContext context = BrowserPool.browser().newContext();
         threadLocalContext.set(context);
+        threadLocalTrace.set(ScenarioTrace.start(context, scenarioId));
 
         Page page = context.newPage();
+        threadLocalTrace.get().listen(page);
         threadLocalPage.set(page);
     }
 
-    /** Create API request context */
-    public static void createAPIRequestContext() {
-        if (playwright == null) throw new IllegalStateException("Playwright not initialized.");
-        if (apiRequestContext == null) {
-            apiRequestContext = playwright.request().newContext(
-                    new APIRequest.NewContextOptions()
-                            .setBaseURL(BASE_API_URL)
-                            .setExtraHTTPHeaders(Map.of(
-                                    "Content-Type", "application/json",
-                                    "Accept", "application/json",
-                                    "User-Agent", "E2E-API-Client/1.0"
-                            ))
-            );
-        }
-    }
-
+    /** API request context of the calling thread */
     public static APIRequestContext getApiRequestContext() {
-        if (apiRequestContext == null) createAPIRequestContext();
-        return apiRequestContext;
+        return BrowserPool.apiRequestContext();
     }
 
     public static Page getPage() {
@@ -92,6 +43,10 @@ public class PlaywrightFactory {
         return threadLocalContext.get();
     }
 
+    public static ScenarioTrace getTrace() {
+        return threadLocalTrace.get();
+    }
+
     /** Navigate to any relative URL */
     public static void navigateTo(String relativeUrl) {
         Page page = getPage();
@@ -106,17 +61,11 @@ public class PlaywrightFactory {
             threadLocalContext.remove();
         }
         threadLocalPage.remove();
+        threadLocalTrace.remove();
     }
 
-    /** Close browser at the very end of suite */
+    /** Close every pooled browser at the very end of suite */
     public static void closeBrowser() {
-        if (browser != null) {
-            browser.close();
-            browser = null;
-        }
-        if (playwright != null) {
-            playwright.close();
-            playwright = null;
-        }
+        BrowserPool.closeAll();
     }
-}
\ No newline at end of file
+}
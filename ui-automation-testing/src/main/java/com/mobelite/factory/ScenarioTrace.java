@@ -0,0 +1,145 @@
+package com.mobelite.factory;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Tracing;
+import com.mobelite.config.ConfigManager;
+import com.mobelite.config.TracingMode;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * What is recorded of one scenario to explain a failure.
+ * <p>
+ * Full Playwright tracing (DOM snapshots and a screenshot per action) costs CPU and disk on every scenario,
+ * while almost all of them pass. In {@link TracingMode#ADAPTIVE} mode a scenario only keeps a bounded ring of
+ * its recent actions (navigations, console errors, failed requests, finished steps and the page they left);
+ * no pixels are taken until something fails. Full tracing is switched on for every scenario that starts after
+ * a first failure, and for a scenario that runs again. The time spent recording is measured, so it can be reported.
+ */
+public final class ScenarioTrace {
+
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final AtomicBoolean failureSeen = new AtomicBoolean();
+    private static final Set<String> attempted = ConcurrentHashMap.newKeySet();
+
+    private final BrowserContext context;
+    @Getter
+    private final boolean fullTrace;
+    @Getter
+    private final String reason;
+    private final long startedNanos = System.nanoTime();
+    private final Deque<String> actions = new ArrayDeque<>();
+    private long overheadNanos;
+
+    private ScenarioTrace(BrowserContext context, boolean fullTrace, String reason) {
+        this.context = context;
+        this.fullTrace = fullTrace;
+        this.reason = reason;
+    }
+
+    /**
+     * Start recording a scenario on its new context, tracing it fully when the mode and the run so far call for it.
+     */
+    static ScenarioTrace start(BrowserContext context, String scenarioId) {
+        boolean retry = scenarioId != null && !attempted.add(scenarioId);
+        TracingMode mode = config.getTracingMode();
+        String reason = switch (mode) {
+            case OFF -> null;
+            case ALWAYS -> "always";
+            case ADAPTIVE -> retry ? "retry" : failureSeen.get() ? "after failure" : null;
+        };
+        ScenarioTrace trace = new ScenarioTrace(context, reason != null, reason == null ? "ring" : reason);
+        if (trace.fullTrace) {
+            long start = System.nanoTime();
+            context.tracing().start(new Tracing.StartOptions()
+                    .setScreenshots(true)
+                    .setSnapshots(true)
+                    .setSources(false));
+            trace.overheadNanos += System.nanoTime() - start;
+        }
+        return trace;
+    }
+
+    /** Record the page's navigations, console errors and failed requests in the ring */
+    void listen(Page page) {
+        if (config.getTracingMode() == TracingMode.OFF) return;
+        page.onFrameNavigated(frame -> {
+            if (frame.parentFrame() == null) record("navigated to " + frame.url());
+        });
+        page.onConsoleMessage(message -> {
+            if ("error".equals(message.type()) || "warning".equals(message.type())) {
+                record("console " + message.type() + ": " + message.text());
+            }
+        });
+        page.onPageError(error -> record("page error: " + error));
+        page.onRequestFailed(request -> record("request failed: " + request.method() + " " + request.url()
+                + " (" + request.failure() + ")"));
+        page.onResponse(response -> {
+            if (response.status() >= 400) {
+                record("HTTP " + response.status() + ": " + response.request().method() + " " + response.url());
+            }
+        });
+    }
+
+    /** Record a finished step and the page it left; the failure hooks take the screenshot if the scenario fails */
+    public void step(String description, Page page) {
+        if (config.getTracingMode() == TracingMode.OFF) return;
+        record(page == null || page.isClosed() ? description : description + " at " + page.url());
+    }
+
+    /** Add an entry to the action ring, dropping the oldest once it is full */
+    public void record(String action) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+        synchronized (actions) {
+            actions.addLast(String.format("+%6d ms  %s", elapsedMillis, action));
+            while (actions.size() > config.getTracingRingActions()) {
+                actions.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Stop recording. A failed scenario's full trace is saved to the given path; otherwise the trace is discarded.
+     * A failure also switches full tracing on for the scenarios that start afterwards.
+     *
+     * @return whether a trace was saved
+     */
+    public boolean stop(boolean failed, Path tracePath) {
+        if (failed) {
+            failureSeen.set(true);
+        }
+        if (!fullTrace) return false;
+        long start = System.nanoTime();
+        try {
+            if (failed) {
+                context.tracing().stop(new Tracing.StopOptions().setPath(tracePath));
+            } else {
+                context.tracing().stop();
+            }
+            return failed;
+        } finally {
+            overheadNanos += System.nanoTime() - start;
+        }
+    }
+
+    public List<String> actions() {
+        synchronized (actions) {
+            return new ArrayList<>(actions);
+        }
+    }
+
+    /** Time spent recording so far: starting and stopping the trace */
+    public long overheadMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(overheadNanos);
+    }
+}
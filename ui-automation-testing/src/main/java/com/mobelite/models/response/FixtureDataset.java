@@ -0,0 +1,17 @@
+package com.mobelite.models.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class FixtureDataset {
+    private String dataset;
+    private String prefix;
+    private List<Long> authorIds;
+    private int books;
+    private int magazines;
+    private long elapsedMillis;
+}
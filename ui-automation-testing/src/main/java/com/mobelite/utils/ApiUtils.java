@@ -82,6 +82,29 @@ public class ApiUtils {
         }
     }
 
+    public <T> T put(String endpoint, Object requestBody, TypeReference<T> typeReference) {
+        try {
+            APIResponse response = api.put(endpoint, buildRequestOptions(requestBody, null));
+
+            if (!response.ok()) {
+                throw new RuntimeException("PUT request failed: " + endpoint +
+                        " | status: " + response.status() + " | body: " + getResponseText(response));
+            }
+
+            return parseResponse(response, typeReference);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to execute PUT request: " + endpoint, e);
+        }
+    }
+
+    // Generic delete
+    public void delete(String endpoint) {
+        APIResponse response = api.delete(endpoint);
+        if (!response.ok()) {
+            log.warn("DELETE {} returned {}", endpoint, response.status());
+        }
+    }
+
     // Generic delete by ID
     public void deleteById(String endpoint, Long id) {
         APIResponse response = api.delete(endpoint + "/" + id);
@@ -9,4 +9,9 @@ public final class ApiEndpoints {
     public static final String BOOKS_BY_ID = BOOKS_BASE + "/{id}";
     public static final String MAGAZINES_BASE = "/api/v1/magazines";
     public static final String MAGAZINES_BY_ID = MAGAZINES_BASE + "/{id}";
+    // Only served by the service's "fixtures" profile
+    public static final String FIXTURES_BASE = "/api/v1/test/fixtures";
+    public static final String FIXTURE_DATASET = FIXTURES_BASE + "/datasets/{name}";
+    public static final String FIXTURE_SNAPSHOT = FIXTURES_BASE + "/snapshots/{name}";
+    public static final String FIXTURE_SNAPSHOT_RESTORE = FIXTURE_SNAPSHOT + "/restore";
 }
\ No newline at end of file
@@ -1,10 +1,11 @@
 package com.mobelite.publisher.ui.hooks;
 
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Tracing;
 import com.mobelite.factory.PlaywrightFactory;
+import com.mobelite.factory.ScenarioTrace;
 import com.mobelite.models.Author;
 import com.mobelite.models.request.AuthorRequest;
+import com.mobelite.models.response.FixtureDataset;
 import com.mobelite.utils.ApiUtils;
 import com.mobelite.models.response.ApiResponse;
 import com.mobelite.publisher.ui.test_data.AuthorTestDataFactory;
@@ -17,6 +18,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.mobelite.publisher.ui.constants.ApiEndpoints.AUTHORS_BASE;
@@ -26,21 +28,25 @@ public class Hooks {
     private Page page;
 
     @Getter
-    private static Long authorId;
+    private static volatile Long authorId;
     private static final AtomicBoolean authorCreated = new AtomicBoolean(false);
-    private static final List<Long> createdAuthors = new ArrayList<>();
+    private static final List<Long> createdAuthors = new CopyOnWriteArrayList<>();
     private static ApiUtils apiUtils;
     private static final TypeReference<ApiResponse<Author>> typeRef = new TypeReference<>() {};
 
-    /** Launch browser and create author once before all scenarios */
+    /** Create author once before all scenarios; browsers are launched by the threads that run them */
     @BeforeAll
     public static void beforeAll() {
         try {
-            PlaywrightFactory.launchBrowserOnce();
-
             apiUtils = new ApiUtils(PlaywrightFactory.getApiRequestContext());
 
-            if (!authorCreated.get()) {
+            if (SuiteFixtures.isEnabled()) {
+                FixtureDataset dataset = SuiteFixtures.setUp(apiUtils);
+                authorId = dataset.getAuthorIds().get(0);
+                authorCreated.set(true);
+                System.out.printf("Seeded fixture dataset %s (%d authors) in %d ms%n",
+                        dataset.getPrefix(), dataset.getAuthorIds().size(), dataset.getElapsedMillis());
+            } else if (!authorCreated.get()) {
                 AuthorRequest authorRequest = AuthorTestDataFactory.createValidAuthorRequest();
                 ApiResponse<Author> response = apiUtils.post(
                         AUTHORS_BASE,
@@ -61,16 +67,25 @@ public class Hooks {
     /** Create context & page per scenario */
     @Before(order = 0)
     public void beforeScenario(Scenario scenario) {
-        PlaywrightFactory.initContextAndPage();
+        PlaywrightFactory.initContextAndPage(scenario.getId());
         page = PlaywrightFactory.getPage();
-        // Tracing is already started in PlaywrightFactory.initContextAndPage()
+        // Tracing (full or ring only) is already started in PlaywrightFactory.initContextAndPage()
+    }
+
+    /** Record every finished step in the scenario's action ring */
+    @AfterStep
+    public void afterStep(Scenario scenario) {
+        ScenarioTrace trace = PlaywrightFactory.getTrace();
+        if (trace != null) {
+            trace.step("step finished: " + scenario.getStatus(), page);
+        }
     }
 
     /** Capture screenshot and trace on failure - MUST run before cleanup */
     @After(order = 1)
     public void afterScenarioCapture(Scenario scenario) {
         if (scenario.isFailed() && page != null) {
-            String scenarioName = scenario.getName().replaceAll(" ", "_");
+            String scenarioName = artifactName(scenario);
 
             try {
                 // --- Screenshot ---
@@ -98,37 +113,46 @@ public class Hooks {
                 e.printStackTrace();
             }
 
-            // --- Tracing ---
-            try {
-                Path tracePath = Paths.get("target/traces/" + scenarioName + ".zip");
-                Files.createDirectories(tracePath.getParent());
+            attachActionRing(scenarioName);
+        }
+        stopTracing(scenario);
+    }
 
-                PlaywrightFactory.getContext().tracing().stop(
-                        new Tracing.StopOptions().setPath(tracePath)
-                );
+    /** Attach the recent actions kept in the ring */
+    private void attachActionRing(String scenarioName) {
+        ScenarioTrace trace = PlaywrightFactory.getTrace();
+        if (trace == null) return;
+        List<String> actions = trace.actions();
+        if (!actions.isEmpty()) {
+            Allure.addAttachment(scenarioName + "_recent_actions", "text/plain", String.join(System.lineSeparator(), actions), ".txt");
+        }
+    }
 
-                if (Files.exists(tracePath)) {
-                    byte[] traceBytes = Files.readAllBytes(tracePath);
-                    Allure.addAttachment(
-                            scenarioName + "_trace",
-                            "application/zip",
-                            new ByteArrayInputStream(traceBytes),
-                            ".zip"
-                    );
-                    System.out.println("Trace captured for failed scenario: " + scenarioName);
-                }
-            } catch (Exception e) {
-                System.err.println("Failed to capture trace for scenario: " + scenarioName);
-                e.printStackTrace();
-            }
-        } else {
-            // Stop tracing even if scenario passed (to clean up)
-            try {
-                PlaywrightFactory.getContext().tracing().stop();
-            } catch (Exception e) {
-                // Ignore if tracing wasn't started
+    /** Save the full trace of a failed scenario, discard it otherwise, and report what tracing cost */
+    private void stopTracing(Scenario scenario) {
+        ScenarioTrace trace = PlaywrightFactory.getTrace();
+        if (trace == null) return;
+        String scenarioName = artifactName(scenario);
+        try {
+            Path tracePath = Paths.get("target/traces/" + scenarioName + ".zip");
+            Files.createDirectories(tracePath.getParent());
+
+            if (trace.stop(scenario.isFailed(), tracePath) && Files.exists(tracePath)) {
+                byte[] traceBytes = Files.readAllBytes(tracePath);
+                Allure.addAttachment(
+                        scenarioName + "_trace",
+                        "application/zip",
+                        new ByteArrayInputStream(traceBytes),
+                        ".zip"
+                );
+                System.out.println("Trace captured for failed scenario: " + scenarioName);
             }
+        } catch (Exception e) {
+            System.err.println("Failed to capture trace for scenario: " + scenarioName);
+            e.printStackTrace();
         }
+        Allure.parameter("tracing", trace.getReason());
+        Allure.parameter("tracing overhead (ms)", trace.overheadMillis());
     }
 
     /** Cleanup page and context - MUST run after screenshot capture */
@@ -141,6 +165,14 @@ public class Hooks {
     /** Delete all dynamically created authors once after all scenarios */
     @AfterAll
     public static void afterAll() {
+        if (SuiteFixtures.isEnabled()) {
+            System.out.println("=== Cleanup: Restoring fixture snapshot ===");
+            try {
+                SuiteFixtures.tearDown(apiUtils);
+            } catch (Exception e) {
+                System.err.println("Failed to restore fixture snapshot - " + e.getMessage());
+            }
+        }
         System.out.println("=== Cleanup: Deleting dynamically created authors ===");
 
         for (Long id : new ArrayList<>(createdAuthors)) {
@@ -161,12 +193,17 @@ public class Hooks {
 
         createdAuthors.clear();
 
-        // Close browser at the end
-        System.out.println("Closing Playwright browser...");
+        // Close every pooled browser at the end
+        System.out.println("Closing Playwright browsers...");
         PlaywrightFactory.closeBrowser();
         System.out.println("=== Cleanup completed ===");
     }
 
+    /** Scenario names are not unique, and parallel failures must not overwrite each other's files */
+    private static String artifactName(Scenario scenario) {
+        return scenario.getName().replaceAll("\\W+", "_") + "_" + scenario.getId().hashCode();
+    }
+
     /** Utility method to save screenshot locally */
     private void saveScreenshotLocally(String scenarioName, byte[] screenshot) {
         try {
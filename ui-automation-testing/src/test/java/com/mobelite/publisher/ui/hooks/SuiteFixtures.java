@@ -0,0 +1,45 @@
+package com.mobelite.publisher.ui.hooks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.mobelite.config.ConfigManager;
+import com.mobelite.models.response.ApiResponse;
+import com.mobelite.models.response.FixtureDataset;
+import com.mobelite.utils.ApiUtils;
+
+import java.util.Map;
+
+import static com.mobelite.publisher.ui.constants.ApiEndpoints.*;
+
+/**
+ * Suite-level fixtures served by the service's {@code fixtures} profile: the catalog is snapshotted before the
+ * suite, a named dataset is seeded in bulk, and the snapshot is restored at the end, which removes everything
+ * the scenarios created in one operation. The restore replaces the whole catalog, so run one suite at a time
+ * against a given database.
+ */
+public final class SuiteFixtures {
+
+    private static final String SNAPSHOT = "ui_suite";
+    private static final TypeReference<ApiResponse<FixtureDataset>> datasetType = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<Map<String, Object>>> snapshotType = new TypeReference<>() {};
+
+    private SuiteFixtures() {
+    }
+
+    /** Whether the suite runs on fixtures ({@code -Dfixtures.enabled=true}) */
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().isFixturesEnabled();
+    }
+
+    /** Snapshot the catalog, then seed the configured dataset */
+    public static FixtureDataset setUp(ApiUtils apiUtils) {
+        apiUtils.put(FIXTURE_SNAPSHOT.replace("{name}", SNAPSHOT), null, snapshotType);
+        String dataset = ConfigManager.getInstance().getFixturesDataset();
+        return apiUtils.post(FIXTURE_DATASET.replace("{name}", dataset), null, datasetType).getData();
+    }
+
+    /** Restore the catalog as it was before the suite, and drop the snapshot */
+    public static void tearDown(ApiUtils apiUtils) {
+        apiUtils.post(FIXTURE_SNAPSHOT_RESTORE.replace("{name}", SNAPSHOT), null, snapshotType);
+        apiUtils.delete(FIXTURE_SNAPSHOT.replace("{name}", SNAPSHOT));
+    }
+}
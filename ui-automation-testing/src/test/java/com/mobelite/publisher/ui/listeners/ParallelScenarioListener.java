@@ -0,0 +1,28 @@
+package com.mobelite.publisher.ui.listeners;
+
+import com.mobelite.config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Sizes the thread pool the Cucumber scenarios run on.
+ * <p>
+ * Each thread keeps a warm browser (see {@code BrowserPool}), which is CPU bound, so the default is one thread
+ * per core; {@code -Dui.threads=N} overrides it and {@code -Dui.threads=1} runs the scenarios sequentially.
+ * Must be declared in the suite XML: suites are altered before any {@code @Listeners} annotation is read.
+ */
+@Slf4j
+public class ParallelScenarioListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = Math.max(1, ConfigManager.getInstance().getThreads());
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(threads);
+            log.info("Suite '{}' runs scenarios on {} thread(s)", suite.getName(), threads);
+        }
+    }
+}
@@ -108,8 +108,21 @@ public class AuthorPage {
     }
 
     public void goToNextPage() {
+        int next = currentPage() + 1;
         page.locator(PAGINATOR_NEXT_BUTTON).click();
-        page.waitForTimeout(1000); // wait for table to refresh, or replace with waitForTableToLoad()
+        // The table has refreshed once the paginator highlights the next page
+        selectedPageButton().filter(new Locator.FilterOptions().setHasText(String.valueOf(next)))
+                .waitFor(new Locator.WaitForOptions()
+                        .setState(WaitForSelectorState.VISIBLE)
+                        .setTimeout(10000));
+    }
+
+    private int currentPage() {
+        return Integer.parseInt(selectedPageButton().textContent().trim());
+    }
+
+    private Locator selectedPageButton() {
+        return page.locator(PAGINATOR_PAGE_BUTTONS + ".p-highlight, " + PAGINATOR_PAGE_BUTTONS + ".p-paginator-page-selected");
     }
 
     public boolean isOnPage(int pageNumber) {
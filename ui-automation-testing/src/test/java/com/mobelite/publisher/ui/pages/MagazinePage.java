@@ -102,13 +102,23 @@ public class MagazinePage {
 
     public void confirmDelete() {
         page.locator(DELETE_CONFIRM).locator("button[label='Confirm']").click(); // adjust label if needed
-        page.waitForTimeout(500); // wait for table refresh
+        page.locator(DELETE_CONFIRM).waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.HIDDEN).setTimeout(5000));
     }
 
     // --- Pagination ---
     public void goToNextPage() {
+        int next = currentPage() + 1;
         page.locator(PAGINATOR_NEXT_BUTTON).click();
-        page.waitForTimeout(1000);
+        selectedPageButton().filter(new Locator.FilterOptions().setHasText(String.valueOf(next)))
+                .waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE).setTimeout(10000));
+    }
+
+    private int currentPage() {
+        return Integer.parseInt(selectedPageButton().textContent().trim());
+    }
+
+    private Locator selectedPageButton() {
+        return page.locator(PAGINATOR_PAGE_BUTTONS + ".p-highlight, " + PAGINATOR_PAGE_BUTTONS + ".p-paginator-page-selected");
     }
 
     public boolean isOnPage(int pageNumber) {
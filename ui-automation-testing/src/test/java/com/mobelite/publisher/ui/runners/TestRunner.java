@@ -2,6 +2,7 @@ package com.mobelite.publisher.ui.runners;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.DataProvider;
 
 @CucumberOptions(
         features = "src/test/resources/features",
@@ -14,5 +15,13 @@ import io.cucumber.testng.CucumberOptions;
 
 )
 public class TestRunner extends AbstractTestNGCucumberTests {
-    // No extra code needed, TestNG handles execution
-}
\ No newline at end of file
+
+    /**
+     * Scenarios run in parallel, on the data-provider threads sized by {@code ParallelScenarioListener}.
+     */
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
+}
@@ -5,6 +5,7 @@ import com.mobelite.factory.PlaywrightFactory;
 import com.mobelite.models.request.AuthorRequest;
 import com.mobelite.models.response.ApiResponse;
 import com.mobelite.models.response.AuthorDataWrapper;
+import com.mobelite.publisher.ui.hooks.SuiteFixtures;
 import com.mobelite.publisher.ui.pages.AuthorPage;
 import com.mobelite.publisher.ui.test_data.AuthorTestDataFactory;
 import com.mobelite.utils.ApiUtils;
@@ -133,6 +134,11 @@ public class AuthorSteps {
    // --- Cleanup using API ---
    @After("@regression or @pagination or @smoke")
    public void cleanupCreatedAuthors() {
+      if (SuiteFixtures.isEnabled()) {
+         // Removed with everything else when the suite restores its fixture snapshot
+         createdAuthors.clear();
+         return;
+      }
        for (String name : new ArrayList<>(createdAuthors)) {
            try {
                Long authorId = apiUtils.getIdByName(
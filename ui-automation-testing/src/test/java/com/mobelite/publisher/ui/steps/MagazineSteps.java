@@ -8,6 +8,7 @@ import com.mobelite.models.response.ApiResponse;
 import com.mobelite.models.response.AuthorDataWrapper;
 import com.mobelite.models.response.MagazineDataWrapper;
 import com.mobelite.publisher.ui.hooks.Hooks;
+import com.mobelite.publisher.ui.hooks.SuiteFixtures;
 import com.mobelite.publisher.ui.pages.MagazinePage;
 import com.mobelite.publisher.ui.test_data.MagazineTestDataFactory;
 import com.mobelite.utils.ApiUtils;
@@ -133,6 +134,11 @@ public class MagazineSteps {
     // --- Cleanup using API ---
     @After("@regression or @pagination or @smoke")
     public void cleanupCreatedMagazines() {
+        if (SuiteFixtures.isEnabled()) {
+            // Removed with everything else when the suite restores its fixture snapshot
+            createdMagazines.clear();
+            return;
+        }
         for (String name : new ArrayList<>(createdMagazines)) {
             try {
                 Long magazineId = apiUtils.getIdByName(
@@ -11,7 +11,8 @@ import static com.mobelite.utils.generateDataUtils.generateRandomBirthDate;
 
 public class AuthorTestDataFactory {
     private static final AtomicLong authorCounter = new AtomicLong(1);
-    private static final Faker faker = new Faker();
+    // Faker keeps internal state, so each scenario thread gets its own
+    private static final ThreadLocal<Faker> faker = ThreadLocal.withInitial(Faker::new);
 
     @Step("Create author request")
     public static AuthorRequest createAuthorRequest(String name, LocalDate birthDate, String nationality) {
@@ -24,9 +25,9 @@ public class AuthorTestDataFactory {
 
     @Step("Create valid author request with Faker")
     public static AuthorRequest createValidAuthorRequest() {
-        String name = faker.name().firstName() + "_" + authorCounter.getAndIncrement();
+        String name = faker.get().name().firstName() + "_" + authorCounter.getAndIncrement();
         LocalDate birthDate = generateRandomBirthDate(20, 70);
-        String nationality = faker.country().name();
+        String nationality = faker.get().country().name();
         return createAuthorRequest(name, birthDate, nationality);
     }
 }
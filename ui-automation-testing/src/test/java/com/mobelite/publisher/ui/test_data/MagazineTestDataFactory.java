@@ -11,7 +11,8 @@ import java.util.concurrent.atomic.AtomicLong;
 
 public class MagazineTestDataFactory {
     private static final AtomicLong magazineCounter = new AtomicLong(1);
-    private static final Faker faker = new Faker();
+    // Faker keeps internal state, so each scenario thread gets its own
+    private static final ThreadLocal<Faker> faker = ThreadLocal.withInitial(Faker::new);
 
     @Step("Create magazine request with parameters")
     public static MagazineRequest createMagazineRequest(String title, int issueNumber, LocalDate publicationDate, List<Long> authorIds) {
@@ -25,9 +26,9 @@ public class MagazineTestDataFactory {
 
     @Step("Create valid magazine request with Faker and dynamic authors")
     public static MagazineRequest createValidMagazineRequest(List<Long> authorIds) {
-        String title = "Magazine_" + faker.book().title() + "_" + magazineCounter.getAndIncrement();
-        int issueNumber = faker.number().numberBetween(1, 500);
-        LocalDate publicationDate = LocalDate.now().minusDays(faker.number().numberBetween(0, 3650));
+        String title = "Magazine_" + faker.get().book().title() + "_" + magazineCounter.getAndIncrement();
+        int issueNumber = faker.get().number().numberBetween(1, 500);
+        LocalDate publicationDate = LocalDate.now().minusDays(faker.get().number().numberBetween(0, 3650));
         return createMagazineRequest(title, issueNumber, publicationDate, authorIds);
     }
 